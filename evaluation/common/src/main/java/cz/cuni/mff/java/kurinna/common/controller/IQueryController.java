@@ -1,12 +1,17 @@
 package cz.cuni.mff.java.kurinna.common.controller;
 
+import cz.cuni.mff.java.kurinna.common.dto.Measurement;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestParam;
 
-import java.util.Map;
+import java.math.BigDecimal;
+import java.util.List;
 
 /**
  * Interface defining all query endpoints for microservices.
  * Each microservice should implement this interface to provide consistent API.
+ * Every query endpoint also accepts {@code jfr=false}, which measures the query without JFR collection
+ * (see {@link cz.cuni.mff.java.kurinna.common.utils.QueryExecutor}).
  */
 public interface IQueryController {
     /**
@@ -17,137 +22,565 @@ public interface IQueryController {
 
     /**
      * A1) Non-Indexed Columns query.
+     * @param warmup Number of unmeasured executions run before the measured ones
+     * @param iterations Number of measured executions
+     * @param jfr Whether the JFR statistics are collected, false only measures the execution time
      * @return Response containing query results and execution metrics
      */
-    ResponseEntity<Map<String, Object>> a1();
+    ResponseEntity<Measurement> a1(int warmup, int iterations, @RequestParam(defaultValue = "true") boolean jfr);
 
     /**
      * A2) Non-Indexed Columns — Range Query.
      * @param startDate Start date for the range query in ISO format (yyyy-MM-dd)
      * @param endDate End date for the range query in ISO format (yyyy-MM-dd)
+     * @param warmup Number of unmeasured executions run before the measured ones
+     * @param iterations Number of measured executions
+     * @param jfr Whether the JFR statistics are collected, false only measures the execution time
      * @return Response containing query results and execution metrics
      */
-    ResponseEntity<Map<String, Object>> a2(String startDate, String endDate);
+    ResponseEntity<Measurement> a2(String startDate, String endDate, int warmup, int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr);
 
     /**
      * A3) Indexed Columns query.
+     * @param warmup Number of unmeasured executions run before the measured ones
+     * @param iterations Number of measured executions
+     * @param jfr Whether the JFR statistics are collected, false only measures the execution time
      * @return Response containing query results and execution metrics
      */
-    ResponseEntity<Map<String, Object>> a3();
+    ResponseEntity<Measurement> a3(int warmup, int iterations, @RequestParam(defaultValue = "true") boolean jfr);
 
     /**
      * A4) Indexed Columns — Range Query.
      * @param minOrderKey Minimum order key value
      * @param maxOrderKey Maximum order key value
+     * @param warmup Number of unmeasured executions run before the measured ones
+     * @param iterations Number of measured executions
+     * @param jfr Whether the JFR statistics are collected, false only measures the execution time
      * @return Response containing query results and execution metrics
      */
-    ResponseEntity<Map<String, Object>> a4(int minOrderKey, int maxOrderKey);
+    ResponseEntity<Measurement> a4(int minOrderKey, int maxOrderKey, int warmup, int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr);
 
     /**
      * B1) COUNT aggregate function query.
+     * @param warmup Number of unmeasured executions run before the measured ones
+     * @param iterations Number of measured executions
+     * @param jfr Whether the JFR statistics are collected, false only measures the execution time
      * @return Response containing query results and execution metrics
      */
-    ResponseEntity<Map<String, Object>> b1();
+    ResponseEntity<Measurement> b1(int warmup, int iterations, @RequestParam(defaultValue = "true") boolean jfr);
 
     /**
      * B2) MAX aggregate function query.
+     * @param warmup Number of unmeasured executions run before the measured ones
+     * @param iterations Number of measured executions
+     * @param jfr Whether the JFR statistics are collected, false only measures the execution time
      * @return Response containing query results and execution metrics
      */
-    ResponseEntity<Map<String, Object>> b2();
+    ResponseEntity<Measurement> b2(int warmup, int iterations, @RequestParam(defaultValue = "true") boolean jfr);
 
     /**
      * C1) Non-Indexed Columns join query.
+     * @param warmup Number of unmeasured executions run before the measured ones
+     * @param iterations Number of measured executions
+     * @param jfr Whether the JFR statistics are collected, false only measures the execution time
      * @return Response containing query results and execution metrics
      */
-    ResponseEntity<Map<String, Object>> c1();
+    ResponseEntity<Measurement> c1(int warmup, int iterations, @RequestParam(defaultValue = "true") boolean jfr);
 
     /**
      * C2) Indexed Columns join query.
+     * @param warmup Number of unmeasured executions run before the measured ones
+     * @param iterations Number of measured executions
+     * @param jfr Whether the JFR statistics are collected, false only measures the execution time
      * @return Response containing query results and execution metrics
      */
-    ResponseEntity<Map<String, Object>> c2();
+    ResponseEntity<Measurement> c2(int warmup, int iterations, @RequestParam(defaultValue = "true") boolean jfr);
 
     /**
      * C3) Complex Join 1 query.
+     * @param warmup Number of unmeasured executions run before the measured ones
+     * @param iterations Number of measured executions
+     * @param jfr Whether the JFR statistics are collected, false only measures the execution time
      * @return Response containing query results and execution metrics
      */
-    ResponseEntity<Map<String, Object>> c3();
+    ResponseEntity<Measurement> c3(int warmup, int iterations, @RequestParam(defaultValue = "true") boolean jfr);
 
     /**
      * C4) Complex Join 2 query.
+     * @param warmup Number of unmeasured executions run before the measured ones
+     * @param iterations Number of measured executions
+     * @param jfr Whether the JFR statistics are collected, false only measures the execution time
      * @return Response containing query results and execution metrics
      */
-    ResponseEntity<Map<String, Object>> c4();
+    ResponseEntity<Measurement> c4(int warmup, int iterations, @RequestParam(defaultValue = "true") boolean jfr);
 
     /**
      * C5) Left Outer Join query.
+     * @param warmup Number of unmeasured executions run before the measured ones
+     * @param iterations Number of measured executions
+     * @param jfr Whether the JFR statistics are collected, false only measures the execution time
      * @return Response containing query results and execution metrics
      */
-    ResponseEntity<Map<String, Object>> c5();
+    ResponseEntity<Measurement> c5(int warmup, int iterations, @RequestParam(defaultValue = "true") boolean jfr);
 
     /**
      * D1) UNION set operation query.
+     * @param warmup Number of unmeasured executions run before the measured ones
+     * @param iterations Number of measured executions
+     * @param jfr Whether the JFR statistics are collected, false only measures the execution time
      * @return Response containing query results and execution metrics
      */
-    ResponseEntity<Map<String, Object>> d1();
+    ResponseEntity<Measurement> d1(int warmup, int iterations, @RequestParam(defaultValue = "true") boolean jfr);
 
     /**
      * D2) INTERSECT set operation query.
+     * @param warmup Number of unmeasured executions run before the measured ones
+     * @param iterations Number of measured executions
+     * @param jfr Whether the JFR statistics are collected, false only measures the execution time
      * @return Response containing query results and execution metrics
      */
-    ResponseEntity<Map<String, Object>> d2();
+    ResponseEntity<Measurement> d2(int warmup, int iterations, @RequestParam(defaultValue = "true") boolean jfr);
 
     /**
      * D3) DIFFERENCE set operation query.
+     * @param warmup Number of unmeasured executions run before the measured ones
+     * @param iterations Number of measured executions
+     * @param jfr Whether the JFR statistics are collected, false only measures the execution time
      * @return Response containing query results and execution metrics
      */
-    ResponseEntity<Map<String, Object>> d3();
+    ResponseEntity<Measurement> d3(int warmup, int iterations, @RequestParam(defaultValue = "true") boolean jfr);
 
     /**
      * E1) Non-Indexed Columns Sorting query.
+     * @param warmup Number of unmeasured executions run before the measured ones
+     * @param iterations Number of measured executions
+     * @param jfr Whether the JFR statistics are collected, false only measures the execution time
      * @return Response containing query results and execution metrics
      */
-    ResponseEntity<Map<String, Object>> e1();
+    ResponseEntity<Measurement> e1(int warmup, int iterations, @RequestParam(defaultValue = "true") boolean jfr);
 
     /**
      * E2) Indexed Columns Sorting query.
+     * @param warmup Number of unmeasured executions run before the measured ones
+     * @param iterations Number of measured executions
+     * @param jfr Whether the JFR statistics are collected, false only measures the execution time
      * @return Response containing query results and execution metrics
      */
-    ResponseEntity<Map<String, Object>> e2();
+    ResponseEntity<Measurement> e2(int warmup, int iterations, @RequestParam(defaultValue = "true") boolean jfr);
 
     /**
      * E3) Distinct query.
+     * @param warmup Number of unmeasured executions run before the measured ones
+     * @param iterations Number of measured executions
+     * @param jfr Whether the JFR statistics are collected, false only measures the execution time
      * @return Response containing query results and execution metrics
      */
-    ResponseEntity<Map<String, Object>> e3();
+    ResponseEntity<Measurement> e3(int warmup, int iterations, @RequestParam(defaultValue = "true") boolean jfr);
 
     /**
      * Q1) TPC-H Query 1 variant.
+     * @param delta The number of days before 1998-12-01 up to which line items are shipped
+     * @param warmup Number of unmeasured executions run before the measured ones
+     * @param iterations Number of measured executions
+     * @param jfr Whether the JFR statistics are collected, false only measures the execution time
      * @return Response containing query results and execution metrics
      */
-    ResponseEntity<Map<String, Object>> q1();
+    ResponseEntity<Measurement> q1(int delta, int warmup, int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr);
 
     /**
      * Q2) TPC-H Query 2 variant.
+     * @param size The part size
+     * @param type The last word of the part type
+     * @param region The name of the region of the suppliers
+     * @param warmup Number of unmeasured executions run before the measured ones
+     * @param iterations Number of measured executions
+     * @param jfr Whether the JFR statistics are collected, false only measures the execution time
      * @return Response containing query results and execution metrics
      */
-    ResponseEntity<Map<String, Object>> q2();
+    ResponseEntity<Measurement> q2(int size, String type, String region, int warmup, int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr);
 
     /**
      * Q3) TPC-H Query 3 variant.
+     * @param segment The market segment of the customers
+     * @param date The date before which orders are placed and after which they are shipped in ISO format (yyyy-MM-dd)
+     * @param warmup Number of unmeasured executions run before the measured ones
+     * @param iterations Number of measured executions
+     * @param jfr Whether the JFR statistics are collected, false only measures the execution time
      * @return Response containing query results and execution metrics
      */
-    ResponseEntity<Map<String, Object>> q3();
+    ResponseEntity<Measurement> q3(String segment, String date, int warmup, int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr);
 
     /**
      * Q4) TPC-H Query 4 variant.
+     * @param orderDate The start date for the three-month period in ISO format (yyyy-MM-dd)
+     * @param warmup Number of unmeasured executions run before the measured ones
+     * @param iterations Number of measured executions
+     * @param jfr Whether the JFR statistics are collected, false only measures the execution time
      * @return Response containing query results and execution metrics
      */
-    ResponseEntity<Map<String, Object>> q4();
+    ResponseEntity<Measurement> q4(String orderDate, int warmup, int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr);
 
     /**
      * Q5) TPC-H Query 5 variant.
+     * @param region The name of the region
+     * @param orderDate The start date for the one-year period in ISO format (yyyy-MM-dd)
+     * @param warmup Number of unmeasured executions run before the measured ones
+     * @param iterations Number of measured executions
+     * @param jfr Whether the JFR statistics are collected, false only measures the execution time
      * @return Response containing query results and execution metrics
      */
-    ResponseEntity<Map<String, Object>> q5();
+    ResponseEntity<Measurement> q5(String region, String orderDate, int warmup, int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr);
+
+    /**
+     * Q6) TPC-H Query 6: Forecasting Revenue Change.
+     * @param shipDate The start date for the one-year period in ISO format (yyyy-MM-dd)
+     * @param discount The discount, line items within 0.01 of it are considered
+     * @param quantity The exclusive upper bound of the line item quantity
+     * @param warmup Number of unmeasured executions run before the measured ones
+     * @param iterations Number of measured executions
+     * @param jfr Whether the JFR statistics are collected, false only measures the execution time
+     * @return Response containing query results and execution metrics
+     */
+    ResponseEntity<Measurement> q6(String shipDate, BigDecimal discount, int quantity, int warmup, int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr);
+
+    /**
+     * Q7) TPC-H Query 7: Volume Shipping.
+     * @param nation1 The name of the first nation
+     * @param nation2 The name of the second nation
+     * @param warmup Number of unmeasured executions run before the measured ones
+     * @param iterations Number of measured executions
+     * @param jfr Whether the JFR statistics are collected, false only measures the execution time
+     * @return Response containing query results and execution metrics
+     */
+    ResponseEntity<Measurement> q7(String nation1, String nation2, int warmup, int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr);
+
+    /**
+     * Q8) TPC-H Query 8: National Market Share.
+     * @param nation The name of the nation whose market share is computed
+     * @param region The name of the region of the customers
+     * @param type The part type
+     * @param warmup Number of unmeasured executions run before the measured ones
+     * @param iterations Number of measured executions
+     * @param jfr Whether the JFR statistics are collected, false only measures the execution time
+     * @return Response containing query results and execution metrics
+     */
+    ResponseEntity<Measurement> q8(String nation, String region, String type, int warmup, int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr);
+
+    /**
+     * Q9) TPC-H Query 9: Product Type Profit Measure.
+     * @param color The color contained in the part name
+     * @param warmup Number of unmeasured executions run before the measured ones
+     * @param iterations Number of measured executions
+     * @param jfr Whether the JFR statistics are collected, false only measures the execution time
+     * @return Response containing query results and execution metrics
+     */
+    ResponseEntity<Measurement> q9(String color, int warmup, int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr);
+
+    /**
+     * Q10) TPC-H Query 10: Returned Item Reporting.
+     * @param orderDate The start date for the three-month period in ISO format (yyyy-MM-dd)
+     * @param warmup Number of unmeasured executions run before the measured ones
+     * @param iterations Number of measured executions
+     * @param jfr Whether the JFR statistics are collected, false only measures the execution time
+     * @return Response containing query results and execution metrics
+     */
+    ResponseEntity<Measurement> q10(String orderDate, int warmup, int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr);
+
+    /**
+     * Q11) TPC-H Query 11: Important Stock Identification.
+     * @param nation The name of the nation of the suppliers
+     * @param fraction The fraction of the total stock value a part has to exceed
+     * @param warmup Number of unmeasured executions run before the measured ones
+     * @param iterations Number of measured executions
+     * @param jfr Whether the JFR statistics are collected, false only measures the execution time
+     * @return Response containing query results and execution metrics
+     */
+    ResponseEntity<Measurement> q11(String nation, BigDecimal fraction, int warmup, int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr);
+
+    /**
+     * Q12) TPC-H Query 12: Shipping Modes and Order Priority.
+     * @param shipMode1 The first ship mode
+     * @param shipMode2 The second ship mode
+     * @param receiptDate The start date for the one-year period in ISO format (yyyy-MM-dd)
+     * @param warmup Number of unmeasured executions run before the measured ones
+     * @param iterations Number of measured executions
+     * @param jfr Whether the JFR statistics are collected, false only measures the execution time
+     * @return Response containing query results and execution metrics
+     */
+    ResponseEntity<Measurement> q12(String shipMode1, String shipMode2, String receiptDate, int warmup, int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr);
+
+    /**
+     * Q13) TPC-H Query 13: Customer Distribution.
+     * @param word1 The first word of the excluded order comments
+     * @param word2 The second word of the excluded order comments
+     * @param warmup Number of unmeasured executions run before the measured ones
+     * @param iterations Number of measured executions
+     * @param jfr Whether the JFR statistics are collected, false only measures the execution time
+     * @return Response containing query results and execution metrics
+     */
+    ResponseEntity<Measurement> q13(String word1, String word2, int warmup, int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr);
+
+    /**
+     * Q14) TPC-H Query 14: Promotion Effect.
+     * @param shipDate The start date for the one-month period in ISO format (yyyy-MM-dd)
+     * @param warmup Number of unmeasured executions run before the measured ones
+     * @param iterations Number of measured executions
+     * @param jfr Whether the JFR statistics are collected, false only measures the execution time
+     * @return Response containing query results and execution metrics
+     */
+    ResponseEntity<Measurement> q14(String shipDate, int warmup, int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr);
+
+    /**
+     * Q15) TPC-H Query 15: Top Supplier.
+     * @param shipDate The start date for the three-month period in ISO format (yyyy-MM-dd)
+     * @param warmup Number of unmeasured executions run before the measured ones
+     * @param iterations Number of measured executions
+     * @param jfr Whether the JFR statistics are collected, false only measures the execution time
+     * @return Response containing query results and execution metrics
+     */
+    ResponseEntity<Measurement> q15(String shipDate, int warmup, int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr);
+
+    /**
+     * Q16) TPC-H Query 16: Parts/Supplier Relationship.
+     * @param brand The excluded brand
+     * @param type The prefix of the excluded part types
+     * @param sizes The part sizes
+     * @param warmup Number of unmeasured executions run before the measured ones
+     * @param iterations Number of measured executions
+     * @param jfr Whether the JFR statistics are collected, false only measures the execution time
+     * @return Response containing query results and execution metrics
+     */
+    ResponseEntity<Measurement> q16(String brand, String type, List<Integer> sizes, int warmup, int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr);
+
+    /**
+     * Q17) TPC-H Query 17: Small-Quantity-Order Revenue.
+     * @param brand The brand of the parts
+     * @param container The container of the parts
+     * @param warmup Number of unmeasured executions run before the measured ones
+     * @param iterations Number of measured executions
+     * @param jfr Whether the JFR statistics are collected, false only measures the execution time
+     * @return Response containing query results and execution metrics
+     */
+    ResponseEntity<Measurement> q17(String brand, String container, int warmup, int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr);
+
+    /**
+     * Q18) TPC-H Query 18: Large Volume Customer.
+     * @param quantity The total quantity an order has to exceed
+     * @param warmup Number of unmeasured executions run before the measured ones
+     * @param iterations Number of measured executions
+     * @param jfr Whether the JFR statistics are collected, false only measures the execution time
+     * @return Response containing query results and execution metrics
+     */
+    ResponseEntity<Measurement> q18(int quantity, int warmup, int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr);
+
+    /**
+     * Q19) TPC-H Query 19: Discounted Revenue.
+     * @param brand1 The brand of the small containers
+     * @param brand2 The brand of the medium containers
+     * @param brand3 The brand of the large containers
+     * @param quantity1 The minimum quantity of the small containers
+     * @param quantity2 The minimum quantity of the medium containers
+     * @param quantity3 The minimum quantity of the large containers
+     * @param warmup Number of unmeasured executions run before the measured ones
+     * @param iterations Number of measured executions
+     * @param jfr Whether the JFR statistics are collected, false only measures the execution time
+     * @return Response containing query results and execution metrics
+     */
+    ResponseEntity<Measurement> q19(String brand1, String brand2, String brand3, int quantity1, int quantity2,
+            int quantity3, int warmup, int iterations, @RequestParam(defaultValue = "true") boolean jfr);
+
+    /**
+     * Q20) TPC-H Query 20: Potential Part Promotion.
+     * @param color The color the part name starts with
+     * @param shipDate The start date for the one-year period in ISO format (yyyy-MM-dd)
+     * @param nation The name of the nation of the suppliers
+     * @param warmup Number of unmeasured executions run before the measured ones
+     * @param iterations Number of measured executions
+     * @param jfr Whether the JFR statistics are collected, false only measures the execution time
+     * @return Response containing query results and execution metrics
+     */
+    ResponseEntity<Measurement> q20(String color, String shipDate, String nation, int warmup, int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr);
+
+    /**
+     * Q21) TPC-H Query 21: Suppliers Who Kept Orders Waiting.
+     * @param nation The name of the nation of the suppliers
+     * @param warmup Number of unmeasured executions run before the measured ones
+     * @param iterations Number of measured executions
+     * @param jfr Whether the JFR statistics are collected, false only measures the execution time
+     * @return Response containing query results and execution metrics
+     */
+    ResponseEntity<Measurement> q21(String nation, int warmup, int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr);
+
+    /**
+     * Q22) TPC-H Query 22: Global Sales Opportunity.
+     * @param countryCodes The country codes, the first two digits of the phone numbers
+     * @param warmup Number of unmeasured executions run before the measured ones
+     * @param iterations Number of measured executions
+     * @param jfr Whether the JFR statistics are collected, false only measures the execution time
+     * @return Response containing query results and execution metrics
+     */
+    ResponseEntity<Measurement> q22(List<String> countryCodes, int warmup, int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr);
+
+    /**
+     * F1) Point lookups of orders by primary key.
+     * @param operations Number of lookups per iteration
+     * @param seed The seed of the generator drawing the keys
+     * @param scaleFactor The scale factor of the loaded database, bounding the drawn keys
+     * @param warmup Number of unmeasured iterations run before the measured ones
+     * @param iterations Number of measured iterations
+     * @param jfr Whether the JFR statistics are collected, false only measures the execution time
+     * @return Response containing the number of found rows, the throughput and the allocation per lookup
+     */
+    ResponseEntity<Measurement> f1(int operations, long seed, double scaleFactor, int warmup, int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr);
+
+    /**
+     * F2) Point lookups of customers by primary key.
+     * @param operations Number of lookups per iteration
+     * @param seed The seed of the generator drawing the keys
+     * @param scaleFactor The scale factor of the loaded database, bounding the drawn keys
+     * @param warmup Number of unmeasured iterations run before the measured ones
+     * @param iterations Number of measured iterations
+     * @param jfr Whether the JFR statistics are collected, false only measures the execution time
+     * @return Response containing the number of found rows, the throughput and the allocation per lookup
+     */
+    ResponseEntity<Measurement> f2(int operations, long seed, double scaleFactor, int warmup, int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr);
+
+    /**
+     * F3) Point lookups of line items by the composite key (l_orderkey, l_linenumber).
+     * @param operations Number of lookups per iteration
+     * @param seed The seed of the generator drawing the keys
+     * @param scaleFactor The scale factor of the loaded database, bounding the drawn keys
+     * @param warmup Number of unmeasured iterations run before the measured ones
+     * @param iterations Number of measured iterations
+     * @param jfr Whether the JFR statistics are collected, false only measures the execution time
+     * @return Response containing the number of found rows, the throughput and the allocation per lookup
+     */
+    ResponseEntity<Measurement> f3(int operations, long seed, double scaleFactor, int warmup, int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr);
+
+    /**
+     * F4) Point lookups of part suppliers by the composite key (ps_partkey, ps_suppkey).
+     * @param operations Number of lookups per iteration
+     * @param seed The seed of the generator drawing the keys
+     * @param scaleFactor The scale factor of the loaded database, bounding the drawn keys
+     * @param warmup Number of unmeasured iterations run before the measured ones
+     * @param iterations Number of measured iterations
+     * @param jfr Whether the JFR statistics are collected, false only measures the execution time
+     * @return Response containing the number of found rows, the throughput and the allocation per lookup
+     */
+    ResponseEntity<Measurement> f4(int operations, long seed, double scaleFactor, int warmup, int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr);
+
+    /**
+     * G1) Pagination of orders ordered by o_orderkey with LIMIT/OFFSET.
+     * @param pageSize Number of rows per page
+     * @param pages Number of pages read from the start of the table by every iteration
+     * @param warmup Number of unmeasured iterations run before the measured ones
+     * @param iterations Number of measured iterations
+     * @param jfr Whether the JFR statistics are collected, false only measures the execution time
+     * @return Response containing the number of read rows and the latency of every page
+     */
+    ResponseEntity<Measurement> g1(int pageSize, int pages, int warmup, int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr);
+
+    /**
+     * G2) Keyset pagination of orders seeking past the o_orderkey of the previous page.
+     * @param pageSize Number of rows per page
+     * @param pages Number of pages read from the start of the table by every iteration
+     * @param warmup Number of unmeasured iterations run before the measured ones
+     * @param iterations Number of measured iterations
+     * @param jfr Whether the JFR statistics are collected, false only measures the execution time
+     * @return Response containing the number of read rows and the latency of every page
+     */
+    ResponseEntity<Measurement> g2(int pageSize, int pages, int warmup, int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr);
+
+    /**
+     * G3) Pagination of line items ordered by (l_orderkey, l_linenumber) with LIMIT/OFFSET.
+     * @param pageSize Number of rows per page
+     * @param pages Number of pages read from the start of the table by every iteration
+     * @param warmup Number of unmeasured iterations run before the measured ones
+     * @param iterations Number of measured iterations
+     * @param jfr Whether the JFR statistics are collected, false only measures the execution time
+     * @return Response containing the number of read rows and the latency of every page
+     */
+    ResponseEntity<Measurement> g3(int pageSize, int pages, int warmup, int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr);
+
+    /**
+     * G4) Keyset pagination of line items seeking past the (l_orderkey, l_linenumber) of the previous page.
+     * @param pageSize Number of rows per page
+     * @param pages Number of pages read from the start of the table by every iteration
+     * @param warmup Number of unmeasured iterations run before the measured ones
+     * @param iterations Number of measured iterations
+     * @param jfr Whether the JFR statistics are collected, false only measures the execution time
+     * @return Response containing the number of read rows and the latency of every page
+     */
+    ResponseEntity<Measurement> g4(int pageSize, int pages, int warmup, int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr);
+
+    /**
+     * H1) Orders of a date range with their customer and line items, loaded lazily by one statement per
+     * order and association (N+1).
+     * @param startDate Start date of the order date range (inclusive)
+     * @param endDate End date of the order date range (inclusive)
+     * @param warmup Number of unmeasured executions run before the measured ones
+     * @param iterations Number of measured executions
+     * @param jfr Whether the JFR statistics are collected, false only measures the execution time
+     * @return Response containing the number of loaded orders and the number of executed SQL statements
+     */
+    ResponseEntity<Measurement> h1(String startDate, String endDate, int warmup, int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr);
+
+    /**
+     * H2) Orders of a date range with their customer and line items, loaded by a single statement joining
+     * the associations.
+     * @param startDate Start date of the order date range (inclusive)
+     * @param endDate End date of the order date range (inclusive)
+     * @param warmup Number of unmeasured executions run before the measured ones
+     * @param iterations Number of measured executions
+     * @param jfr Whether the JFR statistics are collected, false only measures the execution time
+     * @return Response containing the number of loaded orders and the number of executed SQL statements
+     */
+    ResponseEntity<Measurement> h2(String startDate, String endDate, int warmup, int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr);
+
+    /**
+     * H3) Orders of a date range with their customer and line items, the associations loaded by batch or
+     * subselect statements for many orders at once.
+     * @param startDate Start date of the order date range (inclusive)
+     * @param endDate End date of the order date range (inclusive)
+     * @param batchSize Number of orders or customers loaded by one batch statement, if the framework batches by size
+     * @param warmup Number of unmeasured executions run before the measured ones
+     * @param iterations Number of measured executions
+     * @param jfr Whether the JFR statistics are collected, false only measures the execution time
+     * @return Response containing the number of loaded orders and the number of executed SQL statements
+     */
+    ResponseEntity<Measurement> h3(String startDate, String endDate, int batchSize, int warmup, int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr);
 }
@@ -0,0 +1,25 @@
+package cz.cuni.mff.java.kurinna.common.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Measurement of a single query execution.
+ *
+ * @param elapsed    Execution time in milliseconds
+ * @param delta      Allocated bytes
+ * @param result     Number of returned rows
+ * @param characters Characters of the textual values read from the result set, only reported by streaming
+ *                   queries
+ * @param jfr        JFR statistics of the execution
+ * @param stats      Statistics of the data access framework sampled after the execution, only reported by
+ *                   the endpoints which collect them
+ * @param pages      Latency in milliseconds of every page in the order the pages were read, only reported by
+ *                   the pagination endpoints
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record IterationSample(double elapsed, long delta, long result, Long characters, JfrStats jfr,
+        Map<String, Long> stats, List<Double> pages) {
+}
@@ -0,0 +1,16 @@
+package cz.cuni.mff.java.kurinna.common.dto;
+
+/**
+ * Allocation, garbage collection and heap statistics recorded by JFR during a measurement.
+ *
+ * @param heapUsedAvg          Average used heap in bytes reported by the heap summaries, 0 if none was recorded
+ * @param gcCount              Number of garbage collections
+ * @param allocatedInsideTLAB  Bytes allocated in new thread-local allocation buffers
+ * @param allocatedOutsideTLAB Bytes allocated outside thread-local allocation buffers
+ * @param totalAllocated       Total allocated bytes
+ * @param complete             Whether all events of the measurement were delivered, the other values are
+ *                             partial if the stream did not deliver them in time
+ */
+public record JfrStats(long heapUsedAvg, long gcCount, long allocatedInsideTLAB, long allocatedOutsideTLAB,
+        long totalAllocated, boolean complete) {
+}
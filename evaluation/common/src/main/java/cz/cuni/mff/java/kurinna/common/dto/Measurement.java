@@ -0,0 +1,43 @@
+package cz.cuni.mff.java.kurinna.common.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Response of a microservice query endpoint. The averaged values describe all measured
+ * iterations, the individual iterations are listed in {@code samples}. A failed measurement
+ * only carries the status and the error message.
+ *
+ * @param status     "success" or "error"
+ * @param error      The error message of a failed measurement
+ * @param elapsed    Average execution time in milliseconds
+ * @param delta      Average allocated bytes
+ * @param result     Number of rows returned by the last iteration
+ * @param characters Characters of the textual values read from the result set by the last iteration, only
+ *                   reported by streaming queries
+ * @param jfr        Averaged JFR statistics
+ * @param warmup     Number of unmeasured executions
+ * @param iterations Number of measured executions
+ * @param samples    Measurements of the individual iterations
+ * @param stats      Statistics of the data access framework sampled after the last iteration, only reported by
+ *                   the endpoints which collect them
+ * @param pages      Average latency in milliseconds of every page by its depth, only reported by the pagination
+ *                   endpoints
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record Measurement(String status, String error, Double elapsed, Long delta, Long result, Long characters,
+        JfrStats jfr, Integer warmup, Integer iterations, List<IterationSample> samples, Map<String, Long> stats,
+        List<Double> pages) {
+
+    public static Measurement success(double elapsed, long delta, long result, Long characters, JfrStats jfr, int warmup,
+            int iterations, List<IterationSample> samples, Map<String, Long> stats, List<Double> pages) {
+        return new Measurement("success", null, elapsed, delta, result, characters, jfr, warmup, iterations, samples,
+                stats, pages);
+    }
+
+    public static Measurement error(String error) {
+        return new Measurement("error", error, null, null, null, null, null, null, null, null, null, null);
+    }
+}
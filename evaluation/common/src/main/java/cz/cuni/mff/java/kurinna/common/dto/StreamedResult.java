@@ -0,0 +1,11 @@
+package cz.cuni.mff.java.kurinna.common.dto;
+
+/**
+ * Result of a query whose rows were consumed one by one as they were read, without
+ * materializing them.
+ *
+ * @param rows       Number of consumed rows
+ * @param characters Characters of the textual values read from the result set
+ */
+public record StreamedResult(long rows, long characters) {
+}
@@ -1,5 +1,6 @@
 package cz.cuni.mff.java.kurinna.common.service;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -196,4 +197,159 @@ public interface IQueryService<T> {
      * @return a list of results matching the region and order date
      */
     public List<T> q5(String region, LocalDate orderDate);
+
+    /**
+     * Business Query Q6: Retrieves data filtered by ship date, discount and quantity.
+     * 
+     * @param shipDate the start date for the one-year period
+     * @param discount the discount, line items within 0.01 of it are considered
+     * @param quantity the exclusive upper bound of the line item quantity
+     * @return a list of results containing the potential revenue increase
+     */
+    public List<T> q6(LocalDate shipDate, BigDecimal discount, int quantity);
+
+    /**
+     * Business Query Q7: Retrieves data filtered by a pair of nations.
+     * 
+     * @param nation1 the name of the first nation
+     * @param nation2 the name of the second nation
+     * @return a list of results containing the shipped revenue by supplier nation, customer nation and year
+     */
+    public List<T> q7(String nation1, String nation2);
+
+    /**
+     * Business Query Q8: Retrieves data filtered by nation, region and part type.
+     * 
+     * @param nation the name of the nation whose market share is computed
+     * @param region the name of the region of the customers
+     * @param type the part type
+     * @return a list of results containing the market share by year
+     */
+    public List<T> q8(String nation, String region, String type);
+
+    /**
+     * Business Query Q9: Retrieves data filtered by the color in the part name.
+     * 
+     * @param color the color contained in the part name
+     * @return a list of results containing the profit by nation and year
+     */
+    public List<T> q9(String color);
+
+    /**
+     * Business Query Q10: Retrieves data filtered by order date.
+     * 
+     * @param orderDate the start date for the three-month period
+     * @return a list of results containing the lost revenue by customer
+     */
+    public List<T> q10(LocalDate orderDate);
+
+    /**
+     * Business Query Q11: Retrieves data filtered by nation and the fraction of the total stock value.
+     * 
+     * @param nation the name of the nation of the suppliers
+     * @param fraction the fraction of the total stock value a part has to exceed
+     * @return a list of results containing the stock value by part
+     */
+    public List<T> q11(String nation, BigDecimal fraction);
+
+    /**
+     * Business Query Q12: Retrieves data filtered by two ship modes and receipt date.
+     * 
+     * @param shipMode1 the first ship mode
+     * @param shipMode2 the second ship mode
+     * @param receiptDate the start date for the one-year period
+     * @return a list of results containing the late line item counts by ship mode
+     */
+    public List<T> q12(String shipMode1, String shipMode2, LocalDate receiptDate);
+
+    /**
+     * Business Query Q13: Retrieves data filtered by two words excluded from the order comments.
+     * 
+     * @param word1 the first word of the excluded order comments
+     * @param word2 the second word of the excluded order comments
+     * @return a list of results containing the number of customers by order count
+     */
+    public List<T> q13(String word1, String word2);
+
+    /**
+     * Business Query Q14: Retrieves data filtered by ship date.
+     * 
+     * @param shipDate the start date for the one-month period
+     * @return a list of results containing the promotion revenue percentage
+     */
+    public List<T> q14(LocalDate shipDate);
+
+    /**
+     * Business Query Q15: Retrieves data filtered by ship date.
+     * 
+     * @param shipDate the start date for the three-month period
+     * @return a list of results containing the suppliers with the maximum revenue
+     */
+    public List<T> q15(LocalDate shipDate);
+
+    /**
+     * Business Query Q16: Retrieves data filtered by brand, type and a list of sizes.
+     * 
+     * @param brand the excluded brand
+     * @param type the prefix of the excluded part types
+     * @param sizes the part sizes
+     * @return a list of results containing the supplier counts by brand, type and size
+     */
+    public List<T> q16(String brand, String type, List<Integer> sizes);
+
+    /**
+     * Business Query Q17: Retrieves data filtered by brand and container.
+     * 
+     * @param brand the brand of the parts
+     * @param container the container of the parts
+     * @return a list of results containing the average yearly revenue
+     */
+    public List<T> q17(String brand, String container);
+
+    /**
+     * Business Query Q18: Retrieves data filtered by the total quantity of an order.
+     * 
+     * @param quantity the total quantity an order has to exceed
+     * @return a list of results containing the large orders with their customers
+     */
+    public List<T> q18(int quantity);
+
+    /**
+     * Business Query Q19: Retrieves data filtered by three brands and their minimum quantities.
+     * 
+     * @param brand1 the brand of the small containers
+     * @param brand2 the brand of the medium containers
+     * @param brand3 the brand of the large containers
+     * @param quantity1 the minimum quantity of the small containers
+     * @param quantity2 the minimum quantity of the medium containers
+     * @param quantity3 the minimum quantity of the large containers
+     * @return a list of results containing the discounted revenue
+     */
+    public List<T> q19(String brand1, String brand2, String brand3, int quantity1, int quantity2, int quantity3);
+
+    /**
+     * Business Query Q20: Retrieves data filtered by part color, ship date and nation.
+     * 
+     * @param color the color the part name starts with
+     * @param shipDate the start date for the one-year period
+     * @param nation the name of the nation of the suppliers
+     * @return a list of results containing the names and addresses of the suppliers
+     */
+    public List<T> q20(String color, LocalDate shipDate, String nation);
+
+    /**
+     * Business Query Q21: Retrieves data filtered by nation.
+     * 
+     * @param nation the name of the nation of the suppliers
+     * @return a list of results containing the number of waiting orders by supplier
+     */
+    public List<T> q21(String nation);
+
+    /**
+     * Business Query Q22: Retrieves data filtered by a list of country codes.
+     * 
+     * @param countryCodes the country codes, the first two digits of the phone numbers
+     * @return a list of results containing the customer counts and balances by country code
+     */
+    public List<T> q22(List<String> countryCodes);
 }
@@ -0,0 +1,287 @@
+package cz.cuni.mff.java.kurinna.common.utils;
+
+import cz.cuni.mff.java.kurinna.common.dto.JfrStats;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingStream;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Long-lived JFR event stream shared by every measurement in the microservice.
+ * Allocation events are attributed to a measurement window by the thread that emitted them
+ * and by their timestamp, while garbage collection and heap summary events (emitted by GC threads)
+ * are attributed to every window that was open at the time they occurred.
+ * <p>
+ * JFR delivers the events of the stream in segments, one per flush of the recording, and the JDK does not
+ * flush a stream more often than once a second. Closing a window commits a marker event on the measured
+ * thread, so collecting the window only waits for the end of the segment containing its marker, i.e. for
+ * the next flush, instead of a fixed number of flushes. A garbage collection still running when the window
+ * closes may be delivered in a later segment and is then missed. If the segment is not delivered within
+ * the timeout, the statistics of the window are partial and reported as incomplete.
+ */
+public final class JfrEventMonitor {
+    private static final String ALLOCATION_IN_NEW_TLAB = "jdk.ObjectAllocationInNewTLAB";
+    private static final String ALLOCATION_OUTSIDE_TLAB = "jdk.ObjectAllocationOutsideTLAB";
+    private static final String GARBAGE_COLLECTION = "jdk.GarbageCollection";
+    private static final String HEAP_SUMMARY = "jdk.GCHeapSummary";
+    private static final String WINDOW_CLOSED = "cz.cuni.mff.java.kurinna.WindowClosed";
+
+    private static final Duration DELIVERY_TIMEOUT = Duration.ofSeconds(5);
+    private static final Duration MAX_AGE = Duration.ofMinutes(1);
+
+    private static final JfrEventMonitor INSTANCE = new JfrEventMonitor();
+
+    private final Map<Long, Deque<Window>> windowsByThread = new ConcurrentHashMap<>();
+    private final AtomicLong windowIds = new AtomicLong();
+    private final Object flushLock = new Object();
+    private long flushCount;
+    private final boolean running;
+
+    private JfrEventMonitor() {
+        this.running = start();
+    }
+
+    /**
+     * Returns the monitor of this JVM, starting the underlying recording stream on first use.
+     *
+     * @return the shared monitor instance
+     */
+    public static JfrEventMonitor getInstance() {
+        return INSTANCE;
+    }
+
+    private boolean start() {
+        try {
+            RecordingStream stream = new RecordingStream();
+            stream.enable(ALLOCATION_IN_NEW_TLAB).withoutStackTrace();
+            stream.enable(ALLOCATION_OUTSIDE_TLAB).withoutStackTrace();
+            stream.enable(GARBAGE_COLLECTION);
+            stream.enable(HEAP_SUMMARY);
+            stream.enable(WindowClosedEvent.class);
+            stream.setMaxAge(MAX_AGE);
+
+            stream.onEvent(ALLOCATION_IN_NEW_TLAB, event -> onAllocation(event, true));
+            stream.onEvent(ALLOCATION_OUTSIDE_TLAB, event -> onAllocation(event, false));
+            stream.onEvent(GARBAGE_COLLECTION, this::onGarbageCollection);
+            stream.onEvent(HEAP_SUMMARY, this::onHeapSummary);
+            stream.onEvent(WINDOW_CLOSED, this::onWindowClosed);
+            stream.onFlush(this::onFlush);
+
+            stream.startAsync();
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    /**
+     * Opens a measurement window on the calling thread.
+     * The window collects events until {@link Window#close()} is called.
+     *
+     * @return the opened window
+     */
+    public Window open() {
+        Window window = new Window(windowIds.incrementAndGet(), Thread.currentThread().threadId());
+        windowsByThread.computeIfAbsent(window.threadId, id -> new ConcurrentLinkedDeque<>()).addLast(window);
+        return window;
+    }
+
+    private void release(Window window) {
+        Deque<Window> windows = windowsByThread.get(window.threadId);
+        if (windows != null) {
+            windows.remove(window);
+        }
+    }
+
+    private void onAllocation(RecordedEvent event, boolean insideTlab) {
+        RecordedThread thread = event.getThread();
+        if (thread == null) {
+            return;
+        }
+        Deque<Window> windows = windowsByThread.get(thread.getJavaThreadId());
+        if (windows == null) {
+            return;
+        }
+
+        Instant time = event.getStartTime();
+        long size = event.getLong("allocationSize");
+        // The most recent window is the usual match, so search from the tail.
+        var iterator = windows.descendingIterator();
+        while (iterator.hasNext()) {
+            Window window = iterator.next();
+            if (window.covers(time)) {
+                (insideTlab ? window.allocatedInsideTLAB : window.allocatedOutsideTLAB).addAndGet(size);
+                return;
+            }
+        }
+    }
+
+    private void onGarbageCollection(RecordedEvent event) {
+        Instant time = event.getStartTime();
+        for (Deque<Window> windows : windowsByThread.values()) {
+            for (Window window : windows) {
+                if (window.covers(time)) {
+                    window.gcCount.incrementAndGet();
+                }
+            }
+        }
+    }
+
+    private void onHeapSummary(RecordedEvent event) {
+        Instant time = event.getStartTime();
+        long heapUsed = event.getLong("heapUsed");
+        for (Deque<Window> windows : windowsByThread.values()) {
+            for (Window window : windows) {
+                if (window.covers(time)) {
+                    window.totalHeapUsed.addAndGet(heapUsed);
+                    window.heapSamples.incrementAndGet();
+                }
+            }
+        }
+    }
+
+    private void onWindowClosed(RecordedEvent event) {
+        RecordedThread thread = event.getThread();
+        Deque<Window> windows = thread == null ? null : windowsByThread.get(thread.getJavaThreadId());
+        if (windows == null) {
+            return;
+        }
+        long windowId = event.getLong("windowId");
+        for (Window window : windows) {
+            if (window.id == windowId) {
+                synchronized (flushLock) {
+                    window.markedInSegment = flushCount;
+                }
+                return;
+            }
+        }
+    }
+
+    private void onFlush() {
+        synchronized (flushLock) {
+            flushCount++;
+            flushLock.notifyAll();
+        }
+    }
+
+    /**
+     * Blocks until the segment containing the marker of the window has been delivered to the handlers.
+     * The events the measured thread committed before the marker are in the same or an earlier segment.
+     *
+     * @return Whether the segment was delivered before the timeout expired
+     */
+    private boolean awaitDelivery(Window window) throws InterruptedException {
+        long deadline = System.nanoTime() + DELIVERY_TIMEOUT.toNanos();
+        synchronized (flushLock) {
+            while (window.markedInSegment < 0 || flushCount <= window.markedInSegment) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                flushLock.wait(remaining / 1_000_000, (int) (remaining % 1_000_000));
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Time window of a single measurement bound to the thread that opened it.
+     */
+    public final class Window implements AutoCloseable {
+        private final long id;
+        private final long threadId;
+        private final Instant start = Instant.now();
+        private volatile Instant end;
+        // Number of flushes completed before the segment with the marker, guarded by the flush lock
+        private long markedInSegment = -1;
+
+        private final AtomicLong allocatedInsideTLAB = new AtomicLong();
+        private final AtomicLong allocatedOutsideTLAB = new AtomicLong();
+        private final AtomicInteger gcCount = new AtomicInteger();
+        private final AtomicLong totalHeapUsed = new AtomicLong();
+        private final AtomicInteger heapSamples = new AtomicInteger();
+
+        private Window(long id, long threadId) {
+            this.id = id;
+            this.threadId = threadId;
+        }
+
+        private boolean covers(Instant time) {
+            Instant closedAt = end;
+            return !time.isBefore(start) && (closedAt == null || !time.isAfter(closedAt));
+        }
+
+        /**
+         * Marks the end of the measured interval. Events that occur later are not attributed to this window.
+         */
+        @Override
+        public void close() {
+            if (end == null) {
+                end = Instant.now();
+                if (running) {
+                    WindowClosedEvent marker = new WindowClosedEvent();
+                    marker.windowId = id;
+                    marker.commit();
+                }
+            }
+        }
+
+        /**
+         * Waits until all events of the closed window have been delivered and returns the collected statistics.
+         * The window is detached from the monitor afterwards.
+         *
+         * @return the allocation, GC and heap statistics of the window, marked incomplete if the stream is not
+         *         running or did not deliver the events in time
+         * @throws InterruptedException if the thread is interrupted while waiting for the stream
+         */
+        public JfrStats collect() throws InterruptedException {
+            close();
+            boolean complete = false;
+            try {
+                if (running) {
+                    complete = awaitDelivery(this);
+                }
+            } finally {
+                release(this);
+            }
+
+            long inside = allocatedInsideTLAB.get();
+            long outside = allocatedOutsideTLAB.get();
+            int samples = heapSamples.get();
+
+            return new JfrStats(samples > 0 ? totalHeapUsed.get() / samples : 0, gcCount.get(), inside, outside,
+                    inside + outside, complete);
+        }
+
+        /**
+         * Detaches the window from the monitor without waiting for pending events.
+         */
+        public void discard() {
+            close();
+            release(this);
+        }
+    }
+
+    /**
+     * Marker committed on the measured thread when a window closes.
+     */
+    @Name(WINDOW_CLOSED)
+    @Label("Measurement Window Closed")
+    @StackTrace(false)
+    static final class WindowClosedEvent extends Event {
+        @Label("Window Id")
+        long windowId;
+    }
+}
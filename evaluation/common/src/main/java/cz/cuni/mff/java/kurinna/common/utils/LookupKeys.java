@@ -0,0 +1,137 @@
+package cz.cuni.mff.java.kurinna.common.utils;
+
+import java.util.SplittableRandom;
+
+/**
+ * Keys of existing rows for the point lookups, derived from the key rules of the TPC-H dbgen
+ * tool instead of being read from the database. The keys are drawn uniformly from a seeded
+ * generator before the measurement starts, so a lookup run can be repeated with the same keys
+ * and the measured loop only reads them from primitive arrays.
+ * <p>
+ * Single-column keys only use the first component, composite keys use both.
+ */
+public final class LookupKeys {
+    private static final long ORDERS = 1_500_000;
+    private static final long CUSTOMERS = 150_000;
+    private static final long PARTS = 200_000;
+    private static final long SUPPLIERS = 10_000;
+    private static final int SUPPLIERS_PER_PART = 4;
+
+    private final long[] first;
+    private final long[] second;
+
+    private LookupKeys(long[] first, long[] second) {
+        this.first = first;
+        this.second = second;
+    }
+
+    /**
+     * Order keys are sparse, only the first 8 keys of every 32 are populated.
+     *
+     * @param count       Number of keys, at least one key is drawn
+     * @param seed        Seed of the generator
+     * @param scaleFactor Scale factor of the loaded database
+     * @return Keys of existing orders
+     */
+    public static LookupKeys orders(int count, long seed, double scaleFactor) {
+        int size = Math.max(count, 1);
+        SplittableRandom random = new SplittableRandom(seed);
+        long[] orderKeys = new long[size];
+        for (int i = 0; i < size; i++) {
+            orderKeys[i] = orderKey(random, scaleFactor);
+        }
+        return new LookupKeys(orderKeys, null);
+    }
+
+    /**
+     * @param count       Number of keys, at least one key is drawn
+     * @param seed        Seed of the generator
+     * @param scaleFactor Scale factor of the loaded database
+     * @return Keys of existing customers
+     */
+    public static LookupKeys customers(int count, long seed, double scaleFactor) {
+        int size = Math.max(count, 1);
+        SplittableRandom random = new SplittableRandom(seed);
+        long customers = scaled(CUSTOMERS, scaleFactor);
+        long[] customerKeys = new long[size];
+        for (int i = 0; i < size; i++) {
+            customerKeys[i] = random.nextLong(customers) + 1;
+        }
+        return new LookupKeys(customerKeys, null);
+    }
+
+    /**
+     * Every order has between one and seven line items, so the line number is always 1 to keep
+     * every lookup a hit.
+     *
+     * @param count       Number of keys, at least one key is drawn
+     * @param seed        Seed of the generator
+     * @param scaleFactor Scale factor of the loaded database
+     * @return Keys (l_orderkey, l_linenumber) of existing line items
+     */
+    public static LookupKeys lineItems(int count, long seed, double scaleFactor) {
+        int size = Math.max(count, 1);
+        SplittableRandom random = new SplittableRandom(seed);
+        long[] orderKeys = new long[size];
+        long[] lineNumbers = new long[size];
+        for (int i = 0; i < size; i++) {
+            orderKeys[i] = orderKey(random, scaleFactor);
+            lineNumbers[i] = 1;
+        }
+        return new LookupKeys(orderKeys, lineNumbers);
+    }
+
+    /**
+     * Every part is supplied by four suppliers chosen by the dbgen bridge formula.
+     *
+     * @param count       Number of keys, at least one key is drawn
+     * @param seed        Seed of the generator
+     * @param scaleFactor Scale factor of the loaded database
+     * @return Keys (ps_partkey, ps_suppkey) of existing part suppliers
+     */
+    public static LookupKeys partSupps(int count, long seed, double scaleFactor) {
+        int size = Math.max(count, 1);
+        SplittableRandom random = new SplittableRandom(seed);
+        long parts = scaled(PARTS, scaleFactor);
+        long suppliers = scaled(SUPPLIERS, scaleFactor);
+        long[] partKeys = new long[size];
+        long[] supplierKeys = new long[size];
+        for (int i = 0; i < size; i++) {
+            long part = random.nextLong(parts) + 1;
+            int supplier = random.nextInt(SUPPLIERS_PER_PART);
+            partKeys[i] = part;
+            supplierKeys[i] = (part + supplier * (suppliers / SUPPLIERS_PER_PART + (part - 1) / suppliers))
+                    % suppliers + 1;
+        }
+        return new LookupKeys(partKeys, supplierKeys);
+    }
+
+    public int size() {
+        return first.length;
+    }
+
+    /**
+     * @param index Index of the operation
+     * @return The key, or the first component of a composite key
+     */
+    public long first(int index) {
+        return first[index];
+    }
+
+    /**
+     * @param index Index of the operation
+     * @return The second component of a composite key
+     */
+    public long second(int index) {
+        return second[index];
+    }
+
+    private static long orderKey(SplittableRandom random, double scaleFactor) {
+        long index = random.nextLong(scaled(ORDERS, scaleFactor));
+        return (index / 8) * 32 + index % 8 + 1;
+    }
+
+    private static long scaled(long rows, double scaleFactor) {
+        return Math.max(Math.round(rows * scaleFactor), 1);
+    }
+}
@@ -0,0 +1,72 @@
+package cz.cuni.mff.java.kurinna.common.utils;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+/**
+ * Walk over the rows of a table in pages of a fixed size. A pager is created for every
+ * measured iteration and keeps the position of the walk, so every call reads the page
+ * following the previous one.
+ */
+@FunctionalInterface
+public interface Pager {
+    /**
+     * Reads the next page.
+     *
+     * @return Number of rows of the page, 0 when the walk is past the last row
+     */
+    int nextPage();
+
+    /**
+     * Pager addressing the pages by their number, e.g. LIMIT/OFFSET paging where the database
+     * skips the rows of all preceding pages.
+     *
+     * @param page A function reading the page with the given zero-based number
+     * @return The pager starting with the first page
+     */
+    static Pager numbered(IntFunction<? extends List<?>> page) {
+        return new Pager() {
+            private int number;
+
+            @Override
+            public int nextPage() {
+                return page.apply(number++).size();
+            }
+        };
+    }
+
+    /**
+     * Pager seeking the rows after the key of the last row of the previous page (keyset
+     * pagination), so the database starts every page with an index lookup.
+     *
+     * @param start A key lower than the key of the first row
+     * @param page  A function reading the page of rows following the given key
+     * @param key   A function returning the key of a row
+     * @return The pager starting with the first page
+     */
+    static <K, T> Pager keyset(K start, Function<K, ? extends List<T>> page, Function<T, K> key) {
+        return new Pager() {
+            private K last = start;
+
+            @Override
+            public int nextPage() {
+                List<T> rows = page.apply(last);
+                if (!rows.isEmpty()) {
+                    last = key.apply(rows.get(rows.size() - 1));
+                }
+                return rows.size();
+            }
+        };
+    }
+
+    /**
+     * Composite key of a row, e.g. (l_orderkey, l_linenumber).
+     *
+     * @param first  The first component of the key
+     * @param second The second component of the key
+     */
+    record Position(long first, long second) {
+        public static final Position START = new Position(0, 0);
+    }
+}
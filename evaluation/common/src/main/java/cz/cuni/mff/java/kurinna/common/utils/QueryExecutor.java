@@ -1,115 +1,373 @@
 package cz.cuni.mff.java.kurinna.common.utils;
 
-import jdk.jfr.Recording;
-import jdk.jfr.consumer.RecordedEvent;
-import jdk.jfr.consumer.RecordingFile;
+import cz.cuni.mff.java.kurinna.common.dto.IterationSample;
+import cz.cuni.mff.java.kurinna.common.dto.JfrStats;
+import cz.cuni.mff.java.kurinna.common.dto.Measurement;
+import cz.cuni.mff.java.kurinna.common.dto.StreamedResult;
 
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.IntFunction;
 import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
 
+/**
+ * Executes and measures the queries of the microservice endpoints. The endpoints pass their
+ * {@code jfr} request parameter to every method, a measurement with {@code jfr} false is taken without
+ * JFR collection: only the execution time is taken, no measurement window is opened, the allocated bytes
+ * are reported as 0 and the JFR statistics are omitted. It is meant for load generators, which time the
+ * requests themselves and must not wait for the JFR stream.
+ */
 public class QueryExecutor {
+    /**
+     * Name of the request parameter switching the JFR collection off.
+     */
+    public static final String JFR_PARAMETER = "jfr";
+
     /**
      * Helper method to execute a query and measure its execution time and memory
-     * usage
+     * usage. Allocation, GC and heap statistics are taken from the shared
+     * {@link JfrEventMonitor} stream, attributed to the calling thread and the
+     * duration of the query.
      *
      * @param supplier A lambda that executes the query and returns the result
-     * @return A map containing the result, execution time, and memory usage
+     * @return The measurement containing the result size, execution time, and memory usage
      */
-    public static <T extends Collection> Map<String, Object> executeWithMeasurement(Supplier<T> supplier) {
-        Map<String, Object> response = new HashMap<>();
-        Recording recording = new Recording();
-        Path tempJfrFile = null;
+    public static <T extends Collection> Measurement executeWithMeasurement(Supplier<T> supplier) {
+        return executeWithMeasurement(supplier, 0, 1, true);
+    }
 
-        try {
-            recording.setName("QueryRecording");
-            recording.enable("jdk.ObjectAllocationInNewTLAB");
-            recording.enable("jdk.ObjectAllocationOutsideTLAB");
-            recording.enable("jdk.GarbageCollection");
-            recording.enable("jdk.HeapSummary");
+    /**
+     * Helper method to execute a query repeatedly inside the service JVM and
+     * measure every iteration. The warmup executions are not measured; they let
+     * the JIT compiler, the connection pool and the statement caches reach a
+     * steady state before the measured iterations start.
+     *
+     * @param supplier   A lambda that executes the query and returns the result
+     * @param warmup     Number of unmeasured executions run before the measured ones
+     * @param iterations Number of measured executions
+     * @param jfr        Whether the JFR statistics are collected, false only measures the execution time
+     * @return The measurement containing the averaged metrics and the per-iteration samples
+     */
+    public static <T extends Collection> Measurement executeWithMeasurement(Supplier<T> supplier,
+            int warmup, int iterations, boolean jfr) {
+        return measure(supplier, Collection::size, result -> null, warmup, iterations, jfr, () -> null, result -> null);
+    }
 
-            System.gc();
-            Thread.sleep(100);
+    /**
+     * Helper method to execute a query repeatedly inside the service JVM and measure every
+     * iteration together with statistics of the data access framework, e.g. the size of its
+     * persistence context. The statistics are sampled on the calling thread after each measured
+     * iteration, outside of the measured window.
+     *
+     * @param supplier   A lambda that executes the query and returns the result
+     * @param warmup     Number of unmeasured executions run before the measured ones
+     * @param iterations Number of measured executions
+     * @param jfr        Whether the JFR statistics are collected, false only measures the execution time
+     * @param stats      A lambda returning the statistics of the last execution
+     * @return The measurement containing the averaged metrics and the per-iteration samples
+     */
+    public static <T extends Collection> Measurement executeWithMeasurement(Supplier<T> supplier,
+            int warmup, int iterations, boolean jfr, Supplier<Map<String, Long>> stats) {
+        return measure(supplier, Collection::size, result -> null, warmup, iterations, jfr, stats, result -> null);
+    }
 
-            recording.start();
-            long t0 = System.nanoTime();
+    /**
+     * Helper method to execute a query repeatedly inside the service JVM and measure every
+     * iteration together with the number of SQL statements it executed, e.g. to load an object
+     * graph. The statements are counted by {@link StatementCounter}, which requires the query to run
+     * on a {@link StatementCounter#counting counting} datasource or to report its statements through
+     * {@link StatementCounter#executed()}. Every sample and the measurement report the count in their
+     * statistics as {@code statements}.
+     *
+     * @param supplier   A lambda that executes the query and returns the result
+     * @param warmup     Number of unmeasured executions run before the measured ones
+     * @param iterations Number of measured executions
+     * @param jfr        Whether the JFR statistics are collected, false only measures the execution time
+     * @return The measurement containing the averaged metrics and the per-iteration samples
+     */
+    public static <T extends Collection> Measurement executeCountingStatements(Supplier<T> supplier,
+            int warmup, int iterations, boolean jfr) {
+        StatementCounter counter = new StatementCounter();
+        return measure(() -> counter.count(supplier), Collection::size, result -> null, warmup, iterations, jfr,
+                () -> Map.of("statements", counter.statements()), result -> null);
+    }
 
-            // Execute the query
-            T result = supplier.get();
+    /**
+     * Helper method to execute a query whose result is not a collection, e.g. a columnar
+     * representation of the rows, and measure every iteration.
+     *
+     * @param supplier   A lambda that executes the query and returns the result
+     * @param size       A function returning the number of rows of the result
+     * @param warmup     Number of unmeasured executions run before the measured ones
+     * @param iterations Number of measured executions
+     * @param jfr        Whether the JFR statistics are collected, false only measures the execution time
+     * @return The measurement containing the averaged metrics and the per-iteration samples
+     */
+    public static <T> Measurement executeWithMeasurement(Supplier<T> supplier, ToLongFunction<T> size,
+            int warmup, int iterations, boolean jfr) {
+        return measure(supplier, size, result -> null, warmup, iterations, jfr, () -> null, result -> null);
+    }
 
-            long elapsed = System.nanoTime() - t0;
+    /**
+     * Helper method to execute a query whose result is not a collection and measure every
+     * iteration together with statistics of the data access framework, sampled on the calling
+     * thread after each measured iteration.
+     *
+     * @param supplier   A lambda that executes the query and returns the result
+     * @param size       A function returning the number of rows of the result
+     * @param warmup     Number of unmeasured executions run before the measured ones
+     * @param iterations Number of measured executions
+     * @param jfr        Whether the JFR statistics are collected, false only measures the execution time
+     * @param stats      A lambda returning the statistics of the last execution
+     * @return The measurement containing the averaged metrics and the per-iteration samples
+     */
+    public static <T> Measurement executeWithMeasurement(Supplier<T> supplier, ToLongFunction<T> size,
+            int warmup, int iterations, boolean jfr, Supplier<Map<String, Long>> stats) {
+        return measure(supplier, size, result -> null, warmup, iterations, jfr, stats, result -> null);
+    }
 
-            recording.stop();
-            tempJfrFile = Files.createTempFile("query-execution", ".jfr");
-            recording.dump(tempJfrFile);
+    /**
+     * Helper method to execute a streaming query repeatedly inside the service JVM and
+     * measure every iteration. The query consumes its rows as they are read, so besides
+     * the number of rows only the number of characters of the textual values read from the result
+     * set is reported.
+     *
+     * @param supplier   A lambda that executes the query and returns the consumed rows and characters
+     * @param warmup     Number of unmeasured executions run before the measured ones
+     * @param iterations Number of measured executions
+     * @param jfr        Whether the JFR statistics are collected, false only measures the execution time
+     * @return The measurement containing the averaged metrics and the per-iteration samples
+     */
+    public static Measurement executeStreamingWithMeasurement(Supplier<StreamedResult> supplier,
+            int warmup, int iterations, boolean jfr) {
+        return measure(supplier, StreamedResult::rows, StreamedResult::characters, warmup, iterations, jfr, () -> null,
+                result -> null);
+    }
 
-            Map<String, Object> jfrStats = parseJfrFile(tempJfrFile);
+    /**
+     * Helper method to execute point lookups in a tight loop inside the service JVM and measure
+     * every iteration. An iteration runs the lookup once for every operation index, so the keys
+     * have to be prepared before the call and only the lookups themselves are measured. Every
+     * sample and the measurement report the number of operations, the throughput and the bytes
+     * allocated per operation in their statistics.
+     *
+     * @param lookup     A lambda that looks up the row of the given operation index, returning null if it is missing
+     * @param operations Number of lookups per iteration
+     * @param warmup     Number of unmeasured iterations run before the measured ones
+     * @param iterations Number of measured iterations
+     * @param jfr        Whether the JFR statistics are collected, false only measures the execution time
+     * @return The measurement containing the averaged metrics, the number of rows found by the last iteration
+     *         and the per-iteration samples
+     */
+    public static Measurement executeLookupsWithMeasurement(IntFunction<?> lookup, int operations,
+            int warmup, int iterations, boolean jfr) {
+        int count = Math.max(operations, 1);
+        Supplier<Long> loop = () -> {
+            long found = 0;
+            for (int i = 0; i < count; i++) {
+                if (lookup.apply(i) != null) {
+                    found++;
+                }
+            }
+            return found;
+        };
 
-            response.put("delta", jfrStats.get("totalAllocated"));
-            response.put("jfr", jfrStats);
-            response.put("elapsed", elapsed / 1_000_000.0); // Convert to milliseconds
-            response.put("status", "success");
-            response.put("result", result.size());
-        } catch (Exception e) {
-            response.put("status", "error");
-            response.put("error", e.getMessage());
-        } finally {
-            recording.close();
-            try {
-                if (tempJfrFile != null)
-                    Files.deleteIfExists(tempJfrFile);
-            } catch (IOException ignored) {
+        Measurement measurement = measure(loop, Long::longValue, result -> null, warmup, iterations, jfr, () -> null, result -> null);
+        if (measurement.samples() == null) {
+            return measurement;
+        }
+        List<IterationSample> samples = measurement.samples().stream()
+                .map(sample -> new IterationSample(sample.elapsed(), sample.delta(), sample.result(), sample.characters(),
+                        sample.jfr(), lookupStats(count, sample.elapsed(), sample.delta()), null))
+                .toList();
+        return Measurement.success(measurement.elapsed(), measurement.delta(), measurement.result(), null,
+                measurement.jfr(), warmup, measurement.iterations(), samples,
+                lookupStats(count, measurement.elapsed(), measurement.delta()), null);
+    }
+
+    /**
+     * Helper method to walk a table page by page inside the service JVM and measure every
+     * iteration. An iteration reads the pages of a new pager one after another until the given
+     * number of pages is read or a page is empty. Every page is timed on its own, so besides the
+     * totals the samples report the latency of every page and the measurement the average latency
+     * per page depth.
+     *
+     * @param pager      A lambda creating the pager positioned before the first page
+     * @param pages      Maximum number of pages read by an iteration
+     * @param warmup     Number of unmeasured iterations run before the measured ones
+     * @param iterations Number of measured iterations
+     * @param jfr        Whether the JFR statistics are collected, false only measures the execution time
+     * @return The measurement containing the averaged metrics, the number of rows read by the last iteration
+     *         and the per-iteration samples
+     */
+    public static Measurement executePagedWithMeasurement(Supplier<Pager> pager, int pages,
+            int warmup, int iterations, boolean jfr) {
+        int count = Math.max(pages, 1);
+        Supplier<PageWalk> walk = () -> {
+            Pager current = pager.get();
+            long[] latencies = new long[count];
+            long rows = 0;
+            int read = 0;
+            while (read < count) {
+                long t0 = System.nanoTime();
+                int size = current.nextPage();
+                latencies[read] = System.nanoTime() - t0;
+                if (size == 0) {
+                    break;
+                }
+                rows += size;
+                read++;
             }
+            return new PageWalk(rows, latencies, read);
+        };
+        return measure(walk, PageWalk::rows, result -> null, warmup, iterations, jfr, () -> null, PageWalk::latencies);
+    }
+
+    private record PageWalk(long rows, long[] nanos, int pages) {
+        List<Double> latencies() {
+            List<Double> latencies = new ArrayList<>(pages);
+            for (int i = 0; i < pages; i++) {
+                latencies.add(nanos[i] / 1_000_000.0); // Convert to milliseconds
+            }
+            return latencies;
         }
+    }
 
-        return response;
+    private static Map<String, Long> lookupStats(int operations, double elapsed, long delta) {
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("operations", (long) operations);
+        stats.put("operationsPerSecond", elapsed > 0 ? Math.round(operations * 1000.0 / elapsed) : 0);
+        stats.put("allocatedBytesPerOperation", Math.round((double) delta / operations));
+        return stats;
     }
 
-    private static Map<String, Object> parseJfrFile(Path jfrFile) {
-        Map<String, Object> jfrStats = new HashMap<>();
-        int gcCount = 0;
-        long totalHeapUsed = 0;
-        int heapSamples = 0;
-        long allocatedInsideTLAB = 0;
-        long allocatedOutsideTLAB = 0;
-
-        try (RecordingFile rf = new RecordingFile(jfrFile)) {
-            while (rf.hasMoreEvents()) {
-                RecordedEvent event = rf.readEvent();
-                String name = event.getEventType().getName();
-
-                switch (name) {
-                    case "jdk.HeapSummary" -> {
-                        long heapUsed = event.getLong("heapUsed");
-                        totalHeapUsed += heapUsed;
-                        heapSamples++;
-                    }
-                    case "jdk.GarbageCollection" -> {
-                        gcCount++;
-                    }
-                    case "jdk.ObjectAllocationInNewTLAB" -> {
-                        long size = event.getLong("allocationSize");
-                        allocatedInsideTLAB += size;
-                    }
-                    case "jdk.ObjectAllocationOutsideTLAB" -> {
-                        long size = event.getLong("allocationSize");
-                        allocatedOutsideTLAB += size;
-                    }
+    private static <T> Measurement measure(Supplier<T> supplier, ToLongFunction<T> rows, Function<T, Long> characters,
+            int warmup, int iterations, boolean jfr, Supplier<Map<String, Long>> stats,
+            Function<T, List<Double>> pages) {
+        int measured = Math.max(iterations, 1);
+        List<JfrEventMonitor.Window> windows = new ArrayList<>(measured);
+        long[] elapsed = new long[measured];
+        long[] sizes = new long[measured];
+        Long[] readCharacters = new Long[measured];
+        List<List<Double>> pageLatencies = new ArrayList<>(measured);
+        List<Map<String, Long>> iterationStats = new ArrayList<>(measured);
+
+        try {
+            for (int i = 0; i < warmup; i++) {
+                rows.applyAsLong(supplier.get());
+            }
+
+            for (int i = 0; i < measured; i++) {
+                JfrEventMonitor.Window window = jfr ? JfrEventMonitor.getInstance().open() : null;
+                if (window != null) {
+                    windows.add(window);
+                }
+                long t0 = System.nanoTime();
+
+                // Execute the query
+                T result = supplier.get();
+
+                elapsed[i] = System.nanoTime() - t0;
+                if (window != null) {
+                    window.close();
+                }
+                sizes[i] = rows.applyAsLong(result);
+                readCharacters[i] = characters.apply(result);
+                pageLatencies.add(pages.apply(result));
+                iterationStats.add(stats.get());
+            }
+
+            // The first collect waits for the stream to catch up, the remaining ones return immediately.
+            List<IterationSample> samples = new ArrayList<>(measured);
+            for (int i = 0; i < measured; i++) {
+                JfrStats jfrStats = jfr ? windows.get(i).collect() : null;
+                samples.add(new IterationSample(elapsed[i] / 1_000_000.0, // Convert to milliseconds
+                        jfrStats != null ? jfrStats.totalAllocated() : 0, sizes[i], readCharacters[i], jfrStats,
+                        iterationStats.get(i), pageLatencies.get(i)));
+            }
+
+            JfrStats jfrStats = jfr ? aggregateJfrStats(samples) : null;
+            double averageElapsed = samples.stream().mapToDouble(IterationSample::elapsed).average().orElse(0.0);
+            return Measurement.success(averageElapsed, jfrStats != null ? jfrStats.totalAllocated() : 0,
+                    sizes[measured - 1], readCharacters[measured - 1], jfrStats, warmup, measured, samples,
+                    iterationStats.get(measured - 1), averagePages(pageLatencies));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            windows.forEach(JfrEventMonitor.Window::discard);
+            return Measurement.error(e.getMessage());
+        } catch (Exception e) {
+            windows.forEach(JfrEventMonitor.Window::discard);
+            return Measurement.error(e.getMessage());
+        }
+    }
+
+    /**
+     * Averages the page latencies of the iterations by the page depth. A depth is averaged over
+     * the iterations which read that many pages.
+     */
+    private static List<Double> averagePages(List<List<Double>> pageLatencies) {
+        if (pageLatencies.stream().allMatch(Objects::isNull)) {
+            return null;
+        }
+        List<Double> sums = new ArrayList<>();
+        List<Integer> counts = new ArrayList<>();
+        for (List<Double> latencies : pageLatencies) {
+            for (int depth = 0; depth < latencies.size(); depth++) {
+                if (depth == sums.size()) {
+                    sums.add(0.0);
+                    counts.add(0);
                 }
+                sums.set(depth, sums.get(depth) + latencies.get(depth));
+                counts.set(depth, counts.get(depth) + 1);
             }
-        } catch (Exception ignored) {
         }
+        List<Double> averages = new ArrayList<>(sums.size());
+        for (int depth = 0; depth < sums.size(); depth++) {
+            averages.add(sums.get(depth) / counts.get(depth));
+        }
+        return averages;
+    }
 
-        jfrStats.put("heapUsedAvg", heapSamples > 0 ? totalHeapUsed / heapSamples : 0);
-        jfrStats.put("gcCount", gcCount);
-        jfrStats.put("allocatedInsideTLAB", allocatedInsideTLAB);
-        jfrStats.put("allocatedOutsideTLAB", allocatedOutsideTLAB);
-        jfrStats.put("totalAllocated", allocatedInsideTLAB + allocatedOutsideTLAB);
+    /**
+     * Averages the per-iteration JFR statistics. Allocations are reported per iteration,
+     * the GC count is the total over all measured iterations and the heap usage is averaged
+     * over the iterations in which a heap summary was recorded. The statistics are complete only if
+     * the statistics of every iteration are.
+     */
+    private static JfrStats aggregateJfrStats(List<IterationSample> samples) {
+        long gcCount = 0;
+        long heapUsed = 0;
+        int heapSamples = 0;
+        long insideTLAB = 0;
+        long outsideTLAB = 0;
+        boolean complete = true;
+        for (IterationSample sample : samples) {
+            JfrStats jfr = sample.jfr();
+            gcCount += jfr.gcCount();
+            insideTLAB += jfr.allocatedInsideTLAB();
+            outsideTLAB += jfr.allocatedOutsideTLAB();
+            complete &= jfr.complete();
+            if (jfr.heapUsedAvg() > 0) {
+                heapUsed += jfr.heapUsedAvg();
+                heapSamples++;
+            }
+        }
 
-        return jfrStats;
+        int n = samples.size();
+        long averageInside = Math.round((double) insideTLAB / n);
+        long averageOutside = Math.round((double) outsideTLAB / n);
+        return new JfrStats(
+                heapSamples > 0 ? Math.round((double) heapUsed / heapSamples) : 0,
+                gcCount,
+                averageInside,
+                averageOutside,
+                Math.round((double) (insideTLAB + outsideTLAB) / n),
+                complete);
     }
 }
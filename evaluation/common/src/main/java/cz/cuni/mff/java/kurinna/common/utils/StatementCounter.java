@@ -0,0 +1,127 @@
+package cz.cuni.mff.java.kurinna.common.utils;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.function.Supplier;
+
+/**
+ * Counts the SQL statements executed by the calling thread, e.g. to tell the lazy loading of an
+ * object graph (N+1 statements) from a join or batch fetch. The statements are either counted by a
+ * {@link #counting(DataSource) counting} datasource or reported through {@link #executed()} by a
+ * listener of the data access framework.
+ * <p>
+ * The counting datasource wraps the connections and statements in proxies, so it only backs the
+ * templates or sessions of the counted queries and never the pooled datasource shared by all other
+ * queries. It only wraps the connections obtained while a counter is active on the thread. A statement
+ * is counted on every execution, so a statement executed twice counts twice and a batch counts once.
+ */
+public final class StatementCounter {
+    private static final ThreadLocal<StatementCounter> ACTIVE = new ThreadLocal<>();
+
+    private long statements;
+
+    /**
+     * Runs the execution with this counter active on the calling thread. The counter is reset before
+     * the execution, so afterwards it holds the statements of this execution only.
+     *
+     * @param execution A lambda that executes the statements
+     * @return The result of the execution
+     */
+    public <T> T count(Supplier<T> execution) {
+        statements = 0;
+        StatementCounter previous = ACTIVE.get();
+        ACTIVE.set(this);
+        try {
+            return execution.get();
+        } finally {
+            if (previous == null) {
+                ACTIVE.remove();
+            } else {
+                ACTIVE.set(previous);
+            }
+        }
+    }
+
+    /**
+     * @return Number of statements executed by the last execution
+     */
+    public long statements() {
+        return statements;
+    }
+
+    /**
+     * Counts a statement executed by the calling thread. Called by the listeners of data access
+     * frameworks which report their statements, does nothing if no counter is active on the thread.
+     */
+    public static void executed() {
+        StatementCounter counter = ACTIVE.get();
+        if (counter != null) {
+            counter.statements++;
+        }
+    }
+
+    /**
+     * Wraps the datasource so the statements executed through its connections are counted by the
+     * counter active on the thread which obtained the connection.
+     *
+     * @param dataSource The pooled datasource of the service
+     * @return The counting datasource, to be used only by the counted queries
+     */
+    public static DataSource counting(DataSource dataSource) {
+        return proxy(DataSource.class, dataSource, (method, result) -> {
+            StatementCounter counter = ACTIVE.get();
+            if (counter != null && result instanceof Connection connection) {
+                return counter.connection(connection);
+            }
+            return result;
+        });
+    }
+
+    private Connection connection(Connection connection) {
+        return proxy(Connection.class, connection, (method, result) -> {
+            if (result instanceof CallableStatement statement) {
+                return statement(CallableStatement.class, statement);
+            }
+            if (result instanceof PreparedStatement statement) {
+                return statement(PreparedStatement.class, statement);
+            }
+            if (result instanceof Statement statement) {
+                return statement(Statement.class, statement);
+            }
+            return result;
+        });
+    }
+
+    private <S extends Statement> S statement(Class<S> type, S statement) {
+        return proxy(type, statement, (method, result) -> {
+            if (method.getName().startsWith("execute")) {
+                statements++;
+            }
+            return result;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, Interceptor interceptor) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            try {
+                return interceptor.after(method, method.invoke(target, args));
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        };
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    @FunctionalInterface
+    private interface Interceptor {
+        Object after(Method method, Object result);
+    }
+}
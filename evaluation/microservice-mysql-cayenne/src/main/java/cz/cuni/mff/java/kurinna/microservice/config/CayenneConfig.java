@@ -1,13 +1,11 @@
 package cz.cuni.mff.java.kurinna.microservice.config;
 
-import org.apache.cayenne.ObjectContext;
 import org.apache.cayenne.configuration.server.ServerRuntime;
 import org.apache.cayenne.datasource.DataSourceBuilder;
+import org.apache.cayenne.log.JdbcEventLogger;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.context.annotation.Scope;
 
 @Configuration
 public class CayenneConfig {
@@ -33,15 +31,10 @@ public class CayenneConfig {
                         .driver(dataSourceDriverClassName)
                         .build())
                 .addConfig("cayenne-project.xml")
+                // Reports the executed statements, so the object graph queries (H1-H3) can count them
+                .addModule(binder -> binder.bind(JdbcEventLogger.class).to(StatementCountingJdbcEventLogger.class))
                 .build();
 
         return runtime;
     }
-
-
-    @Bean
-    @Scope(ConfigurableBeanFactory.SCOPE_PROTOTYPE)
-    public ObjectContext objectContext(ServerRuntime runtime) {
-        return runtime.newContext();
-    }
 }
\ No newline at end of file
@@ -0,0 +1,25 @@
+package cz.cuni.mff.java.kurinna.microservice.config;
+
+import cz.cuni.mff.java.kurinna.common.utils.StatementCounter;
+import org.apache.cayenne.access.translator.ParameterBinding;
+import org.apache.cayenne.configuration.RuntimeProperties;
+import org.apache.cayenne.di.Inject;
+import org.apache.cayenne.log.Slf4jJdbcEventLogger;
+
+/**
+ * Cayenne's default event logger, which also reports every logged query to the {@link StatementCounter}.
+ * Cayenne logs the SQL of every statement right before executing it, so the object graph queries (H1-H3)
+ * count their statements without a proxy around the pooled datasource.
+ */
+public class StatementCountingJdbcEventLogger extends Slf4jJdbcEventLogger {
+
+    public StatementCountingJdbcEventLogger(@Inject RuntimeProperties runtimeProperties) {
+        super(runtimeProperties);
+    }
+
+    @Override
+    public void logQuery(String sql, ParameterBinding[] bindings) {
+        StatementCounter.executed();
+        super.logQuery(sql, bindings);
+    }
+}
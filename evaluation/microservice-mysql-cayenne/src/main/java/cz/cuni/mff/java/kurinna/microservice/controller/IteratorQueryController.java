@@ -0,0 +1,121 @@
+package cz.cuni.mff.java.kurinna.microservice.controller;
+
+import cz.cuni.mff.java.kurinna.common.dto.Measurement;
+import cz.cuni.mff.java.kurinna.microservice.repository.ObjectRepository.ObjectQuery;
+import cz.cuni.mff.java.kurinna.microservice.service.ObjectQueryService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+
+import static cz.cuni.mff.java.kurinna.common.utils.QueryExecutor.executeWithMeasurement;
+
+/**
+ * Streaming variants of the object query endpoints. The persistent objects are read one by one from
+ * a {@code ResultIterator} and only counted.
+ */
+@RestController
+@RequestMapping("/iterator")
+public class IteratorQueryController {
+    private final ObjectQueryService queryService;
+
+    public IteratorQueryController(ObjectQueryService queryService) {
+        this.queryService = queryService;
+    }
+
+    @GetMapping("/a1")
+    public ResponseEntity<Measurement> a1(
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        Measurement response = executeWithMeasurement(() -> queryService.a1(ObjectQuery::iterate), Long::longValue,
+                warmup, iterations, jfr, queryService::contextStats);
+        return ResponseEntity.ok(response);
+    }
+
+    // A2) Non-Indexed Columns — Range Query
+    @GetMapping("/a2")
+    public ResponseEntity<Measurement> a2(
+            @RequestParam(defaultValue = "1996-01-01") String startDate,
+            @RequestParam(defaultValue = "1996-12-31") String endDate,
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        LocalDate start = LocalDate.parse(startDate);
+        LocalDate end = LocalDate.parse(endDate);
+        Measurement response = executeWithMeasurement(() -> queryService.a2(start, end, ObjectQuery::iterate), Long::longValue,
+                warmup, iterations, jfr, queryService::contextStats);
+        return ResponseEntity.ok(response);
+    }
+
+    // A3) Indexed Columns
+    @GetMapping("/a3")
+    public ResponseEntity<Measurement> a3(
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        Measurement response = executeWithMeasurement(() -> queryService.a3(ObjectQuery::iterate), Long::longValue,
+                warmup, iterations, jfr, queryService::contextStats);
+        return ResponseEntity.ok(response);
+    }
+
+    // A4) Indexed Columns — Range Query
+    @GetMapping("/a4")
+    public ResponseEntity<Measurement> a4(
+            @RequestParam(defaultValue = "1000") int minOrderKey,
+            @RequestParam(defaultValue = "50000") int maxOrderKey,
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        Measurement response = executeWithMeasurement(() -> queryService.a4(minOrderKey, maxOrderKey, ObjectQuery::iterate), Long::longValue,
+                warmup, iterations, jfr, queryService::contextStats);
+        return ResponseEntity.ok(response);
+    }
+
+    // C2) Indexed Columns
+    @GetMapping("/c2")
+    public ResponseEntity<Measurement> c2(
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        Measurement response = executeWithMeasurement(() -> queryService.c2(ObjectQuery::iterate), Long::longValue,
+                warmup, iterations, jfr, queryService::contextStats);
+        return ResponseEntity.ok(response);
+    }
+
+    // C3) Complex Join 1
+    @GetMapping("/c3")
+    public ResponseEntity<Measurement> c3(
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        Measurement response = executeWithMeasurement(() -> queryService.c3(ObjectQuery::iterate), Long::longValue,
+                warmup, iterations, jfr, queryService::contextStats);
+        return ResponseEntity.ok(response);
+    }
+
+    // C4) Complex Join 2
+    @GetMapping("/c4")
+    public ResponseEntity<Measurement> c4(
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        Measurement response = executeWithMeasurement(() -> queryService.c4(ObjectQuery::iterate), Long::longValue,
+                warmup, iterations, jfr, queryService::contextStats);
+        return ResponseEntity.ok(response);
+    }
+
+    // C5) Left Outer Join
+    @GetMapping("/c5")
+    public ResponseEntity<Measurement> c5(
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        Measurement response = executeWithMeasurement(() -> queryService.c5(ObjectQuery::iterate), Long::longValue,
+                warmup, iterations, jfr, queryService::contextStats);
+        return ResponseEntity.ok(response);
+    }
+}
@@ -3,8 +3,13 @@ package cz.cuni.mff.java.kurinna.microservice.model.auto;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.util.List;
 
+import cz.cuni.mff.java.kurinna.microservice.model.Nation;
+import cz.cuni.mff.java.kurinna.microservice.model.Orders;
 import org.apache.cayenne.BaseDataObject;
+import org.apache.cayenne.exp.property.EntityProperty;
+import org.apache.cayenne.exp.property.ListProperty;
 import org.apache.cayenne.exp.property.NumericProperty;
 import org.apache.cayenne.exp.property.PropertyFactory;
 import org.apache.cayenne.exp.property.StringProperty;
@@ -19,6 +24,7 @@ public abstract class _Customer extends BaseDataObject {
 
     private static final long serialVersionUID = 1L;
 
+    public static final String C_CUSTKEY_PK_COLUMN = "c_custkey";
 
     public static final NumericProperty<Double> C_ACCTBAL = PropertyFactory.createNumeric("cAcctbal", Double.class);
     public static final StringProperty<String> C_ADDRESS = PropertyFactory.createString("cAddress", String.class);
@@ -28,6 +34,8 @@ public abstract class _Customer extends BaseDataObject {
     public static final StringProperty<String> C_NAME = PropertyFactory.createString("cName", String.class);
     public static final NumericProperty<Integer> C_NATIONKEY = PropertyFactory.createNumeric("cNationkey", Integer.class);
     public static final StringProperty<String> C_PHONE = PropertyFactory.createString("cPhone", String.class);
+    public static final EntityProperty<Nation> NATION = PropertyFactory.createEntity("nation", Nation.class);
+    public static final ListProperty<Orders> ORDERS = PropertyFactory.createList("orders", Orders.class);
 
     protected double cAcctbal;
     protected String cAddress;
@@ -37,6 +45,8 @@ public abstract class _Customer extends BaseDataObject {
     protected String cName;
     protected int cNationkey;
     protected String cPhone;
+    protected Object nation;
+    protected Object orders;
 
 
     public void setCAcctbal(double cAcctbal) {
@@ -119,6 +129,27 @@ public abstract class _Customer extends BaseDataObject {
         return this.cPhone;
     }
 
+    public void setNation(Nation nation) {
+        setToOneTarget("nation", nation, true);
+    }
+
+    public Nation getNation() {
+        return (Nation)readProperty("nation");
+    }
+
+    public void addToOrders(Orders obj) {
+        addToManyTarget("orders", obj, true);
+    }
+
+    public void removeFromOrders(Orders obj) {
+        removeToManyTarget("orders", obj, true);
+    }
+
+    @SuppressWarnings("unchecked")
+    public List<Orders> getOrders() {
+        return (List<Orders>)readProperty("orders");
+    }
+
     @Override
     public Object readPropertyDirectly(String propName) {
         if(propName == null) {
@@ -142,6 +173,10 @@ public abstract class _Customer extends BaseDataObject {
                 return this.cNationkey;
             case "cPhone":
                 return this.cPhone;
+            case "nation":
+                return this.nation;
+            case "orders":
+                return this.orders;
             default:
                 return super.readPropertyDirectly(propName);
         }
@@ -178,6 +213,12 @@ public abstract class _Customer extends BaseDataObject {
             case "cPhone":
                 this.cPhone = (String)val;
                 break;
+            case "nation":
+                this.nation = val;
+                break;
+            case "orders":
+                this.orders = val;
+                break;
             default:
                 super.writePropertyDirectly(propName, val);
         }
@@ -202,6 +243,8 @@ public abstract class _Customer extends BaseDataObject {
         out.writeObject(this.cName);
         out.writeInt(this.cNationkey);
         out.writeObject(this.cPhone);
+        out.writeObject(this.nation);
+        out.writeObject(this.orders);
     }
 
     @Override
@@ -215,6 +258,8 @@ public abstract class _Customer extends BaseDataObject {
         this.cName = (String)in.readObject();
         this.cNationkey = in.readInt();
         this.cPhone = (String)in.readObject();
+        this.nation = in.readObject();
+        this.orders = in.readObject();
     }
 
 }
@@ -21,6 +21,8 @@ public abstract class _Lineitem extends BaseDataObject {
 
     private static final long serialVersionUID = 1L;
 
+    public static final String L_LINENUMBER_PK_COLUMN = "l_linenumber";
+    public static final String L_ORDERKEY_PK_COLUMN = "l_orderkey";
 
     public static final StringProperty<String> L_COMMENT = PropertyFactory.createString("lComment", String.class);
     public static final DateProperty<LocalDate> L_COMMITDATE = PropertyFactory.createDate("lCommitdate", LocalDate.class);
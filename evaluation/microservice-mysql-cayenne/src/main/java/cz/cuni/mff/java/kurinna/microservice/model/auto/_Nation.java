@@ -4,7 +4,9 @@ import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 
+import cz.cuni.mff.java.kurinna.microservice.model.Region;
 import org.apache.cayenne.BaseDataObject;
+import org.apache.cayenne.exp.property.EntityProperty;
 import org.apache.cayenne.exp.property.NumericProperty;
 import org.apache.cayenne.exp.property.PropertyFactory;
 import org.apache.cayenne.exp.property.StringProperty;
@@ -19,16 +21,19 @@ public abstract class _Nation extends BaseDataObject {
 
     private static final long serialVersionUID = 1L;
 
+    public static final String N_NATIONKEY_PK_COLUMN = "n_nationkey";
 
     public static final StringProperty<String> N_COMMENT = PropertyFactory.createString("nComment", String.class);
     public static final StringProperty<String> N_NAME = PropertyFactory.createString("nName", String.class);
     public static final NumericProperty<Integer> N_NATIONKEY = PropertyFactory.createNumeric("nNationkey", Integer.class);
     public static final NumericProperty<Integer> N_REGIONKEY = PropertyFactory.createNumeric("nRegionkey", Integer.class);
+    public static final EntityProperty<Region> REGION = PropertyFactory.createEntity("region", Region.class);
 
     protected String nComment;
     protected String nName;
     protected int nNationkey;
     protected int nRegionkey;
+    protected Object region;
 
 
     public void setNComment(String nComment) {
@@ -71,6 +76,14 @@ public abstract class _Nation extends BaseDataObject {
         return this.nRegionkey;
     }
 
+    public void setRegion(Region region) {
+        setToOneTarget("region", region, true);
+    }
+
+    public Region getRegion() {
+        return (Region)readProperty("region");
+    }
+
     @Override
     public Object readPropertyDirectly(String propName) {
         if(propName == null) {
@@ -86,6 +99,8 @@ public abstract class _Nation extends BaseDataObject {
                 return this.nNationkey;
             case "nRegionkey":
                 return this.nRegionkey;
+            case "region":
+                return this.region;
             default:
                 return super.readPropertyDirectly(propName);
         }
@@ -110,6 +125,9 @@ public abstract class _Nation extends BaseDataObject {
             case "nRegionkey":
                 this.nRegionkey = val == null ? 0 : (int)val;
                 break;
+            case "region":
+                this.region = val;
+                break;
             default:
                 super.writePropertyDirectly(propName, val);
         }
@@ -130,6 +148,7 @@ public abstract class _Nation extends BaseDataObject {
         out.writeObject(this.nName);
         out.writeInt(this.nNationkey);
         out.writeInt(this.nRegionkey);
+        out.writeObject(this.region);
     }
 
     @Override
@@ -139,6 +158,7 @@ public abstract class _Nation extends BaseDataObject {
         this.nName = (String)in.readObject();
         this.nNationkey = in.readInt();
         this.nRegionkey = in.readInt();
+        this.region = in.readObject();
     }
 
 }
@@ -4,9 +4,14 @@ import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.time.LocalDate;
+import java.util.List;
 
+import cz.cuni.mff.java.kurinna.microservice.model.Customer;
+import cz.cuni.mff.java.kurinna.microservice.model.Lineitem;
 import org.apache.cayenne.BaseDataObject;
 import org.apache.cayenne.exp.property.DateProperty;
+import org.apache.cayenne.exp.property.EntityProperty;
+import org.apache.cayenne.exp.property.ListProperty;
 import org.apache.cayenne.exp.property.NumericProperty;
 import org.apache.cayenne.exp.property.PropertyFactory;
 import org.apache.cayenne.exp.property.StringProperty;
@@ -21,6 +26,7 @@ public abstract class _Orders extends BaseDataObject {
 
     private static final long serialVersionUID = 1L;
 
+    public static final String O_ORDERKEY_PK_COLUMN = "o_orderkey";
 
     public static final StringProperty<String> O_CLERK = PropertyFactory.createString("oClerk", String.class);
     public static final StringProperty<String> O_COMMENT = PropertyFactory.createString("oComment", String.class);
@@ -31,6 +37,8 @@ public abstract class _Orders extends BaseDataObject {
     public static final StringProperty<String> O_ORDERSTATUS = PropertyFactory.createString("oOrderstatus", String.class);
     public static final NumericProperty<Integer> O_SHIPPRIORITY = PropertyFactory.createNumeric("oShippriority", Integer.class);
     public static final NumericProperty<Double> O_TOTALPRICE = PropertyFactory.createNumeric("oTotalprice", Double.class);
+    public static final EntityProperty<Customer> CUSTOMER = PropertyFactory.createEntity("customer", Customer.class);
+    public static final ListProperty<Lineitem> LINEITEMS = PropertyFactory.createList("lineitems", Lineitem.class);
 
     protected String oClerk;
     protected String oComment;
@@ -41,6 +49,8 @@ public abstract class _Orders extends BaseDataObject {
     protected String oOrderstatus;
     protected int oShippriority;
     protected double oTotalprice;
+    protected Object customer;
+    protected Object lineitems;
 
 
     public void setOClerk(String oClerk) {
@@ -133,6 +143,27 @@ public abstract class _Orders extends BaseDataObject {
         return this.oTotalprice;
     }
 
+    public void setCustomer(Customer customer) {
+        setToOneTarget("customer", customer, true);
+    }
+
+    public Customer getCustomer() {
+        return (Customer)readProperty("customer");
+    }
+
+    public void addToLineitems(Lineitem obj) {
+        addToManyTarget("lineitems", obj, true);
+    }
+
+    public void removeFromLineitems(Lineitem obj) {
+        removeToManyTarget("lineitems", obj, true);
+    }
+
+    @SuppressWarnings("unchecked")
+    public List<Lineitem> getLineitems() {
+        return (List<Lineitem>)readProperty("lineitems");
+    }
+
     @Override
     public Object readPropertyDirectly(String propName) {
         if(propName == null) {
@@ -158,6 +189,10 @@ public abstract class _Orders extends BaseDataObject {
                 return this.oShippriority;
             case "oTotalprice":
                 return this.oTotalprice;
+            case "customer":
+                return this.customer;
+            case "lineitems":
+                return this.lineitems;
             default:
                 return super.readPropertyDirectly(propName);
         }
@@ -197,6 +232,12 @@ public abstract class _Orders extends BaseDataObject {
             case "oTotalprice":
                 this.oTotalprice = val == null ? 0 : (double)val;
                 break;
+            case "customer":
+                this.customer = val;
+                break;
+            case "lineitems":
+                this.lineitems = val;
+                break;
             default:
                 super.writePropertyDirectly(propName, val);
         }
@@ -222,6 +263,8 @@ public abstract class _Orders extends BaseDataObject {
         out.writeObject(this.oOrderstatus);
         out.writeInt(this.oShippriority);
         out.writeDouble(this.oTotalprice);
+        out.writeObject(this.customer);
+        out.writeObject(this.lineitems);
     }
 
     @Override
@@ -236,6 +279,8 @@ public abstract class _Orders extends BaseDataObject {
         this.oOrderstatus = (String)in.readObject();
         this.oShippriority = in.readInt();
         this.oTotalprice = in.readDouble();
+        this.customer = in.readObject();
+        this.lineitems = in.readObject();
     }
 
 }
@@ -19,6 +19,7 @@ public abstract class _Part extends BaseDataObject {
 
     private static final long serialVersionUID = 1L;
 
+    public static final String P_PARTKEY_PK_COLUMN = "p_partkey";
 
     public static final StringProperty<String> P_BRAND = PropertyFactory.createString("pBrand", String.class);
     public static final StringProperty<String> P_COMMENT = PropertyFactory.createString("pComment", String.class);
@@ -19,6 +19,8 @@ public abstract class _Partsupp extends BaseDataObject {
 
     private static final long serialVersionUID = 1L;
 
+    public static final String PS_PARTKEY_PK_COLUMN = "ps_partkey";
+    public static final String PS_SUPPKEY_PK_COLUMN = "ps_suppkey";
 
     public static final NumericProperty<Long> PS_AVAILQTY = PropertyFactory.createNumeric("psAvailqty", Long.class);
     public static final StringProperty<String> PS_COMMENT = PropertyFactory.createString("psComment", String.class);
@@ -19,6 +19,7 @@ public abstract class _Region extends BaseDataObject {
 
     private static final long serialVersionUID = 1L;
 
+    public static final String R_REGIONKEY_PK_COLUMN = "r_regionkey";
 
     public static final StringProperty<String> R_COMMENT = PropertyFactory.createString("rComment", String.class);
     public static final StringProperty<String> R_NAME = PropertyFactory.createString("rName", String.class);
@@ -19,6 +19,7 @@ public abstract class _Supplier extends BaseDataObject {
 
     private static final long serialVersionUID = 1L;
 
+    public static final String S_SUPPKEY_PK_COLUMN = "s_suppkey";
 
     public static final NumericProperty<Double> S_ACCTBAL = PropertyFactory.createNumeric("sAcctbal", Double.class);
     public static final StringProperty<String> S_ADDRESS = PropertyFactory.createString("sAddress", String.class);
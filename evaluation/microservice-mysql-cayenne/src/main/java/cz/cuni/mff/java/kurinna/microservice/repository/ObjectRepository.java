@@ -0,0 +1,398 @@
+package cz.cuni.mff.java.kurinna.microservice.repository;
+
+import cz.cuni.mff.java.kurinna.common.utils.Pager;
+import cz.cuni.mff.java.kurinna.microservice.model.Customer;
+import cz.cuni.mff.java.kurinna.microservice.model.Lineitem;
+import cz.cuni.mff.java.kurinna.microservice.model.Nation;
+import cz.cuni.mff.java.kurinna.microservice.model.Orders;
+import cz.cuni.mff.java.kurinna.microservice.model.Partsupp;
+import org.apache.cayenne.ObjectContext;
+import org.apache.cayenne.ResultBatchIterator;
+import org.apache.cayenne.ResultIterator;
+import org.apache.cayenne.query.ObjectSelect;
+import org.apache.cayenne.query.SelectById;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Repository class executing queries through Cayenne's object layer.
+ * Unlike {@link UniversalRepository}, which passes raw SQL through {@code SQLSelect} and returns data rows,
+ * the queries are built with {@link ObjectSelect} and return persistent objects registered in the context.
+ * The joins are expressed as joint prefetches along the datamap relationships, so the related objects are
+ * resolved from the same result set.
+ * <p>
+ * Every query can be executed in four ways: as a plain list, through {@code iterator()} reading one object
+ * at a time, through {@code batchIterator(n)} reading lists of n objects, and as a paginated list with
+ * {@code pageSize(n)}, which first fetches only the ids and resolves the objects page by page on access.
+ * The iterated variants use the configured statement fetch size: {@link Integer#MIN_VALUE} makes the MySQL
+ * driver stream the result row by row, a positive value together with {@code useCursorFetch=true} in the
+ * connection URL reads it through a server-side cursor in batches of that size.
+ * <p>
+ * C1 has no counterpart, a Cartesian product cannot be expressed along relationships.
+ * <p>
+ * The point lookups fetch a single object by its id with {@link SelectById}, composite ids are given as
+ * a map of the primary key columns.
+ * <p>
+ * Cayenne's paging is the paginated list, so the offset pagination walks a list selected with
+ * {@code pageSize(n)} and its id query is limited to the rows of the walked pages. The keyset pagination
+ * selects every page on its own with a predicate seeking past the key of the previous page.
+ * <p>
+ * The object graph queries load orders with their customer and line items, lazily through faults, with
+ * joint prefetches or with disjoint prefetches in separate queries.
+ */
+@Repository
+public class ObjectRepository {
+    private final int fetchSize;
+
+    /**
+     * Constructs a new ObjectRepository.
+     *
+     * @param fetchSize The statement fetch size of the iterated queries
+     */
+    public ObjectRepository(@Value("${cayenne.streaming.fetch-size:-2147483648}") int fetchSize) {
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * A1) Retrieves all line items.
+     *
+     * @param context The Cayenne ObjectContext to execute the query
+     * @return Query over the lineitem table
+     */
+    public ObjectQuery<Lineitem> a1(ObjectContext context) {
+        return new ObjectQuery<>(ObjectSelect.query(Lineitem.class), context, fetchSize);
+    }
+
+    /**
+     * A2) Retrieves orders within a specified date range.
+     *
+     * @param context The Cayenne ObjectContext to execute the query
+     * @param startDate The start date of the range (inclusive)
+     * @param endDate The end date of the range (inclusive)
+     * @return Query over the orders within the date range
+     */
+    public ObjectQuery<Orders> a2(ObjectContext context, LocalDate startDate, LocalDate endDate) {
+        return new ObjectQuery<>(ObjectSelect.query(Orders.class)
+                .where(Orders.O_ORDERDATE.between(startDate, endDate)), context, fetchSize);
+    }
+
+    /**
+     * A3) Retrieves all customers.
+     *
+     * @param context The Cayenne ObjectContext to execute the query
+     * @return Query over the customer table
+     */
+    public ObjectQuery<Customer> a3(ObjectContext context) {
+        return new ObjectQuery<>(ObjectSelect.query(Customer.class), context, fetchSize);
+    }
+
+    /**
+     * A4) Retrieves orders within a specified order key range.
+     *
+     * @param context The Cayenne ObjectContext to execute the query
+     * @param minOrderKey The minimum order key (inclusive)
+     * @param maxOrderKey The maximum order key (inclusive)
+     * @return Query over the orders within the order key range
+     */
+    public ObjectQuery<Orders> a4(ObjectContext context, int minOrderKey, int maxOrderKey) {
+        return new ObjectQuery<>(ObjectSelect.query(Orders.class)
+                .where(Orders.O_ORDERKEY.between((long) minOrderKey, (long) maxOrderKey)), context, fetchSize);
+    }
+
+    /**
+     * C2) Retrieves orders together with their customer.
+     *
+     * @param context The Cayenne ObjectContext to execute the query
+     * @return Query over the orders with the customer prefetched
+     */
+    public ObjectQuery<Orders> c2(ObjectContext context) {
+        return new ObjectQuery<>(ObjectSelect.query(Orders.class)
+                .prefetch(Orders.CUSTOMER.joint()), context, fetchSize);
+    }
+
+    /**
+     * C3) Retrieves orders together with their customer and the customer's nation.
+     *
+     * @param context The Cayenne ObjectContext to execute the query
+     * @return Query over the orders with the customer and nation prefetched
+     */
+    public ObjectQuery<Orders> c3(ObjectContext context) {
+        return new ObjectQuery<>(ObjectSelect.query(Orders.class)
+                .prefetch(Orders.CUSTOMER.joint())
+                .prefetch(Orders.CUSTOMER.dot(Customer.NATION).joint()), context, fetchSize);
+    }
+
+    /**
+     * C4) Retrieves orders together with their customer, the customer's nation and its region.
+     *
+     * @param context The Cayenne ObjectContext to execute the query
+     * @return Query over the orders with the customer, nation and region prefetched
+     */
+    public ObjectQuery<Orders> c4(ObjectContext context) {
+        return new ObjectQuery<>(ObjectSelect.query(Orders.class)
+                .prefetch(Orders.CUSTOMER.joint())
+                .prefetch(Orders.CUSTOMER.dot(Customer.NATION).joint())
+                .prefetch(Orders.CUSTOMER.dot(Customer.NATION).dot(Nation.REGION).joint()), context, fetchSize);
+    }
+
+    /**
+     * C5) Retrieves customers together with their orders, customers without orders are included.
+     * The list groups the orders under their customer, the iterated and paginated variants yield
+     * the customer once per joined row.
+     *
+     * @param context The Cayenne ObjectContext to execute the query
+     * @return Query over the customers with the orders prefetched
+     */
+    public ObjectQuery<Customer> c5(ObjectContext context) {
+        return new ObjectQuery<>(ObjectSelect.query(Customer.class)
+                .prefetch(Customer.ORDERS.joint()), context, fetchSize);
+    }
+
+    /**
+     * F1) Looks up a single order by its primary key.
+     *
+     * @param context The Cayenne ObjectContext to execute the query
+     * @param orderKey The order key
+     * @return The order, or null if there is no such order
+     */
+    public Orders f1(ObjectContext context, long orderKey) {
+        return SelectById.query(Orders.class, orderKey).selectOne(context);
+    }
+
+    /**
+     * F2) Looks up a single customer by its primary key.
+     *
+     * @param context The Cayenne ObjectContext to execute the query
+     * @param customerKey The customer key
+     * @return The customer, or null if there is no such customer
+     */
+    public Customer f2(ObjectContext context, long customerKey) {
+        return SelectById.query(Customer.class, customerKey).selectOne(context);
+    }
+
+    /**
+     * F3) Looks up a single line item by its composite primary key.
+     *
+     * @param context The Cayenne ObjectContext to execute the query
+     * @param orderKey The order key of the line item
+     * @param lineNumber The line number within the order
+     * @return The line item, or null if there is no such line item
+     */
+    public Lineitem f3(ObjectContext context, long orderKey, long lineNumber) {
+        return SelectById.query(Lineitem.class, Map.of(
+                Lineitem.L_ORDERKEY_PK_COLUMN, orderKey,
+                Lineitem.L_LINENUMBER_PK_COLUMN, lineNumber)).selectOne(context);
+    }
+
+    /**
+     * F4) Looks up a single part supplier by its composite primary key.
+     *
+     * @param context The Cayenne ObjectContext to execute the query
+     * @param partKey The part key
+     * @param supplierKey The supplier key
+     * @return The part supplier, or null if there is no such part supplier
+     */
+    public Partsupp f4(ObjectContext context, long partKey, long supplierKey) {
+        return SelectById.query(Partsupp.class, Map.of(
+                Partsupp.PS_PARTKEY_PK_COLUMN, partKey,
+                Partsupp.PS_SUPPKEY_PK_COLUMN, supplierKey)).selectOne(context);
+    }
+
+    /**
+     * G1) Retrieves orders ordered by the order key, walked page by page.
+     *
+     * @param context The Cayenne ObjectContext to execute the query
+     * @param limit The number of rows of all walked pages
+     * @return Query over the first rows of the orders table
+     */
+    public ObjectQuery<Orders> g1(ObjectContext context, int limit) {
+        return new ObjectQuery<>(ObjectSelect.query(Orders.class)
+                .orderBy(Orders.O_ORDERKEY.asc())
+                .limit(limit), context, fetchSize);
+    }
+
+    /**
+     * G2) Retrieves a page of orders following the given order key.
+     *
+     * @param context The Cayenne ObjectContext to execute the query
+     * @param orderKey The order key of the last row of the previous page, 0 for the first page
+     * @param limit Number of rows of the page
+     * @return Query over the orders of the page
+     */
+    public ObjectQuery<Orders> g2(ObjectContext context, long orderKey, int limit) {
+        return new ObjectQuery<>(ObjectSelect.query(Orders.class)
+                .where(Orders.O_ORDERKEY.gt(orderKey))
+                .orderBy(Orders.O_ORDERKEY.asc())
+                .limit(limit), context, fetchSize);
+    }
+
+    /**
+     * G3) Retrieves line items ordered by their composite primary key, walked page by page.
+     *
+     * @param context The Cayenne ObjectContext to execute the query
+     * @param limit The number of rows of all walked pages
+     * @return Query over the first rows of the lineitem table
+     */
+    public ObjectQuery<Lineitem> g3(ObjectContext context, int limit) {
+        return new ObjectQuery<>(ObjectSelect.query(Lineitem.class)
+                .orderBy(Lineitem.L_ORDERKEY.asc(), Lineitem.L_LINENUMBER.asc())
+                .limit(limit), context, fetchSize);
+    }
+
+    /**
+     * G4) Retrieves a page of line items following the given composite primary key.
+     *
+     * @param context The Cayenne ObjectContext to execute the query
+     * @param orderKey The order key of the last row of the previous page, 0 for the first page
+     * @param lineNumber The line number of the last row of the previous page
+     * @param limit Number of rows of the page
+     * @return Query over the line items of the page
+     */
+    public ObjectQuery<Lineitem> g4(ObjectContext context, long orderKey, long lineNumber, int limit) {
+        return new ObjectQuery<>(ObjectSelect.query(Lineitem.class)
+                .where(Lineitem.L_ORDERKEY.gt(orderKey)
+                        .orExp(Lineitem.L_ORDERKEY.eq(orderKey).andExp(Lineitem.L_LINENUMBER.gt(lineNumber))))
+                .orderBy(Lineitem.L_ORDERKEY.asc(), Lineitem.L_LINENUMBER.asc())
+                .limit(limit), context, fetchSize);
+    }
+
+    /**
+     * H1) Retrieves orders within a date range without prefetches, so their customers and line items are
+     * resolved as faults on the first access, one query per order and relationship (N+1). A customer whose
+     * snapshot is already in the data row cache of the runtime is resolved without a query.
+     *
+     * @param context The Cayenne ObjectContext to execute the query
+     * @param startDate The start date of the range, inclusive
+     * @param endDate The end date of the range, inclusive
+     * @return Query over the orders of the range
+     */
+    public ObjectQuery<Orders> h1(ObjectContext context, LocalDate startDate, LocalDate endDate) {
+        return new ObjectQuery<>(graphOrders(startDate, endDate), context, fetchSize);
+    }
+
+    /**
+     * H2) Retrieves orders within a date range with their customers and line items as joint prefetches,
+     * resolved from the single result set of the joined query.
+     *
+     * @param context The Cayenne ObjectContext to execute the query
+     * @param startDate The start date of the range, inclusive
+     * @param endDate The end date of the range, inclusive
+     * @return Query over the orders of the range
+     */
+    public ObjectQuery<Orders> h2(ObjectContext context, LocalDate startDate, LocalDate endDate) {
+        return new ObjectQuery<>(graphOrders(startDate, endDate)
+                .prefetch(Orders.CUSTOMER.joint())
+                .prefetch(Orders.LINEITEMS.joint()), context, fetchSize);
+    }
+
+    /**
+     * H3) Retrieves orders within a date range with their customers prefetched by id, in queries over the
+     * ids of the fetched orders, and their line items prefetched by a query repeating the date range
+     * qualifier over the join to the orders. Cayenne splits the id prefetch by its
+     * {@code cayenne.server.max_id_qualifier_size} runtime property, there is no batch size of the query.
+     *
+     * @param context The Cayenne ObjectContext to execute the query
+     * @param startDate The start date of the range, inclusive
+     * @param endDate The end date of the range, inclusive
+     * @return Query over the orders of the range
+     */
+    public ObjectQuery<Orders> h3(ObjectContext context, LocalDate startDate, LocalDate endDate) {
+        return new ObjectQuery<>(graphOrders(startDate, endDate)
+                .prefetch(Orders.CUSTOMER.disjointById())
+                .prefetch(Orders.LINEITEMS.disjoint()), context, fetchSize);
+    }
+
+    private static ObjectSelect<Orders> graphOrders(LocalDate startDate, LocalDate endDate) {
+        return ObjectSelect.query(Orders.class)
+                .where(Orders.O_ORDERDATE.between(startDate, endDate))
+                .orderBy(Orders.O_ORDERKEY.asc());
+    }
+
+    /**
+     * An object query bound to a context, which can be executed either as a list or iterated.
+     *
+     * @param <T> The type of the persistent objects
+     */
+    public record ObjectQuery<T>(ObjectSelect<T> query, ObjectContext context, int fetchSize) {
+        public List<T> select() {
+            return query.select(context);
+        }
+
+        /**
+         * Reads the objects one by one through {@code iterator()}.
+         *
+         * @return The number of objects
+         */
+        public long iterate() {
+            long rows = 0;
+            try (ResultIterator<T> iterator = query.statementFetchSize(fetchSize).iterator(context)) {
+                for (T ignored : iterator) {
+                    rows++;
+                }
+            }
+            return rows;
+        }
+
+        /**
+         * Reads the objects in lists of the given size through {@code batchIterator(n)}.
+         *
+         * @param batchSize The number of objects per batch
+         * @return The number of objects
+         */
+        public long iterateBatches(int batchSize) {
+            long rows = 0;
+            try (ResultBatchIterator<T> iterator = query.statementFetchSize(fetchSize).batchIterator(context, batchSize)) {
+                for (List<T> batch : iterator) {
+                    rows += batch.size();
+                }
+            }
+            return rows;
+        }
+
+        /**
+         * Selects a paginated list and walks through it, which resolves the objects page by page.
+         *
+         * @param pageSize The number of objects resolved per page
+         * @return The number of objects
+         */
+        public long selectPaged(int pageSize) {
+            long rows = 0;
+            for (T ignored : query.pageSize(pageSize).select(context)) {
+                rows++;
+            }
+            return rows;
+        }
+
+        /**
+         * Walks a paginated list page by page. The first page selects the list, which fetches the ids,
+         * every page then resolves its objects by accessing them.
+         *
+         * @param pageSize The number of objects resolved per page
+         * @return The pager over the list
+         */
+        public Pager pages(int pageSize) {
+            return new Pager() {
+                private List<T> list;
+                private int position;
+
+                @Override
+                public int nextPage() {
+                    if (list == null) {
+                        list = query.pageSize(pageSize).select(context);
+                    }
+                    int end = Math.min(position + pageSize, list.size());
+                    int rows = 0;
+                    for (; position < end; position++) {
+                        list.get(position);
+                        rows++;
+                    }
+                    return rows;
+                }
+            };
+        }
+    }
+}
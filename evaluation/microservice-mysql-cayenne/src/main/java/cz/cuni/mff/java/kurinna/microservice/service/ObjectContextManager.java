@@ -0,0 +1,228 @@
+package cz.cuni.mff.java.kurinna.microservice.service;
+
+import org.apache.cayenne.DataObject;
+import org.apache.cayenne.ObjectContext;
+import org.apache.cayenne.ObjectId;
+import org.apache.cayenne.Persistent;
+import org.apache.cayenne.access.DataContext;
+import org.apache.cayenne.configuration.server.ServerRuntime;
+import org.apache.cayenne.graph.GraphManager;
+import org.apache.cayenne.map.ObjAttribute;
+import org.apache.cayenne.map.ObjEntity;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Function;
+
+/**
+ * Hands out the ObjectContexts the queries are executed in and reports the size of the context after
+ * each execution.
+ * <p>
+ * The {@link Strategy#SHARED} strategy executes every query in one context shared by all servlet threads.
+ * Its object store keeps the objects of all previous queries and synchronizes the threads registering
+ * objects in it. {@link Strategy#PER_REQUEST} creates a new context for every execution and drops it
+ * afterwards, {@link Strategy#POOLED} borrows a context from a bounded pool and unregisters its objects
+ * before returning it.
+ * <p>
+ * The reported statistics are the number of objects registered in the context after the execution and an
+ * estimate of the memory they retain: the shallow size of the objects, their ids and attribute values and
+ * the entries of the object store. The snapshots in the data row cache shared by all contexts of the
+ * runtime are not included. With the default weak retain strategy of the object store, objects no longer
+ * referenced by the application are dropped from the context by the garbage collector.
+ * <p>
+ * To keep the size estimate out of the measured execution, the calling thread holds on to the context of
+ * its last execution until {@link #lastStats()} reports it or the thread executes another query. Only then
+ * is a pooled context cleared and returned to the pool.
+ */
+@Component
+public class ObjectContextManager {
+    /**
+     * The lifecycle of the contexts.
+     */
+    public enum Strategy {
+        SHARED, PER_REQUEST, POOLED
+    }
+
+    // Sizes of a 64-bit JVM with compressed oops and compressed class pointers
+    private static final int OBJECT_HEADER = 12;
+    private static final int ARRAY_HEADER = 16;
+    private static final int REFERENCE = 4;
+    private static final int MAP_ENTRY = 32 + REFERENCE;
+
+    private static final ClassValue<Long> SHALLOW_SIZE = new ClassValue<>() {
+        @Override
+        protected Long computeValue(Class<?> type) {
+            long size = OBJECT_HEADER;
+            for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+                for (Field field : c.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers())) {
+                        size += fieldSize(field.getType());
+                    }
+                }
+            }
+            return align(size);
+        }
+    };
+
+    private final ServerRuntime runtime;
+    private final Strategy strategy;
+    private final ObjectContext sharedContext;
+    private final BlockingQueue<DataContext> pool;
+    private final ThreadLocal<ObjectContext> lastContext = new ThreadLocal<>();
+
+    /**
+     * Constructs a new ObjectContextManager.
+     *
+     * @param runtime  The Cayenne runtime creating the contexts
+     * @param strategy The lifecycle of the contexts
+     * @param poolSize The maximum number of idle contexts kept by the {@link Strategy#POOLED} strategy
+     */
+    public ObjectContextManager(ServerRuntime runtime,
+            @Value("${cayenne.context.strategy:PER_REQUEST}") Strategy strategy,
+            @Value("${cayenne.context.pool-size:16}") int poolSize) {
+        this.runtime = runtime;
+        this.strategy = strategy;
+        this.sharedContext = strategy == Strategy.SHARED ? runtime.newContext() : null;
+        this.pool = new ArrayBlockingQueue<>(Math.max(poolSize, 1));
+    }
+
+    /**
+     * Executes a query in a context obtained according to the configured strategy. The context of
+     * the previous execution of the calling thread is released first.
+     *
+     * @param query A function executing the query in the given context
+     * @return The result of the query
+     */
+    public <T> T execute(Function<ObjectContext, T> query) {
+        releaseLast();
+        ObjectContext context = acquire();
+        lastContext.set(context);
+        return query.apply(context);
+    }
+
+    /**
+     * Reports the size of the context of the last query executed by the calling thread and releases
+     * the context.
+     *
+     * @return The number of registered objects and their estimated retained size in bytes, or null if
+     * the thread has not executed a query since the last report
+     */
+    public Map<String, Long> lastStats() {
+        ObjectContext context = lastContext.get();
+        if (context == null) {
+            return null;
+        }
+        Map<String, Long> stats = stats(context);
+        releaseLast();
+        return stats;
+    }
+
+    private void releaseLast() {
+        ObjectContext context = lastContext.get();
+        if (context != null) {
+            lastContext.remove();
+            release(context);
+        }
+    }
+
+    private ObjectContext acquire() {
+        return switch (strategy) {
+            case SHARED -> sharedContext;
+            case PER_REQUEST -> runtime.newContext();
+            case POOLED -> {
+                DataContext context = pool.poll();
+                yield context != null ? context : (DataContext) runtime.newContext();
+            }
+        };
+    }
+
+    private void release(ObjectContext context) {
+        if (strategy == Strategy.POOLED) {
+            DataContext dataContext = (DataContext) context;
+            dataContext.rollbackChangesLocally();
+            dataContext.unregisterObjects(registeredObjects(dataContext));
+            pool.offer(dataContext);
+        }
+    }
+
+    private static Map<String, Long> stats(ObjectContext context) {
+        List<Object> objects = registeredObjects(context);
+        long retained = 0;
+        for (Object object : objects) {
+            retained += MAP_ENTRY + retainedSize(context, (Persistent) object);
+        }
+
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("registeredObjects", (long) objects.size());
+        stats.put("retainedBytes", retained);
+        return stats;
+    }
+
+    private static List<Object> registeredObjects(ObjectContext context) {
+        // The object store returns a view of its map, which the shared context modifies from other threads
+        GraphManager graphManager = context.getGraphManager();
+        synchronized (graphManager) {
+            return new ArrayList<>(graphManager.registeredNodes());
+        }
+    }
+
+    private static long retainedSize(ObjectContext context, Persistent object) {
+        long size = SHALLOW_SIZE.get(object.getClass());
+        ObjectId id = object.getObjectId();
+        if (id != null) {
+            size += SHALLOW_SIZE.get(id.getClass());
+            for (Object key : id.getIdSnapshot().values()) {
+                size += valueSize(key);
+            }
+        }
+        ObjEntity entity = context.getEntityResolver().getObjEntity(object);
+        if (entity != null && object instanceof DataObject dataObject) {
+            for (ObjAttribute attribute : entity.getAttributes()) {
+                size += valueSize(dataObject.readPropertyDirectly(attribute.getName()));
+            }
+        }
+        return size;
+    }
+
+    private static long valueSize(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof String string) {
+            // Latin-1 strings are stored with one byte per character
+            return SHALLOW_SIZE.get(String.class) + align(ARRAY_HEADER + string.length());
+        }
+        if (value instanceof byte[] bytes) {
+            return align(ARRAY_HEADER + bytes.length);
+        }
+        return SHALLOW_SIZE.get(value.getClass());
+    }
+
+    private static int fieldSize(Class<?> type) {
+        if (type == long.class || type == double.class) {
+            return 8;
+        }
+        if (type == int.class || type == float.class) {
+            return 4;
+        }
+        if (type == short.class || type == char.class) {
+            return 2;
+        }
+        if (type == byte.class || type == boolean.class) {
+            return 1;
+        }
+        return REFERENCE;
+    }
+
+    private static long align(long size) {
+        return (size + 7) & ~7L;
+    }
+}
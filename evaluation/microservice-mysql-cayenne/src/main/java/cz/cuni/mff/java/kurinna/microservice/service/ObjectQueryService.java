@@ -0,0 +1,144 @@
+package cz.cuni.mff.java.kurinna.microservice.service;
+
+import cz.cuni.mff.java.kurinna.microservice.model.Customer;
+import cz.cuni.mff.java.kurinna.microservice.model.Lineitem;
+import cz.cuni.mff.java.kurinna.microservice.model.Orders;
+import cz.cuni.mff.java.kurinna.microservice.model.Partsupp;
+import cz.cuni.mff.java.kurinna.microservice.repository.ObjectRepository;
+import cz.cuni.mff.java.kurinna.microservice.repository.ObjectRepository.ObjectQuery;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Executes the object queries in a context provided by the {@link ObjectContextManager}. The execution
+ * function decides how the query is read, e.g. as a list or through an iterator.
+ */
+@Service
+public class ObjectQueryService {
+    private final ObjectRepository objectRepository;
+    private final ObjectContextManager contextManager;
+
+    public ObjectQueryService(ObjectRepository objectRepository, ObjectContextManager contextManager) {
+        this.objectRepository = objectRepository;
+        this.contextManager = contextManager;
+    }
+
+    // A1) Non-Indexed Columns
+    public <R> R a1(Function<ObjectQuery<Lineitem>, R> execution) {
+        return contextManager.execute(context -> execution.apply(objectRepository.a1(context)));
+    }
+
+    // A2) Non-Indexed Columns — Range Query
+    public <R> R a2(LocalDate startDate, LocalDate endDate, Function<ObjectQuery<Orders>, R> execution) {
+        return contextManager.execute(context ->
+                execution.apply(objectRepository.a2(context, startDate, endDate)));
+    }
+
+    // A3) Indexed Columns
+    public <R> R a3(Function<ObjectQuery<Customer>, R> execution) {
+        return contextManager.execute(context -> execution.apply(objectRepository.a3(context)));
+    }
+
+    // A4) Indexed Columns — Range Query
+    public <R> R a4(int minOrderKey, int maxOrderKey, Function<ObjectQuery<Orders>, R> execution) {
+        return contextManager.execute(context ->
+                execution.apply(objectRepository.a4(context, minOrderKey, maxOrderKey)));
+    }
+
+    // C2) Indexed Columns
+    public <R> R c2(Function<ObjectQuery<Orders>, R> execution) {
+        return contextManager.execute(context -> execution.apply(objectRepository.c2(context)));
+    }
+
+    // C3) Complex Join 1
+    public <R> R c3(Function<ObjectQuery<Orders>, R> execution) {
+        return contextManager.execute(context -> execution.apply(objectRepository.c3(context)));
+    }
+
+    // C4) Complex Join 2
+    public <R> R c4(Function<ObjectQuery<Orders>, R> execution) {
+        return contextManager.execute(context -> execution.apply(objectRepository.c4(context)));
+    }
+
+    // C5) Left Outer Join
+    public <R> R c5(Function<ObjectQuery<Customer>, R> execution) {
+        return contextManager.execute(context -> execution.apply(objectRepository.c5(context)));
+    }
+
+    // F1) Orders by Primary Key
+    public Orders f1(long orderKey) {
+        return contextManager.execute(context -> objectRepository.f1(context, orderKey));
+    }
+
+    // F2) Customer by Primary Key
+    public Customer f2(long customerKey) {
+        return contextManager.execute(context -> objectRepository.f2(context, customerKey));
+    }
+
+    // F3) Line Item by Composite Key
+    public Lineitem f3(long orderKey, long lineNumber) {
+        return contextManager.execute(context -> objectRepository.f3(context, orderKey, lineNumber));
+    }
+
+    // F4) Part Supplier by Composite Key
+    public Partsupp f4(long partKey, long supplierKey) {
+        return contextManager.execute(context -> objectRepository.f4(context, partKey, supplierKey));
+    }
+
+    // G1) Orders by Offset
+    public <R> R g1(int limit, Function<ObjectQuery<Orders>, R> execution) {
+        return contextManager.execute(context -> execution.apply(objectRepository.g1(context, limit)));
+    }
+
+    // G2) Orders by Keyset
+    public <R> R g2(long orderKey, int limit, Function<ObjectQuery<Orders>, R> execution) {
+        return contextManager.execute(context -> execution.apply(objectRepository.g2(context, orderKey, limit)));
+    }
+
+    // G3) Line Items by Offset
+    public <R> R g3(int limit, Function<ObjectQuery<Lineitem>, R> execution) {
+        return contextManager.execute(context -> execution.apply(objectRepository.g3(context, limit)));
+    }
+
+    // G4) Line Items by Keyset
+    public <R> R g4(long orderKey, long lineNumber, int limit, Function<ObjectQuery<Lineitem>, R> execution) {
+        return contextManager.execute(context ->
+                execution.apply(objectRepository.g4(context, orderKey, lineNumber, limit)));
+    }
+
+    // H1) Orders with Customer and Line Items — Lazy N+1
+    public List<Orders> h1(LocalDate startDate, LocalDate endDate) {
+        return contextManager.execute(context ->
+                initialized(objectRepository.h1(context, startDate, endDate).select()));
+    }
+
+    // H2) Orders with Customer and Line Items — Joint Prefetch
+    public List<Orders> h2(LocalDate startDate, LocalDate endDate) {
+        return contextManager.execute(context ->
+                initialized(objectRepository.h2(context, startDate, endDate).select()));
+    }
+
+    // H3) Orders with Customer and Line Items — Disjoint Prefetch
+    public List<Orders> h3(LocalDate startDate, LocalDate endDate) {
+        return contextManager.execute(context ->
+                initialized(objectRepository.h3(context, startDate, endDate).select()));
+    }
+
+    // Size of the ObjectContext after the last query of the calling thread
+    public Map<String, Long> contextStats() {
+        return contextManager.lastStats();
+    }
+
+    // Accesses the customer and line items of every order, resolving the faults left by the query
+    private static List<Orders> initialized(List<Orders> orders) {
+        for (Orders order : orders) {
+            order.getCustomer().getCName();
+            order.getLineitems().size();
+        }
+        return orders;
+    }
+}
@@ -3,110 +3,185 @@ package cz.cuni.mff.java.kurinna.microservice.service;
 import cz.cuni.mff.java.kurinna.common.service.IQueryService;
 import org.apache.cayenne.DataRow;
 import cz.cuni.mff.java.kurinna.microservice.repository.UniversalRepository;
-import org.apache.cayenne.ObjectContext;
 import org.springframework.stereotype.Service;
 
+import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 
 import java.time.LocalDate;
 
 @Service
 public class QueryService implements IQueryService<DataRow> {
     private final UniversalRepository universalRepository;
-    private final ObjectContext objectContext;
+    private final ObjectContextManager contextManager;
 
-    public QueryService(UniversalRepository universalRepository, ObjectContext objectContext) {
+    public QueryService(UniversalRepository universalRepository, ObjectContextManager contextManager) {
         this.universalRepository = universalRepository;
-        this.objectContext = objectContext;
+        this.contextManager = contextManager;
     }
 
     // Basic queries
     public List<DataRow> a1() {
-        return universalRepository.a1(objectContext);
+        return contextManager.execute(universalRepository::a1);
     }
 
     public List<DataRow> a2(LocalDate startDate, LocalDate endDate) {
-        return universalRepository.a2(objectContext, startDate, endDate);
+        return contextManager.execute(context -> universalRepository.a2(context, startDate, endDate));
     }
 
     public List<DataRow> a3() {
-        return universalRepository.a3(objectContext);
+        return contextManager.execute(universalRepository::a3);
     }
 
     public List<DataRow> a4(int minOrderKey, int maxOrderKey) {
-        return universalRepository.a4(objectContext, minOrderKey, maxOrderKey);
+        return contextManager.execute(context -> universalRepository.a4(context, minOrderKey, maxOrderKey));
     }
 
     public List<DataRow> b1() {
-        return universalRepository.b1(objectContext);
+        return contextManager.execute(universalRepository::b1);
     }
 
     public List<DataRow> b2() {
-        return universalRepository.b2(objectContext);
+        return contextManager.execute(universalRepository::b2);
     }
 
     public List<DataRow> c1() {
-        return universalRepository.c1(objectContext);
+        return contextManager.execute(universalRepository::c1);
     }
 
     public List<DataRow> c2() {
-        return universalRepository.c2(objectContext);
+        return contextManager.execute(universalRepository::c2);
     }
 
     public List<DataRow> c3() {
-        return universalRepository.c3(objectContext);
+        return contextManager.execute(universalRepository::c3);
     }
 
     public List<DataRow> c4() {
-        return universalRepository.c4(objectContext);
+        return contextManager.execute(universalRepository::c4);
     }
 
     public List<DataRow> c5() {
-        return universalRepository.c5(objectContext);
+        return contextManager.execute(universalRepository::c5);
     }
 
     public List<DataRow> d1() {
-        return universalRepository.d1(objectContext);
+        return contextManager.execute(universalRepository::d1);
     }
 
     public List<DataRow> d2() {
-        return universalRepository.d2(objectContext);
+        return contextManager.execute(universalRepository::d2);
     }
 
     public List<DataRow> d3() {
-        return universalRepository.d3(objectContext);
+        return contextManager.execute(universalRepository::d3);
     }
 
     public List<DataRow> e1() {
-        return universalRepository.e1(objectContext);
+        return contextManager.execute(universalRepository::e1);
     }
 
     public List<DataRow> e2() {
-        return universalRepository.e2(objectContext);
+        return contextManager.execute(universalRepository::e2);
     }
 
     public List<DataRow> e3() {
-        return universalRepository.e3(objectContext);
+        return contextManager.execute(universalRepository::e3);
     }
 
     // Advanced queries
     public List<DataRow> q1(int deltaDays) {
-        return universalRepository.q1(objectContext, deltaDays);
+        return contextManager.execute(context -> universalRepository.q1(context, deltaDays));
     }
 
     public List<DataRow> q2(int size, String type, String region) {
-        return universalRepository.q2(objectContext, size, type, region);
+        return contextManager.execute(context -> universalRepository.q2(context, size, type, region));
     }
 
     public List<DataRow> q3(String segment, LocalDate orderDate, LocalDate shipDate) {
-        return universalRepository.q3(objectContext, segment, orderDate, shipDate);
+        return contextManager.execute(context -> universalRepository.q3(context, segment, orderDate, shipDate));
     }
 
     public List<DataRow> q4(LocalDate orderDate) {
-        return universalRepository.q4(objectContext, orderDate);
+        return contextManager.execute(context -> universalRepository.q4(context, orderDate));
     }
 
     public List<DataRow> q5(String region, LocalDate orderDate) {
-        return universalRepository.q5(objectContext, region, orderDate);
+        return contextManager.execute(context -> universalRepository.q5(context, region, orderDate));
+    }
+
+    public List<DataRow> q6(LocalDate shipDate, BigDecimal discount, int quantity) {
+        return contextManager.execute(context -> universalRepository.q6(context, shipDate, discount, quantity));
+    }
+
+    public List<DataRow> q7(String nation1, String nation2) {
+        return contextManager.execute(context -> universalRepository.q7(context, nation1, nation2));
+    }
+
+    public List<DataRow> q8(String nation, String region, String type) {
+        return contextManager.execute(context -> universalRepository.q8(context, nation, region, type));
+    }
+
+    public List<DataRow> q9(String color) {
+        return contextManager.execute(context -> universalRepository.q9(context, color));
+    }
+
+    public List<DataRow> q10(LocalDate orderDate) {
+        return contextManager.execute(context -> universalRepository.q10(context, orderDate));
+    }
+
+    public List<DataRow> q11(String nation, BigDecimal fraction) {
+        return contextManager.execute(context -> universalRepository.q11(context, nation, fraction));
+    }
+
+    public List<DataRow> q12(String shipMode1, String shipMode2, LocalDate receiptDate) {
+        return contextManager.execute(context -> universalRepository.q12(context, shipMode1, shipMode2, receiptDate));
+    }
+
+    public List<DataRow> q13(String word1, String word2) {
+        return contextManager.execute(context -> universalRepository.q13(context, word1, word2));
+    }
+
+    public List<DataRow> q14(LocalDate shipDate) {
+        return contextManager.execute(context -> universalRepository.q14(context, shipDate));
+    }
+
+    public List<DataRow> q15(LocalDate shipDate) {
+        return contextManager.execute(context -> universalRepository.q15(context, shipDate));
+    }
+
+    public List<DataRow> q16(String brand, String type, List<Integer> sizes) {
+        return contextManager.execute(context -> universalRepository.q16(context, brand, type, sizes));
+    }
+
+    public List<DataRow> q17(String brand, String container) {
+        return contextManager.execute(context -> universalRepository.q17(context, brand, container));
+    }
+
+    public List<DataRow> q18(int quantity) {
+        return contextManager.execute(context -> universalRepository.q18(context, quantity));
+    }
+
+    public List<DataRow> q19(String brand1, String brand2, String brand3, int quantity1, int quantity2, int quantity3) {
+        return contextManager.execute(context -> universalRepository.q19(context, brand1, brand2, brand3, quantity1,
+                quantity2, quantity3));
+    }
+
+    public List<DataRow> q20(String color, LocalDate shipDate, String nation) {
+        return contextManager.execute(context -> universalRepository.q20(context, color, shipDate, nation));
+    }
+
+    public List<DataRow> q21(String nation) {
+        return contextManager.execute(context -> universalRepository.q21(context, nation));
+    }
+
+    public List<DataRow> q22(List<String> countryCodes) {
+        return contextManager.execute(context -> universalRepository.q22(context, countryCodes));
+    }
+
+    // Size of the ObjectContext after the last query of the calling thread
+    public Map<String, Long> contextStats() {
+        return contextManager.lastStats();
     }
 }
@@ -1,5 +1,6 @@
 package cz.cuni.mff.java.kurinna.microservice.config;
 
+import cz.cuni.mff.java.kurinna.common.utils.StatementCounter;
 import cz.cuni.mff.java.kurinna.microservice.service.CurrentUser;
 import io.ebean.Database;
 import io.ebean.DatabaseFactory;
@@ -8,12 +9,14 @@ import javax.sql.DataSource;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Primary;
 
 @Configuration
 public class EbeanConfiguration {
 
     @Bean
     @Lazy
+    @Primary
     public Database database(CurrentUser currentUser, DataSource dataSource) {
         DatabaseConfig config = new DatabaseConfig();
         config.setDataSource(dataSource);
@@ -24,4 +27,22 @@ public class EbeanConfiguration {
 
         return DatabaseFactory.create(config);
     }
-}
\ No newline at end of file
+
+    /**
+     * The database of the object graph queries (H1-H3) only. It shares the pool of {@link #database}, wrapped
+     * so the statements of these queries are counted without intercepting the statements of the other queries.
+     */
+    @Bean
+    @Lazy
+    public Database graphDatabase(CurrentUser currentUser, DataSource dataSource) {
+        DatabaseConfig config = new DatabaseConfig();
+        config.setDataSource(StatementCounter.counting(dataSource));
+        config.setName("graph");
+        config.setDefaultServer(false);
+        config.setCurrentUserProvider(currentUser);
+
+        config.loadFromProperties();
+
+        return DatabaseFactory.create(config);
+    }
+}
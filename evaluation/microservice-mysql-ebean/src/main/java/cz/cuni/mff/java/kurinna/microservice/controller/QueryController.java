@@ -1,23 +1,34 @@
 package cz.cuni.mff.java.kurinna.microservice.controller;
 
 import cz.cuni.mff.java.kurinna.common.controller.IQueryController;
+import cz.cuni.mff.java.kurinna.common.dto.Measurement;
+import cz.cuni.mff.java.kurinna.common.utils.LookupKeys;
+import cz.cuni.mff.java.kurinna.common.utils.Pager;
+import cz.cuni.mff.java.kurinna.microservice.model.Orders;
+import cz.cuni.mff.java.kurinna.microservice.service.EntityQueryService;
 import cz.cuni.mff.java.kurinna.microservice.service.QueryService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
-import java.util.Map;
+import java.util.List;
 
+import static cz.cuni.mff.java.kurinna.common.utils.QueryExecutor.executeCountingStatements;
+import static cz.cuni.mff.java.kurinna.common.utils.QueryExecutor.executeLookupsWithMeasurement;
+import static cz.cuni.mff.java.kurinna.common.utils.QueryExecutor.executePagedWithMeasurement;
 import static cz.cuni.mff.java.kurinna.common.utils.QueryExecutor.executeWithMeasurement;
 
 @RestController
 public class QueryController implements IQueryController {
     private final QueryService queryService;
+    private final EntityQueryService entityQueryService;
 
-    public QueryController(QueryService queryService) {
+    public QueryController(QueryService queryService, EntityQueryService entityQueryService) {
         this.queryService = queryService;
+        this.entityQueryService = entityQueryService;
     }
 
     @GetMapping("/health")
@@ -27,165 +38,584 @@ public class QueryController implements IQueryController {
 
     // A1) Non-Indexed Columns
     @GetMapping("/a1")
-    public ResponseEntity<Map<String, Object>> a1() {
-        Map<String, Object> response = executeWithMeasurement(queryService::a1);
+    public ResponseEntity<Measurement> a1(
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        Measurement response = executeWithMeasurement(queryService::a1, warmup, iterations, jfr);
         return ResponseEntity.ok(response);
     }
 
     // A2) Non-Indexed Columns — Range Query
     @GetMapping("/a2")
-    public ResponseEntity<Map<String, Object>> a2(
+    public ResponseEntity<Measurement> a2(
             @RequestParam(defaultValue = "1996-01-01") String startDate,
-            @RequestParam(defaultValue = "1996-12-31") String endDate) {
+            @RequestParam(defaultValue = "1996-12-31") String endDate,
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
         LocalDate start = LocalDate.parse(startDate);
         LocalDate end = LocalDate.parse(endDate);
-        Map<String, Object> response = executeWithMeasurement(() -> queryService.a2(start, end));
+        Measurement response = executeWithMeasurement(() -> queryService.a2(start, end), warmup, iterations, jfr);
         return ResponseEntity.ok(response);
     }
 
     // A3) Indexed Columns
     @GetMapping("/a3")
-    public ResponseEntity<Map<String, Object>> a3() {
-        Map<String, Object> response = executeWithMeasurement(queryService::a3);
+    public ResponseEntity<Measurement> a3(
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        Measurement response = executeWithMeasurement(queryService::a3, warmup, iterations, jfr);
         return ResponseEntity.ok(response);
     }
 
     // A4) Indexed Columns — Range Query
     @GetMapping("/a4")
-    public ResponseEntity<Map<String, Object>> a4(
+    public ResponseEntity<Measurement> a4(
             @RequestParam(defaultValue = "1000") int minOrderKey,
-            @RequestParam(defaultValue = "50000") int maxOrderKey) {
-        Map<String, Object> response = executeWithMeasurement(() -> queryService.a4(minOrderKey, maxOrderKey));
+            @RequestParam(defaultValue = "50000") int maxOrderKey,
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        Measurement response = executeWithMeasurement(() -> queryService.a4(minOrderKey, maxOrderKey), warmup, iterations, jfr);
         return ResponseEntity.ok(response);
     }
 
     // B1) COUNT
     @GetMapping("/b1")
-    public ResponseEntity<Map<String, Object>> b1() {
-        Map<String, Object> response = executeWithMeasurement(queryService::b1);
+    public ResponseEntity<Measurement> b1(
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        Measurement response = executeWithMeasurement(queryService::b1, warmup, iterations, jfr);
         return ResponseEntity.ok(response);
     }
 
     // B2) MAX
     @GetMapping("/b2")
-    public ResponseEntity<Map<String, Object>> b2() {
-        Map<String, Object> response = executeWithMeasurement(queryService::b2);
+    public ResponseEntity<Measurement> b2(
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        Measurement response = executeWithMeasurement(queryService::b2, warmup, iterations, jfr);
         return ResponseEntity.ok(response);
     }
 
     // C1) Non-Indexed Columns
     @GetMapping("/c1")
-    public ResponseEntity<Map<String, Object>> c1() {
-        Map<String, Object> response = executeWithMeasurement(queryService::c1);
+    public ResponseEntity<Measurement> c1(
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        Measurement response = executeWithMeasurement(queryService::c1, warmup, iterations, jfr);
         return ResponseEntity.ok(response);
     }
 
     // C2) Indexed Columns
     @GetMapping("/c2")
-    public ResponseEntity<Map<String, Object>> c2() {
-        Map<String, Object> response = executeWithMeasurement(queryService::c2);
+    public ResponseEntity<Measurement> c2(
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        Measurement response = executeWithMeasurement(queryService::c2, warmup, iterations, jfr);
         return ResponseEntity.ok(response);
     }
 
     // C3) Complex Join 1
     @GetMapping("/c3")
-    public ResponseEntity<Map<String, Object>> c3() {
-        Map<String, Object> response = executeWithMeasurement(queryService::c3);
+    public ResponseEntity<Measurement> c3(
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        Measurement response = executeWithMeasurement(queryService::c3, warmup, iterations, jfr);
         return ResponseEntity.ok(response);
     }
 
     // C4) Complex Join 2
     @GetMapping("/c4")
-    public ResponseEntity<Map<String, Object>> c4() {
-        Map<String, Object> response = executeWithMeasurement(queryService::c4);
+    public ResponseEntity<Measurement> c4(
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        Measurement response = executeWithMeasurement(queryService::c4, warmup, iterations, jfr);
         return ResponseEntity.ok(response);
     }
 
     // C5) Left Outer Join
     @GetMapping("/c5")
-    public ResponseEntity<Map<String, Object>> c5() {
-        Map<String, Object> response = executeWithMeasurement(queryService::c5);
+    public ResponseEntity<Measurement> c5(
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        Measurement response = executeWithMeasurement(queryService::c5, warmup, iterations, jfr);
         return ResponseEntity.ok(response);
     }
 
     // D1) UNION
     @GetMapping("/d1")
-    public ResponseEntity<Map<String, Object>> d1() {
-        Map<String, Object> response = executeWithMeasurement(queryService::d1);
+    public ResponseEntity<Measurement> d1(
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        Measurement response = executeWithMeasurement(queryService::d1, warmup, iterations, jfr);
         return ResponseEntity.ok(response);
     }
 
     // D2) INTERSECT
     @GetMapping("/d2")
-    public ResponseEntity<Map<String, Object>> d2() {
-        Map<String, Object> response = executeWithMeasurement(queryService::d2);
+    public ResponseEntity<Measurement> d2(
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        Measurement response = executeWithMeasurement(queryService::d2, warmup, iterations, jfr);
         return ResponseEntity.ok(response);
     }
 
     // D3) DIFFERENCE
     @GetMapping("/d3")
-    public ResponseEntity<Map<String, Object>> d3() {
-        Map<String, Object> response = executeWithMeasurement(queryService::d3);
+    public ResponseEntity<Measurement> d3(
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        Measurement response = executeWithMeasurement(queryService::d3, warmup, iterations, jfr);
         return ResponseEntity.ok(response);
     }
 
     // E1) Non-Indexed Columns Sorting
     @GetMapping("/e1")
-    public ResponseEntity<Map<String, Object>> e1() {
-        Map<String, Object> response = executeWithMeasurement(queryService::e1);
+    public ResponseEntity<Measurement> e1(
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        Measurement response = executeWithMeasurement(queryService::e1, warmup, iterations, jfr);
         return ResponseEntity.ok(response);
     }
 
     // E2) Indexed Columns Sorting
     @GetMapping("/e2")
-    public ResponseEntity<Map<String, Object>> e2() {
-        Map<String, Object> response = executeWithMeasurement(queryService::e2);
+    public ResponseEntity<Measurement> e2(
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        Measurement response = executeWithMeasurement(queryService::e2, warmup, iterations, jfr);
         return ResponseEntity.ok(response);
     }
 
     // E3) Distinct
     @GetMapping("/e3")
-    public ResponseEntity<Map<String, Object>> e3() {
-        Map<String, Object> response = executeWithMeasurement(queryService::e3);
+    public ResponseEntity<Measurement> e3(
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        Measurement response = executeWithMeasurement(queryService::e3, warmup, iterations, jfr);
+        return ResponseEntity.ok(response);
+    }
+
+    // F1) Orders by Primary Key
+    @GetMapping("/f1")
+    public ResponseEntity<Measurement> f1(
+            @RequestParam(defaultValue = "1000") int operations,
+            @RequestParam(defaultValue = "0") long seed,
+            @RequestParam(defaultValue = "1") double scaleFactor,
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        LookupKeys keys = LookupKeys.orders(operations, seed, scaleFactor);
+        Measurement response = executeLookupsWithMeasurement(i -> entityQueryService.f1(keys.first(i)), keys.size(), warmup, iterations, jfr);
+        return ResponseEntity.ok(response);
+    }
+
+    // F2) Customer by Primary Key
+    @GetMapping("/f2")
+    public ResponseEntity<Measurement> f2(
+            @RequestParam(defaultValue = "1000") int operations,
+            @RequestParam(defaultValue = "0") long seed,
+            @RequestParam(defaultValue = "1") double scaleFactor,
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        LookupKeys keys = LookupKeys.customers(operations, seed, scaleFactor);
+        Measurement response = executeLookupsWithMeasurement(i -> entityQueryService.f2(keys.first(i)), keys.size(), warmup, iterations, jfr);
+        return ResponseEntity.ok(response);
+    }
+
+    // F3) Line Item by Composite Key
+    @GetMapping("/f3")
+    public ResponseEntity<Measurement> f3(
+            @RequestParam(defaultValue = "1000") int operations,
+            @RequestParam(defaultValue = "0") long seed,
+            @RequestParam(defaultValue = "1") double scaleFactor,
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        LookupKeys keys = LookupKeys.lineItems(operations, seed, scaleFactor);
+        Measurement response = executeLookupsWithMeasurement(i -> entityQueryService.f3(keys.first(i), (int) keys.second(i)), keys.size(), warmup, iterations, jfr);
+        return ResponseEntity.ok(response);
+    }
+
+    // F4) Part Supplier by Composite Key
+    @GetMapping("/f4")
+    public ResponseEntity<Measurement> f4(
+            @RequestParam(defaultValue = "1000") int operations,
+            @RequestParam(defaultValue = "0") long seed,
+            @RequestParam(defaultValue = "1") double scaleFactor,
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        LookupKeys keys = LookupKeys.partSupps(operations, seed, scaleFactor);
+        Measurement response = executeLookupsWithMeasurement(i -> entityQueryService.f4(keys.first(i), keys.second(i)), keys.size(), warmup, iterations, jfr);
+        return ResponseEntity.ok(response);
+    }
+
+    // G1) Orders by Offset
+    @GetMapping("/g1")
+    public ResponseEntity<Measurement> g1(
+            @RequestParam(defaultValue = "100") int pageSize,
+            @RequestParam(defaultValue = "100") int pages,
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        Measurement response = executePagedWithMeasurement(() -> Pager.numbered(page -> entityQueryService.g1(page * pageSize, pageSize)), pages, warmup, iterations, jfr);
+        return ResponseEntity.ok(response);
+    }
+
+    // G2) Orders by Keyset
+    @GetMapping("/g2")
+    public ResponseEntity<Measurement> g2(
+            @RequestParam(defaultValue = "100") int pageSize,
+            @RequestParam(defaultValue = "100") int pages,
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        Measurement response = executePagedWithMeasurement(() -> Pager.keyset(0L, orderKey -> entityQueryService.g2(orderKey, pageSize),
+                Orders::getO_orderkey), pages, warmup, iterations, jfr);
+        return ResponseEntity.ok(response);
+    }
+
+    // G3) Line Items by Offset
+    @GetMapping("/g3")
+    public ResponseEntity<Measurement> g3(
+            @RequestParam(defaultValue = "100") int pageSize,
+            @RequestParam(defaultValue = "100") int pages,
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        Measurement response = executePagedWithMeasurement(() -> Pager.numbered(page -> entityQueryService.g3(page * pageSize, pageSize)), pages, warmup, iterations, jfr);
+        return ResponseEntity.ok(response);
+    }
+
+    // G4) Line Items by Keyset
+    @GetMapping("/g4")
+    public ResponseEntity<Measurement> g4(
+            @RequestParam(defaultValue = "100") int pageSize,
+            @RequestParam(defaultValue = "100") int pages,
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        Measurement response = executePagedWithMeasurement(() -> Pager.keyset(Pager.Position.START,
+                key -> entityQueryService.g4(key.first(), (int) key.second(), pageSize),
+                row -> new Pager.Position(row.getLineItemPK().getL_orderkey(), row.getLineItemPK().getL_linenumber())), pages, warmup, iterations, jfr);
+        return ResponseEntity.ok(response);
+    }
+
+    // H1) Orders with Customer and Line Items — Lazy N+1
+    @GetMapping("/h1")
+    public ResponseEntity<Measurement> h1(
+            @RequestParam(defaultValue = "1995-01-01") String startDate,
+            @RequestParam(defaultValue = "1995-01-07") String endDate,
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        LocalDate start = LocalDate.parse(startDate);
+        LocalDate end = LocalDate.parse(endDate);
+        Measurement response = executeCountingStatements(() -> entityQueryService.h1(start, end), warmup, iterations, jfr);
+        return ResponseEntity.ok(response);
+    }
+
+    // H2) Orders with Customer and Line Items — Join Fetch
+    @GetMapping("/h2")
+    public ResponseEntity<Measurement> h2(
+            @RequestParam(defaultValue = "1995-01-01") String startDate,
+            @RequestParam(defaultValue = "1995-01-07") String endDate,
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        LocalDate start = LocalDate.parse(startDate);
+        LocalDate end = LocalDate.parse(endDate);
+        Measurement response = executeCountingStatements(() -> entityQueryService.h2(start, end), warmup, iterations, jfr);
+        return ResponseEntity.ok(response);
+    }
+
+    // H3) Orders with Customer and Line Items — Batch Fetch
+    @GetMapping("/h3")
+    public ResponseEntity<Measurement> h3(
+            @RequestParam(defaultValue = "1995-01-01") String startDate,
+            @RequestParam(defaultValue = "1995-01-07") String endDate,
+            @RequestParam(defaultValue = "100") int batchSize,
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        LocalDate start = LocalDate.parse(startDate);
+        LocalDate end = LocalDate.parse(endDate);
+        Measurement response = executeCountingStatements(() -> entityQueryService.h3(start, end, batchSize), warmup, iterations, jfr);
         return ResponseEntity.ok(response);
     }
 
     @GetMapping("/q1")
-    public ResponseEntity<Map<String, Object>> q1() {
-        Map<String, Object> response = executeWithMeasurement(() -> queryService.q1(90));
+    public ResponseEntity<Measurement> q1(
+            @RequestParam(defaultValue = "90") int delta,
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        Measurement response = executeWithMeasurement(() -> queryService.q1(delta), warmup, iterations, jfr);
         return ResponseEntity.ok(response);
     }
 
     @GetMapping("/q2")
-    public ResponseEntity<Map<String, Object>> q2() {
-        int size = 15;
-        String type = "%BRASS";
-        String region = "EUROPE";
-        Map<String, Object> response = executeWithMeasurement(() -> queryService.q2(size, type, region));
+    public ResponseEntity<Measurement> q2(
+            @RequestParam(defaultValue = "15") int size,
+            @RequestParam(defaultValue = "BRASS") String type,
+            @RequestParam(defaultValue = "EUROPE") String region,
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        String typePattern = "%" + type;
+        Measurement response = executeWithMeasurement(() -> queryService.q2(size, typePattern, region), warmup, iterations, jfr);
         return ResponseEntity.ok(response);
     }
 
     @GetMapping("/q3")
-    public ResponseEntity<Map<String, Object>> q3() {
-        String segment = "BUILDING";
-        LocalDate orderDate = LocalDate.of(1995, 3, 15);
-        LocalDate shipDate = LocalDate.of(1995, 3, 15);
-        Map<String, Object> response = executeWithMeasurement(() -> queryService.q3(segment, orderDate, shipDate));
+    public ResponseEntity<Measurement> q3(
+            @RequestParam(defaultValue = "BUILDING") String segment,
+            @RequestParam(defaultValue = "1995-03-15") String date,
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        LocalDate orderDate = LocalDate.parse(date);
+        LocalDate shipDate = orderDate;
+        Measurement response = executeWithMeasurement(() -> queryService.q3(segment, orderDate, shipDate), warmup, iterations, jfr);
         return ResponseEntity.ok(response);
     }
 
     @GetMapping("/q4")
-    public ResponseEntity<Map<String, Object>> q4() {
-        LocalDate orderDate = LocalDate.of(1993, 7, 1);
-        Map<String, Object> response = executeWithMeasurement(() -> queryService.q4(orderDate));
+    public ResponseEntity<Measurement> q4(
+            @RequestParam(defaultValue = "1993-07-01") String orderDate,
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        LocalDate date = LocalDate.parse(orderDate);
+        Measurement response = executeWithMeasurement(() -> queryService.q4(date), warmup, iterations, jfr);
         return ResponseEntity.ok(response);
     }
 
     @GetMapping("/q5")
-    public ResponseEntity<Map<String, Object>> q5() {
-        String region = "ASIA";
-        LocalDate orderDate = LocalDate.of(1994, 1, 1);
-        Map<String, Object> response = executeWithMeasurement(() -> queryService.q5(region, orderDate));
+    public ResponseEntity<Measurement> q5(
+            @RequestParam(defaultValue = "ASIA") String region,
+            @RequestParam(defaultValue = "1994-01-01") String orderDate,
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        LocalDate date = LocalDate.parse(orderDate);
+        Measurement response = executeWithMeasurement(() -> queryService.q5(region, date), warmup, iterations, jfr);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/q6")
+    public ResponseEntity<Measurement> q6(
+            @RequestParam(defaultValue = "1994-01-01") String shipDate,
+            @RequestParam(defaultValue = "0.06") BigDecimal discount,
+            @RequestParam(defaultValue = "24") int quantity,
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        LocalDate date = LocalDate.parse(shipDate);
+        Measurement response = executeWithMeasurement(() -> queryService.q6(date, discount, quantity),
+                warmup, iterations, jfr);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/q7")
+    public ResponseEntity<Measurement> q7(
+            @RequestParam(defaultValue = "FRANCE") String nation1,
+            @RequestParam(defaultValue = "GERMANY") String nation2,
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        Measurement response = executeWithMeasurement(() -> queryService.q7(nation1, nation2), warmup, iterations, jfr);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/q8")
+    public ResponseEntity<Measurement> q8(
+            @RequestParam(defaultValue = "BRAZIL") String nation,
+            @RequestParam(defaultValue = "AMERICA") String region,
+            @RequestParam(defaultValue = "ECONOMY ANODIZED STEEL") String type,
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        Measurement response = executeWithMeasurement(() -> queryService.q8(nation, region, type), warmup, iterations, jfr);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/q9")
+    public ResponseEntity<Measurement> q9(
+            @RequestParam(defaultValue = "green") String color,
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        Measurement response = executeWithMeasurement(() -> queryService.q9(color), warmup, iterations, jfr);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/q10")
+    public ResponseEntity<Measurement> q10(
+            @RequestParam(defaultValue = "1993-10-01") String orderDate,
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        LocalDate date = LocalDate.parse(orderDate);
+        Measurement response = executeWithMeasurement(() -> queryService.q10(date), warmup, iterations, jfr);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/q11")
+    public ResponseEntity<Measurement> q11(
+            @RequestParam(defaultValue = "GERMANY") String nation,
+            @RequestParam(defaultValue = "0.0001") BigDecimal fraction,
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        Measurement response = executeWithMeasurement(() -> queryService.q11(nation, fraction), warmup, iterations, jfr);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/q12")
+    public ResponseEntity<Measurement> q12(
+            @RequestParam(defaultValue = "MAIL") String shipMode1,
+            @RequestParam(defaultValue = "SHIP") String shipMode2,
+            @RequestParam(defaultValue = "1994-01-01") String receiptDate,
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        LocalDate date = LocalDate.parse(receiptDate);
+        Measurement response = executeWithMeasurement(() -> queryService.q12(shipMode1, shipMode2, date),
+                warmup, iterations, jfr);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/q13")
+    public ResponseEntity<Measurement> q13(
+            @RequestParam(defaultValue = "special") String word1,
+            @RequestParam(defaultValue = "requests") String word2,
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        Measurement response = executeWithMeasurement(() -> queryService.q13(word1, word2), warmup, iterations, jfr);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/q14")
+    public ResponseEntity<Measurement> q14(
+            @RequestParam(defaultValue = "1995-09-01") String shipDate,
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        LocalDate date = LocalDate.parse(shipDate);
+        Measurement response = executeWithMeasurement(() -> queryService.q14(date), warmup, iterations, jfr);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/q15")
+    public ResponseEntity<Measurement> q15(
+            @RequestParam(defaultValue = "1996-01-01") String shipDate,
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        LocalDate date = LocalDate.parse(shipDate);
+        Measurement response = executeWithMeasurement(() -> queryService.q15(date), warmup, iterations, jfr);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/q16")
+    public ResponseEntity<Measurement> q16(
+            @RequestParam(defaultValue = "Brand#45") String brand,
+            @RequestParam(defaultValue = "MEDIUM POLISHED") String type,
+            @RequestParam(defaultValue = "49,14,23,45,19,3,36,9") List<Integer> sizes,
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        Measurement response = executeWithMeasurement(() -> queryService.q16(brand, type, sizes), warmup, iterations, jfr);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/q17")
+    public ResponseEntity<Measurement> q17(
+            @RequestParam(defaultValue = "Brand#23") String brand,
+            @RequestParam(defaultValue = "MED BOX") String container,
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        Measurement response = executeWithMeasurement(() -> queryService.q17(brand, container), warmup, iterations, jfr);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/q18")
+    public ResponseEntity<Measurement> q18(
+            @RequestParam(defaultValue = "300") int quantity,
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        Measurement response = executeWithMeasurement(() -> queryService.q18(quantity), warmup, iterations, jfr);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/q19")
+    public ResponseEntity<Measurement> q19(
+            @RequestParam(defaultValue = "Brand#12") String brand1,
+            @RequestParam(defaultValue = "Brand#23") String brand2,
+            @RequestParam(defaultValue = "Brand#34") String brand3,
+            @RequestParam(defaultValue = "1") int quantity1,
+            @RequestParam(defaultValue = "10") int quantity2,
+            @RequestParam(defaultValue = "20") int quantity3,
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        Measurement response = executeWithMeasurement(() -> queryService.q19(brand1, brand2, brand3, quantity1, quantity2, quantity3),
+                warmup, iterations, jfr);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/q20")
+    public ResponseEntity<Measurement> q20(
+            @RequestParam(defaultValue = "forest") String color,
+            @RequestParam(defaultValue = "1994-01-01") String shipDate,
+            @RequestParam(defaultValue = "CANADA") String nation,
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        LocalDate date = LocalDate.parse(shipDate);
+        Measurement response = executeWithMeasurement(() -> queryService.q20(color, date, nation), warmup, iterations, jfr);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/q21")
+    public ResponseEntity<Measurement> q21(
+            @RequestParam(defaultValue = "SAUDI ARABIA") String nation,
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        Measurement response = executeWithMeasurement(() -> queryService.q21(nation), warmup, iterations, jfr);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/q22")
+    public ResponseEntity<Measurement> q22(
+            @RequestParam(defaultValue = "13,31,23,29,30,18,17") List<String> countryCodes,
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        Measurement response = executeWithMeasurement(() -> queryService.q22(countryCodes), warmup, iterations, jfr);
         return ResponseEntity.ok(response);
     }
 }
@@ -0,0 +1,9 @@
+package cz.cuni.mff.java.kurinna.microservice.dto;
+
+import java.time.LocalDate;
+
+/**
+ * Row of queries C1 and C2, an order with the name of its customer.
+ */
+public record CustomerOrder(String customerName, LocalDate orderDate, Double totalPrice) {
+}
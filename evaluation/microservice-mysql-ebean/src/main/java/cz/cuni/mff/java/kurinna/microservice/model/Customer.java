@@ -0,0 +1,35 @@
+package cz.cuni.mff.java.kurinna.microservice.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+@Entity
+@Table(name = "customer")
+@NoArgsConstructor
+@Getter
+@Setter
+public class Customer {
+    @Id
+    private Long c_custkey;
+
+    @Column(length = 25)
+    private String c_name;
+
+    @Column(length = 40)
+    private String c_address;
+
+    @ManyToOne
+    @JoinColumn(name = "c_nationkey")
+    private Nation nation;
+
+    @Column(length = 15)
+    private String c_phone;
+
+    private double c_acctbal;
+
+    @Column(length = 10)
+    private String c_mktsegment;
+
+    @Column(length = 117)
+    private String c_comment;
+}
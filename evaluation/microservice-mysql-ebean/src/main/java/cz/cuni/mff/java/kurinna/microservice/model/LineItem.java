@@ -0,0 +1,58 @@
+package cz.cuni.mff.java.kurinna.microservice.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.sql.Timestamp;
+
+/**
+ * Line item entity. The part and supplier are kept as plain keys instead of an association
+ * with {@link PartSupp}. The order is mapped twice, by its key in the embedded id and by the
+ * read-only association owning {@link Orders#getLineItems()}.
+ */
+@Entity
+@Table(name = "lineitem")
+@NoArgsConstructor
+@Getter
+@Setter
+public class LineItem {
+    @EmbeddedId
+    private LineItemPK lineItemPK;
+
+    @ManyToOne
+    @JoinColumn(name = "l_orderkey", insertable = false, updatable = false)
+    private Orders order;
+
+    private Long l_partkey;
+
+    private Long l_suppkey;
+
+    private double l_quantity;
+
+    private double l_extendedprice;
+
+    private double l_discount;
+
+    private double l_tax;
+
+    @Column(length = 1)
+    private String l_returnflag;
+
+    @Column(length = 1)
+    private String l_linestatus;
+
+    private Timestamp l_shipdate;
+
+    private Timestamp l_commitdate;
+
+    private Timestamp l_receiptdate;
+
+    @Column(length = 25)
+    private String l_shipinstruct;
+
+    @Column(length = 10)
+    private String l_shipmode;
+
+    @Column(length = 44)
+    private String l_comment;
+}
@@ -0,0 +1,22 @@
+package cz.cuni.mff.java.kurinna.microservice.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+/**
+ * Composite key of a line item. Ebean does not allow associations inside an embedded id,
+ * so the order is referenced by its key.
+ */
+@Embeddable
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@EqualsAndHashCode
+public class LineItemPK implements Serializable {
+    private Long l_orderkey;
+
+    private int l_linenumber;
+}
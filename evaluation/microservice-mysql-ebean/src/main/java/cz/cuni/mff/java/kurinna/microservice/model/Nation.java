@@ -0,0 +1,24 @@
+package cz.cuni.mff.java.kurinna.microservice.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+@Entity
+@Table(name = "nation")
+@NoArgsConstructor
+@Getter
+@Setter
+public class Nation {
+    @Id
+    private Long n_nationkey;
+
+    @Column(length = 25)
+    private String n_name;
+
+    @ManyToOne
+    @JoinColumn(name = "n_regionkey")
+    private Region region;
+
+    @Column(length = 152)
+    private String n_comment;
+}
@@ -0,0 +1,25 @@
+package cz.cuni.mff.java.kurinna.microservice.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Part supplier entity. Only the point lookups read it, the part and supplier tables are not
+ * mapped in this module.
+ */
+@Entity
+@Table(name = "partsupp")
+@NoArgsConstructor
+@Getter
+@Setter
+public class PartSupp {
+    @EmbeddedId
+    private PartSuppPK partSuppPK;
+
+    private int ps_availqty;
+
+    private double ps_supplycost;
+
+    @Column(length = 199)
+    private String ps_comment;
+}
@@ -0,0 +1,22 @@
+package cz.cuni.mff.java.kurinna.microservice.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+/**
+ * Composite key of a part supplier. Ebean does not allow associations inside an embedded id,
+ * so the part and supplier are referenced by their keys.
+ */
+@Embeddable
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@EqualsAndHashCode
+public class PartSuppPK implements Serializable {
+    private Long ps_partkey;
+
+    private Long ps_suppkey;
+}
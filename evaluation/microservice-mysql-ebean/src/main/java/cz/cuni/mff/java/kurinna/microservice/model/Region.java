@@ -0,0 +1,20 @@
+package cz.cuni.mff.java.kurinna.microservice.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+@Entity
+@Table(name = "region")
+@NoArgsConstructor
+@Getter
+@Setter
+public class Region {
+    @Id
+    private Long r_regionkey;
+
+    @Column(length = 25)
+    private String r_name;
+
+    @Column(length = 152)
+    private String r_comment;
+}
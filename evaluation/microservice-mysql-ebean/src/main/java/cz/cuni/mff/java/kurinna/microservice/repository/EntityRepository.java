@@ -0,0 +1,481 @@
+package cz.cuni.mff.java.kurinna.microservice.repository;
+
+import cz.cuni.mff.java.kurinna.microservice.dto.CustomerNationOrder;
+import cz.cuni.mff.java.kurinna.microservice.dto.CustomerOrder;
+import cz.cuni.mff.java.kurinna.microservice.dto.CustomerOrderKey;
+import cz.cuni.mff.java.kurinna.microservice.dto.CustomerRegionOrder;
+import cz.cuni.mff.java.kurinna.microservice.model.Customer;
+import cz.cuni.mff.java.kurinna.microservice.model.LineItem;
+import cz.cuni.mff.java.kurinna.microservice.model.LineItemPK;
+import cz.cuni.mff.java.kurinna.microservice.model.Orders;
+import cz.cuni.mff.java.kurinna.microservice.model.PartSupp;
+import cz.cuni.mff.java.kurinna.microservice.model.PartSuppPK;
+import io.ebean.Database;
+import io.ebean.DtoQuery;
+import io.ebean.FetchConfig;
+import io.ebean.Query;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Repository class executing the row-returning queries through Ebean's query engine.
+ * Unlike {@link UniversalRepository}, which runs plain SQL and copies the rows into {@code SqlRow} maps,
+ * the scans load entity beans and the join projections are mapped into DTO records via {@code findDto}.
+ * <p>
+ * Every query can be materialized with {@code findList} or streamed with {@code findEach},
+ * {@code findEachWhile} and {@code findStream}. The streaming variants only count the beans.
+ * On MySQL Ebean executes the entity queries with a forward-only result set streamed row by row.
+ * A positive fetch size is passed as the buffer fetch size hint instead, which together with
+ * {@code useCursorFetch=true} in the connection URL reads the result through a server-side cursor
+ * in batches of that size. DTO queries only apply a positive hint, so they stream with constant
+ * memory only in the cursor fetch configuration, otherwise the driver buffers the whole result.
+ * <p>
+ * The point lookups load a single bean by its id with {@code find}. Outside a transaction every lookup
+ * has its own persistence context, so no bean is reused from a previous lookup.
+ * <p>
+ * The pagination queries read a page with {@code findList}, bounded by {@code setFirstRow} and
+ * {@code setMaxRows} or by a predicate seeking past the key of the previous page.
+ * <p>
+ * The object graph queries load the orders with their customer and line items, which are either loaded
+ * lazily, joined by {@code fetch} or loaded by secondary queries configured with {@link FetchConfig}.
+ * They run on a database of their own, whose datasource counts their statements, see
+ * {@code EbeanConfiguration#graphDatabase}. The lazy loads run on the database which loaded the bean.
+ */
+@Repository
+public class EntityRepository {
+    private final Database database;
+    private final Database graphDatabase;
+    private final int fetchSize;
+
+    /**
+     * Constructs a new EntityRepository with the specified database.
+     *
+     * @param database The Ebean database instance to use for executing queries
+     * @param graphDatabase The Ebean database instance to use for executing the object graph queries
+     * @param fetchSize The buffer fetch size hint of the streaming queries, non-positive values keep the
+     *                  platform default
+     */
+    public EntityRepository(Database database, @Qualifier("graphDatabase") Database graphDatabase,
+            @Value("${ebean.streaming.fetch-size:-2147483648}") int fetchSize) {
+        this.database = database;
+        this.graphDatabase = graphDatabase;
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * A1) Retrieves all line items.
+     *
+     * @return Scan over the lineitem table
+     */
+    public Scan<LineItem> a1() {
+        return new EntityScan<>(database.find(LineItem.class), fetchSize);
+    }
+
+    /**
+     * A2) Retrieves orders within a specified date range.
+     *
+     * @param startDate The start date of the range (inclusive)
+     * @param endDate The end date of the range (inclusive)
+     * @return Scan over the orders within the date range
+     */
+    public Scan<Orders> a2(LocalDate startDate, LocalDate endDate) {
+        return new EntityScan<>(database.find(Orders.class)
+                .where().between("o_orderdate", startDate, endDate)
+                .query(), fetchSize);
+    }
+
+    /**
+     * A3) Retrieves all customers.
+     *
+     * @return Scan over the customer table
+     */
+    public Scan<Customer> a3() {
+        return new EntityScan<>(database.find(Customer.class), fetchSize);
+    }
+
+    /**
+     * A4) Retrieves orders within a specified order key range.
+     *
+     * @param minOrderKey The minimum order key (inclusive)
+     * @param maxOrderKey The maximum order key (inclusive)
+     * @return Scan over the orders within the order key range
+     */
+    public Scan<Orders> a4(int minOrderKey, int maxOrderKey) {
+        return new EntityScan<>(database.find(Orders.class)
+                .where().between("o_orderkey", minOrderKey, maxOrderKey)
+                .query(), fetchSize);
+    }
+
+    /**
+     * C1) Cartesian product between customer and orders tables.
+     *
+     * @return Scan over the orders with the name of their customer
+     */
+    public Scan<CustomerOrder> c1() {
+        String sql = "SELECT c.c_name, o.o_orderdate, o.o_totalprice " +
+                "FROM customer c, orders o";
+        return new DtoScan<>(database.findDto(CustomerOrder.class, sql), fetchSize);
+    }
+
+    /**
+     * C2) Joins customer and orders tables on customer key.
+     *
+     * @return Scan over the orders with the name of their customer
+     */
+    public Scan<CustomerOrder> c2() {
+        String sql = "SELECT c.c_name, o.o_orderdate, o.o_totalprice " +
+                "FROM customer c " +
+                "JOIN orders o ON c.c_custkey = o.o_custkey";
+        return new DtoScan<>(database.findDto(CustomerOrder.class, sql), fetchSize);
+    }
+
+    /**
+     * C3) Joins customer, nation, and orders tables.
+     *
+     * @return Scan over the orders with the name and nation of their customer
+     */
+    public Scan<CustomerNationOrder> c3() {
+        String sql = "SELECT c.c_name, n.n_name, o.o_orderdate, o.o_totalprice " +
+                "FROM customer c " +
+                "JOIN nation n ON c.c_nationkey = n.n_nationkey " +
+                "JOIN orders o ON c.c_custkey = o.o_custkey";
+        return new DtoScan<>(database.findDto(CustomerNationOrder.class, sql), fetchSize);
+    }
+
+    /**
+     * C4) Joins customer, nation, region, and orders tables.
+     *
+     * @return Scan over the orders with the name, nation and region of their customer
+     */
+    public Scan<CustomerRegionOrder> c4() {
+        String sql = "SELECT c.c_name, n.n_name, r.r_name, o.o_orderdate, o.o_totalprice " +
+                "FROM customer c " +
+                "JOIN nation n ON c.c_nationkey = n.n_nationkey " +
+                "JOIN region r ON n.n_regionkey = r.r_regionkey " +
+                "JOIN orders o ON c.c_custkey = o.o_custkey";
+        return new DtoScan<>(database.findDto(CustomerRegionOrder.class, sql), fetchSize);
+    }
+
+    /**
+     * C5) Left outer join between customer and orders tables.
+     *
+     * @return Scan over the customers and their orders (if any)
+     */
+    public Scan<CustomerOrderKey> c5() {
+        String sql = "SELECT c.c_custkey, c.c_name, o.o_orderkey, o.o_orderdate " +
+                "FROM customer c " +
+                "LEFT OUTER JOIN orders o ON c.c_custkey = o.o_custkey";
+        return new DtoScan<>(database.findDto(CustomerOrderKey.class, sql), fetchSize);
+    }
+
+    /**
+     * E1) Retrieves customers sorted by account balance in descending order.
+     * Only the selected properties of the beans are loaded.
+     *
+     * @return Scan over the partially loaded customers
+     */
+    public Scan<Customer> e1() {
+        return new EntityScan<>(database.find(Customer.class)
+                .select("c_name, c_address, c_acctbal")
+                .orderBy("c_acctbal desc"), fetchSize);
+    }
+
+    /**
+     * E2) Retrieves orders sorted by order key.
+     * Only the selected properties of the beans are loaded, the customer is a reference holding its key.
+     *
+     * @return Scan over the partially loaded orders
+     */
+    public Scan<Orders> e2() {
+        return new EntityScan<>(database.find(Orders.class)
+                .select("o_orderkey, customer, o_orderdate, o_totalprice")
+                .orderBy("o_orderkey"), fetchSize);
+    }
+
+    /**
+     * E3) Retrieves unique combinations of nation and market segment from customers.
+     *
+     * @return Scan over the distinct partially loaded customers
+     */
+    public Scan<Customer> e3() {
+        return new EntityScan<>(database.find(Customer.class)
+                .setDistinct(true)
+                .select("nation, c_mktsegment"), fetchSize);
+    }
+
+    /**
+     * F1) Looks up a single order by its primary key.
+     *
+     * @param orderKey The order key
+     * @return The order, or null if there is no such order
+     */
+    public Orders f1(long orderKey) {
+        return database.find(Orders.class, orderKey);
+    }
+
+    /**
+     * F2) Looks up a single customer by its primary key.
+     *
+     * @param customerKey The customer key
+     * @return The customer, or null if there is no such customer
+     */
+    public Customer f2(long customerKey) {
+        return database.find(Customer.class, customerKey);
+    }
+
+    /**
+     * F3) Looks up a single line item by its composite primary key.
+     *
+     * @param orderKey The order key of the line item
+     * @param lineNumber The line number within the order
+     * @return The line item, or null if there is no such line item
+     */
+    public LineItem f3(long orderKey, int lineNumber) {
+        return database.find(LineItem.class, new LineItemPK(orderKey, lineNumber));
+    }
+
+    /**
+     * F4) Looks up a single part supplier by its composite primary key.
+     *
+     * @param partKey The part key
+     * @param supplierKey The supplier key
+     * @return The part supplier, or null if there is no such part supplier
+     */
+    public PartSupp f4(long partKey, long supplierKey) {
+        return database.find(PartSupp.class, new PartSuppPK(partKey, supplierKey));
+    }
+
+    /**
+     * G1) Reads a page of orders ordered by the order key, skipping the rows of the preceding pages.
+     *
+     * @param offset Number of skipped rows
+     * @param limit Number of rows of the page
+     * @return The orders of the page
+     */
+    public List<Orders> g1(int offset, int limit) {
+        return database.find(Orders.class)
+                .orderBy("o_orderkey")
+                .setFirstRow(offset)
+                .setMaxRows(limit)
+                .findList();
+    }
+
+    /**
+     * G2) Reads a page of orders following the given order key.
+     *
+     * @param orderKey The order key of the last row of the previous page, 0 for the first page
+     * @param limit Number of rows of the page
+     * @return The orders of the page
+     */
+    public List<Orders> g2(long orderKey, int limit) {
+        return database.find(Orders.class)
+                .where().gt("o_orderkey", orderKey)
+                .orderBy("o_orderkey")
+                .setMaxRows(limit)
+                .findList();
+    }
+
+    /**
+     * G3) Reads a page of line items ordered by their composite primary key, skipping the rows of the
+     * preceding pages.
+     *
+     * @param offset Number of skipped rows
+     * @param limit Number of rows of the page
+     * @return The line items of the page
+     */
+    public List<LineItem> g3(int offset, int limit) {
+        return database.find(LineItem.class)
+                .orderBy("lineItemPK.l_orderkey, lineItemPK.l_linenumber")
+                .setFirstRow(offset)
+                .setMaxRows(limit)
+                .findList();
+    }
+
+    /**
+     * G4) Reads a page of line items following the given composite primary key.
+     *
+     * @param orderKey The order key of the last row of the previous page, 0 for the first page
+     * @param lineNumber The line number of the last row of the previous page
+     * @param limit Number of rows of the page
+     * @return The line items of the page
+     */
+    public List<LineItem> g4(long orderKey, int lineNumber, int limit) {
+        return database.find(LineItem.class)
+                .where()
+                .or()
+                    .gt("lineItemPK.l_orderkey", orderKey)
+                    .and()
+                        .eq("lineItemPK.l_orderkey", orderKey)
+                        .gt("lineItemPK.l_linenumber", lineNumber)
+                    .endAnd()
+                .endOr()
+                .orderBy("lineItemPK.l_orderkey, lineItemPK.l_linenumber")
+                .setMaxRows(limit)
+                .findList();
+    }
+
+    /**
+     * H1) Loads the orders of a date range and their customer and line items lazily. The lazy loading batch
+     * size of the query is 1, so Ebean loads every customer and the line items of every order by its own
+     * query when they are first read (N+1).
+     *
+     * @param startDate The start date of the range (inclusive)
+     * @param endDate The end date of the range (inclusive)
+     * @return The orders with their customer and line items
+     */
+    public List<Orders> h1(LocalDate startDate, LocalDate endDate) {
+        return initialized(graphOrders(startDate, endDate)
+                .setLazyLoadBatchSize(1)
+                .findList());
+    }
+
+    /**
+     * H2) Loads the orders of a date range with their customer and line items by a single query joining
+     * both associations.
+     *
+     * @param startDate The start date of the range (inclusive)
+     * @param endDate The end date of the range (inclusive)
+     * @return The orders with their customer and line items
+     */
+    public List<Orders> h2(LocalDate startDate, LocalDate endDate) {
+        return initialized(graphOrders(startDate, endDate)
+                .fetch("customer")
+                .fetch("lineItems")
+                .findList());
+    }
+
+    /**
+     * H3) Loads the orders of a date range, their customers and line items are loaded eagerly by secondary
+     * queries, each for up to {@code batchSize} orders or customers with an IN list of their keys.
+     *
+     * @param startDate The start date of the range (inclusive)
+     * @param endDate The end date of the range (inclusive)
+     * @param batchSize Number of keys of one secondary query
+     * @return The orders with their customer and line items
+     */
+    public List<Orders> h3(LocalDate startDate, LocalDate endDate, int batchSize) {
+        return initialized(graphOrders(startDate, endDate)
+                .fetch("customer", FetchConfig.ofQuery(batchSize))
+                .fetch("lineItems", FetchConfig.ofQuery(batchSize))
+                .findList());
+    }
+
+    private Query<Orders> graphOrders(LocalDate startDate, LocalDate endDate) {
+        return graphDatabase.find(Orders.class)
+                .where()
+                .between("o_orderdate", startDate, endDate)
+                .orderBy("o_orderkey")
+                .query();
+    }
+
+    /**
+     * Reads the customer and the line items of every order, which loads them if they are still lazy.
+     */
+    private static List<Orders> initialized(List<Orders> orders) {
+        for (Orders order : orders) {
+            order.getCustomer().getC_name();
+            order.getLineItems().size();
+        }
+        return orders;
+    }
+
+    /**
+     * A query which can either be materialized or streamed through Ebean's query engine.
+     *
+     * @param <T> The type of the loaded beans
+     */
+    public interface Scan<T> {
+        List<T> findList();
+
+        /**
+         * Streams the beans one by one through {@code findEach}.
+         *
+         * @return The number of beans
+         */
+        long findEach();
+
+        /**
+         * Streams the beans through {@code findEachWhile} and stops after the limit is reached.
+         *
+         * @param limit The maximum number of beans to read
+         * @return The number of beans
+         */
+        long findEachWhile(long limit);
+
+        /**
+         * Streams the beans through {@code findStream}, the stream is closed before returning.
+         *
+         * @return The number of beans
+         */
+        long findStream();
+    }
+
+    private record EntityScan<T>(Query<T> query, int fetchSize) implements Scan<T> {
+        @Override
+        public List<T> findList() {
+            return query.findList();
+        }
+
+        @Override
+        public long findEach() {
+            long[] rows = {0};
+            streaming().findEach(bean -> rows[0]++);
+            return rows[0];
+        }
+
+        @Override
+        public long findEachWhile(long limit) {
+            long[] rows = {0};
+            streaming().findEachWhile(bean -> ++rows[0] < limit);
+            return rows[0];
+        }
+
+        @Override
+        public long findStream() {
+            try (Stream<T> stream = streaming().findStream()) {
+                return stream.count();
+            }
+        }
+
+        private Query<T> streaming() {
+            return fetchSize > 0 ? query.setBufferFetchSizeHint(fetchSize) : query;
+        }
+    }
+
+    private record DtoScan<T>(DtoQuery<T> query, int fetchSize) implements Scan<T> {
+        @Override
+        public List<T> findList() {
+            return query.findList();
+        }
+
+        @Override
+        public long findEach() {
+            long[] rows = {0};
+            streaming().findEach(bean -> rows[0]++);
+            return rows[0];
+        }
+
+        @Override
+        public long findEachWhile(long limit) {
+            long[] rows = {0};
+            streaming().findEachWhile(bean -> ++rows[0] < limit);
+            return rows[0];
+        }
+
+        @Override
+        public long findStream() {
+            try (Stream<T> stream = streaming().findStream()) {
+                return stream.count();
+            }
+        }
+
+        private DtoQuery<T> streaming() {
+            return fetchSize > 0 ? query.setBufferFetchSizeHint(fetchSize) : query;
+        }
+    }
+}
@@ -4,6 +4,7 @@ import io.ebean.Database;
 import io.ebean.SqlRow;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -472,4 +473,792 @@ public class UniversalRepository {
                 .setParameter("endDate", endDate)
                 .findList();
     }
+
+    /**
+     * Executes TPC-H Query 6: Forecasting Revenue Change.
+     * This query quantifies the amount of revenue increase that would have resulted from eliminating discounts in a given range.
+     *
+     * @param shipDate The start date for the one-year period
+     * @param discount The discount, line items within 0.01 of it are considered
+     * @param quantity The exclusive upper bound of the line item quantity
+     * @return List of SqlRow objects containing the potential revenue increase
+     */
+    public List<SqlRow> q6(LocalDate shipDate, BigDecimal discount, int quantity) {
+        LocalDate endDate = shipDate.plusYears(1);
+        BigDecimal minDiscount = discount.subtract(new BigDecimal("0.01"));
+        BigDecimal maxDiscount = discount.add(new BigDecimal("0.01"));
+
+        String sql = "SELECT " +
+                "SUM(l_extendedprice * l_discount) AS revenue " +
+                "FROM " +
+                "lineitem " +
+                "WHERE " +
+                "l_shipdate >= :shipDate " +
+                "AND l_shipdate < :endDate " +
+                "AND l_discount BETWEEN :minDiscount AND :maxDiscount " +
+                "AND l_quantity < :quantity";
+
+        return database.sqlQuery(sql)
+                .setParameter("shipDate", shipDate)
+                .setParameter("endDate", endDate)
+                .setParameter("minDiscount", minDiscount)
+                .setParameter("maxDiscount", maxDiscount)
+                .setParameter("quantity", quantity)
+                .findList();
+    }
+
+    /**
+     * Executes TPC-H Query 7: Volume Shipping.
+     * This query determines the value of goods shipped between two nations in 1995 and 1996.
+     *
+     * @param nation1 The name of the first nation
+     * @param nation2 The name of the second nation
+     * @return List of SqlRow objects containing the shipped revenue by supplier nation, customer nation and year
+     */
+    public List<SqlRow> q7(String nation1, String nation2) {
+        String sql = "SELECT " +
+                "supp_nation, " +
+                "cust_nation, " +
+                "l_year, " +
+                "SUM(volume) AS revenue " +
+                "FROM " +
+                "( " +
+                "    SELECT " +
+                "        n1.n_name AS supp_nation, " +
+                "        n2.n_name AS cust_nation, " +
+                "        EXTRACT(YEAR FROM l.l_shipdate) AS l_year, " +
+                "        l.l_extendedprice * (1 - l.l_discount) AS volume " +
+                "    FROM " +
+                "        supplier s, " +
+                "        lineitem l, " +
+                "        orders o, " +
+                "        customer c, " +
+                "        nation n1, " +
+                "        nation n2 " +
+                "    WHERE " +
+                "        s.s_suppkey = l.l_suppkey " +
+                "        AND o.o_orderkey = l.l_orderkey " +
+                "        AND c.c_custkey = o.o_custkey " +
+                "        AND s.s_nationkey = n1.n_nationkey " +
+                "        AND c.c_nationkey = n2.n_nationkey " +
+                "        AND ( " +
+                "            (n1.n_name = :nation1 AND n2.n_name = :nation2) " +
+                "            OR (n1.n_name = :nation2 AND n2.n_name = :nation1) " +
+                "        ) " +
+                "        AND l.l_shipdate BETWEEN '1995-01-01' AND '1996-12-31' " +
+                ") AS shipping " +
+                "GROUP BY " +
+                "supp_nation, " +
+                "cust_nation, " +
+                "l_year " +
+                "ORDER BY " +
+                "supp_nation, " +
+                "cust_nation, " +
+                "l_year";
+
+        return database.sqlQuery(sql)
+                .setParameter("nation1", nation1)
+                .setParameter("nation2", nation2)
+                .findList();
+    }
+
+    /**
+     * Executes TPC-H Query 8: National Market Share.
+     * This query determines how the market share of a nation within a region has changed over two years for a given part type.
+     *
+     * @param nation The name of the nation whose market share is computed
+     * @param region The name of the region of the customers
+     * @param type The part type
+     * @return List of SqlRow objects containing the market share by year
+     */
+    public List<SqlRow> q8(String nation, String region, String type) {
+        String sql = "SELECT " +
+                "o_year, " +
+                "SUM(CASE WHEN nation = :nation THEN volume ELSE 0 END) / SUM(volume) AS mkt_share " +
+                "FROM " +
+                "( " +
+                "    SELECT " +
+                "        EXTRACT(YEAR FROM o.o_orderdate) AS o_year, " +
+                "        l.l_extendedprice * (1 - l.l_discount) AS volume, " +
+                "        n2.n_name AS nation " +
+                "    FROM " +
+                "        part p, " +
+                "        supplier s, " +
+                "        lineitem l, " +
+                "        orders o, " +
+                "        customer c, " +
+                "        nation n1, " +
+                "        nation n2, " +
+                "        region r " +
+                "    WHERE " +
+                "        p.p_partkey = l.l_partkey " +
+                "        AND s.s_suppkey = l.l_suppkey " +
+                "        AND l.l_orderkey = o.o_orderkey " +
+                "        AND o.o_custkey = c.c_custkey " +
+                "        AND c.c_nationkey = n1.n_nationkey " +
+                "        AND n1.n_regionkey = r.r_regionkey " +
+                "        AND r.r_name = :region " +
+                "        AND s.s_nationkey = n2.n_nationkey " +
+                "        AND o.o_orderdate BETWEEN '1995-01-01' AND '1996-12-31' " +
+                "        AND p.p_type = :type " +
+                ") AS all_nations " +
+                "GROUP BY " +
+                "o_year " +
+                "ORDER BY " +
+                "o_year";
+
+        return database.sqlQuery(sql)
+                .setParameter("nation", nation)
+                .setParameter("region", region)
+                .setParameter("type", type)
+                .findList();
+    }
+
+    /**
+     * Executes TPC-H Query 9: Product Type Profit Measure.
+     * This query determines how much profit is made on a given line of parts, broken out by supplier nation and year.
+     *
+     * @param color The color contained in the part name
+     * @return List of SqlRow objects containing the profit by nation and year
+     */
+    public List<SqlRow> q9(String color) {
+        String colorPattern = "%" + color + "%";
+
+        String sql = "SELECT " +
+                "nation, " +
+                "o_year, " +
+                "SUM(amount) AS sum_profit " +
+                "FROM " +
+                "( " +
+                "    SELECT " +
+                "        n.n_name AS nation, " +
+                "        EXTRACT(YEAR FROM o.o_orderdate) AS o_year, " +
+                "        l.l_extendedprice * (1 - l.l_discount) - ps.ps_supplycost * l.l_quantity AS amount " +
+                "    FROM " +
+                "        part p, " +
+                "        supplier s, " +
+                "        lineitem l, " +
+                "        partsupp ps, " +
+                "        orders o, " +
+                "        nation n " +
+                "    WHERE " +
+                "        s.s_suppkey = l.l_suppkey " +
+                "        AND ps.ps_suppkey = l.l_suppkey " +
+                "        AND ps.ps_partkey = l.l_partkey " +
+                "        AND p.p_partkey = l.l_partkey " +
+                "        AND o.o_orderkey = l.l_orderkey " +
+                "        AND s.s_nationkey = n.n_nationkey " +
+                "        AND p.p_name LIKE :colorPattern " +
+                ") AS profit " +
+                "GROUP BY " +
+                "nation, " +
+                "o_year " +
+                "ORDER BY " +
+                "nation, " +
+                "o_year DESC";
+
+        return database.sqlQuery(sql)
+                .setParameter("colorPattern", colorPattern)
+                .findList();
+    }
+
+    /**
+     * Executes TPC-H Query 10: Returned Item Reporting.
+     * This query identifies the customers who might be having problems with the parts that are shipped to them.
+     *
+     * @param orderDate The start date for the three-month period
+     * @return List of SqlRow objects containing the lost revenue by customer
+     */
+    public List<SqlRow> q10(LocalDate orderDate) {
+        LocalDate endDate = orderDate.plusMonths(3);
+
+        String sql = "SELECT " +
+                "c.c_custkey, " +
+                "c.c_name, " +
+                "SUM(l.l_extendedprice * (1 - l.l_discount)) AS revenue, " +
+                "c.c_acctbal, " +
+                "n.n_name, " +
+                "c.c_address, " +
+                "c.c_phone, " +
+                "c.c_comment " +
+                "FROM " +
+                "customer c, " +
+                "orders o, " +
+                "lineitem l, " +
+                "nation n " +
+                "WHERE " +
+                "c.c_custkey = o.o_custkey " +
+                "AND l.l_orderkey = o.o_orderkey " +
+                "AND o.o_orderdate >= :orderDate " +
+                "AND o.o_orderdate < :endDate " +
+                "AND l.l_returnflag = 'R' " +
+                "AND c.c_nationkey = n.n_nationkey " +
+                "GROUP BY " +
+                "c.c_custkey, " +
+                "c.c_name, " +
+                "c.c_acctbal, " +
+                "c.c_phone, " +
+                "n.n_name, " +
+                "c.c_address, " +
+                "c.c_comment " +
+                "ORDER BY " +
+                "revenue DESC " +
+                "LIMIT 20";
+
+        return database.sqlQuery(sql)
+                .setParameter("orderDate", orderDate)
+                .setParameter("endDate", endDate)
+                .findList();
+    }
+
+    /**
+     * Executes TPC-H Query 11: Important Stock Identification.
+     * This query finds the most important subset of the suppliers' stock in a given nation.
+     *
+     * @param nation The name of the nation of the suppliers
+     * @param fraction The fraction of the total stock value a part has to exceed
+     * @return List of SqlRow objects containing the stock value by part
+     */
+    public List<SqlRow> q11(String nation, BigDecimal fraction) {
+        String sql = "SELECT " +
+                "ps.ps_partkey, " +
+                "SUM(ps.ps_supplycost * ps.ps_availqty) AS stock_value " +
+                "FROM " +
+                "partsupp ps, " +
+                "supplier s, " +
+                "nation n " +
+                "WHERE " +
+                "ps.ps_suppkey = s.s_suppkey " +
+                "AND s.s_nationkey = n.n_nationkey " +
+                "AND n.n_name = :nation " +
+                "GROUP BY " +
+                "ps.ps_partkey " +
+                "HAVING " +
+                "SUM(ps.ps_supplycost * ps.ps_availqty) > ( " +
+                "    SELECT " +
+                "        SUM(ps2.ps_supplycost * ps2.ps_availqty) * :fraction " +
+                "    FROM " +
+                "        partsupp ps2, " +
+                "        supplier s2, " +
+                "        nation n2 " +
+                "    WHERE " +
+                "        ps2.ps_suppkey = s2.s_suppkey " +
+                "        AND s2.s_nationkey = n2.n_nationkey " +
+                "        AND n2.n_name = :nation " +
+                ") " +
+                "ORDER BY " +
+                "stock_value DESC";
+
+        return database.sqlQuery(sql)
+                .setParameter("nation", nation)
+                .setParameter("fraction", fraction)
+                .findList();
+    }
+
+    /**
+     * Executes TPC-H Query 12: Shipping Modes and Order Priority.
+     * This query determines whether selecting less expensive modes of shipping is negatively affecting the critical-priority orders.
+     *
+     * @param shipMode1 The first ship mode
+     * @param shipMode2 The second ship mode
+     * @param receiptDate The start date for the one-year period
+     * @return List of SqlRow objects containing the late line item counts by ship mode
+     */
+    public List<SqlRow> q12(String shipMode1, String shipMode2, LocalDate receiptDate) {
+        LocalDate endDate = receiptDate.plusYears(1);
+
+        String sql = "SELECT " +
+                "l.l_shipmode, " +
+                "SUM(CASE WHEN o.o_orderpriority = '1-URGENT' OR o.o_orderpriority = '2-HIGH' THEN 1 ELSE 0 END) AS high_line_count, " +
+                "SUM(CASE WHEN o.o_orderpriority <> '1-URGENT' AND o.o_orderpriority <> '2-HIGH' THEN 1 ELSE 0 END) AS low_line_count " +
+                "FROM " +
+                "orders o, " +
+                "lineitem l " +
+                "WHERE " +
+                "o.o_orderkey = l.l_orderkey " +
+                "AND l.l_shipmode IN (:shipMode1, :shipMode2) " +
+                "AND l.l_commitdate < l.l_receiptdate " +
+                "AND l.l_shipdate < l.l_commitdate " +
+                "AND l.l_receiptdate >= :receiptDate " +
+                "AND l.l_receiptdate < :endDate " +
+                "GROUP BY " +
+                "l.l_shipmode " +
+                "ORDER BY " +
+                "l.l_shipmode";
+
+        return database.sqlQuery(sql)
+                .setParameter("shipMode1", shipMode1)
+                .setParameter("shipMode2", shipMode2)
+                .setParameter("receiptDate", receiptDate)
+                .setParameter("endDate", endDate)
+                .findList();
+    }
+
+    /**
+     * Executes TPC-H Query 13: Customer Distribution.
+     * This query determines the distribution of customers by the number of orders they have made.
+     *
+     * @param word1 The first word of the excluded order comments
+     * @param word2 The second word of the excluded order comments
+     * @return List of SqlRow objects containing the number of customers by order count
+     */
+    public List<SqlRow> q13(String word1, String word2) {
+        String commentPattern = "%" + word1 + "%" + word2 + "%";
+
+        String sql = "SELECT " +
+                "c_count, " +
+                "COUNT(*) AS custdist " +
+                "FROM " +
+                "( " +
+                "    SELECT " +
+                "        c.c_custkey, " +
+                "        COUNT(o.o_orderkey) AS c_count " +
+                "    FROM " +
+                "        customer c " +
+                "        LEFT OUTER JOIN orders o ON c.c_custkey = o.o_custkey AND o.o_comment NOT LIKE :commentPattern " +
+                "    GROUP BY " +
+                "        c.c_custkey " +
+                ") AS c_orders " +
+                "GROUP BY " +
+                "c_count " +
+                "ORDER BY " +
+                "custdist DESC, " +
+                "c_count DESC";
+
+        return database.sqlQuery(sql)
+                .setParameter("commentPattern", commentPattern)
+                .findList();
+    }
+
+    /**
+     * Executes TPC-H Query 14: Promotion Effect.
+     * This query monitors the market response to a promotion such as TV advertisements or a special campaign.
+     *
+     * @param shipDate The start date for the one-month period
+     * @return List of SqlRow objects containing the promotion revenue percentage
+     */
+    public List<SqlRow> q14(LocalDate shipDate) {
+        LocalDate endDate = shipDate.plusMonths(1);
+
+        String sql = "SELECT " +
+                "100.00 * SUM(CASE WHEN p.p_type LIKE 'PROMO%' THEN l.l_extendedprice * (1 - l.l_discount) ELSE 0 END) " +
+                "    / SUM(l.l_extendedprice * (1 - l.l_discount)) AS promo_revenue " +
+                "FROM " +
+                "lineitem l, " +
+                "part p " +
+                "WHERE " +
+                "l.l_partkey = p.p_partkey " +
+                "AND l.l_shipdate >= :shipDate " +
+                "AND l.l_shipdate < :endDate";
+
+        return database.sqlQuery(sql)
+                .setParameter("shipDate", shipDate)
+                .setParameter("endDate", endDate)
+                .findList();
+    }
+
+    /**
+     * Executes TPC-H Query 15: Top Supplier.
+     * This query determines the top supplier so it can be rewarded, given more business, or identified for special recognition.
+     *
+     * @param shipDate The start date for the three-month period
+     * @return List of SqlRow objects containing the suppliers with the maximum revenue
+     */
+    public List<SqlRow> q15(LocalDate shipDate) {
+        LocalDate endDate = shipDate.plusMonths(3);
+
+        String sql = "WITH revenue0 AS ( " +
+                "    SELECT " +
+                "        l_suppkey AS supplier_no, " +
+                "        SUM(l_extendedprice * (1 - l_discount)) AS total_revenue " +
+                "    FROM " +
+                "        lineitem " +
+                "    WHERE " +
+                "        l_shipdate >= :shipDate " +
+                "        AND l_shipdate < :endDate " +
+                "    GROUP BY " +
+                "        l_suppkey " +
+                ") " +
+                "SELECT " +
+                "s.s_suppkey, " +
+                "s.s_name, " +
+                "s.s_address, " +
+                "s.s_phone, " +
+                "r.total_revenue " +
+                "FROM " +
+                "supplier s, " +
+                "revenue0 r " +
+                "WHERE " +
+                "s.s_suppkey = r.supplier_no " +
+                "AND r.total_revenue = ( " +
+                "    SELECT " +
+                "        MAX(total_revenue) " +
+                "    FROM " +
+                "        revenue0 " +
+                ") " +
+                "ORDER BY " +
+                "s.s_suppkey";
+
+        return database.sqlQuery(sql)
+                .setParameter("shipDate", shipDate)
+                .setParameter("endDate", endDate)
+                .findList();
+    }
+
+    /**
+     * Executes TPC-H Query 16: Parts/Supplier Relationship.
+     * This query finds out how many suppliers can supply parts with given attributes.
+     *
+     * @param brand The excluded brand
+     * @param type The prefix of the excluded part types
+     * @param sizes The part sizes
+     * @return List of SqlRow objects containing the supplier counts by brand, type and size
+     */
+    public List<SqlRow> q16(String brand, String type, List<Integer> sizes) {
+        String typePattern = type + "%";
+
+        String sql = "SELECT " +
+                "p.p_brand, " +
+                "p.p_type, " +
+                "p.p_size, " +
+                "COUNT(DISTINCT ps.ps_suppkey) AS supplier_cnt " +
+                "FROM " +
+                "partsupp ps, " +
+                "part p " +
+                "WHERE " +
+                "p.p_partkey = ps.ps_partkey " +
+                "AND p.p_brand <> :brand " +
+                "AND p.p_type NOT LIKE :typePattern " +
+                "AND p.p_size IN (:sizes) " +
+                "AND ps.ps_suppkey NOT IN ( " +
+                "    SELECT " +
+                "        s.s_suppkey " +
+                "    FROM " +
+                "        supplier s " +
+                "    WHERE " +
+                "        s.s_comment LIKE '%Customer%Complaints%' " +
+                ") " +
+                "GROUP BY " +
+                "p.p_brand, " +
+                "p.p_type, " +
+                "p.p_size " +
+                "ORDER BY " +
+                "supplier_cnt DESC, " +
+                "p.p_brand, " +
+                "p.p_type, " +
+                "p.p_size";
+
+        return database.sqlQuery(sql)
+                .setParameter("brand", brand)
+                .setParameter("typePattern", typePattern)
+                .setParameter("sizes", sizes)
+                .findList();
+    }
+
+    /**
+     * Executes TPC-H Query 17: Small-Quantity-Order Revenue.
+     * This query determines how much average yearly revenue would be lost if orders were no longer filled for small quantities of certain parts.
+     *
+     * @param brand The brand of the parts
+     * @param container The container of the parts
+     * @return List of SqlRow objects containing the average yearly revenue
+     */
+    public List<SqlRow> q17(String brand, String container) {
+        String sql = "SELECT " +
+                "SUM(l.l_extendedprice) / 7.0 AS avg_yearly " +
+                "FROM " +
+                "lineitem l, " +
+                "part p " +
+                "WHERE " +
+                "p.p_partkey = l.l_partkey " +
+                "AND p.p_brand = :brand " +
+                "AND p.p_container = :container " +
+                "AND l.l_quantity < ( " +
+                "    SELECT " +
+                "        0.2 * AVG(l2.l_quantity) " +
+                "    FROM " +
+                "        lineitem l2 " +
+                "    WHERE " +
+                "        l2.l_partkey = p.p_partkey " +
+                ")";
+
+        return database.sqlQuery(sql)
+                .setParameter("brand", brand)
+                .setParameter("container", container)
+                .findList();
+    }
+
+    /**
+     * Executes TPC-H Query 18: Large Volume Customer.
+     * This query ranks customers based on their having placed a large quantity order.
+     *
+     * @param quantity The total quantity an order has to exceed
+     * @return List of SqlRow objects containing the large orders with their customers
+     */
+    public List<SqlRow> q18(int quantity) {
+        String sql = "SELECT " +
+                "c.c_name, " +
+                "c.c_custkey, " +
+                "o.o_orderkey, " +
+                "o.o_orderdate, " +
+                "o.o_totalprice, " +
+                "SUM(l.l_quantity) AS sum_quantity " +
+                "FROM " +
+                "customer c, " +
+                "orders o, " +
+                "lineitem l " +
+                "WHERE " +
+                "o.o_orderkey IN ( " +
+                "    SELECT " +
+                "        l2.l_orderkey " +
+                "    FROM " +
+                "        lineitem l2 " +
+                "    GROUP BY " +
+                "        l2.l_orderkey " +
+                "    HAVING " +
+                "        SUM(l2.l_quantity) > :quantity " +
+                ") " +
+                "AND c.c_custkey = o.o_custkey " +
+                "AND o.o_orderkey = l.l_orderkey " +
+                "GROUP BY " +
+                "c.c_name, " +
+                "c.c_custkey, " +
+                "o.o_orderkey, " +
+                "o.o_orderdate, " +
+                "o.o_totalprice " +
+                "ORDER BY " +
+                "o.o_totalprice DESC, " +
+                "o.o_orderdate " +
+                "LIMIT 100";
+
+        return database.sqlQuery(sql)
+                .setParameter("quantity", quantity)
+                .findList();
+    }
+
+    /**
+     * Executes TPC-H Query 19: Discounted Revenue.
+     * This query reports the gross discounted revenue attributed to the sale of selected parts handled in a particular manner.
+     *
+     * @param brand1 The brand of the small containers
+     * @param brand2 The brand of the medium containers
+     * @param brand3 The brand of the large containers
+     * @param quantity1 The minimum quantity of the small containers
+     * @param quantity2 The minimum quantity of the medium containers
+     * @param quantity3 The minimum quantity of the large containers
+     * @return List of SqlRow objects containing the discounted revenue
+     */
+    public List<SqlRow> q19(String brand1, String brand2, String brand3, int quantity1, int quantity2, int quantity3) {
+        int maxQuantity1 = quantity1 + 10;
+        int maxQuantity2 = quantity2 + 10;
+        int maxQuantity3 = quantity3 + 10;
+
+        String sql = "SELECT " +
+                "SUM(l.l_extendedprice * (1 - l.l_discount)) AS revenue " +
+                "FROM " +
+                "lineitem l, " +
+                "part p " +
+                "WHERE " +
+                "( " +
+                "    p.p_partkey = l.l_partkey " +
+                "    AND p.p_brand = :brand1 " +
+                "    AND p.p_container IN ('SM CASE', 'SM BOX', 'SM PACK', 'SM PKG') " +
+                "    AND l.l_quantity >= :quantity1 " +
+                "    AND l.l_quantity <= :maxQuantity1 " +
+                "    AND p.p_size BETWEEN 1 AND 5 " +
+                "    AND l.l_shipmode IN ('AIR', 'AIR REG') " +
+                "    AND l.l_shipinstruct = 'DELIVER IN PERSON' " +
+                ") " +
+                "OR ( " +
+                "    p.p_partkey = l.l_partkey " +
+                "    AND p.p_brand = :brand2 " +
+                "    AND p.p_container IN ('MED BAG', 'MED BOX', 'MED PKG', 'MED PACK') " +
+                "    AND l.l_quantity >= :quantity2 " +
+                "    AND l.l_quantity <= :maxQuantity2 " +
+                "    AND p.p_size BETWEEN 1 AND 10 " +
+                "    AND l.l_shipmode IN ('AIR', 'AIR REG') " +
+                "    AND l.l_shipinstruct = 'DELIVER IN PERSON' " +
+                ") " +
+                "OR ( " +
+                "    p.p_partkey = l.l_partkey " +
+                "    AND p.p_brand = :brand3 " +
+                "    AND p.p_container IN ('LG CASE', 'LG BOX', 'LG PACK', 'LG PKG') " +
+                "    AND l.l_quantity >= :quantity3 " +
+                "    AND l.l_quantity <= :maxQuantity3 " +
+                "    AND p.p_size BETWEEN 1 AND 15 " +
+                "    AND l.l_shipmode IN ('AIR', 'AIR REG') " +
+                "    AND l.l_shipinstruct = 'DELIVER IN PERSON' " +
+                ")";
+
+        return database.sqlQuery(sql)
+                .setParameter("brand1", brand1)
+                .setParameter("quantity1", quantity1)
+                .setParameter("maxQuantity1", maxQuantity1)
+                .setParameter("brand2", brand2)
+                .setParameter("quantity2", quantity2)
+                .setParameter("maxQuantity2", maxQuantity2)
+                .setParameter("brand3", brand3)
+                .setParameter("quantity3", quantity3)
+                .setParameter("maxQuantity3", maxQuantity3)
+                .findList();
+    }
+
+    /**
+     * Executes TPC-H Query 20: Potential Part Promotion.
+     * This query identifies suppliers in a nation who have an excess of a given part available.
+     *
+     * @param color The color the part name starts with
+     * @param shipDate The start date for the one-year period
+     * @param nation The name of the nation of the suppliers
+     * @return List of SqlRow objects containing the names and addresses of the suppliers
+     */
+    public List<SqlRow> q20(String color, LocalDate shipDate, String nation) {
+        String colorPattern = color + "%";
+        LocalDate endDate = shipDate.plusYears(1);
+
+        String sql = "SELECT " +
+                "s.s_name, " +
+                "s.s_address " +
+                "FROM " +
+                "supplier s, " +
+                "nation n " +
+                "WHERE " +
+                "s.s_suppkey IN ( " +
+                "    SELECT " +
+                "        ps.ps_suppkey " +
+                "    FROM " +
+                "        partsupp ps " +
+                "    WHERE " +
+                "        ps.ps_partkey IN ( " +
+                "            SELECT " +
+                "                p.p_partkey " +
+                "            FROM " +
+                "                part p " +
+                "            WHERE " +
+                "                p.p_name LIKE :colorPattern " +
+                "        ) " +
+                "        AND ps.ps_availqty > ( " +
+                "            SELECT " +
+                "                0.5 * SUM(l.l_quantity) " +
+                "            FROM " +
+                "                lineitem l " +
+                "            WHERE " +
+                "                l.l_partkey = ps.ps_partkey " +
+                "                AND l.l_suppkey = ps.ps_suppkey " +
+                "                AND l.l_shipdate >= :shipDate " +
+                "                AND l.l_shipdate < :endDate " +
+                "        ) " +
+                ") " +
+                "AND s.s_nationkey = n.n_nationkey " +
+                "AND n.n_name = :nation " +
+                "ORDER BY " +
+                "s.s_name";
+
+        return database.sqlQuery(sql)
+                .setParameter("colorPattern", colorPattern)
+                .setParameter("shipDate", shipDate)
+                .setParameter("endDate", endDate)
+                .setParameter("nation", nation)
+                .findList();
+    }
+
+    /**
+     * Executes TPC-H Query 21: Suppliers Who Kept Orders Waiting.
+     * This query identifies suppliers who were not able to ship required parts in a timely manner.
+     *
+     * @param nation The name of the nation of the suppliers
+     * @return List of SqlRow objects containing the number of waiting orders by supplier
+     */
+    public List<SqlRow> q21(String nation) {
+        String sql = "SELECT " +
+                "s.s_name, " +
+                "COUNT(*) AS numwait " +
+                "FROM " +
+                "supplier s, " +
+                "lineitem l1, " +
+                "orders o, " +
+                "nation n " +
+                "WHERE " +
+                "s.s_suppkey = l1.l_suppkey " +
+                "AND o.o_orderkey = l1.l_orderkey " +
+                "AND o.o_orderstatus = 'F' " +
+                "AND l1.l_receiptdate > l1.l_commitdate " +
+                "AND EXISTS ( " +
+                "    SELECT * " +
+                "    FROM " +
+                "        lineitem l2 " +
+                "    WHERE " +
+                "        l2.l_orderkey = l1.l_orderkey " +
+                "        AND l2.l_suppkey <> l1.l_suppkey " +
+                ") " +
+                "AND NOT EXISTS ( " +
+                "    SELECT * " +
+                "    FROM " +
+                "        lineitem l3 " +
+                "    WHERE " +
+                "        l3.l_orderkey = l1.l_orderkey " +
+                "        AND l3.l_suppkey <> l1.l_suppkey " +
+                "        AND l3.l_receiptdate > l3.l_commitdate " +
+                ") " +
+                "AND s.s_nationkey = n.n_nationkey " +
+                "AND n.n_name = :nation " +
+                "GROUP BY " +
+                "s.s_name " +
+                "ORDER BY " +
+                "numwait DESC, " +
+                "s.s_name " +
+                "LIMIT 100";
+
+        return database.sqlQuery(sql)
+                .setParameter("nation", nation)
+                .findList();
+    }
+
+    /**
+     * Executes TPC-H Query 22: Global Sales Opportunity.
+     * This query identifies geographies where there are customers who may be likely to make a purchase.
+     *
+     * @param countryCodes The country codes, the first two digits of the phone numbers
+     * @return List of SqlRow objects containing the customer counts and balances by country code
+     */
+    public List<SqlRow> q22(List<String> countryCodes) {
+        String sql = "SELECT " +
+                "cntrycode, " +
+                "COUNT(*) AS numcust, " +
+                "SUM(c_acctbal) AS totacctbal " +
+                "FROM " +
+                "( " +
+                "    SELECT " +
+                "        SUBSTRING(c.c_phone, 1, 2) AS cntrycode, " +
+                "        c.c_acctbal " +
+                "    FROM " +
+                "        customer c " +
+                "    WHERE " +
+                "        SUBSTRING(c.c_phone, 1, 2) IN (:countryCodes) " +
+                "        AND c.c_acctbal > ( " +
+                "            SELECT " +
+                "                AVG(c2.c_acctbal) " +
+                "            FROM " +
+                "                customer c2 " +
+                "            WHERE " +
+                "                c2.c_acctbal > 0.00 " +
+                "                AND SUBSTRING(c2.c_phone, 1, 2) IN (:countryCodes) " +
+                "        ) " +
+                "        AND NOT EXISTS ( " +
+                "            SELECT * " +
+                "            FROM " +
+                "                orders o " +
+                "            WHERE " +
+                "                o.o_custkey = c.c_custkey " +
+                "        ) " +
+                ") AS custsale " +
+                "GROUP BY " +
+                "cntrycode " +
+                "ORDER BY " +
+                "cntrycode";
+
+        return database.sqlQuery(sql)
+                .setParameter("countryCodes", countryCodes)
+                .findList();
+    }
 }
@@ -0,0 +1,140 @@
+package cz.cuni.mff.java.kurinna.microservice.service;
+
+import cz.cuni.mff.java.kurinna.microservice.dto.CustomerNationOrder;
+import cz.cuni.mff.java.kurinna.microservice.dto.CustomerOrder;
+import cz.cuni.mff.java.kurinna.microservice.dto.CustomerOrderKey;
+import cz.cuni.mff.java.kurinna.microservice.dto.CustomerRegionOrder;
+import cz.cuni.mff.java.kurinna.microservice.model.Customer;
+import cz.cuni.mff.java.kurinna.microservice.model.LineItem;
+import cz.cuni.mff.java.kurinna.microservice.model.Orders;
+import cz.cuni.mff.java.kurinna.microservice.model.PartSupp;
+import cz.cuni.mff.java.kurinna.microservice.repository.EntityRepository;
+import cz.cuni.mff.java.kurinna.microservice.repository.EntityRepository.Scan;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Service
+public class EntityQueryService {
+    private final EntityRepository entityRepository;
+
+    public EntityQueryService(EntityRepository entityRepository) {
+        this.entityRepository = entityRepository;
+    }
+
+    // A1) Non-Indexed Columns
+    public Scan<LineItem> a1() {
+        return entityRepository.a1();
+    }
+
+    // A2) Non-Indexed Columns — Range Query
+    public Scan<Orders> a2(LocalDate startDate, LocalDate endDate) {
+        return entityRepository.a2(startDate, endDate);
+    }
+
+    // A3) Indexed Columns
+    public Scan<Customer> a3() {
+        return entityRepository.a3();
+    }
+
+    // A4) Indexed Columns — Range Query
+    public Scan<Orders> a4(int minOrderKey, int maxOrderKey) {
+        return entityRepository.a4(minOrderKey, maxOrderKey);
+    }
+
+    // C1) Non-Indexed Columns
+    public Scan<CustomerOrder> c1() {
+        return entityRepository.c1();
+    }
+
+    // C2) Indexed Columns
+    public Scan<CustomerOrder> c2() {
+        return entityRepository.c2();
+    }
+
+    // C3) Complex Join 1
+    public Scan<CustomerNationOrder> c3() {
+        return entityRepository.c3();
+    }
+
+    // C4) Complex Join 2
+    public Scan<CustomerRegionOrder> c4() {
+        return entityRepository.c4();
+    }
+
+    // C5) Left Outer Join
+    public Scan<CustomerOrderKey> c5() {
+        return entityRepository.c5();
+    }
+
+    // E1) Non-Indexed Columns Sorting
+    public Scan<Customer> e1() {
+        return entityRepository.e1();
+    }
+
+    // E2) Indexed Columns Sorting
+    public Scan<Orders> e2() {
+        return entityRepository.e2();
+    }
+
+    // E3) Distinct
+    public Scan<Customer> e3() {
+        return entityRepository.e3();
+    }
+
+    // F1) Orders by Primary Key
+    public Orders f1(long orderKey) {
+        return entityRepository.f1(orderKey);
+    }
+
+    // F2) Customer by Primary Key
+    public Customer f2(long customerKey) {
+        return entityRepository.f2(customerKey);
+    }
+
+    // F3) Line Item by Composite Key
+    public LineItem f3(long orderKey, int lineNumber) {
+        return entityRepository.f3(orderKey, lineNumber);
+    }
+
+    // F4) Part Supplier by Composite Key
+    public PartSupp f4(long partKey, long supplierKey) {
+        return entityRepository.f4(partKey, supplierKey);
+    }
+
+    // G1) Orders by Offset
+    public List<Orders> g1(int offset, int limit) {
+        return entityRepository.g1(offset, limit);
+    }
+
+    // G2) Orders by Keyset
+    public List<Orders> g2(long orderKey, int limit) {
+        return entityRepository.g2(orderKey, limit);
+    }
+
+    // G3) Line Items by Offset
+    public List<LineItem> g3(int offset, int limit) {
+        return entityRepository.g3(offset, limit);
+    }
+
+    // G4) Line Items by Keyset
+    public List<LineItem> g4(long orderKey, int lineNumber, int limit) {
+        return entityRepository.g4(orderKey, lineNumber, limit);
+    }
+
+    // H1) Orders with Customer and Line Items — Lazy N+1
+    public List<Orders> h1(LocalDate startDate, LocalDate endDate) {
+        return entityRepository.h1(startDate, endDate);
+    }
+
+    // H2) Orders with Customer and Line Items — Join Fetch
+    public List<Orders> h2(LocalDate startDate, LocalDate endDate) {
+        return entityRepository.h2(startDate, endDate);
+    }
+
+    // H3) Orders with Customer and Line Items — Batch Fetch
+    public List<Orders> h3(LocalDate startDate, LocalDate endDate, int batchSize) {
+        return entityRepository.h3(startDate, endDate, batchSize);
+    }
+}
@@ -5,6 +5,7 @@ import cz.cuni.mff.java.kurinna.microservice.repository.UniversalRepository;
 import io.ebean.SqlRow;
 import org.springframework.stereotype.Service;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
@@ -106,4 +107,72 @@ public class QueryService implements IQueryService<SqlRow> {
     public List<SqlRow> q5(String region, LocalDate orderDate) {
         return universalRepository.q5(region, orderDate);
     }
+
+    public List<SqlRow> q6(LocalDate shipDate, BigDecimal discount, int quantity) {
+        return universalRepository.q6(shipDate, discount, quantity);
+    }
+
+    public List<SqlRow> q7(String nation1, String nation2) {
+        return universalRepository.q7(nation1, nation2);
+    }
+
+    public List<SqlRow> q8(String nation, String region, String type) {
+        return universalRepository.q8(nation, region, type);
+    }
+
+    public List<SqlRow> q9(String color) {
+        return universalRepository.q9(color);
+    }
+
+    public List<SqlRow> q10(LocalDate orderDate) {
+        return universalRepository.q10(orderDate);
+    }
+
+    public List<SqlRow> q11(String nation, BigDecimal fraction) {
+        return universalRepository.q11(nation, fraction);
+    }
+
+    public List<SqlRow> q12(String shipMode1, String shipMode2, LocalDate receiptDate) {
+        return universalRepository.q12(shipMode1, shipMode2, receiptDate);
+    }
+
+    public List<SqlRow> q13(String word1, String word2) {
+        return universalRepository.q13(word1, word2);
+    }
+
+    public List<SqlRow> q14(LocalDate shipDate) {
+        return universalRepository.q14(shipDate);
+    }
+
+    public List<SqlRow> q15(LocalDate shipDate) {
+        return universalRepository.q15(shipDate);
+    }
+
+    public List<SqlRow> q16(String brand, String type, List<Integer> sizes) {
+        return universalRepository.q16(brand, type, sizes);
+    }
+
+    public List<SqlRow> q17(String brand, String container) {
+        return universalRepository.q17(brand, container);
+    }
+
+    public List<SqlRow> q18(int quantity) {
+        return universalRepository.q18(quantity);
+    }
+
+    public List<SqlRow> q19(String brand1, String brand2, String brand3, int quantity1, int quantity2, int quantity3) {
+        return universalRepository.q19(brand1, brand2, brand3, quantity1, quantity2, quantity3);
+    }
+
+    public List<SqlRow> q20(String color, LocalDate shipDate, String nation) {
+        return universalRepository.q20(color, shipDate, nation);
+    }
+
+    public List<SqlRow> q21(String nation) {
+        return universalRepository.q21(nation);
+    }
+
+    public List<SqlRow> q22(List<String> countryCodes) {
+        return universalRepository.q22(countryCodes);
+    }
 }
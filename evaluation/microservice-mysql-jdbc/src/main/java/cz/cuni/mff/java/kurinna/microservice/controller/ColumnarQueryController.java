@@ -0,0 +1,264 @@
+package cz.cuni.mff.java.kurinna.microservice.controller;
+
+import cz.cuni.mff.java.kurinna.common.dto.Measurement;
+import cz.cuni.mff.java.kurinna.microservice.repository.ColumnarResult;
+import cz.cuni.mff.java.kurinna.microservice.service.QueryService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+
+import static cz.cuni.mff.java.kurinna.common.utils.QueryExecutor.executeWithMeasurement;
+
+/**
+ * Columnar variants of the query endpoints. The rows are decoded into primitive column arrays
+ * instead of a map per row, so the difference to the plain endpoints shows the cost of the
+ * map representation.
+ */
+@RestController
+@RequestMapping("/columnar")
+public class ColumnarQueryController {
+    private final QueryService queryService;
+
+    public ColumnarQueryController(QueryService queryService) {
+        this.queryService = queryService;
+    }
+
+    // A1) Non-Indexed Columns
+    @GetMapping("/a1")
+    public ResponseEntity<Measurement> a1(
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        Measurement response = executeWithMeasurement(queryService::a1Columnar, ColumnarResult::size, warmup, iterations, jfr);
+        return ResponseEntity.ok(response);
+    }
+
+    // A2) Non-Indexed Columns — Range Query
+    @GetMapping("/a2")
+    public ResponseEntity<Measurement> a2(
+            @RequestParam(defaultValue = "1996-01-01") String startDate,
+            @RequestParam(defaultValue = "1996-12-31") String endDate,
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        LocalDate start = LocalDate.parse(startDate);
+        LocalDate end = LocalDate.parse(endDate);
+        Measurement response = executeWithMeasurement(() -> queryService.a2Columnar(start, end), ColumnarResult::size, warmup, iterations, jfr);
+        return ResponseEntity.ok(response);
+    }
+
+    // A3) Indexed Columns
+    @GetMapping("/a3")
+    public ResponseEntity<Measurement> a3(
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        Measurement response = executeWithMeasurement(queryService::a3Columnar, ColumnarResult::size, warmup, iterations, jfr);
+        return ResponseEntity.ok(response);
+    }
+
+    // A4) Indexed Columns — Range Query
+    @GetMapping("/a4")
+    public ResponseEntity<Measurement> a4(
+            @RequestParam(defaultValue = "1000") int minOrderKey,
+            @RequestParam(defaultValue = "50000") int maxOrderKey,
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        Measurement response = executeWithMeasurement(() -> queryService.a4Columnar(minOrderKey, maxOrderKey), ColumnarResult::size, warmup, iterations, jfr);
+        return ResponseEntity.ok(response);
+    }
+
+    // B1) COUNT
+    @GetMapping("/b1")
+    public ResponseEntity<Measurement> b1(
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        Measurement response = executeWithMeasurement(queryService::b1Columnar, ColumnarResult::size, warmup, iterations, jfr);
+        return ResponseEntity.ok(response);
+    }
+
+    // B2) MAX
+    @GetMapping("/b2")
+    public ResponseEntity<Measurement> b2(
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        Measurement response = executeWithMeasurement(queryService::b2Columnar, ColumnarResult::size, warmup, iterations, jfr);
+        return ResponseEntity.ok(response);
+    }
+
+    // C1) Non-Indexed Columns
+    @GetMapping("/c1")
+    public ResponseEntity<Measurement> c1(
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        Measurement response = executeWithMeasurement(queryService::c1Columnar, ColumnarResult::size, warmup, iterations, jfr);
+        return ResponseEntity.ok(response);
+    }
+
+    // C2) Indexed Columns
+    @GetMapping("/c2")
+    public ResponseEntity<Measurement> c2(
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        Measurement response = executeWithMeasurement(queryService::c2Columnar, ColumnarResult::size, warmup, iterations, jfr);
+        return ResponseEntity.ok(response);
+    }
+
+    // C3) Complex Join 1
+    @GetMapping("/c3")
+    public ResponseEntity<Measurement> c3(
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        Measurement response = executeWithMeasurement(queryService::c3Columnar, ColumnarResult::size, warmup, iterations, jfr);
+        return ResponseEntity.ok(response);
+    }
+
+    // C4) Complex Join 2
+    @GetMapping("/c4")
+    public ResponseEntity<Measurement> c4(
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        Measurement response = executeWithMeasurement(queryService::c4Columnar, ColumnarResult::size, warmup, iterations, jfr);
+        return ResponseEntity.ok(response);
+    }
+
+    // C5) Left Outer Join
+    @GetMapping("/c5")
+    public ResponseEntity<Measurement> c5(
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        Measurement response = executeWithMeasurement(queryService::c5Columnar, ColumnarResult::size, warmup, iterations, jfr);
+        return ResponseEntity.ok(response);
+    }
+
+    // D1) UNION
+    @GetMapping("/d1")
+    public ResponseEntity<Measurement> d1(
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        Measurement response = executeWithMeasurement(queryService::d1Columnar, ColumnarResult::size, warmup, iterations, jfr);
+        return ResponseEntity.ok(response);
+    }
+
+    // D2) INTERSECT
+    @GetMapping("/d2")
+    public ResponseEntity<Measurement> d2(
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        Measurement response = executeWithMeasurement(queryService::d2Columnar, ColumnarResult::size, warmup, iterations, jfr);
+        return ResponseEntity.ok(response);
+    }
+
+    // D3) DIFFERENCE
+    @GetMapping("/d3")
+    public ResponseEntity<Measurement> d3(
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        Measurement response = executeWithMeasurement(queryService::d3Columnar, ColumnarResult::size, warmup, iterations, jfr);
+        return ResponseEntity.ok(response);
+    }
+
+    // E1) Non-Indexed Columns Sorting
+    @GetMapping("/e1")
+    public ResponseEntity<Measurement> e1(
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        Measurement response = executeWithMeasurement(queryService::e1Columnar, ColumnarResult::size, warmup, iterations, jfr);
+        return ResponseEntity.ok(response);
+    }
+
+    // E2) Indexed Columns Sorting
+    @GetMapping("/e2")
+    public ResponseEntity<Measurement> e2(
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        Measurement response = executeWithMeasurement(queryService::e2Columnar, ColumnarResult::size, warmup, iterations, jfr);
+        return ResponseEntity.ok(response);
+    }
+
+    // E3) Distinct
+    @GetMapping("/e3")
+    public ResponseEntity<Measurement> e3(
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        Measurement response = executeWithMeasurement(queryService::e3Columnar, ColumnarResult::size, warmup, iterations, jfr);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/q1")
+    public ResponseEntity<Measurement> q1(
+            @RequestParam(defaultValue = "90") int delta,
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        Measurement response = executeWithMeasurement(() -> queryService.q1Columnar(delta), ColumnarResult::size, warmup, iterations, jfr);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/q2")
+    public ResponseEntity<Measurement> q2(
+            @RequestParam(defaultValue = "15") int size,
+            @RequestParam(defaultValue = "BRASS") String type,
+            @RequestParam(defaultValue = "EUROPE") String region,
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        String typePattern = "%" + type;
+        Measurement response = executeWithMeasurement(() -> queryService.q2Columnar(size, typePattern, region), ColumnarResult::size, warmup, iterations, jfr);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/q3")
+    public ResponseEntity<Measurement> q3(
+            @RequestParam(defaultValue = "BUILDING") String segment,
+            @RequestParam(defaultValue = "1995-03-15") String date,
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        LocalDate orderDate = LocalDate.parse(date);
+        LocalDate shipDate = orderDate;
+        Measurement response = executeWithMeasurement(() -> queryService.q3Columnar(segment, orderDate, shipDate), ColumnarResult::size, warmup, iterations, jfr);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/q4")
+    public ResponseEntity<Measurement> q4(
+            @RequestParam(defaultValue = "1993-07-01") String orderDate,
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        LocalDate date = LocalDate.parse(orderDate);
+        Measurement response = executeWithMeasurement(() -> queryService.q4Columnar(date), ColumnarResult::size, warmup, iterations, jfr);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/q5")
+    public ResponseEntity<Measurement> q5(
+            @RequestParam(defaultValue = "ASIA") String region,
+            @RequestParam(defaultValue = "1994-01-01") String orderDate,
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        LocalDate date = LocalDate.parse(orderDate);
+        Measurement response = executeWithMeasurement(() -> queryService.q5Columnar(region, date), ColumnarResult::size, warmup, iterations, jfr);
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,263 @@
+package cz.cuni.mff.java.kurinna.microservice.controller;
+
+import cz.cuni.mff.java.kurinna.common.dto.Measurement;
+import cz.cuni.mff.java.kurinna.microservice.service.QueryService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+
+import static cz.cuni.mff.java.kurinna.common.utils.QueryExecutor.executeStreamingWithMeasurement;
+
+/**
+ * Streaming variants of the query endpoints. The rows are consumed one by one as they are read
+ * from the result set, so the response also reports the characters read and the heap usage does not
+ * grow with the size of the result.
+ */
+@RestController
+@RequestMapping("/stream")
+public class StreamingQueryController {
+    private final QueryService queryService;
+
+    public StreamingQueryController(QueryService queryService) {
+        this.queryService = queryService;
+    }
+
+    // A1) Non-Indexed Columns
+    @GetMapping("/a1")
+    public ResponseEntity<Measurement> a1(
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        Measurement response = executeStreamingWithMeasurement(queryService::a1Streaming, warmup, iterations, jfr);
+        return ResponseEntity.ok(response);
+    }
+
+    // A2) Non-Indexed Columns — Range Query
+    @GetMapping("/a2")
+    public ResponseEntity<Measurement> a2(
+            @RequestParam(defaultValue = "1996-01-01") String startDate,
+            @RequestParam(defaultValue = "1996-12-31") String endDate,
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        LocalDate start = LocalDate.parse(startDate);
+        LocalDate end = LocalDate.parse(endDate);
+        Measurement response = executeStreamingWithMeasurement(() -> queryService.a2Streaming(start, end), warmup, iterations, jfr);
+        return ResponseEntity.ok(response);
+    }
+
+    // A3) Indexed Columns
+    @GetMapping("/a3")
+    public ResponseEntity<Measurement> a3(
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        Measurement response = executeStreamingWithMeasurement(queryService::a3Streaming, warmup, iterations, jfr);
+        return ResponseEntity.ok(response);
+    }
+
+    // A4) Indexed Columns — Range Query
+    @GetMapping("/a4")
+    public ResponseEntity<Measurement> a4(
+            @RequestParam(defaultValue = "1000") int minOrderKey,
+            @RequestParam(defaultValue = "50000") int maxOrderKey,
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        Measurement response = executeStreamingWithMeasurement(() -> queryService.a4Streaming(minOrderKey, maxOrderKey), warmup, iterations, jfr);
+        return ResponseEntity.ok(response);
+    }
+
+    // B1) COUNT
+    @GetMapping("/b1")
+    public ResponseEntity<Measurement> b1(
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        Measurement response = executeStreamingWithMeasurement(queryService::b1Streaming, warmup, iterations, jfr);
+        return ResponseEntity.ok(response);
+    }
+
+    // B2) MAX
+    @GetMapping("/b2")
+    public ResponseEntity<Measurement> b2(
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        Measurement response = executeStreamingWithMeasurement(queryService::b2Streaming, warmup, iterations, jfr);
+        return ResponseEntity.ok(response);
+    }
+
+    // C1) Non-Indexed Columns
+    @GetMapping("/c1")
+    public ResponseEntity<Measurement> c1(
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        Measurement response = executeStreamingWithMeasurement(queryService::c1Streaming, warmup, iterations, jfr);
+        return ResponseEntity.ok(response);
+    }
+
+    // C2) Indexed Columns
+    @GetMapping("/c2")
+    public ResponseEntity<Measurement> c2(
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        Measurement response = executeStreamingWithMeasurement(queryService::c2Streaming, warmup, iterations, jfr);
+        return ResponseEntity.ok(response);
+    }
+
+    // C3) Complex Join 1
+    @GetMapping("/c3")
+    public ResponseEntity<Measurement> c3(
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        Measurement response = executeStreamingWithMeasurement(queryService::c3Streaming, warmup, iterations, jfr);
+        return ResponseEntity.ok(response);
+    }
+
+    // C4) Complex Join 2
+    @GetMapping("/c4")
+    public ResponseEntity<Measurement> c4(
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        Measurement response = executeStreamingWithMeasurement(queryService::c4Streaming, warmup, iterations, jfr);
+        return ResponseEntity.ok(response);
+    }
+
+    // C5) Left Outer Join
+    @GetMapping("/c5")
+    public ResponseEntity<Measurement> c5(
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        Measurement response = executeStreamingWithMeasurement(queryService::c5Streaming, warmup, iterations, jfr);
+        return ResponseEntity.ok(response);
+    }
+
+    // D1) UNION
+    @GetMapping("/d1")
+    public ResponseEntity<Measurement> d1(
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        Measurement response = executeStreamingWithMeasurement(queryService::d1Streaming, warmup, iterations, jfr);
+        return ResponseEntity.ok(response);
+    }
+
+    // D2) INTERSECT
+    @GetMapping("/d2")
+    public ResponseEntity<Measurement> d2(
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        Measurement response = executeStreamingWithMeasurement(queryService::d2Streaming, warmup, iterations, jfr);
+        return ResponseEntity.ok(response);
+    }
+
+    // D3) DIFFERENCE
+    @GetMapping("/d3")
+    public ResponseEntity<Measurement> d3(
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        Measurement response = executeStreamingWithMeasurement(queryService::d3Streaming, warmup, iterations, jfr);
+        return ResponseEntity.ok(response);
+    }
+
+    // E1) Non-Indexed Columns Sorting
+    @GetMapping("/e1")
+    public ResponseEntity<Measurement> e1(
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        Measurement response = executeStreamingWithMeasurement(queryService::e1Streaming, warmup, iterations, jfr);
+        return ResponseEntity.ok(response);
+    }
+
+    // E2) Indexed Columns Sorting
+    @GetMapping("/e2")
+    public ResponseEntity<Measurement> e2(
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        Measurement response = executeStreamingWithMeasurement(queryService::e2Streaming, warmup, iterations, jfr);
+        return ResponseEntity.ok(response);
+    }
+
+    // E3) Distinct
+    @GetMapping("/e3")
+    public ResponseEntity<Measurement> e3(
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        Measurement response = executeStreamingWithMeasurement(queryService::e3Streaming, warmup, iterations, jfr);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/q1")
+    public ResponseEntity<Measurement> q1(
+            @RequestParam(defaultValue = "90") int delta,
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        Measurement response = executeStreamingWithMeasurement(() -> queryService.q1Streaming(delta), warmup, iterations, jfr);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/q2")
+    public ResponseEntity<Measurement> q2(
+            @RequestParam(defaultValue = "15") int size,
+            @RequestParam(defaultValue = "BRASS") String type,
+            @RequestParam(defaultValue = "EUROPE") String region,
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        String typePattern = "%" + type;
+        Measurement response = executeStreamingWithMeasurement(() -> queryService.q2Streaming(size, typePattern, region), warmup, iterations, jfr);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/q3")
+    public ResponseEntity<Measurement> q3(
+            @RequestParam(defaultValue = "BUILDING") String segment,
+            @RequestParam(defaultValue = "1995-03-15") String date,
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        LocalDate orderDate = LocalDate.parse(date);
+        LocalDate shipDate = orderDate;
+        Measurement response = executeStreamingWithMeasurement(() -> queryService.q3Streaming(segment, orderDate, shipDate), warmup, iterations, jfr);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/q4")
+    public ResponseEntity<Measurement> q4(
+            @RequestParam(defaultValue = "1993-07-01") String orderDate,
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        LocalDate date = LocalDate.parse(orderDate);
+        Measurement response = executeStreamingWithMeasurement(() -> queryService.q4Streaming(date), warmup, iterations, jfr);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/q5")
+    public ResponseEntity<Measurement> q5(
+            @RequestParam(defaultValue = "ASIA") String region,
+            @RequestParam(defaultValue = "1994-01-01") String orderDate,
+            @RequestParam(defaultValue = "0") int warmup,
+            @RequestParam(defaultValue = "1") int iterations,
+            @RequestParam(defaultValue = "true") boolean jfr) {
+        LocalDate date = LocalDate.parse(orderDate);
+        Measurement response = executeStreamingWithMeasurement(() -> queryService.q5Streaming(region, date), warmup, iterations, jfr);
+        return ResponseEntity.ok(response);
+    }
+}
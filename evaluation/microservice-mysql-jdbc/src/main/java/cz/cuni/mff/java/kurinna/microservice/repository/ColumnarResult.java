@@ -0,0 +1,73 @@
+package cz.cuni.mff.java.kurinna.microservice.repository;
+
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Query result decoded column by column into primitive arrays instead of a map per row.
+ * The arrays of the columns may be longer than the result, only the first {@link #size()}
+ * entries are valid.
+ *
+ * @param size    Number of rows
+ * @param columns The columns in the order of the select list
+ */
+public record ColumnarResult(int size, List<Column> columns) {
+
+    /**
+     * A single column of the result.
+     */
+    public sealed interface Column permits LongColumn, DoubleColumn, DictionaryColumn, StringColumn {
+        /**
+         * @return The column label
+         */
+        String name();
+
+        /**
+         * @return The SQL type of the column from {@link java.sql.Types}
+         */
+        int sqlType();
+    }
+
+    /**
+     * Integer column, dates are stored as the number of days since the epoch.
+     *
+     * @param name    The column label
+     * @param sqlType The SQL type of the column
+     * @param values  The values of the rows
+     * @param nulls   The rows in which the column is null
+     */
+    public record LongColumn(String name, int sqlType, long[] values, BitSet nulls) implements Column {
+    }
+
+    /**
+     * Decimal or floating-point column.
+     *
+     * @param name    The column label
+     * @param sqlType The SQL type of the column
+     * @param values  The values of the rows
+     * @param nulls   The rows in which the column is null
+     */
+    public record DoubleColumn(String name, int sqlType, double[] values, BitSet nulls) implements Column {
+    }
+
+    /**
+     * Short fixed-length character column, every distinct value is stored once.
+     *
+     * @param name       The column label
+     * @param sqlType    The SQL type of the column
+     * @param codes      The index of the value of every row in the dictionary, -1 for null
+     * @param dictionary The distinct values
+     */
+    public record DictionaryColumn(String name, int sqlType, int[] codes, List<String> dictionary) implements Column {
+    }
+
+    /**
+     * Any other column, read as text.
+     *
+     * @param name    The column label
+     * @param sqlType The SQL type of the column
+     * @param values  The values of the rows, null for null
+     */
+    public record StringColumn(String name, int sqlType, String[] values) implements Column {
+    }
+}
@@ -0,0 +1,199 @@
+package cz.cuni.mff.java.kurinna.microservice.repository;
+
+import org.springframework.jdbc.core.ResultSetExtractor;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Decodes a result set into a {@link ColumnarResult}. The column representation is chosen
+ * from the result set metadata: integers and dates are read into {@code long[]}, decimals
+ * and floating-point numbers into {@code double[]}, {@code CHAR} columns of up to ten
+ * characters are dictionary-encoded and everything else is read as text. The arrays grow
+ * as rows are read, so no per-row objects are retained.
+ */
+public class ColumnarResultSetExtractor implements ResultSetExtractor<ColumnarResult> {
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int MAX_DICTIONARY_LENGTH = 10;
+
+    @Override
+    public ColumnarResult extractData(ResultSet rs) throws SQLException {
+        ResultSetMetaData metaData = rs.getMetaData();
+        ColumnBuilder[] builders = new ColumnBuilder[metaData.getColumnCount()];
+        for (int i = 0; i < builders.length; i++) {
+            builders[i] = createBuilder(metaData, i + 1);
+        }
+
+        int rows = 0;
+        while (rs.next()) {
+            for (int i = 0; i < builders.length; i++) {
+                builders[i].read(rs, i + 1, rows);
+            }
+            rows++;
+        }
+
+        List<ColumnarResult.Column> columns = new ArrayList<>(builders.length);
+        for (ColumnBuilder builder : builders) {
+            columns.add(builder.build());
+        }
+        return new ColumnarResult(rows, columns);
+    }
+
+    private static ColumnBuilder createBuilder(ResultSetMetaData metaData, int column) throws SQLException {
+        String name = metaData.getColumnLabel(column);
+        int sqlType = metaData.getColumnType(column);
+        return switch (sqlType) {
+            case Types.TINYINT, Types.SMALLINT, Types.INTEGER, Types.BIGINT -> new LongBuilder(name, sqlType, false);
+            case Types.DATE -> new LongBuilder(name, sqlType, true);
+            case Types.DECIMAL, Types.NUMERIC, Types.REAL, Types.FLOAT, Types.DOUBLE ->
+                    new DoubleBuilder(name, sqlType);
+            case Types.CHAR -> metaData.getPrecision(column) <= MAX_DICTIONARY_LENGTH
+                    ? new DictionaryBuilder(name, sqlType)
+                    : new TextBuilder(name, sqlType);
+            default -> new TextBuilder(name, sqlType);
+        };
+    }
+
+    private static int grow(int capacity) {
+        return capacity + (capacity >> 1);
+    }
+
+    private abstract static class ColumnBuilder {
+        protected final String name;
+        protected final int sqlType;
+
+        ColumnBuilder(String name, int sqlType) {
+            this.name = name;
+            this.sqlType = sqlType;
+        }
+
+        abstract void read(ResultSet rs, int column, int row) throws SQLException;
+
+        abstract ColumnarResult.Column build();
+    }
+
+    private static final class LongBuilder extends ColumnBuilder {
+        private final boolean date;
+        private final BitSet nulls = new BitSet();
+        private long[] values = new long[INITIAL_CAPACITY];
+
+        LongBuilder(String name, int sqlType, boolean date) {
+            super(name, sqlType);
+            this.date = date;
+        }
+
+        @Override
+        void read(ResultSet rs, int column, int row) throws SQLException {
+            if (row == values.length) {
+                values = Arrays.copyOf(values, grow(values.length));
+            }
+            if (date) {
+                LocalDate value = rs.getObject(column, LocalDate.class);
+                if (value == null) {
+                    nulls.set(row);
+                } else {
+                    values[row] = value.toEpochDay();
+                }
+            } else {
+                values[row] = rs.getLong(column);
+                if (rs.wasNull()) {
+                    nulls.set(row);
+                }
+            }
+        }
+
+        @Override
+        ColumnarResult.Column build() {
+            return new ColumnarResult.LongColumn(name, sqlType, values, nulls);
+        }
+    }
+
+    private static final class DoubleBuilder extends ColumnBuilder {
+        private final BitSet nulls = new BitSet();
+        private double[] values = new double[INITIAL_CAPACITY];
+
+        DoubleBuilder(String name, int sqlType) {
+            super(name, sqlType);
+        }
+
+        @Override
+        void read(ResultSet rs, int column, int row) throws SQLException {
+            if (row == values.length) {
+                values = Arrays.copyOf(values, grow(values.length));
+            }
+            values[row] = rs.getDouble(column);
+            if (rs.wasNull()) {
+                nulls.set(row);
+            }
+        }
+
+        @Override
+        ColumnarResult.Column build() {
+            return new ColumnarResult.DoubleColumn(name, sqlType, values, nulls);
+        }
+    }
+
+    private static final class DictionaryBuilder extends ColumnBuilder {
+        private final Map<String, Integer> index = new HashMap<>();
+        private final List<String> dictionary = new ArrayList<>();
+        private int[] codes = new int[INITIAL_CAPACITY];
+
+        DictionaryBuilder(String name, int sqlType) {
+            super(name, sqlType);
+        }
+
+        @Override
+        void read(ResultSet rs, int column, int row) throws SQLException {
+            if (row == codes.length) {
+                codes = Arrays.copyOf(codes, grow(codes.length));
+            }
+            String value = rs.getString(column);
+            if (value == null) {
+                codes[row] = -1;
+                return;
+            }
+            Integer code = index.get(value);
+            if (code == null) {
+                code = dictionary.size();
+                index.put(value, code);
+                dictionary.add(value);
+            }
+            codes[row] = code;
+        }
+
+        @Override
+        ColumnarResult.Column build() {
+            return new ColumnarResult.DictionaryColumn(name, sqlType, codes, dictionary);
+        }
+    }
+
+    private static final class TextBuilder extends ColumnBuilder {
+        private String[] values = new String[INITIAL_CAPACITY];
+
+        TextBuilder(String name, int sqlType) {
+            super(name, sqlType);
+        }
+
+        @Override
+        void read(ResultSet rs, int column, int row) throws SQLException {
+            if (row == values.length) {
+                values = Arrays.copyOf(values, grow(values.length));
+            }
+            values[row] = rs.getString(column);
+        }
+
+        @Override
+        ColumnarResult.Column build() {
+            return new ColumnarResult.StringColumn(name, sqlType, values);
+        }
+    }
+}
@@ -1,11 +1,22 @@
 package cz.cuni.mff.java.kurinna.microservice.repository;
 
+import cz.cuni.mff.java.kurinna.common.dto.StreamedResult;
+import cz.cuni.mff.java.kurinna.common.utils.StatementCounter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -14,21 +25,45 @@ import java.util.Map;
  * This class provides methods for various types of database operations and queries,
  * including simple selects, joins, aggregations, and TPC-H benchmark queries.
  * Uses both JdbcTemplate and NamedParameterJdbcTemplate for different query types.
+ * <p>
+ * Every query also has a streaming variant which reads the rows with a {@link RowCallbackHandler}
+ * instead of materializing them. With the default fetch size of {@link Integer#MIN_VALUE} the MySQL
+ * driver streams the result row by row, a positive fetch size together with {@code useCursorFetch=true}
+ * in the connection URL reads the result through a server-side cursor in batches of that size.
+ * The columnar variant decodes the rows into primitive column arrays, see {@link ColumnarResult}.
+ * <p>
+ * The object graph queries run on templates of their own over a {@link StatementCounter#counting counting}
+ * datasource, so their statements are counted without intercepting the statements of the other queries.
  */
 @Repository
 public class UniversalRepository {
+    private static final ColumnarResultSetExtractor COLUMNAR_EXTRACTOR = new ColumnarResultSetExtractor();
+
     private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
     private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate streamingNamedParameterJdbcTemplate;
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final NamedParameterJdbcTemplate graphNamedParameterJdbcTemplate;
+    private final JdbcTemplate graphJdbcTemplate;
 
     /**
      * Constructs a new UniversalRepository with the specified JDBC templates.
      *
      * @param namedParameterJdbcTemplate The NamedParameterJdbcTemplate for queries with named parameters
      * @param jdbcTemplate The JdbcTemplate for simple queries without parameters
+     * @param fetchSize The fetch size of the streaming queries
      */
-    public UniversalRepository(NamedParameterJdbcTemplate namedParameterJdbcTemplate, JdbcTemplate jdbcTemplate) {
+    public UniversalRepository(NamedParameterJdbcTemplate namedParameterJdbcTemplate, JdbcTemplate jdbcTemplate,
+            @Value("${jdbc.streaming.fetch-size:-2147483648}") int fetchSize) {
         this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
         this.jdbcTemplate = jdbcTemplate;
+
+        this.streamingJdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        this.streamingJdbcTemplate.setFetchSize(fetchSize);
+        this.streamingNamedParameterJdbcTemplate = new NamedParameterJdbcTemplate(streamingJdbcTemplate);
+
+        this.graphJdbcTemplate = new JdbcTemplate(StatementCounter.counting(jdbcTemplate.getDataSource()));
+        this.graphNamedParameterJdbcTemplate = new NamedParameterJdbcTemplate(graphJdbcTemplate);
     }
 
     /**
@@ -39,6 +74,24 @@ public class UniversalRepository {
      * @return List of maps containing pricing summary information
      */
     public List<Map<String, Object>> q1(int days) {
+        return queryForList(q1Statement(days));
+    }
+
+    /**
+     * Streaming variant of {@link #q1(int)}, the rows are consumed as they are read.
+     */
+    public StreamedResult q1Streaming(int days) {
+        return stream(q1Statement(days));
+    }
+
+    /**
+     * Columnar variant of {@link #q1(int)}, the rows are decoded into primitive column arrays.
+     */
+    public ColumnarResult q1Columnar(int days) {
+        return queryForColumns(q1Statement(days));
+    }
+
+    private Statement q1Statement(int days) {
         String sql = """
             SELECT
               l_returnflag,
@@ -61,7 +114,7 @@ public class UniversalRepository {
         MapSqlParameterSource params = new MapSqlParameterSource();
         params.addValue("days", days);
 
-        return namedParameterJdbcTemplate.queryForList(sql, params);
+        return new Statement(sql, params);
     }
 
     /**
@@ -74,6 +127,24 @@ public class UniversalRepository {
      * @return List of maps containing supplier information
      */
     public List<Map<String, Object>> q2(int size, String type, String region) {
+        return queryForList(q2Statement(size, type, region));
+    }
+
+    /**
+     * Streaming variant of {@link #q2(int,String,String)}, the rows are consumed as they are read.
+     */
+    public StreamedResult q2Streaming(int size, String type, String region) {
+        return stream(q2Statement(size, type, region));
+    }
+
+    /**
+     * Columnar variant of {@link #q2(int,String,String)}, the rows are decoded into primitive column arrays.
+     */
+    public ColumnarResult q2Columnar(int size, String type, String region) {
+        return queryForColumns(q2Statement(size, type, region));
+    }
+
+    private Statement q2Statement(int size, String type, String region) {
         String sql = """
             SELECT
               s.s_acctbal,
@@ -125,7 +196,7 @@ public class UniversalRepository {
         params.addValue("type", type);
         params.addValue("region", region);
 
-        return namedParameterJdbcTemplate.queryForList(sql, params);
+        return new Statement(sql, params);
     }
 
     /**
@@ -138,6 +209,24 @@ public class UniversalRepository {
      * @return List of maps containing order information sorted by revenue
      */
     public List<Map<String, Object>> q3(String segment, LocalDate orderDate, LocalDate shipDate) {
+        return queryForList(q3Statement(segment, orderDate, shipDate));
+    }
+
+    /**
+     * Streaming variant of {@link #q3(String,LocalDate,LocalDate)}, the rows are consumed as they are read.
+     */
+    public StreamedResult q3Streaming(String segment, LocalDate orderDate, LocalDate shipDate) {
+        return stream(q3Statement(segment, orderDate, shipDate));
+    }
+
+    /**
+     * Columnar variant of {@link #q3(String,LocalDate,LocalDate)}, the rows are decoded into primitive column arrays.
+     */
+    public ColumnarResult q3Columnar(String segment, LocalDate orderDate, LocalDate shipDate) {
+        return queryForColumns(q3Statement(segment, orderDate, shipDate));
+    }
+
+    private Statement q3Statement(String segment, LocalDate orderDate, LocalDate shipDate) {
         String sql = """
             SELECT
               l.l_orderkey,
@@ -169,7 +258,7 @@ public class UniversalRepository {
         params.addValue("orderDate", java.sql.Date.valueOf(orderDate));
         params.addValue("shipDate", java.sql.Date.valueOf(shipDate));
 
-        return namedParameterJdbcTemplate.queryForList(sql, params);
+        return new Statement(sql, params);
     }
 
     /**
@@ -180,6 +269,24 @@ public class UniversalRepository {
      * @return List of maps containing order counts by priority
      */
     public List<Map<String, Object>> q4(LocalDate orderDate) {
+        return queryForList(q4Statement(orderDate));
+    }
+
+    /**
+     * Streaming variant of {@link #q4(LocalDate)}, the rows are consumed as they are read.
+     */
+    public StreamedResult q4Streaming(LocalDate orderDate) {
+        return stream(q4Statement(orderDate));
+    }
+
+    /**
+     * Columnar variant of {@link #q4(LocalDate)}, the rows are decoded into primitive column arrays.
+     */
+    public ColumnarResult q4Columnar(LocalDate orderDate) {
+        return queryForColumns(q4Statement(orderDate));
+    }
+
+    private Statement q4Statement(LocalDate orderDate) {
         LocalDate endDate = orderDate.plusMonths(3);
 
         String sql = """
@@ -209,7 +316,7 @@ public class UniversalRepository {
         params.addValue("orderDate", java.sql.Date.valueOf(orderDate));
         params.addValue("endDate", java.sql.Date.valueOf(endDate));
 
-        return namedParameterJdbcTemplate.queryForList(sql, params);
+        return new Statement(sql, params);
     }
 
     /**
@@ -221,6 +328,24 @@ public class UniversalRepository {
      * @return List of maps containing revenue by nation
      */
     public List<Map<String, Object>> q5(String region, LocalDate orderDate) {
+        return queryForList(q5Statement(region, orderDate));
+    }
+
+    /**
+     * Streaming variant of {@link #q5(String,LocalDate)}, the rows are consumed as they are read.
+     */
+    public StreamedResult q5Streaming(String region, LocalDate orderDate) {
+        return stream(q5Statement(region, orderDate));
+    }
+
+    /**
+     * Columnar variant of {@link #q5(String,LocalDate)}, the rows are decoded into primitive column arrays.
+     */
+    public ColumnarResult q5Columnar(String region, LocalDate orderDate) {
+        return queryForColumns(q5Statement(region, orderDate));
+    }
+
+    private Statement q5Statement(String region, LocalDate orderDate) {
         LocalDate endDate = orderDate.plusYears(1);
 
         String sql = """
@@ -255,194 +380,1301 @@ public class UniversalRepository {
         params.addValue("orderDate", java.sql.Date.valueOf(orderDate));
         params.addValue("endDate", java.sql.Date.valueOf(endDate));
 
-        return namedParameterJdbcTemplate.queryForList(sql, params);
+        return new Statement(sql, params);
     }
 
     /**
-     * A1) Executes a query on non-indexed columns.
-     * Retrieves all records from the lineitem table.
+     * Executes TPC-H Query 6: Forecasting Revenue Change.
+     * This query quantifies the amount of revenue increase that would have resulted from eliminating discounts in a given range.
      *
-     * @return List of maps containing all lineitem records
+     * @param shipDate The start date for the one-year period
+     * @param discount The discount, line items within 0.01 of it are considered
+     * @param quantity The exclusive upper bound of the line item quantity
+     * @return List of maps containing the potential revenue increase
      */
-    public List<Map<String, Object>> a1() {
-        String sql = """
-            SELECT * FROM lineitem
-            """;
-
-        return jdbcTemplate.queryForList(sql);
+    public List<Map<String, Object>> q6(LocalDate shipDate, BigDecimal discount, int quantity) {
+        return queryForList(q6Statement(shipDate, discount, quantity));
     }
 
-    /**
-     * A2) Executes a range query on non-indexed columns.
-     * Retrieves orders within a specified date range.
-     *
-     * @param startDate The start date of the range (inclusive)
-     * @param endDate The end date of the range (inclusive)
-     * @return List of maps containing orders within the date range
-     */
-    public List<Map<String, Object>> a2(LocalDate startDate, LocalDate endDate) {
+    private Statement q6Statement(LocalDate shipDate, BigDecimal discount, int quantity) {
+        LocalDate endDate = shipDate.plusYears(1);
+        BigDecimal minDiscount = discount.subtract(new BigDecimal("0.01"));
+        BigDecimal maxDiscount = discount.add(new BigDecimal("0.01"));
+
         String sql = """
-            SELECT * FROM orders
-            WHERE o_orderdate
-                BETWEEN :startDate AND :endDate
+            SELECT
+              SUM(l_extendedprice * l_discount) AS revenue
+            FROM
+              lineitem
+            WHERE
+              l_shipdate >= :shipDate
+              AND l_shipdate < :endDate
+              AND l_discount BETWEEN :minDiscount AND :maxDiscount
+              AND l_quantity < :quantity
             """;
 
         MapSqlParameterSource params = new MapSqlParameterSource();
-        params.addValue("startDate", java.sql.Date.valueOf(startDate));
+        params.addValue("shipDate", java.sql.Date.valueOf(shipDate));
         params.addValue("endDate", java.sql.Date.valueOf(endDate));
+        params.addValue("minDiscount", minDiscount);
+        params.addValue("maxDiscount", maxDiscount);
+        params.addValue("quantity", quantity);
 
-        return namedParameterJdbcTemplate.queryForList(sql, params);
+        return new Statement(sql, params);
     }
 
     /**
-     * A3) Executes a query on indexed columns.
-     * Retrieves all records from the customer table.
+     * Executes TPC-H Query 7: Volume Shipping.
+     * This query determines the value of goods shipped between two nations in 1995 and 1996.
      *
-     * @return List of maps containing all customer records
+     * @param nation1 The name of the first nation
+     * @param nation2 The name of the second nation
+     * @return List of maps containing the shipped revenue by supplier nation, customer nation and year
      */
-    public List<Map<String, Object>> a3() {
+    public List<Map<String, Object>> q7(String nation1, String nation2) {
+        return queryForList(q7Statement(nation1, nation2));
+    }
+
+    private Statement q7Statement(String nation1, String nation2) {
         String sql = """
-            SELECT * FROM customer
+            SELECT
+              supp_nation,
+              cust_nation,
+              l_year,
+              SUM(volume) AS revenue
+            FROM
+              (
+                SELECT
+                  n1.n_name AS supp_nation,
+                  n2.n_name AS cust_nation,
+                  EXTRACT(YEAR FROM l.l_shipdate) AS l_year,
+                  l.l_extendedprice * (1 - l.l_discount) AS volume
+                FROM
+                  supplier s,
+                  lineitem l,
+                  orders o,
+                  customer c,
+                  nation n1,
+                  nation n2
+                WHERE
+                  s.s_suppkey = l.l_suppkey
+                  AND o.o_orderkey = l.l_orderkey
+                  AND c.c_custkey = o.o_custkey
+                  AND s.s_nationkey = n1.n_nationkey
+                  AND c.c_nationkey = n2.n_nationkey
+                  AND (
+                    (n1.n_name = :nation1 AND n2.n_name = :nation2)
+                    OR (n1.n_name = :nation2 AND n2.n_name = :nation1)
+                  )
+                  AND l.l_shipdate BETWEEN '1995-01-01' AND '1996-12-31'
+              ) AS shipping
+            GROUP BY
+              supp_nation,
+              cust_nation,
+              l_year
+            ORDER BY
+              supp_nation,
+              cust_nation,
+              l_year
             """;
 
-        return jdbcTemplate.queryForList(sql);
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        params.addValue("nation1", nation1);
+        params.addValue("nation2", nation2);
+
+        return new Statement(sql, params);
     }
 
     /**
-     * A4) Executes a range query on indexed columns.
-     * Retrieves orders within a specified order key range.
+     * Executes TPC-H Query 8: National Market Share.
+     * This query determines how the market share of a nation within a region has changed over two years for a given part type.
      *
-     * @param startKey The minimum order key (inclusive)
-     * @param endKey The maximum order key (inclusive)
-     * @return List of maps containing orders within the order key range
+     * @param nation The name of the nation whose market share is computed
+     * @param region The name of the region of the customers
+     * @param type The part type
+     * @return List of maps containing the market share by year
      */
-    public List<Map<String, Object>> a4(int startKey, int endKey) {
+    public List<Map<String, Object>> q8(String nation, String region, String type) {
+        return queryForList(q8Statement(nation, region, type));
+    }
+
+    private Statement q8Statement(String nation, String region, String type) {
         String sql = """
-            SELECT * FROM orders
-            WHERE o_orderkey BETWEEN :startKey AND :endKey
+            SELECT
+              o_year,
+              SUM(CASE WHEN nation = :nation THEN volume ELSE 0 END) / SUM(volume) AS mkt_share
+            FROM
+              (
+                SELECT
+                  EXTRACT(YEAR FROM o.o_orderdate) AS o_year,
+                  l.l_extendedprice * (1 - l.l_discount) AS volume,
+                  n2.n_name AS nation
+                FROM
+                  part p,
+                  supplier s,
+                  lineitem l,
+                  orders o,
+                  customer c,
+                  nation n1,
+                  nation n2,
+                  region r
+                WHERE
+                  p.p_partkey = l.l_partkey
+                  AND s.s_suppkey = l.l_suppkey
+                  AND l.l_orderkey = o.o_orderkey
+                  AND o.o_custkey = c.c_custkey
+                  AND c.c_nationkey = n1.n_nationkey
+                  AND n1.n_regionkey = r.r_regionkey
+                  AND r.r_name = :region
+                  AND s.s_nationkey = n2.n_nationkey
+                  AND o.o_orderdate BETWEEN '1995-01-01' AND '1996-12-31'
+                  AND p.p_type = :type
+              ) AS all_nations
+            GROUP BY
+              o_year
+            ORDER BY
+              o_year
             """;
 
         MapSqlParameterSource params = new MapSqlParameterSource();
-        params.addValue("startKey", startKey);
-        params.addValue("endKey", endKey);
+        params.addValue("nation", nation);
+        params.addValue("region", region);
+        params.addValue("type", type);
 
-        return namedParameterJdbcTemplate.queryForList(sql, params);
+        return new Statement(sql, params);
     }
 
     /**
-     * B1) Executes a COUNT aggregation query.
-     * Counts orders grouped by month and returns the count for each month.
+     * Executes TPC-H Query 9: Product Type Profit Measure.
+     * This query determines how much profit is made on a given line of parts, broken out by supplier nation and year.
      *
-     * @return List of maps containing order counts by month
+     * @param color The color contained in the part name
+     * @return List of maps containing the profit by nation and year
      */
-    public List<Map<String, Object>> b1() {
+    public List<Map<String, Object>> q9(String color) {
+        return queryForList(q9Statement(color));
+    }
+
+    private Statement q9Statement(String color) {
+        String colorPattern = "%" + color + "%";
+
         String sql = """
-            SELECT COUNT(o.o_orderkey) AS order_count,
-                   DATE_FORMAT(o.o_orderdate, '%Y-%m') AS order_month
-            FROM orders o
-            GROUP BY order_month
+            SELECT
+              nation,
+              o_year,
+              SUM(amount) AS sum_profit
+            FROM
+              (
+                SELECT
+                  n.n_name AS nation,
+                  EXTRACT(YEAR FROM o.o_orderdate) AS o_year,
+                  l.l_extendedprice * (1 - l.l_discount) - ps.ps_supplycost * l.l_quantity AS amount
+                FROM
+                  part p,
+                  supplier s,
+                  lineitem l,
+                  partsupp ps,
+                  orders o,
+                  nation n
+                WHERE
+                  s.s_suppkey = l.l_suppkey
+                  AND ps.ps_suppkey = l.l_suppkey
+                  AND ps.ps_partkey = l.l_partkey
+                  AND p.p_partkey = l.l_partkey
+                  AND o.o_orderkey = l.l_orderkey
+                  AND s.s_nationkey = n.n_nationkey
+                  AND p.p_name LIKE :colorPattern
+              ) AS profit
+            GROUP BY
+              nation,
+              o_year
+            ORDER BY
+              nation,
+              o_year DESC
             """;
 
-        return jdbcTemplate.queryForList(sql);
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        params.addValue("colorPattern", colorPattern);
+
+        return new Statement(sql, params);
     }
 
     /**
-     * B2) Executes a MAX aggregation query.
-     * Finds the maximum extended price for line items grouped by ship month.
+     * Executes TPC-H Query 10: Returned Item Reporting.
+     * This query identifies the customers who might be having problems with the parts that are shipped to them.
      *
-     * @return List of maps containing maximum prices by ship month
+     * @param orderDate The start date for the three-month period
+     * @return List of maps containing the lost revenue by customer
      */
-    public List<Map<String, Object>> b2() {
+    public List<Map<String, Object>> q10(LocalDate orderDate) {
+        return queryForList(q10Statement(orderDate));
+    }
+
+    private Statement q10Statement(LocalDate orderDate) {
+        LocalDate endDate = orderDate.plusMonths(3);
+
         String sql = """
-            SELECT DATE_FORMAT(l.l_shipdate, '%Y-%m') AS ship_month,
-                   MAX(l.l_extendedprice) AS max_price
-            FROM lineitem l
-            GROUP BY ship_month
+            SELECT
+              c.c_custkey,
+              c.c_name,
+              SUM(l.l_extendedprice * (1 - l.l_discount)) AS revenue,
+              c.c_acctbal,
+              n.n_name,
+              c.c_address,
+              c.c_phone,
+              c.c_comment
+            FROM
+              customer c,
+              orders o,
+              lineitem l,
+              nation n
+            WHERE
+              c.c_custkey = o.o_custkey
+              AND l.l_orderkey = o.o_orderkey
+              AND o.o_orderdate >= :orderDate
+              AND o.o_orderdate < :endDate
+              AND l.l_returnflag = 'R'
+              AND c.c_nationkey = n.n_nationkey
+            GROUP BY
+              c.c_custkey,
+              c.c_name,
+              c.c_acctbal,
+              c.c_phone,
+              n.n_name,
+              c.c_address,
+              c.c_comment
+            ORDER BY
+              revenue DESC
+            LIMIT 20
             """;
 
-        return jdbcTemplate.queryForList(sql);
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        params.addValue("orderDate", java.sql.Date.valueOf(orderDate));
+        params.addValue("endDate", java.sql.Date.valueOf(endDate));
+
+        return new Statement(sql, params);
     }
 
     /**
-     * C1) Executes a join query on non-indexed columns.
-     * Performs a Cartesian product between customer and orders tables.
+     * Executes TPC-H Query 11: Important Stock Identification.
+     * This query finds the most important subset of the suppliers' stock in a given nation.
      *
-     * @return List of maps containing customer names and order details
+     * @param nation The name of the nation of the suppliers
+     * @param fraction The fraction of the total stock value a part has to exceed
+     * @return List of maps containing the stock value by part
      */
-    public List<Map<String, Object>> c1() {
+    public List<Map<String, Object>> q11(String nation, BigDecimal fraction) {
+        return queryForList(q11Statement(nation, fraction));
+    }
+
+    private Statement q11Statement(String nation, BigDecimal fraction) {
         String sql = """
-            SELECT c.c_name, o.o_orderdate, o.o_totalprice
-            FROM customer c, orders o
+            SELECT
+              ps.ps_partkey,
+              SUM(ps.ps_supplycost * ps.ps_availqty) AS stock_value
+            FROM
+              partsupp ps,
+              supplier s,
+              nation n
+            WHERE
+              ps.ps_suppkey = s.s_suppkey
+              AND s.s_nationkey = n.n_nationkey
+              AND n.n_name = :nation
+            GROUP BY
+              ps.ps_partkey
+            HAVING
+              SUM(ps.ps_supplycost * ps.ps_availqty) > (
+                SELECT
+                  SUM(ps2.ps_supplycost * ps2.ps_availqty) * :fraction
+                FROM
+                  partsupp ps2,
+                  supplier s2,
+                  nation n2
+                WHERE
+                  ps2.ps_suppkey = s2.s_suppkey
+                  AND s2.s_nationkey = n2.n_nationkey
+                  AND n2.n_name = :nation
+              )
+            ORDER BY
+              stock_value DESC
             """;
 
-        return jdbcTemplate.queryForList(sql);
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        params.addValue("nation", nation);
+        params.addValue("fraction", fraction);
+
+        return new Statement(sql, params);
     }
 
     /**
-     * C2) Executes a join query on indexed columns.
-     * Joins customer and orders tables on customer key.
+     * Executes TPC-H Query 12: Shipping Modes and Order Priority.
+     * This query determines whether selecting less expensive modes of shipping is negatively affecting the critical-priority orders.
      *
-     * @return List of maps containing customer names and order details
+     * @param shipMode1 The first ship mode
+     * @param shipMode2 The second ship mode
+     * @param receiptDate The start date for the one-year period
+     * @return List of maps containing the late line item counts by ship mode
      */
-    public List<Map<String, Object>> c2() {
+    public List<Map<String, Object>> q12(String shipMode1, String shipMode2, LocalDate receiptDate) {
+        return queryForList(q12Statement(shipMode1, shipMode2, receiptDate));
+    }
+
+    private Statement q12Statement(String shipMode1, String shipMode2, LocalDate receiptDate) {
+        LocalDate endDate = receiptDate.plusYears(1);
+
         String sql = """
-            SELECT c.c_name, o.o_orderdate, o.o_totalprice
-            FROM customer c
-            JOIN orders o ON c.c_custkey = o.o_custkey
+            SELECT
+              l.l_shipmode,
+              SUM(CASE WHEN o.o_orderpriority = '1-URGENT' OR o.o_orderpriority = '2-HIGH' THEN 1 ELSE 0 END) AS high_line_count,
+              SUM(CASE WHEN o.o_orderpriority <> '1-URGENT' AND o.o_orderpriority <> '2-HIGH' THEN 1 ELSE 0 END) AS low_line_count
+            FROM
+              orders o,
+              lineitem l
+            WHERE
+              o.o_orderkey = l.l_orderkey
+              AND l.l_shipmode IN (:shipMode1, :shipMode2)
+              AND l.l_commitdate < l.l_receiptdate
+              AND l.l_shipdate < l.l_commitdate
+              AND l.l_receiptdate >= :receiptDate
+              AND l.l_receiptdate < :endDate
+            GROUP BY
+              l.l_shipmode
+            ORDER BY
+              l.l_shipmode
             """;
 
-        return jdbcTemplate.queryForList(sql);
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        params.addValue("shipMode1", shipMode1);
+        params.addValue("shipMode2", shipMode2);
+        params.addValue("receiptDate", java.sql.Date.valueOf(receiptDate));
+        params.addValue("endDate", java.sql.Date.valueOf(endDate));
+
+        return new Statement(sql, params);
     }
 
     /**
-     * C3) Executes a complex join query (first level).
-     * Joins customer, nation, and orders tables.
+     * Executes TPC-H Query 13: Customer Distribution.
+     * This query determines the distribution of customers by the number of orders they have made.
      *
-     * @return List of maps containing customer names, nation names, and order details
+     * @param word1 The first word of the excluded order comments
+     * @param word2 The second word of the excluded order comments
+     * @return List of maps containing the number of customers by order count
      */
-    public List<Map<String, Object>> c3() {
+    public List<Map<String, Object>> q13(String word1, String word2) {
+        return queryForList(q13Statement(word1, word2));
+    }
+
+    private Statement q13Statement(String word1, String word2) {
+        String commentPattern = "%" + word1 + "%" + word2 + "%";
+
         String sql = """
-            SELECT c.c_name, n.n_name, o.o_orderdate, o.o_totalprice
-            FROM customer c
-            JOIN nation n ON c.c_nationkey = n.n_nationkey
-            JOIN orders o ON c.c_custkey = o.o_custkey
+            SELECT
+              c_count,
+              COUNT(*) AS custdist
+            FROM
+              (
+                SELECT
+                  c.c_custkey,
+                  COUNT(o.o_orderkey) AS c_count
+                FROM
+                  customer c
+                  LEFT OUTER JOIN orders o ON c.c_custkey = o.o_custkey AND o.o_comment NOT LIKE :commentPattern
+                GROUP BY
+                  c.c_custkey
+              ) AS c_orders
+            GROUP BY
+              c_count
+            ORDER BY
+              custdist DESC,
+              c_count DESC
             """;
 
-        return jdbcTemplate.queryForList(sql);
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        params.addValue("commentPattern", commentPattern);
+
+        return new Statement(sql, params);
     }
 
     /**
-     * C4) Executes a complex join query (second level).
-     * Joins customer, nation, region, and orders tables.
+     * Executes TPC-H Query 14: Promotion Effect.
+     * This query monitors the market response to a promotion such as TV advertisements or a special campaign.
      *
-     * @return List of maps containing customer names, nation names, region names, and order details
+     * @param shipDate The start date for the one-month period
+     * @return List of maps containing the promotion revenue percentage
      */
-    public List<Map<String, Object>> c4() {
+    public List<Map<String, Object>> q14(LocalDate shipDate) {
+        return queryForList(q14Statement(shipDate));
+    }
+
+    private Statement q14Statement(LocalDate shipDate) {
+        LocalDate endDate = shipDate.plusMonths(1);
+
         String sql = """
-            SELECT c.c_name, n.n_name, r.r_name, o.o_orderdate, o.o_totalprice
-            FROM customer c
-            JOIN nation n ON c.c_nationkey = n.n_nationkey
-            JOIN region r ON n.n_regionkey = r.r_regionkey
-            JOIN orders o ON c.c_custkey = o.o_custkey
+            SELECT
+              100.00 * SUM(CASE WHEN p.p_type LIKE 'PROMO%' THEN l.l_extendedprice * (1 - l.l_discount) ELSE 0 END)
+                / SUM(l.l_extendedprice * (1 - l.l_discount)) AS promo_revenue
+            FROM
+              lineitem l,
+              part p
+            WHERE
+              l.l_partkey = p.p_partkey
+              AND l.l_shipdate >= :shipDate
+              AND l.l_shipdate < :endDate
             """;
 
-        return jdbcTemplate.queryForList(sql);
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        params.addValue("shipDate", java.sql.Date.valueOf(shipDate));
+        params.addValue("endDate", java.sql.Date.valueOf(endDate));
+
+        return new Statement(sql, params);
     }
 
     /**
-     * C5) Executes a left outer join query.
-     * Performs a left outer join between customer and orders tables.
+     * Executes TPC-H Query 15: Top Supplier.
+     * This query determines the top supplier so it can be rewarded, given more business, or identified for special recognition.
      *
-     * @return List of maps containing customer details and their orders (if any)
+     * @param shipDate The start date for the three-month period
+     * @return List of maps containing the suppliers with the maximum revenue
      */
-    public List<Map<String, Object>> c5() {
+    public List<Map<String, Object>> q15(LocalDate shipDate) {
+        return queryForList(q15Statement(shipDate));
+    }
+
+    private Statement q15Statement(LocalDate shipDate) {
+        LocalDate endDate = shipDate.plusMonths(3);
+
+        String sql = """
+            WITH revenue0 AS (
+              SELECT
+                l_suppkey AS supplier_no,
+                SUM(l_extendedprice * (1 - l_discount)) AS total_revenue
+              FROM
+                lineitem
+              WHERE
+                l_shipdate >= :shipDate
+                AND l_shipdate < :endDate
+              GROUP BY
+                l_suppkey
+            )
+            SELECT
+              s.s_suppkey,
+              s.s_name,
+              s.s_address,
+              s.s_phone,
+              r.total_revenue
+            FROM
+              supplier s,
+              revenue0 r
+            WHERE
+              s.s_suppkey = r.supplier_no
+              AND r.total_revenue = (
+                SELECT
+                  MAX(total_revenue)
+                FROM
+                  revenue0
+              )
+            ORDER BY
+              s.s_suppkey
+            """;
+
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        params.addValue("shipDate", java.sql.Date.valueOf(shipDate));
+        params.addValue("endDate", java.sql.Date.valueOf(endDate));
+
+        return new Statement(sql, params);
+    }
+
+    /**
+     * Executes TPC-H Query 16: Parts/Supplier Relationship.
+     * This query finds out how many suppliers can supply parts with given attributes.
+     *
+     * @param brand The excluded brand
+     * @param type The prefix of the excluded part types
+     * @param sizes The part sizes
+     * @return List of maps containing the supplier counts by brand, type and size
+     */
+    public List<Map<String, Object>> q16(String brand, String type, List<Integer> sizes) {
+        return queryForList(q16Statement(brand, type, sizes));
+    }
+
+    private Statement q16Statement(String brand, String type, List<Integer> sizes) {
+        String typePattern = type + "%";
+
+        String sql = """
+            SELECT
+              p.p_brand,
+              p.p_type,
+              p.p_size,
+              COUNT(DISTINCT ps.ps_suppkey) AS supplier_cnt
+            FROM
+              partsupp ps,
+              part p
+            WHERE
+              p.p_partkey = ps.ps_partkey
+              AND p.p_brand <> :brand
+              AND p.p_type NOT LIKE :typePattern
+              AND p.p_size IN (:sizes)
+              AND ps.ps_suppkey NOT IN (
+                SELECT
+                  s.s_suppkey
+                FROM
+                  supplier s
+                WHERE
+                  s.s_comment LIKE '%Customer%Complaints%'
+              )
+            GROUP BY
+              p.p_brand,
+              p.p_type,
+              p.p_size
+            ORDER BY
+              supplier_cnt DESC,
+              p.p_brand,
+              p.p_type,
+              p.p_size
+            """;
+
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        params.addValue("brand", brand);
+        params.addValue("typePattern", typePattern);
+        params.addValue("sizes", sizes);
+
+        return new Statement(sql, params);
+    }
+
+    /**
+     * Executes TPC-H Query 17: Small-Quantity-Order Revenue.
+     * This query determines how much average yearly revenue would be lost if orders were no longer filled for small quantities of certain parts.
+     *
+     * @param brand The brand of the parts
+     * @param container The container of the parts
+     * @return List of maps containing the average yearly revenue
+     */
+    public List<Map<String, Object>> q17(String brand, String container) {
+        return queryForList(q17Statement(brand, container));
+    }
+
+    private Statement q17Statement(String brand, String container) {
+        String sql = """
+            SELECT
+              SUM(l.l_extendedprice) / 7.0 AS avg_yearly
+            FROM
+              lineitem l,
+              part p
+            WHERE
+              p.p_partkey = l.l_partkey
+              AND p.p_brand = :brand
+              AND p.p_container = :container
+              AND l.l_quantity < (
+                SELECT
+                  0.2 * AVG(l2.l_quantity)
+                FROM
+                  lineitem l2
+                WHERE
+                  l2.l_partkey = p.p_partkey
+              )
+            """;
+
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        params.addValue("brand", brand);
+        params.addValue("container", container);
+
+        return new Statement(sql, params);
+    }
+
+    /**
+     * Executes TPC-H Query 18: Large Volume Customer.
+     * This query ranks customers based on their having placed a large quantity order.
+     *
+     * @param quantity The total quantity an order has to exceed
+     * @return List of maps containing the large orders with their customers
+     */
+    public List<Map<String, Object>> q18(int quantity) {
+        return queryForList(q18Statement(quantity));
+    }
+
+    private Statement q18Statement(int quantity) {
+        String sql = """
+            SELECT
+              c.c_name,
+              c.c_custkey,
+              o.o_orderkey,
+              o.o_orderdate,
+              o.o_totalprice,
+              SUM(l.l_quantity) AS sum_quantity
+            FROM
+              customer c,
+              orders o,
+              lineitem l
+            WHERE
+              o.o_orderkey IN (
+                SELECT
+                  l2.l_orderkey
+                FROM
+                  lineitem l2
+                GROUP BY
+                  l2.l_orderkey
+                HAVING
+                  SUM(l2.l_quantity) > :quantity
+              )
+              AND c.c_custkey = o.o_custkey
+              AND o.o_orderkey = l.l_orderkey
+            GROUP BY
+              c.c_name,
+              c.c_custkey,
+              o.o_orderkey,
+              o.o_orderdate,
+              o.o_totalprice
+            ORDER BY
+              o.o_totalprice DESC,
+              o.o_orderdate
+            LIMIT 100
+            """;
+
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        params.addValue("quantity", quantity);
+
+        return new Statement(sql, params);
+    }
+
+    /**
+     * Executes TPC-H Query 19: Discounted Revenue.
+     * This query reports the gross discounted revenue attributed to the sale of selected parts handled in a particular manner.
+     *
+     * @param brand1 The brand of the small containers
+     * @param brand2 The brand of the medium containers
+     * @param brand3 The brand of the large containers
+     * @param quantity1 The minimum quantity of the small containers
+     * @param quantity2 The minimum quantity of the medium containers
+     * @param quantity3 The minimum quantity of the large containers
+     * @return List of maps containing the discounted revenue
+     */
+    public List<Map<String, Object>> q19(String brand1, String brand2, String brand3, int quantity1, int quantity2,
+            int quantity3) {
+        return queryForList(q19Statement(brand1, brand2, brand3, quantity1, quantity2, quantity3));
+    }
+
+    private Statement q19Statement(String brand1, String brand2, String brand3, int quantity1, int quantity2,
+            int quantity3) {
+        int maxQuantity1 = quantity1 + 10;
+        int maxQuantity2 = quantity2 + 10;
+        int maxQuantity3 = quantity3 + 10;
+
+        String sql = """
+            SELECT
+              SUM(l.l_extendedprice * (1 - l.l_discount)) AS revenue
+            FROM
+              lineitem l,
+              part p
+            WHERE
+              (
+                p.p_partkey = l.l_partkey
+                AND p.p_brand = :brand1
+                AND p.p_container IN ('SM CASE', 'SM BOX', 'SM PACK', 'SM PKG')
+                AND l.l_quantity >= :quantity1
+                AND l.l_quantity <= :maxQuantity1
+                AND p.p_size BETWEEN 1 AND 5
+                AND l.l_shipmode IN ('AIR', 'AIR REG')
+                AND l.l_shipinstruct = 'DELIVER IN PERSON'
+              )
+              OR (
+                p.p_partkey = l.l_partkey
+                AND p.p_brand = :brand2
+                AND p.p_container IN ('MED BAG', 'MED BOX', 'MED PKG', 'MED PACK')
+                AND l.l_quantity >= :quantity2
+                AND l.l_quantity <= :maxQuantity2
+                AND p.p_size BETWEEN 1 AND 10
+                AND l.l_shipmode IN ('AIR', 'AIR REG')
+                AND l.l_shipinstruct = 'DELIVER IN PERSON'
+              )
+              OR (
+                p.p_partkey = l.l_partkey
+                AND p.p_brand = :brand3
+                AND p.p_container IN ('LG CASE', 'LG BOX', 'LG PACK', 'LG PKG')
+                AND l.l_quantity >= :quantity3
+                AND l.l_quantity <= :maxQuantity3
+                AND p.p_size BETWEEN 1 AND 15
+                AND l.l_shipmode IN ('AIR', 'AIR REG')
+                AND l.l_shipinstruct = 'DELIVER IN PERSON'
+              )
+            """;
+
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        params.addValue("brand1", brand1);
+        params.addValue("quantity1", quantity1);
+        params.addValue("maxQuantity1", maxQuantity1);
+        params.addValue("brand2", brand2);
+        params.addValue("quantity2", quantity2);
+        params.addValue("maxQuantity2", maxQuantity2);
+        params.addValue("brand3", brand3);
+        params.addValue("quantity3", quantity3);
+        params.addValue("maxQuantity3", maxQuantity3);
+
+        return new Statement(sql, params);
+    }
+
+    /**
+     * Executes TPC-H Query 20: Potential Part Promotion.
+     * This query identifies suppliers in a nation who have an excess of a given part available.
+     *
+     * @param color The color the part name starts with
+     * @param shipDate The start date for the one-year period
+     * @param nation The name of the nation of the suppliers
+     * @return List of maps containing the names and addresses of the suppliers
+     */
+    public List<Map<String, Object>> q20(String color, LocalDate shipDate, String nation) {
+        return queryForList(q20Statement(color, shipDate, nation));
+    }
+
+    private Statement q20Statement(String color, LocalDate shipDate, String nation) {
+        String colorPattern = color + "%";
+        LocalDate endDate = shipDate.plusYears(1);
+
+        String sql = """
+            SELECT
+              s.s_name,
+              s.s_address
+            FROM
+              supplier s,
+              nation n
+            WHERE
+              s.s_suppkey IN (
+                SELECT
+                  ps.ps_suppkey
+                FROM
+                  partsupp ps
+                WHERE
+                  ps.ps_partkey IN (
+                    SELECT
+                      p.p_partkey
+                    FROM
+                      part p
+                    WHERE
+                      p.p_name LIKE :colorPattern
+                  )
+                  AND ps.ps_availqty > (
+                    SELECT
+                      0.5 * SUM(l.l_quantity)
+                    FROM
+                      lineitem l
+                    WHERE
+                      l.l_partkey = ps.ps_partkey
+                      AND l.l_suppkey = ps.ps_suppkey
+                      AND l.l_shipdate >= :shipDate
+                      AND l.l_shipdate < :endDate
+                  )
+              )
+              AND s.s_nationkey = n.n_nationkey
+              AND n.n_name = :nation
+            ORDER BY
+              s.s_name
+            """;
+
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        params.addValue("colorPattern", colorPattern);
+        params.addValue("shipDate", java.sql.Date.valueOf(shipDate));
+        params.addValue("endDate", java.sql.Date.valueOf(endDate));
+        params.addValue("nation", nation);
+
+        return new Statement(sql, params);
+    }
+
+    /**
+     * Executes TPC-H Query 21: Suppliers Who Kept Orders Waiting.
+     * This query identifies suppliers who were not able to ship required parts in a timely manner.
+     *
+     * @param nation The name of the nation of the suppliers
+     * @return List of maps containing the number of waiting orders by supplier
+     */
+    public List<Map<String, Object>> q21(String nation) {
+        return queryForList(q21Statement(nation));
+    }
+
+    private Statement q21Statement(String nation) {
+        String sql = """
+            SELECT
+              s.s_name,
+              COUNT(*) AS numwait
+            FROM
+              supplier s,
+              lineitem l1,
+              orders o,
+              nation n
+            WHERE
+              s.s_suppkey = l1.l_suppkey
+              AND o.o_orderkey = l1.l_orderkey
+              AND o.o_orderstatus = 'F'
+              AND l1.l_receiptdate > l1.l_commitdate
+              AND EXISTS (
+                SELECT *
+                FROM
+                  lineitem l2
+                WHERE
+                  l2.l_orderkey = l1.l_orderkey
+                  AND l2.l_suppkey <> l1.l_suppkey
+              )
+              AND NOT EXISTS (
+                SELECT *
+                FROM
+                  lineitem l3
+                WHERE
+                  l3.l_orderkey = l1.l_orderkey
+                  AND l3.l_suppkey <> l1.l_suppkey
+                  AND l3.l_receiptdate > l3.l_commitdate
+              )
+              AND s.s_nationkey = n.n_nationkey
+              AND n.n_name = :nation
+            GROUP BY
+              s.s_name
+            ORDER BY
+              numwait DESC,
+              s.s_name
+            LIMIT 100
+            """;
+
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        params.addValue("nation", nation);
+
+        return new Statement(sql, params);
+    }
+
+    /**
+     * Executes TPC-H Query 22: Global Sales Opportunity.
+     * This query identifies geographies where there are customers who may be likely to make a purchase.
+     *
+     * @param countryCodes The country codes, the first two digits of the phone numbers
+     * @return List of maps containing the customer counts and balances by country code
+     */
+    public List<Map<String, Object>> q22(List<String> countryCodes) {
+        return queryForList(q22Statement(countryCodes));
+    }
+
+    private Statement q22Statement(List<String> countryCodes) {
+        String sql = """
+            SELECT
+              cntrycode,
+              COUNT(*) AS numcust,
+              SUM(c_acctbal) AS totacctbal
+            FROM
+              (
+                SELECT
+                  SUBSTRING(c.c_phone, 1, 2) AS cntrycode,
+                  c.c_acctbal
+                FROM
+                  customer c
+                WHERE
+                  SUBSTRING(c.c_phone, 1, 2) IN (:countryCodes)
+                  AND c.c_acctbal > (
+                    SELECT
+                      AVG(c2.c_acctbal)
+                    FROM
+                      customer c2
+                    WHERE
+                      c2.c_acctbal > 0.00
+                      AND SUBSTRING(c2.c_phone, 1, 2) IN (:countryCodes)
+                  )
+                  AND NOT EXISTS (
+                    SELECT *
+                    FROM
+                      orders o
+                    WHERE
+                      o.o_custkey = c.c_custkey
+                  )
+              ) AS custsale
+            GROUP BY
+              cntrycode
+            ORDER BY
+              cntrycode
+            """;
+
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        params.addValue("countryCodes", countryCodes);
+
+        return new Statement(sql, params);
+    }
+
+    /**
+     * A1) Executes a query on non-indexed columns.
+     * Retrieves all records from the lineitem table.
+     *
+     * @return List of maps containing all lineitem records
+     */
+    public List<Map<String, Object>> a1() {
+        return queryForList(a1Statement());
+    }
+
+    /**
+     * Streaming variant of {@link #a1()}, the rows are consumed as they are read.
+     */
+    public StreamedResult a1Streaming() {
+        return stream(a1Statement());
+    }
+
+    /**
+     * Columnar variant of {@link #a1()}, the rows are decoded into primitive column arrays.
+     */
+    public ColumnarResult a1Columnar() {
+        return queryForColumns(a1Statement());
+    }
+
+    private Statement a1Statement() {
+        String sql = """
+            SELECT * FROM lineitem
+            """;
+
+        return new Statement(sql, null);
+    }
+
+    /**
+     * A2) Executes a range query on non-indexed columns.
+     * Retrieves orders within a specified date range.
+     *
+     * @param startDate The start date of the range (inclusive)
+     * @param endDate The end date of the range (inclusive)
+     * @return List of maps containing orders within the date range
+     */
+    public List<Map<String, Object>> a2(LocalDate startDate, LocalDate endDate) {
+        return queryForList(a2Statement(startDate, endDate));
+    }
+
+    /**
+     * Streaming variant of {@link #a2(LocalDate,LocalDate)}, the rows are consumed as they are read.
+     */
+    public StreamedResult a2Streaming(LocalDate startDate, LocalDate endDate) {
+        return stream(a2Statement(startDate, endDate));
+    }
+
+    /**
+     * Columnar variant of {@link #a2(LocalDate,LocalDate)}, the rows are decoded into primitive column arrays.
+     */
+    public ColumnarResult a2Columnar(LocalDate startDate, LocalDate endDate) {
+        return queryForColumns(a2Statement(startDate, endDate));
+    }
+
+    private Statement a2Statement(LocalDate startDate, LocalDate endDate) {
+        String sql = """
+            SELECT * FROM orders
+            WHERE o_orderdate
+                BETWEEN :startDate AND :endDate
+            """;
+
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        params.addValue("startDate", java.sql.Date.valueOf(startDate));
+        params.addValue("endDate", java.sql.Date.valueOf(endDate));
+
+        return new Statement(sql, params);
+    }
+
+    /**
+     * A3) Executes a query on indexed columns.
+     * Retrieves all records from the customer table.
+     *
+     * @return List of maps containing all customer records
+     */
+    public List<Map<String, Object>> a3() {
+        return queryForList(a3Statement());
+    }
+
+    /**
+     * Streaming variant of {@link #a3()}, the rows are consumed as they are read.
+     */
+    public StreamedResult a3Streaming() {
+        return stream(a3Statement());
+    }
+
+    /**
+     * Columnar variant of {@link #a3()}, the rows are decoded into primitive column arrays.
+     */
+    public ColumnarResult a3Columnar() {
+        return queryForColumns(a3Statement());
+    }
+
+    private Statement a3Statement() {
+        String sql = """
+            SELECT * FROM customer
+            """;
+
+        return new Statement(sql, null);
+    }
+
+    /**
+     * A4) Executes a range query on indexed columns.
+     * Retrieves orders within a specified order key range.
+     *
+     * @param startKey The minimum order key (inclusive)
+     * @param endKey The maximum order key (inclusive)
+     * @return List of maps containing orders within the order key range
+     */
+    public List<Map<String, Object>> a4(int startKey, int endKey) {
+        return queryForList(a4Statement(startKey, endKey));
+    }
+
+    /**
+     * Streaming variant of {@link #a4(int,int)}, the rows are consumed as they are read.
+     */
+    public StreamedResult a4Streaming(int startKey, int endKey) {
+        return stream(a4Statement(startKey, endKey));
+    }
+
+    /**
+     * Columnar variant of {@link #a4(int,int)}, the rows are decoded into primitive column arrays.
+     */
+    public ColumnarResult a4Columnar(int startKey, int endKey) {
+        return queryForColumns(a4Statement(startKey, endKey));
+    }
+
+    private Statement a4Statement(int startKey, int endKey) {
+        String sql = """
+            SELECT * FROM orders
+            WHERE o_orderkey BETWEEN :startKey AND :endKey
+            """;
+
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        params.addValue("startKey", startKey);
+        params.addValue("endKey", endKey);
+
+        return new Statement(sql, params);
+    }
+
+    /**
+     * B1) Executes a COUNT aggregation query.
+     * Counts orders grouped by month and returns the count for each month.
+     *
+     * @return List of maps containing order counts by month
+     */
+    public List<Map<String, Object>> b1() {
+        return queryForList(b1Statement());
+    }
+
+    /**
+     * Streaming variant of {@link #b1()}, the rows are consumed as they are read.
+     */
+    public StreamedResult b1Streaming() {
+        return stream(b1Statement());
+    }
+
+    /**
+     * Columnar variant of {@link #b1()}, the rows are decoded into primitive column arrays.
+     */
+    public ColumnarResult b1Columnar() {
+        return queryForColumns(b1Statement());
+    }
+
+    private Statement b1Statement() {
+        String sql = """
+            SELECT COUNT(o.o_orderkey) AS order_count,
+                   DATE_FORMAT(o.o_orderdate, '%Y-%m') AS order_month
+            FROM orders o
+            GROUP BY order_month
+            """;
+
+        return new Statement(sql, null);
+    }
+
+    /**
+     * B2) Executes a MAX aggregation query.
+     * Finds the maximum extended price for line items grouped by ship month.
+     *
+     * @return List of maps containing maximum prices by ship month
+     */
+    public List<Map<String, Object>> b2() {
+        return queryForList(b2Statement());
+    }
+
+    /**
+     * Streaming variant of {@link #b2()}, the rows are consumed as they are read.
+     */
+    public StreamedResult b2Streaming() {
+        return stream(b2Statement());
+    }
+
+    /**
+     * Columnar variant of {@link #b2()}, the rows are decoded into primitive column arrays.
+     */
+    public ColumnarResult b2Columnar() {
+        return queryForColumns(b2Statement());
+    }
+
+    private Statement b2Statement() {
+        String sql = """
+            SELECT DATE_FORMAT(l.l_shipdate, '%Y-%m') AS ship_month,
+                   MAX(l.l_extendedprice) AS max_price
+            FROM lineitem l
+            GROUP BY ship_month
+            """;
+
+        return new Statement(sql, null);
+    }
+
+    /**
+     * C1) Executes a join query on non-indexed columns.
+     * Performs a Cartesian product between customer and orders tables.
+     *
+     * @return List of maps containing customer names and order details
+     */
+    public List<Map<String, Object>> c1() {
+        return queryForList(c1Statement());
+    }
+
+    /**
+     * Streaming variant of {@link #c1()}, the rows are consumed as they are read.
+     */
+    public StreamedResult c1Streaming() {
+        return stream(c1Statement());
+    }
+
+    /**
+     * Columnar variant of {@link #c1()}, the rows are decoded into primitive column arrays.
+     */
+    public ColumnarResult c1Columnar() {
+        return queryForColumns(c1Statement());
+    }
+
+    private Statement c1Statement() {
+        String sql = """
+            SELECT c.c_name, o.o_orderdate, o.o_totalprice
+            FROM customer c, orders o
+            """;
+
+        return new Statement(sql, null);
+    }
+
+    /**
+     * C2) Executes a join query on indexed columns.
+     * Joins customer and orders tables on customer key.
+     *
+     * @return List of maps containing customer names and order details
+     */
+    public List<Map<String, Object>> c2() {
+        return queryForList(c2Statement());
+    }
+
+    /**
+     * Streaming variant of {@link #c2()}, the rows are consumed as they are read.
+     */
+    public StreamedResult c2Streaming() {
+        return stream(c2Statement());
+    }
+
+    /**
+     * Columnar variant of {@link #c2()}, the rows are decoded into primitive column arrays.
+     */
+    public ColumnarResult c2Columnar() {
+        return queryForColumns(c2Statement());
+    }
+
+    private Statement c2Statement() {
+        String sql = """
+            SELECT c.c_name, o.o_orderdate, o.o_totalprice
+            FROM customer c
+            JOIN orders o ON c.c_custkey = o.o_custkey
+            """;
+
+        return new Statement(sql, null);
+    }
+
+    /**
+     * C3) Executes a complex join query (first level).
+     * Joins customer, nation, and orders tables.
+     *
+     * @return List of maps containing customer names, nation names, and order details
+     */
+    public List<Map<String, Object>> c3() {
+        return queryForList(c3Statement());
+    }
+
+    /**
+     * Streaming variant of {@link #c3()}, the rows are consumed as they are read.
+     */
+    public StreamedResult c3Streaming() {
+        return stream(c3Statement());
+    }
+
+    /**
+     * Columnar variant of {@link #c3()}, the rows are decoded into primitive column arrays.
+     */
+    public ColumnarResult c3Columnar() {
+        return queryForColumns(c3Statement());
+    }
+
+    private Statement c3Statement() {
+        String sql = """
+            SELECT c.c_name, n.n_name, o.o_orderdate, o.o_totalprice
+            FROM customer c
+            JOIN nation n ON c.c_nationkey = n.n_nationkey
+            JOIN orders o ON c.c_custkey = o.o_custkey
+            """;
+
+        return new Statement(sql, null);
+    }
+
+    /**
+     * C4) Executes a complex join query (second level).
+     * Joins customer, nation, region, and orders tables.
+     *
+     * @return List of maps containing customer names, nation names, region names, and order details
+     */
+    public List<Map<String, Object>> c4() {
+        return queryForList(c4Statement());
+    }
+
+    /**
+     * Streaming variant of {@link #c4()}, the rows are consumed as they are read.
+     */
+    public StreamedResult c4Streaming() {
+        return stream(c4Statement());
+    }
+
+    /**
+     * Columnar variant of {@link #c4()}, the rows are decoded into primitive column arrays.
+     */
+    public ColumnarResult c4Columnar() {
+        return queryForColumns(c4Statement());
+    }
+
+    private Statement c4Statement() {
+        String sql = """
+            SELECT c.c_name, n.n_name, r.r_name, o.o_orderdate, o.o_totalprice
+            FROM customer c
+            JOIN nation n ON c.c_nationkey = n.n_nationkey
+            JOIN region r ON n.n_regionkey = r.r_regionkey
+            JOIN orders o ON c.c_custkey = o.o_custkey
+            """;
+
+        return new Statement(sql, null);
+    }
+
+    /**
+     * C5) Executes a left outer join query.
+     * Performs a left outer join between customer and orders tables.
+     *
+     * @return List of maps containing customer details and their orders (if any)
+     */
+    public List<Map<String, Object>> c5() {
+        return queryForList(c5Statement());
+    }
+
+    /**
+     * Streaming variant of {@link #c5()}, the rows are consumed as they are read.
+     */
+    public StreamedResult c5Streaming() {
+        return stream(c5Statement());
+    }
+
+    /**
+     * Columnar variant of {@link #c5()}, the rows are decoded into primitive column arrays.
+     */
+    public ColumnarResult c5Columnar() {
+        return queryForColumns(c5Statement());
+    }
+
+    private Statement c5Statement() {
         String sql = """
             SELECT c.c_custkey, c.c_name, o.o_orderkey, o.o_orderdate
             FROM customer c
             LEFT OUTER JOIN orders o ON c.c_custkey = o.o_custkey
             """;
 
-        return jdbcTemplate.queryForList(sql);
+        return new Statement(sql, null);
     }
 
     /**
@@ -452,13 +1684,31 @@ public class UniversalRepository {
      * @return List of maps containing unique nation keys from both tables
      */
     public List<Map<String, Object>> d1() {
+        return queryForList(d1Statement());
+    }
+
+    /**
+     * Streaming variant of {@link #d1()}, the rows are consumed as they are read.
+     */
+    public StreamedResult d1Streaming() {
+        return stream(d1Statement());
+    }
+
+    /**
+     * Columnar variant of {@link #d1()}, the rows are decoded into primitive column arrays.
+     */
+    public ColumnarResult d1Columnar() {
+        return queryForColumns(d1Statement());
+    }
+
+    private Statement d1Statement() {
         String sql = """
             (SELECT c_nationkey AS nation_key FROM customer)
             UNION
             (SELECT s_nationkey AS nation_key FROM supplier)
             """;
 
-        return jdbcTemplate.queryForList(sql);
+        return new Statement(sql, null);
     }
 
     /**
@@ -468,6 +1718,24 @@ public class UniversalRepository {
      * @return List of maps containing customer keys that are also supplier keys
      */
     public List<Map<String, Object>> d2() {
+        return queryForList(d2Statement());
+    }
+
+    /**
+     * Streaming variant of {@link #d2()}, the rows are consumed as they are read.
+     */
+    public StreamedResult d2Streaming() {
+        return stream(d2Statement());
+    }
+
+    /**
+     * Columnar variant of {@link #d2()}, the rows are decoded into primitive column arrays.
+     */
+    public ColumnarResult d2Columnar() {
+        return queryForColumns(d2Statement());
+    }
+
+    private Statement d2Statement() {
         String sql = """
             SELECT DISTINCT c.c_custkey AS cust_key
             FROM customer c
@@ -477,7 +1745,7 @@ public class UniversalRepository {
             )
             """;
 
-        return jdbcTemplate.queryForList(sql);
+        return new Statement(sql, null);
     }
 
     /**
@@ -487,6 +1755,24 @@ public class UniversalRepository {
      * @return List of maps containing customer keys that are not supplier keys
      */
     public List<Map<String, Object>> d3() {
+        return queryForList(d3Statement());
+    }
+
+    /**
+     * Streaming variant of {@link #d3()}, the rows are consumed as they are read.
+     */
+    public StreamedResult d3Streaming() {
+        return stream(d3Statement());
+    }
+
+    /**
+     * Columnar variant of {@link #d3()}, the rows are decoded into primitive column arrays.
+     */
+    public ColumnarResult d3Columnar() {
+        return queryForColumns(d3Statement());
+    }
+
+    private Statement d3Statement() {
         String sql = """
             SELECT DISTINCT c.c_custkey AS cust_key
             FROM customer c
@@ -496,7 +1782,7 @@ public class UniversalRepository {
             )
             """;
 
-        return jdbcTemplate.queryForList(sql);
+        return new Statement(sql, null);
     }
 
     /**
@@ -506,13 +1792,31 @@ public class UniversalRepository {
      * @return List of maps containing customer data sorted by account balance
      */
     public List<Map<String, Object>> e1() {
+        return queryForList(e1Statement());
+    }
+
+    /**
+     * Streaming variant of {@link #e1()}, the rows are consumed as they are read.
+     */
+    public StreamedResult e1Streaming() {
+        return stream(e1Statement());
+    }
+
+    /**
+     * Columnar variant of {@link #e1()}, the rows are decoded into primitive column arrays.
+     */
+    public ColumnarResult e1Columnar() {
+        return queryForColumns(e1Statement());
+    }
+
+    private Statement e1Statement() {
         String sql = """
             SELECT c_name, c_address, c_acctbal
             FROM customer
             ORDER BY c_acctbal DESC
             """;
 
-        return jdbcTemplate.queryForList(sql);
+        return new Statement(sql, null);
     }
 
     /**
@@ -522,13 +1826,31 @@ public class UniversalRepository {
      * @return List of maps containing order data sorted by order key
      */
     public List<Map<String, Object>> e2() {
+        return queryForList(e2Statement());
+    }
+
+    /**
+     * Streaming variant of {@link #e2()}, the rows are consumed as they are read.
+     */
+    public StreamedResult e2Streaming() {
+        return stream(e2Statement());
+    }
+
+    /**
+     * Columnar variant of {@link #e2()}, the rows are decoded into primitive column arrays.
+     */
+    public ColumnarResult e2Columnar() {
+        return queryForColumns(e2Statement());
+    }
+
+    private Statement e2Statement() {
         String sql = """
             SELECT o_orderkey, o_custkey, o_orderdate, o_totalprice
             FROM orders
             ORDER BY o_orderkey
             """;
 
-        return jdbcTemplate.queryForList(sql);
+        return new Statement(sql, null);
     }
 
     /**
@@ -538,11 +1860,359 @@ public class UniversalRepository {
      * @return List of maps containing unique nation key and market segment combinations
      */
     public List<Map<String, Object>> e3() {
+        return queryForList(e3Statement());
+    }
+
+    /**
+     * Streaming variant of {@link #e3()}, the rows are consumed as they are read.
+     */
+    public StreamedResult e3Streaming() {
+        return stream(e3Statement());
+    }
+
+    /**
+     * Columnar variant of {@link #e3()}, the rows are decoded into primitive column arrays.
+     */
+    public ColumnarResult e3Columnar() {
+        return queryForColumns(e3Statement());
+    }
+
+    private Statement e3Statement() {
         String sql = """
             SELECT DISTINCT c_nationkey, c_mktsegment
             FROM customer
             """;
 
-        return jdbcTemplate.queryForList(sql);
+        return new Statement(sql, null);
+    }
+
+    /**
+     * F1) Looks up a single order by its primary key.
+     *
+     * @param orderKey The order key
+     * @return Map containing the columns of the order, or null if there is no such order
+     */
+    public Map<String, Object> f1(long orderKey) {
+        String sql = """
+            SELECT * FROM orders
+            WHERE o_orderkey = ?
+            """;
+
+        return queryForRow(sql, orderKey);
+    }
+
+    /**
+     * F2) Looks up a single customer by its primary key.
+     *
+     * @param customerKey The customer key
+     * @return Map containing the columns of the customer, or null if there is no such customer
+     */
+    public Map<String, Object> f2(long customerKey) {
+        String sql = """
+            SELECT * FROM customer
+            WHERE c_custkey = ?
+            """;
+
+        return queryForRow(sql, customerKey);
+    }
+
+    /**
+     * F3) Looks up a single line item by its composite primary key.
+     *
+     * @param orderKey The order key of the line item
+     * @param lineNumber The line number within the order
+     * @return Map containing the columns of the line item, or null if there is no such line item
+     */
+    public Map<String, Object> f3(long orderKey, int lineNumber) {
+        String sql = """
+            SELECT * FROM lineitem
+            WHERE l_orderkey = ? AND l_linenumber = ?
+            """;
+
+        return queryForRow(sql, orderKey, lineNumber);
+    }
+
+    /**
+     * F4) Looks up a single part supplier by its composite primary key.
+     *
+     * @param partKey The part key
+     * @param supplierKey The supplier key
+     * @return Map containing the columns of the part supplier, or null if there is no such part supplier
+     */
+    public Map<String, Object> f4(long partKey, long supplierKey) {
+        String sql = """
+            SELECT * FROM partsupp
+            WHERE ps_partkey = ? AND ps_suppkey = ?
+            """;
+
+        return queryForRow(sql, partKey, supplierKey);
+    }
+
+    /**
+     * G1) Reads a page of orders ordered by the order key, skipping the rows of the preceding pages.
+     *
+     * @param offset Number of skipped rows
+     * @param limit Number of rows of the page
+     * @return List of maps containing the columns of the orders
+     */
+    public List<Map<String, Object>> g1(long offset, int limit) {
+        String sql = """
+            SELECT * FROM orders
+            ORDER BY o_orderkey
+            LIMIT ? OFFSET ?
+            """;
+
+        return jdbcTemplate.queryForList(sql, limit, offset);
+    }
+
+    /**
+     * G2) Reads a page of orders following the given order key.
+     *
+     * @param orderKey The order key of the last row of the previous page, 0 for the first page
+     * @param limit Number of rows of the page
+     * @return List of maps containing the columns of the orders
+     */
+    public List<Map<String, Object>> g2(long orderKey, int limit) {
+        String sql = """
+            SELECT * FROM orders
+            WHERE o_orderkey > ?
+            ORDER BY o_orderkey
+            LIMIT ?
+            """;
+
+        return jdbcTemplate.queryForList(sql, orderKey, limit);
+    }
+
+    /**
+     * G3) Reads a page of line items ordered by their composite primary key, skipping the rows of the
+     * preceding pages.
+     *
+     * @param offset Number of skipped rows
+     * @param limit Number of rows of the page
+     * @return List of maps containing the columns of the line items
+     */
+    public List<Map<String, Object>> g3(long offset, int limit) {
+        String sql = """
+            SELECT * FROM lineitem
+            ORDER BY l_orderkey, l_linenumber
+            LIMIT ? OFFSET ?
+            """;
+
+        return jdbcTemplate.queryForList(sql, limit, offset);
+    }
+
+    /**
+     * G4) Reads a page of line items following the given composite primary key. The row comparison is
+     * expanded, so MySQL resolves it as a range of the primary key.
+     *
+     * @param orderKey The order key of the last row of the previous page, 0 for the first page
+     * @param lineNumber The line number of the last row of the previous page
+     * @param limit Number of rows of the page
+     * @return List of maps containing the columns of the line items
+     */
+    public List<Map<String, Object>> g4(long orderKey, long lineNumber, int limit) {
+        String sql = """
+            SELECT * FROM lineitem
+            WHERE l_orderkey > ? OR (l_orderkey = ? AND l_linenumber > ?)
+            ORDER BY l_orderkey, l_linenumber
+            LIMIT ?
+            """;
+
+        return jdbcTemplate.queryForList(sql, orderKey, orderKey, lineNumber, limit);
+    }
+
+    /**
+     * H1) Loads the orders of the given date range with their customer and line items lazily: one statement
+     * reads the orders, then one statement per order reads its line items and one statement per customer
+     * reads the customer (N+1). A customer is read once per execution and shared by all of its orders, like
+     * in the persistence context of an ORM.
+     *
+     * @param startDate Start date of the order date range (inclusive)
+     * @param endDate End date of the order date range (inclusive)
+     * @return List of maps containing the columns of the orders, the customer under "customer" and the line
+     *         items under "lineitems"
+     */
+    public List<Map<String, Object>> h1(LocalDate startDate, LocalDate endDate) {
+        List<Map<String, Object>> orders = graphOrders(startDate, endDate);
+        Map<Long, Map<String, Object>> customers = new HashMap<>();
+        for (Map<String, Object> order : orders) {
+            order.put("customer", customers.computeIfAbsent(key(order, "o_custkey"), customerKey ->
+                    graphJdbcTemplate.queryForMap("SELECT * FROM customer WHERE c_custkey = ?", customerKey)));
+            order.put("lineitems", graphJdbcTemplate.queryForList(
+                    "SELECT * FROM lineitem WHERE l_orderkey = ? ORDER BY l_linenumber", key(order, "o_orderkey")));
+        }
+        return orders;
+    }
+
+    /**
+     * H2) Loads the orders of the given date range with their customer and line items by a single statement
+     * joining the customer and the line items. Every row repeats the columns of the order and its customer,
+     * the rows are grouped into the graph by the order key.
+     *
+     * @param startDate Start date of the order date range (inclusive)
+     * @param endDate End date of the order date range (inclusive)
+     * @return List of maps containing the columns of the orders, the customer under "customer" and the line
+     *         items under "lineitems"
+     */
+    public List<Map<String, Object>> h2(LocalDate startDate, LocalDate endDate) {
+        String sql = """
+            SELECT * FROM orders
+            JOIN customer ON c_custkey = o_custkey
+            LEFT JOIN lineitem ON l_orderkey = o_orderkey
+            WHERE o_orderdate BETWEEN ? AND ?
+            ORDER BY o_orderkey, l_linenumber
+            """;
+
+        Map<Long, Map<String, Object>> orders = new LinkedHashMap<>();
+        Map<Long, Map<String, Object>> customers = new HashMap<>();
+        for (Map<String, Object> row : graphJdbcTemplate.queryForList(sql, java.sql.Date.valueOf(startDate),
+                java.sql.Date.valueOf(endDate))) {
+            Map<String, Object> order = orders.computeIfAbsent(key(row, "o_orderkey"), orderKey -> {
+                Map<String, Object> columns = columns(row, "o_");
+                columns.put("customer", customers.computeIfAbsent(key(row, "c_custkey"),
+                        customerKey -> columns(row, "c_")));
+                columns.put("lineitems", new ArrayList<Map<String, Object>>());
+                return columns;
+            });
+            if (row.get("l_orderkey") != null) {
+                lineItems(order).add(columns(row, "l_"));
+            }
+        }
+        return new ArrayList<>(orders.values());
+    }
+
+    /**
+     * H3) Loads the orders of the given date range with their customer and line items in batches: one
+     * statement reads the orders, then every statement reads the customers or the line items of up to
+     * {@code batchSize} orders with an IN list of their keys.
+     *
+     * @param startDate Start date of the order date range (inclusive)
+     * @param endDate End date of the order date range (inclusive)
+     * @param batchSize Number of keys of one IN list
+     * @return List of maps containing the columns of the orders, the customer under "customer" and the line
+     *         items under "lineitems"
+     */
+    public List<Map<String, Object>> h3(LocalDate startDate, LocalDate endDate, int batchSize) {
+        List<Map<String, Object>> orders = graphOrders(startDate, endDate);
+
+        Map<Long, Map<String, Object>> customers = new HashMap<>();
+        List<Long> customerKeys = orders.stream().map(order -> key(order, "o_custkey")).distinct().toList();
+        for (List<Long> keys : batches(customerKeys, batchSize)) {
+            for (Map<String, Object> customer : graphNamedParameterJdbcTemplate.queryForList(
+                    "SELECT * FROM customer WHERE c_custkey IN (:keys)", Map.of("keys", keys))) {
+                customers.put(key(customer, "c_custkey"), customer);
+            }
+        }
+
+        Map<Long, Map<String, Object>> ordersByKey = new HashMap<>();
+        for (Map<String, Object> order : orders) {
+            order.put("customer", customers.get(key(order, "o_custkey")));
+            order.put("lineitems", new ArrayList<Map<String, Object>>());
+            ordersByKey.put(key(order, "o_orderkey"), order);
+        }
+        for (List<Long> keys : batches(new ArrayList<>(ordersByKey.keySet()), batchSize)) {
+            for (Map<String, Object> lineItem : graphNamedParameterJdbcTemplate.queryForList(
+                    "SELECT * FROM lineitem WHERE l_orderkey IN (:keys) ORDER BY l_orderkey, l_linenumber",
+                    Map.of("keys", keys))) {
+                lineItems(ordersByKey.get(key(lineItem, "l_orderkey"))).add(lineItem);
+            }
+        }
+        return orders;
+    }
+
+    private List<Map<String, Object>> graphOrders(LocalDate startDate, LocalDate endDate) {
+        String sql = """
+            SELECT * FROM orders
+            WHERE o_orderdate BETWEEN ? AND ?
+            ORDER BY o_orderkey
+            """;
+
+        return graphJdbcTemplate.queryForList(sql, java.sql.Date.valueOf(startDate), java.sql.Date.valueOf(endDate));
+    }
+
+    private static long key(Map<String, Object> row, String column) {
+        return ((Number) row.get(column)).longValue();
+    }
+
+    private static Map<String, Object> columns(Map<String, Object> row, String prefix) {
+        Map<String, Object> columns = new LinkedHashMap<>();
+        row.forEach((column, value) -> {
+            if (column.startsWith(prefix)) {
+                columns.put(column, value);
+            }
+        });
+        return columns;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> lineItems(Map<String, Object> order) {
+        return (List<Map<String, Object>>) order.get("lineitems");
+    }
+
+    private static <T> List<List<T>> batches(List<T> values, int batchSize) {
+        int size = Math.max(batchSize, 1);
+        List<List<T>> batches = new ArrayList<>();
+        for (int i = 0; i < values.size(); i += size) {
+            batches.add(values.subList(i, Math.min(i + size, values.size())));
+        }
+        return batches;
+    }
+
+    private Map<String, Object> queryForRow(String sql, Object... args) {
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(sql, args);
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    private List<Map<String, Object>> queryForList(Statement statement) {
+        if (statement.params() == null) {
+            return jdbcTemplate.queryForList(statement.sql());
+        }
+        return namedParameterJdbcTemplate.queryForList(statement.sql(), statement.params());
+    }
+
+    private ColumnarResult queryForColumns(Statement statement) {
+        if (statement.params() == null) {
+            return jdbcTemplate.query(statement.sql(), COLUMNAR_EXTRACTOR);
+        }
+        return namedParameterJdbcTemplate.query(statement.sql(), statement.params(), COLUMNAR_EXTRACTOR);
+    }
+
+    private StreamedResult stream(Statement statement) {
+        RowCounter counter = new RowCounter();
+        if (statement.params() == null) {
+            streamingJdbcTemplate.query(statement.sql(), counter);
+        } else {
+            streamingNamedParameterJdbcTemplate.query(statement.sql(), statement.params(), counter);
+        }
+        return new StreamedResult(counter.rows, counter.characters);
+    }
+
+    /**
+     * SQL text of a query and its named parameters, null for queries without parameters.
+     */
+    private record Statement(String sql, MapSqlParameterSource params) {
+    }
+
+    /**
+     * Reads every column of every row the same way as the list queries and counts the rows and
+     * the characters of the textual values, nothing is retained after the row is processed.
+     */
+    private static final class RowCounter implements RowCallbackHandler {
+        private long rows;
+        private long characters;
+        private int columns = -1;
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            if (columns < 0) {
+                columns = rs.getMetaData().getColumnCount();
+            }
+            for (int i = 1; i <= columns; i++) {
+                if (JdbcUtils.getResultSetValue(rs, i) instanceof String value) {
+                    characters += value.length();
+                }
+            }
+            rows++;
+        }
     }
 }
@@ -1,9 +1,12 @@
 package cz.cuni.mff.java.kurinna.microservice.service;
 
+import cz.cuni.mff.java.kurinna.common.dto.StreamedResult;
 import cz.cuni.mff.java.kurinna.common.service.IQueryService;
+import cz.cuni.mff.java.kurinna.microservice.repository.ColumnarResult;
 import cz.cuni.mff.java.kurinna.microservice.repository.UniversalRepository;
 import org.springframework.stereotype.Service;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
@@ -36,6 +39,130 @@ public class QueryService implements IQueryService<Map<String, Object>> {
         return universalRepository.q5(region, orderDate);
     }
 
+    public List<Map<String, Object>> q6(LocalDate shipDate, BigDecimal discount, int quantity) {
+        return universalRepository.q6(shipDate, discount, quantity);
+    }
+
+    public List<Map<String, Object>> q7(String nation1, String nation2) {
+        return universalRepository.q7(nation1, nation2);
+    }
+
+    public List<Map<String, Object>> q8(String nation, String region, String type) {
+        return universalRepository.q8(nation, region, type);
+    }
+
+    public List<Map<String, Object>> q9(String color) {
+        return universalRepository.q9(color);
+    }
+
+    public List<Map<String, Object>> q10(LocalDate orderDate) {
+        return universalRepository.q10(orderDate);
+    }
+
+    public List<Map<String, Object>> q11(String nation, BigDecimal fraction) {
+        return universalRepository.q11(nation, fraction);
+    }
+
+    public List<Map<String, Object>> q12(String shipMode1, String shipMode2, LocalDate receiptDate) {
+        return universalRepository.q12(shipMode1, shipMode2, receiptDate);
+    }
+
+    public List<Map<String, Object>> q13(String word1, String word2) {
+        return universalRepository.q13(word1, word2);
+    }
+
+    public List<Map<String, Object>> q14(LocalDate shipDate) {
+        return universalRepository.q14(shipDate);
+    }
+
+    public List<Map<String, Object>> q15(LocalDate shipDate) {
+        return universalRepository.q15(shipDate);
+    }
+
+    public List<Map<String, Object>> q16(String brand, String type, List<Integer> sizes) {
+        return universalRepository.q16(brand, type, sizes);
+    }
+
+    public List<Map<String, Object>> q17(String brand, String container) {
+        return universalRepository.q17(brand, container);
+    }
+
+    public List<Map<String, Object>> q18(int quantity) {
+        return universalRepository.q18(quantity);
+    }
+
+    public List<Map<String, Object>> q19(String brand1, String brand2, String brand3, int quantity1, int quantity2,
+            int quantity3) {
+        return universalRepository.q19(brand1, brand2, brand3, quantity1, quantity2, quantity3);
+    }
+
+    public List<Map<String, Object>> q20(String color, LocalDate shipDate, String nation) {
+        return universalRepository.q20(color, shipDate, nation);
+    }
+
+    public List<Map<String, Object>> q21(String nation) {
+        return universalRepository.q21(nation);
+    }
+
+    public List<Map<String, Object>> q22(List<String> countryCodes) {
+        return universalRepository.q22(countryCodes);
+    }
+
+    // F1) Orders by Primary Key
+    public Map<String, Object> f1(long orderKey) {
+        return universalRepository.f1(orderKey);
+    }
+
+    // F2) Customer by Primary Key
+    public Map<String, Object> f2(long customerKey) {
+        return universalRepository.f2(customerKey);
+    }
+
+    // F3) Line Item by Composite Key
+    public Map<String, Object> f3(long orderKey, int lineNumber) {
+        return universalRepository.f3(orderKey, lineNumber);
+    }
+
+    // F4) Part Supplier by Composite Key
+    public Map<String, Object> f4(long partKey, long supplierKey) {
+        return universalRepository.f4(partKey, supplierKey);
+    }
+
+    // G1) Orders by Offset
+    public List<Map<String, Object>> g1(long offset, int limit) {
+        return universalRepository.g1(offset, limit);
+    }
+
+    // G2) Orders by Keyset
+    public List<Map<String, Object>> g2(long orderKey, int limit) {
+        return universalRepository.g2(orderKey, limit);
+    }
+
+    // G3) Line Items by Offset
+    public List<Map<String, Object>> g3(long offset, int limit) {
+        return universalRepository.g3(offset, limit);
+    }
+
+    // G4) Line Items by Keyset
+    public List<Map<String, Object>> g4(long orderKey, long lineNumber, int limit) {
+        return universalRepository.g4(orderKey, lineNumber, limit);
+    }
+
+    // H1) Orders with Customer and Line Items — Lazy N+1
+    public List<Map<String, Object>> h1(LocalDate startDate, LocalDate endDate) {
+        return universalRepository.h1(startDate, endDate);
+    }
+
+    // H2) Orders with Customer and Line Items — Join Fetch
+    public List<Map<String, Object>> h2(LocalDate startDate, LocalDate endDate) {
+        return universalRepository.h2(startDate, endDate);
+    }
+
+    // H3) Orders with Customer and Line Items — Batch Fetch
+    public List<Map<String, Object>> h3(LocalDate startDate, LocalDate endDate, int batchSize) {
+        return universalRepository.h3(startDate, endDate, batchSize);
+    }
+
     // A1) Non-Indexed Columns
     public List<Map<String, Object>> a1() {
         return universalRepository.a1();
@@ -120,4 +247,218 @@ public class QueryService implements IQueryService<Map<String, Object>> {
     public List<Map<String, Object>> e3() {
         return universalRepository.e3();
     }
+
+    // Streaming variants, the rows are consumed as they are read instead of being collected into a list
+
+    public StreamedResult q1Streaming(int days) {
+        return universalRepository.q1Streaming(days);
+    }
+
+    public StreamedResult q2Streaming(int size, String type, String region) {
+        return universalRepository.q2Streaming(size, type, region);
+    }
+
+    public StreamedResult q3Streaming(String segment, LocalDate orderDate, LocalDate shipDate) {
+        return universalRepository.q3Streaming(segment, orderDate, shipDate);
+    }
+
+    public StreamedResult q4Streaming(LocalDate orderDate) {
+        return universalRepository.q4Streaming(orderDate);
+    }
+
+    public StreamedResult q5Streaming(String region, LocalDate orderDate) {
+        return universalRepository.q5Streaming(region, orderDate);
+    }
+
+    // A1) Non-Indexed Columns
+    public StreamedResult a1Streaming() {
+        return universalRepository.a1Streaming();
+    }
+
+    // A2) Non-Indexed Columns — Range Query
+    public StreamedResult a2Streaming(LocalDate startDate, LocalDate endDate) {
+        return universalRepository.a2Streaming(startDate, endDate);
+    }
+
+    // A3) Indexed Columns
+    public StreamedResult a3Streaming() {
+        return universalRepository.a3Streaming();
+    }
+
+    // A4) Indexed Columns — Range Query
+    public StreamedResult a4Streaming(int startKey, int endKey) {
+        return universalRepository.a4Streaming(startKey, endKey);
+    }
+
+    // B1) COUNT
+    public StreamedResult b1Streaming() {
+        return universalRepository.b1Streaming();
+    }
+
+    // B2) MAX
+    public StreamedResult b2Streaming() {
+        return universalRepository.b2Streaming();
+    }
+
+    // C1) Non-Indexed Columns
+    public StreamedResult c1Streaming() {
+        return universalRepository.c1Streaming();
+    }
+
+    // C2) Indexed Columns
+    public StreamedResult c2Streaming() {
+        return universalRepository.c2Streaming();
+    }
+
+    // C3) Complex Join 1
+    public StreamedResult c3Streaming() {
+        return universalRepository.c3Streaming();
+    }
+
+    // C4) Complex Join 2
+    public StreamedResult c4Streaming() {
+        return universalRepository.c4Streaming();
+    }
+
+    // C5) Left Outer Join
+    public StreamedResult c5Streaming() {
+        return universalRepository.c5Streaming();
+    }
+
+    // D1) UNION
+    public StreamedResult d1Streaming() {
+        return universalRepository.d1Streaming();
+    }
+
+    // D2) INTERSECT
+    public StreamedResult d2Streaming() {
+        return universalRepository.d2Streaming();
+    }
+
+    // D3) DIFFERENCE
+    public StreamedResult d3Streaming() {
+        return universalRepository.d3Streaming();
+    }
+
+    // E1) Non-Indexed Columns Sorting
+    public StreamedResult e1Streaming() {
+        return universalRepository.e1Streaming();
+    }
+
+    // E2) Indexed Columns Sorting
+    public StreamedResult e2Streaming() {
+        return universalRepository.e2Streaming();
+    }
+
+    // E3) Distinct
+    public StreamedResult e3Streaming() {
+        return universalRepository.e3Streaming();
+    }
+
+    // Columnar variants, the rows are decoded into primitive column arrays instead of a map per row
+
+    public ColumnarResult q1Columnar(int days) {
+        return universalRepository.q1Columnar(days);
+    }
+
+    public ColumnarResult q2Columnar(int size, String type, String region) {
+        return universalRepository.q2Columnar(size, type, region);
+    }
+
+    public ColumnarResult q3Columnar(String segment, LocalDate orderDate, LocalDate shipDate) {
+        return universalRepository.q3Columnar(segment, orderDate, shipDate);
+    }
+
+    public ColumnarResult q4Columnar(LocalDate orderDate) {
+        return universalRepository.q4Columnar(orderDate);
+    }
+
+    public ColumnarResult q5Columnar(String region, LocalDate orderDate) {
+        return universalRepository.q5Columnar(region, orderDate);
+    }
+
+    // A1) Non-Indexed Columns
+    public ColumnarResult a1Columnar() {
+        return universalRepository.a1Columnar();
+    }
+
+    // A2) Non-Indexed Columns — Range Query
+    public ColumnarResult a2Columnar(LocalDate startDate, LocalDate endDate) {
+        return universalRepository.a2Columnar(startDate, endDate);
+    }
+
+    // A3) Indexed Columns
+    public ColumnarResult a3Columnar() {
+        return universalRepository.a3Columnar();
+    }
+
+    // A4) Indexed Columns — Range Query
+    public ColumnarResult a4Columnar(int startKey, int endKey) {
+        return universalRepository.a4Columnar(startKey, endKey);
+    }
+
+    // B1) COUNT
+    public ColumnarResult b1Columnar() {
+        return universalRepository.b1Columnar();
+    }
+
+    // B2) MAX
+    public ColumnarResult b2Columnar() {
+        return universalRepository.b2Columnar();
+    }
+
+    // C1) Non-Indexed Columns
+    public ColumnarResult c1Columnar() {
+        return universalRepository.c1Columnar();
+    }
+
+    // C2) Indexed Columns
+    public ColumnarResult c2Columnar() {
+        return universalRepository.c2Columnar();
+    }
+
+    // C3) Complex Join 1
+    public ColumnarResult c3Columnar() {
+        return universalRepository.c3Columnar();
+    }
+
+    // C4) Complex Join 2
+    public ColumnarResult c4Columnar() {
+        return universalRepository.c4Columnar();
+    }
+
+    // C5) Left Outer Join
+    public ColumnarResult c5Columnar() {
+        return universalRepository.c5Columnar();
+    }
+
+    // D1) UNION
+    public ColumnarResult d1Columnar() {
+        return universalRepository.d1Columnar();
+    }
+
+    // D2) INTERSECT
+    public ColumnarResult d2Columnar() {
+        return universalRepository.d2Columnar();
+    }
+
+    // D3) DIFFERENCE
+    public ColumnarResult d3Columnar() {
+        return universalRepository.d3Columnar();
+    }
+
+    // E1) Non-Indexed Columns Sorting
+    public ColumnarResult e1Columnar() {
+        return universalRepository.e1Columnar();
+    }
+
+    // E2) Indexed Columns Sorting
+    public ColumnarResult e2Columnar() {
+        return universalRepository.e2Columnar();
+    }
+
+    // E3) Distinct
+    public ColumnarResult e3Columnar() {
+        return universalRepository.e3Columnar();
+    }
 }
@@ -0,0 +1,24 @@
+package cz.cuni.mff.java.kurinna.microservice.config;
+
+import org.springframework.boot.autoconfigure.jooq.DefaultConfigurationCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JooqConfig {
+
+    /**
+     * The generated tables are qualified with the schema they were generated from, the
+     * schema is not rendered so the queries run against the database of the datasource URL.
+     * <p>
+     * The MULTISET emulation of MySQL aggregates the nested rows with GROUP_CONCAT. The session
+     * variable limiting its length is set by the datasource URL, so jOOQ does not prepend the
+     * statements raising it to the query.
+     */
+    @Bean
+    public DefaultConfigurationCustomizer jooqConfigurationCustomizer() {
+        return configuration -> configuration.settings()
+                .withRenderSchema(false)
+                .withRenderGroupConcatMaxLenSessionVariable(false);
+    }
+}
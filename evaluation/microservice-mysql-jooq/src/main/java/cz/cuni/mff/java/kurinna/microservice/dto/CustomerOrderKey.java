@@ -0,0 +1,9 @@
+package cz.cuni.mff.java.kurinna.microservice.dto;
+
+import java.time.LocalDate;
+
+/**
+ * Row of query C5, a customer and one of its orders, the order columns are null for customers without orders.
+ */
+public record CustomerOrderKey(Long customerKey, String customerName, Long orderKey, LocalDate orderDate) {
+}
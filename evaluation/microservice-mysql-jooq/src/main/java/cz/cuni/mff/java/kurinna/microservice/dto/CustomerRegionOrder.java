@@ -0,0 +1,10 @@
+package cz.cuni.mff.java.kurinna.microservice.dto;
+
+import java.time.LocalDate;
+
+/**
+ * Row of query C4, an order with the name, nation and region of its customer.
+ */
+public record CustomerRegionOrder(String customerName, String nationName, String regionName,
+        LocalDate orderDate, Double totalPrice) {
+}
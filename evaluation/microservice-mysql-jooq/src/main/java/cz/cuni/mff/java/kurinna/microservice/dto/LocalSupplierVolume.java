@@ -0,0 +1,9 @@
+package cz.cuni.mff.java.kurinna.microservice.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * Row of TPC-H query 5, the revenue of a nation through local suppliers.
+ */
+public record LocalSupplierVolume(String nationName, BigDecimal revenue) {
+}
@@ -0,0 +1,8 @@
+package cz.cuni.mff.java.kurinna.microservice.dto;
+
+/**
+ * Row of TPC-H query 2, a supplier offering a part at the minimum cost in the region.
+ */
+public record MinimumCostSupplier(Double accountBalance, String supplierName, String nationName, Long partKey,
+        String manufacturer, String address, String phone, String comment) {
+}
@@ -0,0 +1,7 @@
+package cz.cuni.mff.java.kurinna.microservice.dto;
+
+/**
+ * Row of query B2, the maximum extended price of the line items shipped in a month.
+ */
+public record MonthlyMaxPrice(String shipMonth, Double maxPrice) {
+}
@@ -0,0 +1,7 @@
+package cz.cuni.mff.java.kurinna.microservice.dto;
+
+/**
+ * Row of query B1, the number of orders placed in a month.
+ */
+public record MonthlyOrderCount(Integer orderCount, String orderMonth) {
+}
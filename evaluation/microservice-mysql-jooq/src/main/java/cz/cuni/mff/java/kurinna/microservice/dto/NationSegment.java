@@ -0,0 +1,7 @@
+package cz.cuni.mff.java.kurinna.microservice.dto;
+
+/**
+ * Row of query E3, a distinct combination of nation and market segment.
+ */
+public record NationSegment(Integer nationKey, String marketSegment) {
+}
@@ -0,0 +1,13 @@
+package cz.cuni.mff.java.kurinna.microservice.dto;
+
+import cz.cuni.mff.java.kurinna.microservice.model.tables.records.CustomerRecord;
+import cz.cuni.mff.java.kurinna.microservice.model.tables.records.LineitemRecord;
+import cz.cuni.mff.java.kurinna.microservice.model.tables.records.OrdersRecord;
+
+import java.util.List;
+
+/**
+ * Object graph of queries H1-H3, an order with its customer and line items.
+ */
+public record OrderGraph(OrdersRecord order, CustomerRecord customer, List<LineitemRecord> lineItems) {
+}
@@ -0,0 +1,9 @@
+package cz.cuni.mff.java.kurinna.microservice.dto;
+
+import java.time.LocalDate;
+
+/**
+ * Row of query E2, the key columns of an order.
+ */
+public record OrderSummary(Long orderKey, Long customerKey, LocalDate orderDate, Double totalPrice) {
+}
@@ -0,0 +1,11 @@
+package cz.cuni.mff.java.kurinna.microservice.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * Row of TPC-H query 1, the pricing summary of a return flag and line status.
+ */
+public record PricingSummary(String returnFlag, String lineStatus, BigDecimal sumQty, BigDecimal sumBasePrice,
+        BigDecimal sumDiscPrice, BigDecimal sumCharge, BigDecimal avgQty, BigDecimal avgPrice, BigDecimal avgDisc,
+        Integer countOrder) {
+}
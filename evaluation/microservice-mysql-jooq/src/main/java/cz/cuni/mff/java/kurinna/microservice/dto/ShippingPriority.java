@@ -0,0 +1,10 @@
+package cz.cuni.mff.java.kurinna.microservice.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Row of TPC-H query 3, an unshipped order and its revenue.
+ */
+public record ShippingPriority(Long orderKey, BigDecimal revenue, LocalDate orderDate, Integer shipPriority) {
+}
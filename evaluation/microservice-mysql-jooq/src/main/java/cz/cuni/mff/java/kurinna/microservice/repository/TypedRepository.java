@@ -0,0 +1,838 @@
+package cz.cuni.mff.java.kurinna.microservice.repository;
+
+import cz.cuni.mff.java.kurinna.common.utils.StatementCounter;
+import cz.cuni.mff.java.kurinna.microservice.dto.CustomerBalance;
+import cz.cuni.mff.java.kurinna.microservice.dto.CustomerNationOrder;
+import cz.cuni.mff.java.kurinna.microservice.dto.CustomerOrder;
+import cz.cuni.mff.java.kurinna.microservice.dto.CustomerOrderKey;
+import cz.cuni.mff.java.kurinna.microservice.dto.CustomerRegionOrder;
+import cz.cuni.mff.java.kurinna.microservice.dto.LocalSupplierVolume;
+import cz.cuni.mff.java.kurinna.microservice.dto.MinimumCostSupplier;
+import cz.cuni.mff.java.kurinna.microservice.dto.MonthlyMaxPrice;
+import cz.cuni.mff.java.kurinna.microservice.dto.MonthlyOrderCount;
+import cz.cuni.mff.java.kurinna.microservice.dto.NationSegment;
+import cz.cuni.mff.java.kurinna.microservice.dto.OrderGraph;
+import cz.cuni.mff.java.kurinna.microservice.dto.OrderPriorityCount;
+import cz.cuni.mff.java.kurinna.microservice.dto.OrderSummary;
+import cz.cuni.mff.java.kurinna.microservice.dto.PricingSummary;
+import cz.cuni.mff.java.kurinna.microservice.dto.ShippingPriority;
+import cz.cuni.mff.java.kurinna.microservice.model.tables.Nation;
+import cz.cuni.mff.java.kurinna.microservice.model.tables.Part;
+import cz.cuni.mff.java.kurinna.microservice.model.tables.Partsupp;
+import cz.cuni.mff.java.kurinna.microservice.model.tables.Region;
+import cz.cuni.mff.java.kurinna.microservice.model.tables.Supplier;
+import cz.cuni.mff.java.kurinna.microservice.model.tables.records.CustomerRecord;
+import cz.cuni.mff.java.kurinna.microservice.model.tables.records.LineitemRecord;
+import cz.cuni.mff.java.kurinna.microservice.model.tables.records.OrdersRecord;
+import cz.cuni.mff.java.kurinna.microservice.model.tables.records.PartsuppRecord;
+import org.jooq.Cursor;
+import org.jooq.DSLContext;
+import org.jooq.ExecuteListener;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Record1;
+import org.jooq.RecordMapper;
+import org.jooq.Records;
+import org.jooq.ResultQuery;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static cz.cuni.mff.java.kurinna.microservice.model.Tables.CUSTOMER;
+import static cz.cuni.mff.java.kurinna.microservice.model.Tables.LINEITEM;
+import static cz.cuni.mff.java.kurinna.microservice.model.Tables.NATION;
+import static cz.cuni.mff.java.kurinna.microservice.model.Tables.ORDERS;
+import static cz.cuni.mff.java.kurinna.microservice.model.Tables.PART;
+import static cz.cuni.mff.java.kurinna.microservice.model.Tables.PARTSUPP;
+import static cz.cuni.mff.java.kurinna.microservice.model.Tables.REGION;
+import static cz.cuni.mff.java.kurinna.microservice.model.Tables.SUPPLIER;
+import static org.jooq.impl.DSL.avg;
+import static org.jooq.impl.DSL.count;
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.inline;
+import static org.jooq.impl.DSL.max;
+import static org.jooq.impl.DSL.min;
+import static org.jooq.impl.DSL.multiset;
+import static org.jooq.impl.DSL.select;
+import static org.jooq.impl.DSL.selectDistinct;
+import static org.jooq.impl.DSL.selectFrom;
+import static org.jooq.impl.DSL.selectOne;
+import static org.jooq.impl.DSL.sum;
+
+/**
+ * Repository class executing the query set through jOOQ's idiomatic path.
+ * Unlike {@link UniversalRepository}, which runs plain SQL strings and copies the result into maps,
+ * the queries are built with the generated tables and the rows are mapped straight into the generated
+ * table records or into Java records.
+ * <p>
+ * Every query has a materialized variant returning the mapped rows and a streaming variant which maps
+ * the rows one by one from a lazy cursor and only counts them. The cursor uses the configured fetch
+ * size: {@link Integer#MIN_VALUE} makes the MySQL driver stream the result row by row, a positive
+ * value together with {@code useCursorFetch=true} in the connection URL reads the result through a
+ * server-side cursor in batches of that size.
+ * <p>
+ * The point lookups fetch a single table record by its primary key and have no streaming variant,
+ * neither have the pages of the pagination queries, nor the object graph queries.
+ * <p>
+ * The object graph queries run on a context derived with an execute listener reporting every executed
+ * statement to the {@link StatementCounter}, the other queries run without the listener.
+ */
+@Repository
+public class TypedRepository {
+    private final DSLContext dslContext;
+    private final DSLContext graphContext;
+    private final int fetchSize;
+
+    /**
+     * Constructs a new TypedRepository with the specified DSLContext.
+     *
+     * @param dslContext The jOOQ DSLContext used for building and executing queries
+     * @param fetchSize The fetch size of the streaming queries
+     */
+    public TypedRepository(DSLContext dslContext,
+            @Value("${jooq.streaming.fetch-size:-2147483648}") int fetchSize) {
+        this.dslContext = dslContext;
+        this.graphContext = dslContext.configuration()
+                .deriveAppending(ExecuteListener.onExecuteStart(context -> StatementCounter.executed()))
+                .dsl();
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * A1) Retrieves all records from the lineitem table.
+     *
+     * @return List of lineitem records
+     */
+    public List<LineitemRecord> a1() {
+        return a1Query().fetch();
+    }
+
+    public long a1Streaming() {
+        return a1Query().fetchLazy(fetchSize);
+    }
+
+    private MappedQuery<?, LineitemRecord> a1Query() {
+        return mapped(dslContext.selectFrom(LINEITEM), record -> record);
+    }
+
+    /**
+     * A2) Retrieves orders within a specified date range.
+     *
+     * @param startDate The start date of the range (inclusive)
+     * @param endDate The end date of the range (inclusive)
+     * @return List of order records within the date range
+     */
+    public List<OrdersRecord> a2(LocalDate startDate, LocalDate endDate) {
+        return a2Query(startDate, endDate).fetch();
+    }
+
+    public long a2Streaming(LocalDate startDate, LocalDate endDate) {
+        return a2Query(startDate, endDate).fetchLazy(fetchSize);
+    }
+
+    private MappedQuery<?, OrdersRecord> a2Query(LocalDate startDate, LocalDate endDate) {
+        return mapped(dslContext.selectFrom(ORDERS)
+                .where(ORDERS.O_ORDERDATE.between(startDate, endDate)), record -> record);
+    }
+
+    /**
+     * A3) Retrieves all records from the customer table.
+     *
+     * @return List of customer records
+     */
+    public List<CustomerRecord> a3() {
+        return a3Query().fetch();
+    }
+
+    public long a3Streaming() {
+        return a3Query().fetchLazy(fetchSize);
+    }
+
+    private MappedQuery<?, CustomerRecord> a3Query() {
+        return mapped(dslContext.selectFrom(CUSTOMER), record -> record);
+    }
+
+    /**
+     * A4) Retrieves orders within a specified order key range.
+     *
+     * @param minOrderKey The minimum order key (inclusive)
+     * @param maxOrderKey The maximum order key (inclusive)
+     * @return List of order records within the order key range
+     */
+    public List<OrdersRecord> a4(int minOrderKey, int maxOrderKey) {
+        return a4Query(minOrderKey, maxOrderKey).fetch();
+    }
+
+    public long a4Streaming(int minOrderKey, int maxOrderKey) {
+        return a4Query(minOrderKey, maxOrderKey).fetchLazy(fetchSize);
+    }
+
+    private MappedQuery<?, OrdersRecord> a4Query(int minOrderKey, int maxOrderKey) {
+        return mapped(dslContext.selectFrom(ORDERS)
+                .where(ORDERS.O_ORDERKEY.between((long) minOrderKey, (long) maxOrderKey)), record -> record);
+    }
+
+    /**
+     * B1) Counts orders grouped by month.
+     *
+     * @return List of order counts by month
+     */
+    public List<MonthlyOrderCount> b1() {
+        return b1Query().fetch();
+    }
+
+    public long b1Streaming() {
+        return b1Query().fetchLazy(fetchSize);
+    }
+
+    private MappedQuery<?, MonthlyOrderCount> b1Query() {
+        Field<String> orderMonth = yearMonth(ORDERS.O_ORDERDATE).as("order_month");
+        return mapped(dslContext.select(count(ORDERS.O_ORDERKEY).as("order_count"), orderMonth)
+                .from(ORDERS)
+                .groupBy(orderMonth), Records.mapping(MonthlyOrderCount::new));
+    }
+
+    /**
+     * B2) Finds the maximum extended price for line items grouped by ship month.
+     *
+     * @return List of maximum prices by ship month
+     */
+    public List<MonthlyMaxPrice> b2() {
+        return b2Query().fetch();
+    }
+
+    public long b2Streaming() {
+        return b2Query().fetchLazy(fetchSize);
+    }
+
+    private MappedQuery<?, MonthlyMaxPrice> b2Query() {
+        Field<String> shipMonth = yearMonth(LINEITEM.L_SHIPDATE).as("ship_month");
+        return mapped(dslContext.select(shipMonth, max(LINEITEM.L_EXTENDEDPRICE).as("max_price"))
+                .from(LINEITEM)
+                .groupBy(shipMonth), Records.mapping(MonthlyMaxPrice::new));
+    }
+
+    /**
+     * C1) Performs a Cartesian product between customer and orders tables.
+     *
+     * @return List of customer names and order details
+     */
+    public List<CustomerOrder> c1() {
+        return c1Query().fetch();
+    }
+
+    public long c1Streaming() {
+        return c1Query().fetchLazy(fetchSize);
+    }
+
+    private MappedQuery<?, CustomerOrder> c1Query() {
+        return mapped(dslContext.select(CUSTOMER.C_NAME, ORDERS.O_ORDERDATE, ORDERS.O_TOTALPRICE)
+                .from(CUSTOMER, ORDERS), Records.mapping(CustomerOrder::new));
+    }
+
+    /**
+     * C2) Joins customer and orders tables on customer key.
+     *
+     * @return List of customer names and order details
+     */
+    public List<CustomerOrder> c2() {
+        return c2Query().fetch();
+    }
+
+    public long c2Streaming() {
+        return c2Query().fetchLazy(fetchSize);
+    }
+
+    private MappedQuery<?, CustomerOrder> c2Query() {
+        return mapped(dslContext.select(CUSTOMER.C_NAME, ORDERS.O_ORDERDATE, ORDERS.O_TOTALPRICE)
+                .from(CUSTOMER)
+                .join(ORDERS).on(CUSTOMER.C_CUSTKEY.eq(ORDERS.O_CUSTKEY)), Records.mapping(CustomerOrder::new));
+    }
+
+    /**
+     * C3) Joins customer, nation, and orders tables.
+     *
+     * @return List of customer names, nation names, and order details
+     */
+    public List<CustomerNationOrder> c3() {
+        return c3Query().fetch();
+    }
+
+    public long c3Streaming() {
+        return c3Query().fetchLazy(fetchSize);
+    }
+
+    private MappedQuery<?, CustomerNationOrder> c3Query() {
+        return mapped(dslContext.select(CUSTOMER.C_NAME, NATION.N_NAME, ORDERS.O_ORDERDATE, ORDERS.O_TOTALPRICE)
+                .from(CUSTOMER)
+                .join(NATION).on(CUSTOMER.C_NATIONKEY.eq(NATION.N_NATIONKEY))
+                .join(ORDERS).on(CUSTOMER.C_CUSTKEY.eq(ORDERS.O_CUSTKEY)), Records.mapping(CustomerNationOrder::new));
+    }
+
+    /**
+     * C4) Joins customer, nation, region, and orders tables.
+     *
+     * @return List of customer names, nation names, region names, and order details
+     */
+    public List<CustomerRegionOrder> c4() {
+        return c4Query().fetch();
+    }
+
+    public long c4Streaming() {
+        return c4Query().fetchLazy(fetchSize);
+    }
+
+    private MappedQuery<?, CustomerRegionOrder> c4Query() {
+        return mapped(dslContext.select(CUSTOMER.C_NAME, NATION.N_NAME, REGION.R_NAME, ORDERS.O_ORDERDATE,
+                        ORDERS.O_TOTALPRICE)
+                .from(CUSTOMER)
+                .join(NATION).on(CUSTOMER.C_NATIONKEY.eq(NATION.N_NATIONKEY))
+                .join(REGION).on(NATION.N_REGIONKEY.eq(REGION.R_REGIONKEY))
+                .join(ORDERS).on(CUSTOMER.C_CUSTKEY.eq(ORDERS.O_CUSTKEY)), Records.mapping(CustomerRegionOrder::new));
+    }
+
+    /**
+     * C5) Performs a left outer join between customer and orders tables.
+     *
+     * @return List of customer details and their orders (if any)
+     */
+    public List<CustomerOrderKey> c5() {
+        return c5Query().fetch();
+    }
+
+    public long c5Streaming() {
+        return c5Query().fetchLazy(fetchSize);
+    }
+
+    private MappedQuery<?, CustomerOrderKey> c5Query() {
+        return mapped(dslContext.select(CUSTOMER.C_CUSTKEY, CUSTOMER.C_NAME, ORDERS.O_ORDERKEY, ORDERS.O_ORDERDATE)
+                .from(CUSTOMER)
+                .leftOuterJoin(ORDERS).on(CUSTOMER.C_CUSTKEY.eq(ORDERS.O_CUSTKEY)),
+                Records.mapping(CustomerOrderKey::new));
+    }
+
+    /**
+     * D1) Combines nation keys from both customer and supplier tables.
+     *
+     * @return List of unique nation keys from both tables
+     */
+    public List<Integer> d1() {
+        return d1Query().fetch();
+    }
+
+    public long d1Streaming() {
+        return d1Query().fetchLazy(fetchSize);
+    }
+
+    private MappedQuery<?, Integer> d1Query() {
+        return mapped(dslContext.select(CUSTOMER.C_NATIONKEY.as("nationkey"))
+                .from(CUSTOMER)
+                .union(select(SUPPLIER.S_NATIONKEY).from(SUPPLIER)), Record1::value1);
+    }
+
+    /**
+     * D2) Finds customer keys that also exist as supplier keys.
+     *
+     * @return List of customer keys that are also supplier keys
+     */
+    public List<Long> d2() {
+        return d2Query().fetch();
+    }
+
+    public long d2Streaming() {
+        return d2Query().fetchLazy(fetchSize);
+    }
+
+    private MappedQuery<?, Long> d2Query() {
+        return mapped(dslContext.selectDistinct(CUSTOMER.C_CUSTKEY.as("custkey"))
+                .from(CUSTOMER)
+                .where(CUSTOMER.C_CUSTKEY.in(select(SUPPLIER.S_SUPPKEY).from(SUPPLIER))), Record1::value1);
+    }
+
+    /**
+     * D3) Finds customer keys that do not exist as supplier keys.
+     *
+     * @return List of customer keys that are not supplier keys
+     */
+    public List<Long> d3() {
+        return d3Query().fetch();
+    }
+
+    public long d3Streaming() {
+        return d3Query().fetchLazy(fetchSize);
+    }
+
+    private MappedQuery<?, Long> d3Query() {
+        return mapped(dslContext.selectDistinct(CUSTOMER.C_CUSTKEY.as("custkey"))
+                .from(CUSTOMER)
+                .where(CUSTOMER.C_CUSTKEY.notIn(selectDistinct(SUPPLIER.S_SUPPKEY).from(SUPPLIER))), Record1::value1);
+    }
+
+    /**
+     * E1) Retrieves customer information sorted by account balance in descending order.
+     *
+     * @return List of customers sorted by account balance
+     */
+    public List<CustomerBalance> e1() {
+        return e1Query().fetch();
+    }
+
+    public long e1Streaming() {
+        return e1Query().fetchLazy(fetchSize);
+    }
+
+    private MappedQuery<?, CustomerBalance> e1Query() {
+        return mapped(dslContext.select(CUSTOMER.C_NAME, CUSTOMER.C_ADDRESS, CUSTOMER.C_ACCTBAL)
+                .from(CUSTOMER)
+                .orderBy(CUSTOMER.C_ACCTBAL.desc()), Records.mapping(CustomerBalance::new));
+    }
+
+    /**
+     * E2) Retrieves order information sorted by order key.
+     *
+     * @return List of orders sorted by order key
+     */
+    public List<OrderSummary> e2() {
+        return e2Query().fetch();
+    }
+
+    public long e2Streaming() {
+        return e2Query().fetchLazy(fetchSize);
+    }
+
+    private MappedQuery<?, OrderSummary> e2Query() {
+        return mapped(dslContext.select(ORDERS.O_ORDERKEY, ORDERS.O_CUSTKEY, ORDERS.O_ORDERDATE, ORDERS.O_TOTALPRICE)
+                .from(ORDERS)
+                .orderBy(ORDERS.O_ORDERKEY.asc()), Records.mapping(OrderSummary::new));
+    }
+
+    /**
+     * E3) Retrieves unique combinations of nation key and market segment from customers.
+     *
+     * @return List of unique nation key and market segment combinations
+     */
+    public List<NationSegment> e3() {
+        return e3Query().fetch();
+    }
+
+    public long e3Streaming() {
+        return e3Query().fetchLazy(fetchSize);
+    }
+
+    private MappedQuery<?, NationSegment> e3Query() {
+        return mapped(dslContext.selectDistinct(CUSTOMER.C_NATIONKEY, CUSTOMER.C_MKTSEGMENT)
+                .from(CUSTOMER), Records.mapping(NationSegment::new));
+    }
+
+    /**
+     * Executes TPC-H Query 1: Pricing Summary Report.
+     *
+     * @param days Number of days to subtract from the cutoff date (1998-12-01)
+     * @return List of pricing summaries by return flag and line status
+     */
+    public List<PricingSummary> q1(int days) {
+        return q1Query(days).fetch();
+    }
+
+    public long q1Streaming(int days) {
+        return q1Query(days).fetchLazy(fetchSize);
+    }
+
+    private MappedQuery<?, PricingSummary> q1Query(int days) {
+        LocalDate cutoff = LocalDate.of(1998, 12, 1).minusDays(days);
+        Field<Double> discountedPrice = discountedPrice();
+        return mapped(dslContext.select(
+                        LINEITEM.L_RETURNFLAG,
+                        LINEITEM.L_LINESTATUS,
+                        sum(LINEITEM.L_QUANTITY).as("sum_qty"),
+                        sum(LINEITEM.L_EXTENDEDPRICE).as("sum_base_price"),
+                        sum(discountedPrice).as("sum_disc_price"),
+                        sum(discountedPrice.mul(inline(1.0).add(LINEITEM.L_TAX))).as("sum_charge"),
+                        avg(LINEITEM.L_QUANTITY).as("avg_qty"),
+                        avg(LINEITEM.L_EXTENDEDPRICE).as("avg_price"),
+                        avg(LINEITEM.L_DISCOUNT).as("avg_disc"),
+                        count().as("count_order"))
+                .from(LINEITEM)
+                .where(LINEITEM.L_SHIPDATE.le(cutoff))
+                .groupBy(LINEITEM.L_RETURNFLAG, LINEITEM.L_LINESTATUS)
+                .orderBy(LINEITEM.L_RETURNFLAG, LINEITEM.L_LINESTATUS), Records.mapping(PricingSummary::new));
+    }
+
+    /**
+     * Executes TPC-H Query 2: Minimum Cost Supplier.
+     *
+     * @param size The size of the part
+     * @param type The type of the part (used in LIKE pattern)
+     * @param region The name of the region
+     * @return List of suppliers offering the parts at the minimum cost
+     */
+    public List<MinimumCostSupplier> q2(int size, String type, String region) {
+        return q2Query(size, type, region).fetch();
+    }
+
+    public long q2Streaming(int size, String type, String region) {
+        return q2Query(size, type, region).fetchLazy(fetchSize);
+    }
+
+    private MappedQuery<?, MinimumCostSupplier> q2Query(int size, String type, String region) {
+        Part p = PART.as("p");
+        Partsupp ps = PARTSUPP.as("ps");
+        Supplier s = SUPPLIER.as("s");
+        Nation n = NATION.as("n");
+        Region r = REGION.as("r");
+        Partsupp ps2 = PARTSUPP.as("ps2");
+        Supplier s2 = SUPPLIER.as("s2");
+        Nation n2 = NATION.as("n2");
+        Region r2 = REGION.as("r2");
+
+        return mapped(dslContext.select(s.S_ACCTBAL, s.S_NAME, n.N_NAME, p.P_PARTKEY, p.P_MFGR, s.S_ADDRESS,
+                        s.S_PHONE, s.S_COMMENT)
+                .from(p)
+                .join(ps).on(p.P_PARTKEY.eq(ps.PS_PARTKEY))
+                .join(s).on(s.S_SUPPKEY.eq(ps.PS_SUPPKEY))
+                .join(n).on(s.S_NATIONKEY.eq(n.N_NATIONKEY))
+                .join(r).on(n.N_REGIONKEY.eq(r.R_REGIONKEY))
+                .where(p.P_SIZE.eq(size))
+                .and(p.P_TYPE.like(type))
+                .and(r.R_NAME.eq(region))
+                .and(ps.PS_SUPPLYCOST.eq(select(min(ps2.PS_SUPPLYCOST))
+                        .from(ps2)
+                        .join(s2).on(s2.S_SUPPKEY.eq(ps2.PS_SUPPKEY))
+                        .join(n2).on(s2.S_NATIONKEY.eq(n2.N_NATIONKEY))
+                        .join(r2).on(n2.N_REGIONKEY.eq(r2.R_REGIONKEY))
+                        .where(p.P_PARTKEY.eq(ps2.PS_PARTKEY))
+                        .and(r2.R_NAME.eq(region))))
+                .orderBy(s.S_ACCTBAL.desc(), n.N_NAME.asc(), s.S_NAME.asc(), p.P_PARTKEY.asc())
+                .limit(100), Records.mapping(MinimumCostSupplier::new));
+    }
+
+    /**
+     * Executes TPC-H Query 3: Shipping Priority.
+     *
+     * @param segment The market segment to consider
+     * @param orderDate The cutoff date for orders
+     * @param shipDate The cutoff date for shipments
+     * @return List of the unshipped orders with the highest revenue
+     */
+    public List<ShippingPriority> q3(String segment, LocalDate orderDate, LocalDate shipDate) {
+        return q3Query(segment, orderDate, shipDate).fetch();
+    }
+
+    public long q3Streaming(String segment, LocalDate orderDate, LocalDate shipDate) {
+        return q3Query(segment, orderDate, shipDate).fetchLazy(fetchSize);
+    }
+
+    private MappedQuery<?, ShippingPriority> q3Query(String segment, LocalDate orderDate, LocalDate shipDate) {
+        Field<BigDecimal> revenue = sum(discountedPrice()).as("revenue");
+        return mapped(dslContext.select(LINEITEM.L_ORDERKEY, revenue, ORDERS.O_ORDERDATE, ORDERS.O_SHIPPRIORITY)
+                .from(CUSTOMER)
+                .join(ORDERS).on(CUSTOMER.C_CUSTKEY.eq(ORDERS.O_CUSTKEY))
+                .join(LINEITEM).on(LINEITEM.L_ORDERKEY.eq(ORDERS.O_ORDERKEY))
+                .where(CUSTOMER.C_MKTSEGMENT.eq(segment))
+                .and(ORDERS.O_ORDERDATE.lt(orderDate))
+                .and(LINEITEM.L_SHIPDATE.gt(shipDate))
+                .groupBy(LINEITEM.L_ORDERKEY, ORDERS.O_ORDERDATE, ORDERS.O_SHIPPRIORITY)
+                .orderBy(revenue.desc(), ORDERS.O_ORDERDATE.asc())
+                .limit(10), Records.mapping(ShippingPriority::new));
+    }
+
+    /**
+     * Executes TPC-H Query 4: Order Priority Checking.
+     *
+     * @param orderDate The start date for the three-month period
+     * @return List of order counts by priority
+     */
+    public List<OrderPriorityCount> q4(LocalDate orderDate) {
+        return q4Query(orderDate).fetch();
+    }
+
+    public long q4Streaming(LocalDate orderDate) {
+        return q4Query(orderDate).fetchLazy(fetchSize);
+    }
+
+    private MappedQuery<?, OrderPriorityCount> q4Query(LocalDate orderDate) {
+        LocalDate endDate = orderDate.plusMonths(3);
+        return mapped(dslContext.select(ORDERS.O_ORDERPRIORITY, count().as("order_count"))
+                .from(ORDERS)
+                .where(ORDERS.O_ORDERDATE.ge(orderDate))
+                .and(ORDERS.O_ORDERDATE.lt(endDate))
+                .andExists(selectOne()
+                        .from(LINEITEM)
+                        .where(LINEITEM.L_ORDERKEY.eq(ORDERS.O_ORDERKEY))
+                        .and(LINEITEM.L_COMMITDATE.lt(LINEITEM.L_RECEIPTDATE)))
+                .groupBy(ORDERS.O_ORDERPRIORITY)
+                .orderBy(ORDERS.O_ORDERPRIORITY.asc()), Records.mapping(OrderPriorityCount::new));
+    }
+
+    /**
+     * Executes TPC-H Query 5: Local Supplier Volume.
+     *
+     * @param region The name of the region
+     * @param orderDate The start date for the one-year period
+     * @return List of revenues by nation
+     */
+    public List<LocalSupplierVolume> q5(String region, LocalDate orderDate) {
+        return q5Query(region, orderDate).fetch();
+    }
+
+    public long q5Streaming(String region, LocalDate orderDate) {
+        return q5Query(region, orderDate).fetchLazy(fetchSize);
+    }
+
+    private MappedQuery<?, LocalSupplierVolume> q5Query(String region, LocalDate orderDate) {
+        LocalDate endDate = orderDate.plusYears(1);
+        Field<BigDecimal> revenue = sum(discountedPrice()).as("revenue");
+        return mapped(dslContext.select(NATION.N_NAME, revenue)
+                .from(CUSTOMER)
+                .join(ORDERS).on(CUSTOMER.C_CUSTKEY.eq(ORDERS.O_CUSTKEY))
+                .join(LINEITEM).on(LINEITEM.L_ORDERKEY.eq(ORDERS.O_ORDERKEY))
+                .join(SUPPLIER).on(LINEITEM.L_SUPPKEY.eq(SUPPLIER.S_SUPPKEY))
+                .join(NATION).on(SUPPLIER.S_NATIONKEY.eq(NATION.N_NATIONKEY))
+                .join(REGION).on(NATION.N_REGIONKEY.eq(REGION.R_REGIONKEY))
+                .where(REGION.R_NAME.eq(region))
+                .and(ORDERS.O_ORDERDATE.ge(orderDate))
+                .and(ORDERS.O_ORDERDATE.lt(endDate))
+                .and(CUSTOMER.C_NATIONKEY.eq(SUPPLIER.S_NATIONKEY))
+                .groupBy(NATION.N_NAME)
+                .orderBy(revenue.desc()), Records.mapping(LocalSupplierVolume::new));
+    }
+
+    /**
+     * F1) Looks up a single order by its primary key.
+     *
+     * @param orderKey The order key
+     * @return The order, or null if there is no such order
+     */
+    public OrdersRecord f1(long orderKey) {
+        return dslContext.fetchOne(ORDERS, ORDERS.O_ORDERKEY.eq(orderKey));
+    }
+
+    /**
+     * F2) Looks up a single customer by its primary key.
+     *
+     * @param customerKey The customer key
+     * @return The customer, or null if there is no such customer
+     */
+    public CustomerRecord f2(long customerKey) {
+        return dslContext.fetchOne(CUSTOMER, CUSTOMER.C_CUSTKEY.eq(customerKey));
+    }
+
+    /**
+     * F3) Looks up a single line item by its composite primary key.
+     *
+     * @param orderKey The order key of the line item
+     * @param lineNumber The line number within the order
+     * @return The line item, or null if there is no such line item
+     */
+    public LineitemRecord f3(long orderKey, long lineNumber) {
+        return dslContext.fetchOne(LINEITEM, LINEITEM.L_ORDERKEY.eq(orderKey).and(LINEITEM.L_LINENUMBER.eq(lineNumber)));
+    }
+
+    /**
+     * F4) Looks up a single part supplier by its composite primary key.
+     *
+     * @param partKey The part key
+     * @param supplierKey The supplier key
+     * @return The part supplier, or null if there is no such part supplier
+     */
+    public PartsuppRecord f4(long partKey, long supplierKey) {
+        return dslContext.fetchOne(PARTSUPP, PARTSUPP.PS_PARTKEY.eq(partKey).and(PARTSUPP.PS_SUPPKEY.eq(supplierKey)));
+    }
+
+    /**
+     * G1) Reads a page of orders ordered by the order key, skipping the rows of the preceding pages.
+     *
+     * @param offset Number of skipped rows
+     * @param limit Number of rows of the page
+     * @return The orders of the page
+     */
+    public List<OrdersRecord> g1(long offset, int limit) {
+        return dslContext.selectFrom(ORDERS)
+                .orderBy(ORDERS.O_ORDERKEY)
+                .limit(limit)
+                .offset(offset)
+                .fetch();
+    }
+
+    /**
+     * G2) Reads a page of orders following the given order key with the seek clause.
+     *
+     * @param orderKey The order key of the last row of the previous page, 0 for the first page
+     * @param limit Number of rows of the page
+     * @return The orders of the page
+     */
+    public List<OrdersRecord> g2(long orderKey, int limit) {
+        return dslContext.selectFrom(ORDERS)
+                .orderBy(ORDERS.O_ORDERKEY)
+                .seek(orderKey)
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * G3) Reads a page of line items ordered by their composite primary key, skipping the rows of the
+     * preceding pages.
+     *
+     * @param offset Number of skipped rows
+     * @param limit Number of rows of the page
+     * @return The line items of the page
+     */
+    public List<LineitemRecord> g3(long offset, int limit) {
+        return dslContext.selectFrom(LINEITEM)
+                .orderBy(LINEITEM.L_ORDERKEY, LINEITEM.L_LINENUMBER)
+                .limit(limit)
+                .offset(offset)
+                .fetch();
+    }
+
+    /**
+     * G4) Reads a page of line items following the given composite primary key with the seek clause.
+     *
+     * @param orderKey The order key of the last row of the previous page, 0 for the first page
+     * @param lineNumber The line number of the last row of the previous page
+     * @param limit Number of rows of the page
+     * @return The line items of the page
+     */
+    public List<LineitemRecord> g4(long orderKey, long lineNumber, int limit) {
+        return dslContext.selectFrom(LINEITEM)
+                .orderBy(LINEITEM.L_ORDERKEY, LINEITEM.L_LINENUMBER)
+                .seek(orderKey, lineNumber)
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * H1) Loads the orders of a date range with their customer and line items lazily: one query reads the
+     * orders, then one query per order reads its line items and one query per customer reads the customer
+     * (N+1). A customer is read once per execution and shared by all of its orders.
+     *
+     * @param startDate The start date of the range (inclusive)
+     * @param endDate The end date of the range (inclusive)
+     * @return The orders with their customer and line items
+     */
+    public List<OrderGraph> h1(LocalDate startDate, LocalDate endDate) {
+        Map<Long, CustomerRecord> customers = new HashMap<>();
+        List<OrderGraph> orders = new ArrayList<>();
+        for (OrdersRecord order : graphOrders(startDate, endDate)) {
+            CustomerRecord customer = customers.computeIfAbsent(order.getOCustkey(), customerKey ->
+                    graphContext.selectFrom(CUSTOMER).where(CUSTOMER.C_CUSTKEY.eq(customerKey)).fetchOne());
+            List<LineitemRecord> lineItems = graphContext.selectFrom(LINEITEM)
+                    .where(LINEITEM.L_ORDERKEY.eq(order.getOOrderkey()))
+                    .orderBy(LINEITEM.L_LINENUMBER)
+                    .fetch();
+            orders.add(new OrderGraph(order, customer, lineItems));
+        }
+        return orders;
+    }
+
+    /**
+     * H2) Loads the orders of a date range with their customer and line items by a single query joining
+     * the customer and the line items. The joined rows are split into the table records and grouped by
+     * the order key.
+     *
+     * @param startDate The start date of the range (inclusive)
+     * @param endDate The end date of the range (inclusive)
+     * @return The orders with their customer and line items
+     */
+    public List<OrderGraph> h2(LocalDate startDate, LocalDate endDate) {
+        Map<Long, OrderGraph> orders = new LinkedHashMap<>();
+        for (Record record : graphContext.select(ORDERS.fields())
+                .select(CUSTOMER.fields())
+                .select(LINEITEM.fields())
+                .from(ORDERS)
+                .join(CUSTOMER).on(CUSTOMER.C_CUSTKEY.eq(ORDERS.O_CUSTKEY))
+                .leftJoin(LINEITEM).on(LINEITEM.L_ORDERKEY.eq(ORDERS.O_ORDERKEY))
+                .where(ORDERS.O_ORDERDATE.between(startDate, endDate))
+                .orderBy(ORDERS.O_ORDERKEY, LINEITEM.L_LINENUMBER)
+                .fetch()) {
+            OrderGraph order = orders.computeIfAbsent(record.get(ORDERS.O_ORDERKEY), orderKey ->
+                    new OrderGraph(record.into(ORDERS), record.into(CUSTOMER), new ArrayList<>()));
+            if (record.get(LINEITEM.L_ORDERKEY) != null) {
+                order.lineItems().add(record.into(LINEITEM));
+            }
+        }
+        return new ArrayList<>(orders.values());
+    }
+
+    /**
+     * H3) Loads the orders of a date range with their customer and line items by a single query, the line
+     * items of every order are nested into its row by a MULTISET correlated subquery, which MySQL aggregates
+     * into a JSON array. The customer is joined, being a single row per order. The subqueries are executed
+     * by the database, so the query is never split into batches.
+     *
+     * @param startDate The start date of the range (inclusive)
+     * @param endDate The end date of the range (inclusive)
+     * @return The orders with their customer and line items
+     */
+    public List<OrderGraph> h3(LocalDate startDate, LocalDate endDate) {
+        return graphContext.select(
+                        ORDERS,
+                        CUSTOMER,
+                        multiset(selectFrom(LINEITEM)
+                                .where(LINEITEM.L_ORDERKEY.eq(ORDERS.O_ORDERKEY))
+                                .orderBy(LINEITEM.L_LINENUMBER)))
+                .from(ORDERS)
+                .join(CUSTOMER).on(CUSTOMER.C_CUSTKEY.eq(ORDERS.O_CUSTKEY))
+                .where(ORDERS.O_ORDERDATE.between(startDate, endDate))
+                .orderBy(ORDERS.O_ORDERKEY)
+                .fetch(Records.mapping(OrderGraph::new));
+    }
+
+    private List<OrdersRecord> graphOrders(LocalDate startDate, LocalDate endDate) {
+        return graphContext.selectFrom(ORDERS)
+                .where(ORDERS.O_ORDERDATE.between(startDate, endDate))
+                .orderBy(ORDERS.O_ORDERKEY)
+                .fetch();
+    }
+
+    /**
+     * @return l_extendedprice * (1 - l_discount)
+     */
+    private static Field<Double> discountedPrice() {
+        return LINEITEM.L_EXTENDEDPRICE.mul(inline(1.0).sub(LINEITEM.L_DISCOUNT));
+    }
+
+    /**
+     * @return The date formatted as yyyy-MM, MySQL has no typed jOOQ function for DATE_FORMAT
+     */
+    private static Field<String> yearMonth(Field<LocalDate> date) {
+        return field("DATE_FORMAT({0}, '%Y-%m')", String.class, date);
+    }
+
+    private static <R extends Record, E> MappedQuery<R, E> mapped(ResultQuery<R> query,
+            RecordMapper<? super R, E> mapper) {
+        return new MappedQuery<>(query, mapper);
+    }
+
+    /**
+     * A query together with the mapping of its rows.
+     */
+    private record MappedQuery<R extends Record, E>(ResultQuery<R> query, RecordMapper<? super R, E> mapper) {
+        List<E> fetch() {
+            return query.fetch(mapper);
+        }
+
+        /**
+         * Maps the rows one by one from a lazy cursor, nothing is retained after a row is mapped.
+         *
+         * @return The number of rows
+         */
+        long fetchLazy(int fetchSize) {
+            long rows = 0;
+            try (Cursor<R> cursor = query.fetchSize(fetchSize).fetchLazy()) {
+                for (R record : cursor) {
+                    mapper.map(record);
+                    rows++;
+                }
+            }
+            return rows;
+        }
+    }
+}
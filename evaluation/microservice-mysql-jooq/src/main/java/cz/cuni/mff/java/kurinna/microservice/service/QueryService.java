@@ -4,6 +4,7 @@ import cz.cuni.mff.java.kurinna.common.service.IQueryService;
 import cz.cuni.mff.java.kurinna.microservice.repository.UniversalRepository;
 import org.springframework.stereotype.Service;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
@@ -104,4 +105,73 @@ public class QueryService implements IQueryService<Map<String, Object>> {
     public List<Map<String, Object>> q5(String region, LocalDate orderDate) {
         return universalRepository.q5(region, orderDate);
     }
+
+    public List<Map<String, Object>> q6(LocalDate shipDate, BigDecimal discount, int quantity) {
+        return universalRepository.q6(shipDate, discount, quantity);
+    }
+
+    public List<Map<String, Object>> q7(String nation1, String nation2) {
+        return universalRepository.q7(nation1, nation2);
+    }
+
+    public List<Map<String, Object>> q8(String nation, String region, String type) {
+        return universalRepository.q8(nation, region, type);
+    }
+
+    public List<Map<String, Object>> q9(String color) {
+        return universalRepository.q9(color);
+    }
+
+    public List<Map<String, Object>> q10(LocalDate orderDate) {
+        return universalRepository.q10(orderDate);
+    }
+
+    public List<Map<String, Object>> q11(String nation, BigDecimal fraction) {
+        return universalRepository.q11(nation, fraction);
+    }
+
+    public List<Map<String, Object>> q12(String shipMode1, String shipMode2, LocalDate receiptDate) {
+        return universalRepository.q12(shipMode1, shipMode2, receiptDate);
+    }
+
+    public List<Map<String, Object>> q13(String word1, String word2) {
+        return universalRepository.q13(word1, word2);
+    }
+
+    public List<Map<String, Object>> q14(LocalDate shipDate) {
+        return universalRepository.q14(shipDate);
+    }
+
+    public List<Map<String, Object>> q15(LocalDate shipDate) {
+        return universalRepository.q15(shipDate);
+    }
+
+    public List<Map<String, Object>> q16(String brand, String type, List<Integer> sizes) {
+        return universalRepository.q16(brand, type, sizes);
+    }
+
+    public List<Map<String, Object>> q17(String brand, String container) {
+        return universalRepository.q17(brand, container);
+    }
+
+    public List<Map<String, Object>> q18(int quantity) {
+        return universalRepository.q18(quantity);
+    }
+
+    public List<Map<String, Object>> q19(String brand1, String brand2, String brand3, int quantity1, int quantity2,
+            int quantity3) {
+        return universalRepository.q19(brand1, brand2, brand3, quantity1, quantity2, quantity3);
+    }
+
+    public List<Map<String, Object>> q20(String color, LocalDate shipDate, String nation) {
+        return universalRepository.q20(color, shipDate, nation);
+    }
+
+    public List<Map<String, Object>> q21(String nation) {
+        return universalRepository.q21(nation);
+    }
+
+    public List<Map<String, Object>> q22(List<String> countryCodes) {
+        return universalRepository.q22(countryCodes);
+    }
 }
@@ -0,0 +1,258 @@
+package cz.cuni.mff.java.kurinna.microservice.service;
+
+import cz.cuni.mff.java.kurinna.microservice.dto.CustomerBalance;
+import cz.cuni.mff.java.kurinna.microservice.dto.CustomerNationOrder;
+import cz.cuni.mff.java.kurinna.microservice.dto.CustomerOrder;
+import cz.cuni.mff.java.kurinna.microservice.dto.CustomerOrderKey;
+import cz.cuni.mff.java.kurinna.microservice.dto.CustomerRegionOrder;
+import cz.cuni.mff.java.kurinna.microservice.dto.LocalSupplierVolume;
+import cz.cuni.mff.java.kurinna.microservice.dto.MinimumCostSupplier;
+import cz.cuni.mff.java.kurinna.microservice.dto.MonthlyMaxPrice;
+import cz.cuni.mff.java.kurinna.microservice.dto.MonthlyOrderCount;
+import cz.cuni.mff.java.kurinna.microservice.dto.NationSegment;
+import cz.cuni.mff.java.kurinna.microservice.dto.OrderGraph;
+import cz.cuni.mff.java.kurinna.microservice.dto.OrderPriorityCount;
+import cz.cuni.mff.java.kurinna.microservice.dto.OrderSummary;
+import cz.cuni.mff.java.kurinna.microservice.dto.PricingSummary;
+import cz.cuni.mff.java.kurinna.microservice.dto.ShippingPriority;
+import cz.cuni.mff.java.kurinna.microservice.model.tables.records.CustomerRecord;
+import cz.cuni.mff.java.kurinna.microservice.model.tables.records.LineitemRecord;
+import cz.cuni.mff.java.kurinna.microservice.model.tables.records.OrdersRecord;
+import cz.cuni.mff.java.kurinna.microservice.model.tables.records.PartsuppRecord;
+import cz.cuni.mff.java.kurinna.microservice.repository.TypedRepository;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Service executing the query set through the generated jOOQ DSL, see {@link TypedRepository}.
+ */
+@Service
+public class TypedQueryService {
+    private final TypedRepository typedRepository;
+
+    public TypedQueryService(TypedRepository typedRepository) {
+        this.typedRepository = typedRepository;
+    }
+
+    public List<LineitemRecord> a1() {
+        return typedRepository.a1();
+    }
+
+    public long a1Streaming() {
+        return typedRepository.a1Streaming();
+    }
+
+    public List<OrdersRecord> a2(LocalDate startDate, LocalDate endDate) {
+        return typedRepository.a2(startDate, endDate);
+    }
+
+    public long a2Streaming(LocalDate startDate, LocalDate endDate) {
+        return typedRepository.a2Streaming(startDate, endDate);
+    }
+
+    public List<CustomerRecord> a3() {
+        return typedRepository.a3();
+    }
+
+    public long a3Streaming() {
+        return typedRepository.a3Streaming();
+    }
+
+    public List<OrdersRecord> a4(int minOrderKey, int maxOrderKey) {
+        return typedRepository.a4(minOrderKey, maxOrderKey);
+    }
+
+    public long a4Streaming(int minOrderKey, int maxOrderKey) {
+        return typedRepository.a4Streaming(minOrderKey, maxOrderKey);
+    }
+
+    public List<MonthlyOrderCount> b1() {
+        return typedRepository.b1();
+    }
+
+    public long b1Streaming() {
+        return typedRepository.b1Streaming();
+    }
+
+    public List<MonthlyMaxPrice> b2() {
+        return typedRepository.b2();
+    }
+
+    public long b2Streaming() {
+        return typedRepository.b2Streaming();
+    }
+
+    public List<CustomerOrder> c1() {
+        return typedRepository.c1();
+    }
+
+    public long c1Streaming() {
+        return typedRepository.c1Streaming();
+    }
+
+    public List<CustomerOrder> c2() {
+        return typedRepository.c2();
+    }
+
+    public long c2Streaming() {
+        return typedRepository.c2Streaming();
+    }
+
+    public List<CustomerNationOrder> c3() {
+        return typedRepository.c3();
+    }
+
+    public long c3Streaming() {
+        return typedRepository.c3Streaming();
+    }
+
+    public List<CustomerRegionOrder> c4() {
+        return typedRepository.c4();
+    }
+
+    public long c4Streaming() {
+        return typedRepository.c4Streaming();
+    }
+
+    public List<CustomerOrderKey> c5() {
+        return typedRepository.c5();
+    }
+
+    public long c5Streaming() {
+        return typedRepository.c5Streaming();
+    }
+
+    public List<Integer> d1() {
+        return typedRepository.d1();
+    }
+
+    public long d1Streaming() {
+        return typedRepository.d1Streaming();
+    }
+
+    public List<Long> d2() {
+        return typedRepository.d2();
+    }
+
+    public long d2Streaming() {
+        return typedRepository.d2Streaming();
+    }
+
+    public List<Long> d3() {
+        return typedRepository.d3();
+    }
+
+    public long d3Streaming() {
+        return typedRepository.d3Streaming();
+    }
+
+    public List<CustomerBalance> e1() {
+        return typedRepository.e1();
+    }
+
+    public long e1Streaming() {
+        return typedRepository.e1Streaming();
+    }
+
+    public List<OrderSummary> e2() {
+        return typedRepository.e2();
+    }
+
+    public long e2Streaming() {
+        return typedRepository.e2Streaming();
+    }
+
+    public List<NationSegment> e3() {
+        return typedRepository.e3();
+    }
+
+    public long e3Streaming() {
+        return typedRepository.e3Streaming();
+    }
+
+    public List<PricingSummary> q1(int days) {
+        return typedRepository.q1(days);
+    }
+
+    public long q1Streaming(int days) {
+        return typedRepository.q1Streaming(days);
+    }
+
+    public List<MinimumCostSupplier> q2(int size, String type, String region) {
+        return typedRepository.q2(size, type, region);
+    }
+
+    public long q2Streaming(int size, String type, String region) {
+        return typedRepository.q2Streaming(size, type, region);
+    }
+
+    public List<ShippingPriority> q3(String segment, LocalDate orderDate, LocalDate shipDate) {
+        return typedRepository.q3(segment, orderDate, shipDate);
+    }
+
+    public long q3Streaming(String segment, LocalDate orderDate, LocalDate shipDate) {
+        return typedRepository.q3Streaming(segment, orderDate, shipDate);
+    }
+
+    public List<OrderPriorityCount> q4(LocalDate orderDate) {
+        return typedRepository.q4(orderDate);
+    }
+
+    public long q4Streaming(LocalDate orderDate) {
+        return typedRepository.q4Streaming(orderDate);
+    }
+
+    public List<LocalSupplierVolume> q5(String region, LocalDate orderDate) {
+        return typedRepository.q5(region, orderDate);
+    }
+
+    public long q5Streaming(String region, LocalDate orderDate) {
+        return typedRepository.q5Streaming(region, orderDate);
+    }
+
+    public OrdersRecord f1(long orderKey) {
+        return typedRepository.f1(orderKey);
+    }
+
+    public CustomerRecord f2(long customerKey) {
+        return typedRepository.f2(customerKey);
+    }
+
+    public LineitemRecord f3(long orderKey, long lineNumber) {
+        return typedRepository.f3(orderKey, lineNumber);
+    }
+
+    public PartsuppRecord f4(long partKey, long supplierKey) {
+        return typedRepository.f4(partKey, supplierKey);
+    }
+
+    public List<OrdersRecord> g1(long offset, int limit) {
+        return typedRepository.g1(offset, limit);
+    }
+
+    public List<OrdersRecord> g2(long orderKey, int limit) {
+        return typedRepository.g2(orderKey, limit);
+    }
+
+    public List<LineitemRecord> g3(long offset, int limit) {
+        return typedRepository.g3(offset, limit);
+    }
+
+    public List<LineitemRecord> g4(long orderKey, long lineNumber, int limit) {
+        return typedRepository.g4(orderKey, lineNumber, limit);
+    }
+
+    public List<OrderGraph> h1(LocalDate startDate, LocalDate endDate) {
+        return typedRepository.h1(startDate, endDate);
+    }
+
+    public List<OrderGraph> h2(LocalDate startDate, LocalDate endDate) {
+        return typedRepository.h2(startDate, endDate);
+    }
+
+    public List<OrderGraph> h3(LocalDate startDate, LocalDate endDate) {
+        return typedRepository.h3(startDate, endDate);
+    }
+}
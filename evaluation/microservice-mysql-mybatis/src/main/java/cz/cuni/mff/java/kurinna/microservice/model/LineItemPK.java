@@ -1,10 +1,12 @@
 package cz.cuni.mff.java.kurinna.microservice.model;
 
 import jakarta.persistence.*;
+import lombok.Getter;
 
 import java.io.Serializable;
 
 @Embeddable
+@Getter
 public class LineItemPK implements Serializable {
     @ManyToOne
     @JoinColumn(name = "l_orderkey", referencedColumnName = "o_orderkey")
@@ -7,6 +7,7 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.sql.Timestamp;
+import java.util.List;
 
 @Entity
 @NoArgsConstructor
@@ -40,6 +41,6 @@ public class Orders {
     @Column(length = 79)
     private String o_comment;
 
-//    @OneToMany(mappedBy = "order")
-//    private List<LineItem> lineItems;
+    @OneToMany(mappedBy = "lineItemPK.order")
+    private List<LineItem> lineItems;
 }
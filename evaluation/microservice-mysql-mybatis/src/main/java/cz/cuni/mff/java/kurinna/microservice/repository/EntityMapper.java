@@ -0,0 +1,587 @@
+package cz.cuni.mff.java.kurinna.microservice.repository;
+
+import cz.cuni.mff.java.kurinna.microservice.model.Customer;
+import cz.cuni.mff.java.kurinna.microservice.model.LineItem;
+import cz.cuni.mff.java.kurinna.microservice.model.Orders;
+import cz.cuni.mff.java.kurinna.microservice.model.PartSupp;
+import org.apache.ibatis.annotations.Many;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.One;
+import org.apache.ibatis.annotations.Options;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Result;
+import org.apache.ibatis.annotations.ResultMap;
+import org.apache.ibatis.annotations.Results;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.mapping.ResultSetType;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * MyBatis mapper executing the row-returning benchmark queries onto the model POJOs instead of maps.
+ * Every query comes in three variants: a materialized list, a {@link Cursor} and a {@link ResultHandler}
+ * callback. The cursor and handler variants stream the rows with a forward-only result set and
+ * {@link #STREAMING_FETCH_SIZE}, so memory stays constant regardless of the result size.
+ * <p>
+ * Joined columns are mapped onto the associated objects through nested properties
+ * (e.g. {@code customer.nation.n_name}); a result map property whose column is missing in a
+ * particular query is simply left unset.
+ * <p>
+ * The offset pagination queries use {@link RowBounds}, which MyBatis applies on the client by skipping
+ * the rows before the offset in the result set. Their SQL is capped at the end of the page, so the driver
+ * does not read the rest of the table.
+ * <p>
+ * The object graph queries load the orders together with their customer and line items, either by nested
+ * selects executed for every order, by nested result maps over a single join, or by batches of keys.
+ */
+@Mapper
+public interface EntityMapper {
+    /**
+     * Fetch size of the streaming variants. {@link Integer#MIN_VALUE} makes MySQL Connector/J
+     * stream the rows one by one instead of buffering the whole result set.
+     */
+    int STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
+
+    String A1 = "SELECT * FROM lineitem";
+    String A2 = "SELECT * FROM orders WHERE o_orderdate BETWEEN #{startDate} AND #{endDate}";
+    String A3 = "SELECT * FROM customer";
+    String A4 = "SELECT * FROM orders WHERE o_orderkey BETWEEN #{minOrderKey} AND #{maxOrderKey}";
+    String C1 = """
+            SELECT c.c_name, o.o_orderdate, o.o_totalprice
+            FROM customer c, orders o
+            """;
+    String C2 = """
+            SELECT c.c_name, o.o_orderdate, o.o_totalprice
+            FROM customer c
+            JOIN orders o ON c.c_custkey = o.o_custkey
+            """;
+    String C3 = """
+            SELECT c.c_name, n.n_name, o.o_orderdate, o.o_totalprice
+            FROM customer c
+            JOIN nation n ON c.c_nationkey = n.n_nationkey
+            JOIN orders o ON c.c_custkey = o.o_custkey
+            """;
+    String C4 = """
+            SELECT c.c_name, n.n_name, r.r_name, o.o_orderdate, o.o_totalprice
+            FROM customer c
+            JOIN nation n ON c.c_nationkey = n.n_nationkey
+            JOIN region r ON n.n_regionkey = r.r_regionkey
+            JOIN orders o ON c.c_custkey = o.o_custkey
+            """;
+    String C5 = """
+            SELECT c.c_custkey, c.c_name, o.o_orderkey, o.o_orderdate
+            FROM customer c
+            LEFT OUTER JOIN orders o ON c.c_custkey = o.o_custkey
+            """;
+    String E1 = """
+            SELECT c_name, c_address, c_acctbal
+            FROM customer
+            ORDER BY c_acctbal DESC
+            """;
+    String E2 = """
+            SELECT o_orderkey, o_custkey, o_orderdate, o_totalprice
+            FROM orders
+            ORDER BY o_orderkey
+            """;
+    String E3 = """
+            SELECT DISTINCT c_nationkey, c_mktsegment
+            FROM customer
+            """;
+    String F1 = "SELECT * FROM orders WHERE o_orderkey = #{orderKey}";
+    String F2 = "SELECT * FROM customer WHERE c_custkey = #{customerKey}";
+    String F3 = "SELECT * FROM lineitem WHERE l_orderkey = #{orderKey} AND l_linenumber = #{lineNumber}";
+    String F4 = "SELECT * FROM partsupp WHERE ps_partkey = #{partKey} AND ps_suppkey = #{supplierKey}";
+    String G1 = "SELECT * FROM orders ORDER BY o_orderkey LIMIT #{end}";
+    String G2 = "SELECT * FROM orders WHERE o_orderkey > #{orderKey} ORDER BY o_orderkey LIMIT #{limit}";
+    String G3 = "SELECT * FROM lineitem ORDER BY l_orderkey, l_linenumber LIMIT #{end}";
+    String G4 = """
+            SELECT * FROM lineitem
+            WHERE l_orderkey > #{orderKey} OR (l_orderkey = #{orderKey} AND l_linenumber > #{lineNumber})
+            ORDER BY l_orderkey, l_linenumber
+            LIMIT #{limit}
+            """;
+    String H = "SELECT * FROM orders WHERE o_orderdate BETWEEN #{startDate} AND #{endDate} ORDER BY o_orderkey";
+    String H_LINE_ITEMS = "SELECT * FROM lineitem WHERE l_orderkey = #{orderKey} ORDER BY l_linenumber";
+    String H2 = """
+            SELECT * FROM orders
+            JOIN customer ON c_custkey = o_custkey
+            LEFT JOIN lineitem ON l_orderkey = o_orderkey
+            WHERE o_orderdate BETWEEN #{startDate} AND #{endDate}
+            ORDER BY o_orderkey, l_linenumber
+            """;
+    String H3_CUSTOMERS = """
+            <script>
+            SELECT * FROM customer WHERE c_custkey IN
+            <foreach item="key" collection="customerKeys" open="(" separator="," close=")">#{key}</foreach>
+            </script>
+            """;
+    String H3_LINE_ITEMS = """
+            <script>
+            SELECT * FROM lineitem WHERE l_orderkey IN
+            <foreach item="key" collection="orderKeys" open="(" separator="," close=")">#{key}</foreach>
+            ORDER BY l_orderkey, l_linenumber
+            </script>
+            """;
+
+    /**
+     * A1) Retrieves all records from the lineitem table.
+     *
+     * @return List of all line items
+     */
+    @Select(A1)
+    @Results(id = "lineItem", value = {
+            @Result(property = "lineItemPK.order.o_orderkey", column = "l_orderkey"),
+            @Result(property = "lineItemPK.l_linenumber", column = "l_linenumber"),
+            @Result(property = "partSupp.partSuppPK.part", column = "l_partkey"),
+            @Result(property = "partSupp.partSuppPK.supplier", column = "l_suppkey"),
+            @Result(property = "l_quantity", column = "l_quantity"),
+            @Result(property = "l_extendedprice", column = "l_extendedprice"),
+            @Result(property = "l_discount", column = "l_discount"),
+            @Result(property = "l_tax", column = "l_tax"),
+            @Result(property = "l_returnflag", column = "l_returnflag"),
+            @Result(property = "l_linestatus", column = "l_linestatus"),
+            @Result(property = "l_shipdate", column = "l_shipdate"),
+            @Result(property = "l_commitdate", column = "l_commitdate"),
+            @Result(property = "l_receiptdate", column = "l_receiptdate"),
+            @Result(property = "l_shipinstruct", column = "l_shipinstruct"),
+            @Result(property = "l_shipmode", column = "l_shipmode"),
+            @Result(property = "l_comment", column = "l_comment")
+    })
+    List<LineItem> a1();
+
+    @Select(A1)
+    @ResultMap("lineItem")
+    @Options(fetchSize = STREAMING_FETCH_SIZE, resultSetType = ResultSetType.FORWARD_ONLY)
+    Cursor<LineItem> a1Cursor();
+
+    @Select(A1)
+    @ResultMap("lineItem")
+    @Options(fetchSize = STREAMING_FETCH_SIZE, resultSetType = ResultSetType.FORWARD_ONLY)
+    void a1Handler(ResultHandler<LineItem> handler);
+
+    /**
+     * A2) Retrieves orders within a specified date range.
+     *
+     * @param startDate The start date of the range (inclusive)
+     * @param endDate The end date of the range (inclusive)
+     * @return List of orders within the date range
+     */
+    @Select(A2)
+    @Results(id = "orders", value = {
+            @Result(property = "o_orderkey", column = "o_orderkey", id = true),
+            @Result(property = "customer.c_custkey", column = "o_custkey"),
+            @Result(property = "customer.c_custkey", column = "c_custkey"),
+            @Result(property = "customer.c_name", column = "c_name"),
+            @Result(property = "customer.nation.n_name", column = "n_name"),
+            @Result(property = "customer.nation.region.r_name", column = "r_name"),
+            @Result(property = "o_orderstatus", column = "o_orderstatus"),
+            @Result(property = "o_totalprice", column = "o_totalprice"),
+            @Result(property = "o_orderdate", column = "o_orderdate"),
+            @Result(property = "o_orderpriority", column = "o_orderpriority"),
+            @Result(property = "o_clerk", column = "o_clerk"),
+            @Result(property = "o_shippriority", column = "o_shippriority"),
+            @Result(property = "o_comment", column = "o_comment")
+    })
+    List<Orders> a2(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    @Select(A2)
+    @ResultMap("orders")
+    @Options(fetchSize = STREAMING_FETCH_SIZE, resultSetType = ResultSetType.FORWARD_ONLY)
+    Cursor<Orders> a2Cursor(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    @Select(A2)
+    @ResultMap("orders")
+    @Options(fetchSize = STREAMING_FETCH_SIZE, resultSetType = ResultSetType.FORWARD_ONLY)
+    void a2Handler(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate,
+                   ResultHandler<Orders> handler);
+
+    /**
+     * A3) Retrieves all records from the customer table.
+     *
+     * @return List of all customers
+     */
+    @Select(A3)
+    @Results(id = "customer", value = {
+            @Result(property = "c_custkey", column = "c_custkey", id = true),
+            @Result(property = "c_name", column = "c_name"),
+            @Result(property = "c_address", column = "c_address"),
+            @Result(property = "nation.n_nationkey", column = "c_nationkey"),
+            @Result(property = "c_phone", column = "c_phone"),
+            @Result(property = "c_acctbal", column = "c_acctbal"),
+            @Result(property = "c_mktsegment", column = "c_mktsegment"),
+            @Result(property = "c_comment", column = "c_comment")
+    })
+    List<Customer> a3();
+
+    @Select(A3)
+    @ResultMap("customer")
+    @Options(fetchSize = STREAMING_FETCH_SIZE, resultSetType = ResultSetType.FORWARD_ONLY)
+    Cursor<Customer> a3Cursor();
+
+    @Select(A3)
+    @ResultMap("customer")
+    @Options(fetchSize = STREAMING_FETCH_SIZE, resultSetType = ResultSetType.FORWARD_ONLY)
+    void a3Handler(ResultHandler<Customer> handler);
+
+    /**
+     * A4) Retrieves orders within a specified order key range.
+     *
+     * @param minOrderKey The minimum order key (inclusive)
+     * @param maxOrderKey The maximum order key (inclusive)
+     * @return List of orders within the order key range
+     */
+    @Select(A4)
+    @ResultMap("orders")
+    List<Orders> a4(@Param("minOrderKey") int minOrderKey, @Param("maxOrderKey") int maxOrderKey);
+
+    @Select(A4)
+    @ResultMap("orders")
+    @Options(fetchSize = STREAMING_FETCH_SIZE, resultSetType = ResultSetType.FORWARD_ONLY)
+    Cursor<Orders> a4Cursor(@Param("minOrderKey") int minOrderKey, @Param("maxOrderKey") int maxOrderKey);
+
+    @Select(A4)
+    @ResultMap("orders")
+    @Options(fetchSize = STREAMING_FETCH_SIZE, resultSetType = ResultSetType.FORWARD_ONLY)
+    void a4Handler(@Param("minOrderKey") int minOrderKey, @Param("maxOrderKey") int maxOrderKey,
+                   ResultHandler<Orders> handler);
+
+    /**
+     * C1) Cartesian product between customer and orders tables.
+     *
+     * @return List of orders carrying the customer name
+     */
+    @Select(C1)
+    @ResultMap("orders")
+    List<Orders> c1();
+
+    @Select(C1)
+    @ResultMap("orders")
+    @Options(fetchSize = STREAMING_FETCH_SIZE, resultSetType = ResultSetType.FORWARD_ONLY)
+    Cursor<Orders> c1Cursor();
+
+    @Select(C1)
+    @ResultMap("orders")
+    @Options(fetchSize = STREAMING_FETCH_SIZE, resultSetType = ResultSetType.FORWARD_ONLY)
+    void c1Handler(ResultHandler<Orders> handler);
+
+    /**
+     * C2) Joins customer and orders tables on customer key.
+     *
+     * @return List of orders carrying the customer name
+     */
+    @Select(C2)
+    @ResultMap("orders")
+    List<Orders> c2();
+
+    @Select(C2)
+    @ResultMap("orders")
+    @Options(fetchSize = STREAMING_FETCH_SIZE, resultSetType = ResultSetType.FORWARD_ONLY)
+    Cursor<Orders> c2Cursor();
+
+    @Select(C2)
+    @ResultMap("orders")
+    @Options(fetchSize = STREAMING_FETCH_SIZE, resultSetType = ResultSetType.FORWARD_ONLY)
+    void c2Handler(ResultHandler<Orders> handler);
+
+    /**
+     * C3) Joins customer, nation, and orders tables.
+     *
+     * @return List of orders carrying the customer and nation names
+     */
+    @Select(C3)
+    @ResultMap("orders")
+    List<Orders> c3();
+
+    @Select(C3)
+    @ResultMap("orders")
+    @Options(fetchSize = STREAMING_FETCH_SIZE, resultSetType = ResultSetType.FORWARD_ONLY)
+    Cursor<Orders> c3Cursor();
+
+    @Select(C3)
+    @ResultMap("orders")
+    @Options(fetchSize = STREAMING_FETCH_SIZE, resultSetType = ResultSetType.FORWARD_ONLY)
+    void c3Handler(ResultHandler<Orders> handler);
+
+    /**
+     * C4) Joins customer, nation, region, and orders tables.
+     *
+     * @return List of orders carrying the customer, nation and region names
+     */
+    @Select(C4)
+    @ResultMap("orders")
+    List<Orders> c4();
+
+    @Select(C4)
+    @ResultMap("orders")
+    @Options(fetchSize = STREAMING_FETCH_SIZE, resultSetType = ResultSetType.FORWARD_ONLY)
+    Cursor<Orders> c4Cursor();
+
+    @Select(C4)
+    @ResultMap("orders")
+    @Options(fetchSize = STREAMING_FETCH_SIZE, resultSetType = ResultSetType.FORWARD_ONLY)
+    void c4Handler(ResultHandler<Orders> handler);
+
+    /**
+     * C5) Left outer join between customer and orders tables.
+     * Customers without orders produce an order with only the customer set.
+     *
+     * @return List of orders carrying the customer key and name
+     */
+    @Select(C5)
+    @ResultMap("orders")
+    List<Orders> c5();
+
+    @Select(C5)
+    @ResultMap("orders")
+    @Options(fetchSize = STREAMING_FETCH_SIZE, resultSetType = ResultSetType.FORWARD_ONLY)
+    Cursor<Orders> c5Cursor();
+
+    @Select(C5)
+    @ResultMap("orders")
+    @Options(fetchSize = STREAMING_FETCH_SIZE, resultSetType = ResultSetType.FORWARD_ONLY)
+    void c5Handler(ResultHandler<Orders> handler);
+
+    /**
+     * E1) Retrieves customers sorted by account balance in descending order.
+     *
+     * @return List of customers sorted by account balance
+     */
+    @Select(E1)
+    @ResultMap("customer")
+    List<Customer> e1();
+
+    @Select(E1)
+    @ResultMap("customer")
+    @Options(fetchSize = STREAMING_FETCH_SIZE, resultSetType = ResultSetType.FORWARD_ONLY)
+    Cursor<Customer> e1Cursor();
+
+    @Select(E1)
+    @ResultMap("customer")
+    @Options(fetchSize = STREAMING_FETCH_SIZE, resultSetType = ResultSetType.FORWARD_ONLY)
+    void e1Handler(ResultHandler<Customer> handler);
+
+    /**
+     * E2) Retrieves orders sorted by order key.
+     *
+     * @return List of orders sorted by order key
+     */
+    @Select(E2)
+    @ResultMap("orders")
+    List<Orders> e2();
+
+    @Select(E2)
+    @ResultMap("orders")
+    @Options(fetchSize = STREAMING_FETCH_SIZE, resultSetType = ResultSetType.FORWARD_ONLY)
+    Cursor<Orders> e2Cursor();
+
+    @Select(E2)
+    @ResultMap("orders")
+    @Options(fetchSize = STREAMING_FETCH_SIZE, resultSetType = ResultSetType.FORWARD_ONLY)
+    void e2Handler(ResultHandler<Orders> handler);
+
+    /**
+     * E3) Retrieves unique combinations of nation key and market segment from customers.
+     *
+     * @return List of customers carrying only the nation key and market segment
+     */
+    @Select(E3)
+    @ResultMap("customer")
+    List<Customer> e3();
+
+    @Select(E3)
+    @ResultMap("customer")
+    @Options(fetchSize = STREAMING_FETCH_SIZE, resultSetType = ResultSetType.FORWARD_ONLY)
+    Cursor<Customer> e3Cursor();
+
+    @Select(E3)
+    @ResultMap("customer")
+    @Options(fetchSize = STREAMING_FETCH_SIZE, resultSetType = ResultSetType.FORWARD_ONLY)
+    void e3Handler(ResultHandler<Customer> handler);
+
+    /**
+     * F1) Looks up a single order by its primary key.
+     *
+     * @param orderKey The order key
+     * @return The order, or null if there is no such order
+     */
+    @Select(F1)
+    @ResultMap("orders")
+    Orders f1(@Param("orderKey") long orderKey);
+
+    /**
+     * F2) Looks up a single customer by its primary key.
+     *
+     * @param customerKey The customer key
+     * @return The customer, or null if there is no such customer
+     */
+    @Select(F2)
+    @ResultMap("customer")
+    Customer f2(@Param("customerKey") long customerKey);
+
+    /**
+     * F3) Looks up a single line item by its composite primary key.
+     *
+     * @param orderKey The order key of the line item
+     * @param lineNumber The line number within the order
+     * @return The line item, or null if there is no such line item
+     */
+    @Select(F3)
+    @ResultMap("lineItem")
+    LineItem f3(@Param("orderKey") long orderKey, @Param("lineNumber") int lineNumber);
+
+    /**
+     * F4) Looks up a single part supplier by its composite primary key.
+     *
+     * @param partKey The part key
+     * @param supplierKey The supplier key
+     * @return The part supplier, or null if there is no such part supplier
+     */
+    @Select(F4)
+    @Results(id = "partSupp", value = {
+            @Result(property = "partSuppPK.part", column = "ps_partkey", id = true),
+            @Result(property = "partSuppPK.supplier", column = "ps_suppkey", id = true),
+            @Result(property = "ps_availqty", column = "ps_availqty"),
+            @Result(property = "ps_supplycost", column = "ps_supplycost"),
+            @Result(property = "ps_comment", column = "ps_comment")
+    })
+    PartSupp f4(@Param("partKey") long partKey, @Param("supplierKey") long supplierKey);
+
+    /**
+     * G1) Reads a page of orders ordered by the order key.
+     *
+     * @param end The row number following the page, the sum of the offset and the limit of the row bounds
+     * @param rowBounds The offset and the number of rows of the page
+     * @return The orders of the page
+     */
+    @Select(G1)
+    @ResultMap("orders")
+    List<Orders> g1(@Param("end") long end, RowBounds rowBounds);
+
+    /**
+     * G2) Reads a page of orders following the given order key.
+     *
+     * @param orderKey The order key of the last row of the previous page, 0 for the first page
+     * @param limit Number of rows of the page
+     * @return The orders of the page
+     */
+    @Select(G2)
+    @ResultMap("orders")
+    List<Orders> g2(@Param("orderKey") long orderKey, @Param("limit") int limit);
+
+    /**
+     * G3) Reads a page of line items ordered by their composite primary key.
+     *
+     * @param end The row number following the page, the sum of the offset and the limit of the row bounds
+     * @param rowBounds The offset and the number of rows of the page
+     * @return The line items of the page
+     */
+    @Select(G3)
+    @ResultMap("lineItem")
+    List<LineItem> g3(@Param("end") long end, RowBounds rowBounds);
+
+    /**
+     * G4) Reads a page of line items following the given composite primary key.
+     *
+     * @param orderKey The order key of the last row of the previous page, 0 for the first page
+     * @param lineNumber The line number of the last row of the previous page
+     * @param limit Number of rows of the page
+     * @return The line items of the page
+     */
+    @Select(G4)
+    @ResultMap("lineItem")
+    List<LineItem> g4(@Param("orderKey") long orderKey, @Param("lineNumber") long lineNumber,
+            @Param("limit") int limit);
+
+    /**
+     * H1) Retrieves the orders of a date range with their customer and line items by nested selects. MyBatis
+     * executes the nested selects for every mapped order (N+1), a customer shared by several orders is read
+     * once and then served from the local cache of the session.
+     *
+     * @param startDate The start date of the range (inclusive)
+     * @param endDate The end date of the range (inclusive)
+     * @return List of orders with their customer and line items
+     */
+    @Select(H)
+    @Results(id = "ordersNestedSelects", value = {
+            @Result(property = "o_orderkey", column = "o_orderkey", id = true),
+            @Result(property = "customer", column = "o_custkey", one = @One(select = "f2")),
+            @Result(property = "lineItems", column = "o_orderkey", many = @Many(select = "lineItems")),
+            @Result(property = "o_orderstatus", column = "o_orderstatus"),
+            @Result(property = "o_totalprice", column = "o_totalprice"),
+            @Result(property = "o_orderdate", column = "o_orderdate"),
+            @Result(property = "o_orderpriority", column = "o_orderpriority"),
+            @Result(property = "o_clerk", column = "o_clerk"),
+            @Result(property = "o_shippriority", column = "o_shippriority"),
+            @Result(property = "o_comment", column = "o_comment")
+    })
+    List<Orders> h1(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    /**
+     * Nested select of {@link #h1} reading the line items of a single order.
+     *
+     * @param orderKey The order key
+     * @return The line items of the order
+     */
+    @Select(H_LINE_ITEMS)
+    @ResultMap("lineItem")
+    List<LineItem> lineItems(@Param("orderKey") long orderKey);
+
+    /**
+     * H2) Retrieves the orders of a date range with their customer and line items by a single join. The
+     * nested result maps group the joined rows by the order key into the orders and their line items.
+     *
+     * @param startDate The start date of the range (inclusive)
+     * @param endDate The end date of the range (inclusive)
+     * @return List of orders with their customer and line items
+     */
+    @Select(H2)
+    @Results(id = "ordersNestedResults", value = {
+            @Result(property = "o_orderkey", column = "o_orderkey", id = true),
+            @Result(property = "customer", one = @One(resultMap = "customer")),
+            @Result(property = "lineItems", many = @Many(resultMap = "lineItem")),
+            @Result(property = "o_orderstatus", column = "o_orderstatus"),
+            @Result(property = "o_totalprice", column = "o_totalprice"),
+            @Result(property = "o_orderdate", column = "o_orderdate"),
+            @Result(property = "o_orderpriority", column = "o_orderpriority"),
+            @Result(property = "o_clerk", column = "o_clerk"),
+            @Result(property = "o_shippriority", column = "o_shippriority"),
+            @Result(property = "o_comment", column = "o_comment")
+    })
+    List<Orders> h2(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    /**
+     * H3) Retrieves the orders of a date range, the customer only carries its key. The customers and the
+     * line items are read by {@link #h3Customers} and {@link #h3LineItems}.
+     *
+     * @param startDate The start date of the range (inclusive)
+     * @param endDate The end date of the range (inclusive)
+     * @return List of orders within the date range
+     */
+    @Select(H)
+    @ResultMap("orders")
+    List<Orders> h3(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    /**
+     * H3) Retrieves a batch of customers by their keys.
+     *
+     * @param customerKeys The customer keys
+     * @return The customers, in no particular order
+     */
+    @Select(H3_CUSTOMERS)
+    @ResultMap("customer")
+    List<Customer> h3Customers(@Param("customerKeys") List<Long> customerKeys);
+
+    /**
+     * H3) Retrieves the line items of a batch of orders.
+     *
+     * @param orderKeys The order keys
+     * @return The line items ordered by the order key and the line number
+     */
+    @Select(H3_LINE_ITEMS)
+    @ResultMap("lineItem")
+    List<LineItem> h3LineItems(@Param("orderKeys") List<Long> orderKeys);
+}
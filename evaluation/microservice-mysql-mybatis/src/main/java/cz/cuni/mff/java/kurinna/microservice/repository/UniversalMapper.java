@@ -4,6 +4,7 @@ import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 import org.apache.ibatis.annotations.Select;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
@@ -419,4 +420,699 @@ public interface UniversalMapper {
               revenue DESC
             """)
     List<Map<String, Object>> q5(@Param("region") String region, @Param("orderDate") LocalDate orderDate);
+
+    /**
+     * Executes TPC-H Query 6: Forecasting Revenue Change.
+     * This query quantifies the amount of revenue increase that would have resulted from eliminating discounts in a given range.
+     *
+     * @param shipDate The start date for the one-year period
+     * @param discount The discount, line items within 0.01 of it are considered
+     * @param quantity The exclusive upper bound of the line item quantity
+     * @return List of maps containing the potential revenue increase
+     */
+    @Select("""
+            SELECT
+              SUM(l_extendedprice * l_discount) AS revenue
+            FROM
+              lineitem
+            WHERE
+              l_shipdate >= #{shipDate}
+              AND l_shipdate < DATE_ADD(#{shipDate}, INTERVAL 1 YEAR)
+              AND l_discount BETWEEN #{discount} - 0.01 AND #{discount} + 0.01
+              AND l_quantity < #{quantity}
+            """)
+    List<Map<String, Object>> q6(@Param("shipDate") LocalDate shipDate, @Param("discount") BigDecimal discount,
+            @Param("quantity") int quantity);
+
+    /**
+     * Executes TPC-H Query 7: Volume Shipping.
+     * This query determines the value of goods shipped between two nations in 1995 and 1996.
+     *
+     * @param nation1 The name of the first nation
+     * @param nation2 The name of the second nation
+     * @return List of maps containing the shipped revenue by supplier nation, customer nation and year
+     */
+    @Select("""
+            SELECT
+              supp_nation,
+              cust_nation,
+              l_year,
+              SUM(volume) AS revenue
+            FROM
+              (
+                SELECT
+                  n1.n_name AS supp_nation,
+                  n2.n_name AS cust_nation,
+                  EXTRACT(YEAR FROM l.l_shipdate) AS l_year,
+                  l.l_extendedprice * (1 - l.l_discount) AS volume
+                FROM
+                  supplier s,
+                  lineitem l,
+                  orders o,
+                  customer c,
+                  nation n1,
+                  nation n2
+                WHERE
+                  s.s_suppkey = l.l_suppkey
+                  AND o.o_orderkey = l.l_orderkey
+                  AND c.c_custkey = o.o_custkey
+                  AND s.s_nationkey = n1.n_nationkey
+                  AND c.c_nationkey = n2.n_nationkey
+                  AND (
+                    (n1.n_name = #{nation1} AND n2.n_name = #{nation2})
+                    OR (n1.n_name = #{nation2} AND n2.n_name = #{nation1})
+                  )
+                  AND l.l_shipdate BETWEEN '1995-01-01' AND '1996-12-31'
+              ) AS shipping
+            GROUP BY
+              supp_nation,
+              cust_nation,
+              l_year
+            ORDER BY
+              supp_nation,
+              cust_nation,
+              l_year
+            """)
+    List<Map<String, Object>> q7(@Param("nation1") String nation1, @Param("nation2") String nation2);
+
+    /**
+     * Executes TPC-H Query 8: National Market Share.
+     * This query determines how the market share of a nation within a region has changed over two years for a given part type.
+     *
+     * @param nation The name of the nation whose market share is computed
+     * @param region The name of the region of the customers
+     * @param type The part type
+     * @return List of maps containing the market share by year
+     */
+    @Select("""
+            SELECT
+              o_year,
+              SUM(CASE WHEN nation = #{nation} THEN volume ELSE 0 END) / SUM(volume) AS mkt_share
+            FROM
+              (
+                SELECT
+                  EXTRACT(YEAR FROM o.o_orderdate) AS o_year,
+                  l.l_extendedprice * (1 - l.l_discount) AS volume,
+                  n2.n_name AS nation
+                FROM
+                  part p,
+                  supplier s,
+                  lineitem l,
+                  orders o,
+                  customer c,
+                  nation n1,
+                  nation n2,
+                  region r
+                WHERE
+                  p.p_partkey = l.l_partkey
+                  AND s.s_suppkey = l.l_suppkey
+                  AND l.l_orderkey = o.o_orderkey
+                  AND o.o_custkey = c.c_custkey
+                  AND c.c_nationkey = n1.n_nationkey
+                  AND n1.n_regionkey = r.r_regionkey
+                  AND r.r_name = #{region}
+                  AND s.s_nationkey = n2.n_nationkey
+                  AND o.o_orderdate BETWEEN '1995-01-01' AND '1996-12-31'
+                  AND p.p_type = #{type}
+              ) AS all_nations
+            GROUP BY
+              o_year
+            ORDER BY
+              o_year
+            """)
+    List<Map<String, Object>> q8(@Param("nation") String nation, @Param("region") String region,
+            @Param("type") String type);
+
+    /**
+     * Executes TPC-H Query 9: Product Type Profit Measure.
+     * This query determines how much profit is made on a given line of parts, broken out by supplier nation and year.
+     *
+     * @param color The color contained in the part name
+     * @return List of maps containing the profit by nation and year
+     */
+    @Select("""
+            SELECT
+              nation,
+              o_year,
+              SUM(amount) AS sum_profit
+            FROM
+              (
+                SELECT
+                  n.n_name AS nation,
+                  EXTRACT(YEAR FROM o.o_orderdate) AS o_year,
+                  l.l_extendedprice * (1 - l.l_discount) - ps.ps_supplycost * l.l_quantity AS amount
+                FROM
+                  part p,
+                  supplier s,
+                  lineitem l,
+                  partsupp ps,
+                  orders o,
+                  nation n
+                WHERE
+                  s.s_suppkey = l.l_suppkey
+                  AND ps.ps_suppkey = l.l_suppkey
+                  AND ps.ps_partkey = l.l_partkey
+                  AND p.p_partkey = l.l_partkey
+                  AND o.o_orderkey = l.l_orderkey
+                  AND s.s_nationkey = n.n_nationkey
+                  AND p.p_name LIKE CONCAT('%', #{color}, '%')
+              ) AS profit
+            GROUP BY
+              nation,
+              o_year
+            ORDER BY
+              nation,
+              o_year DESC
+            """)
+    List<Map<String, Object>> q9(@Param("color") String color);
+
+    /**
+     * Executes TPC-H Query 10: Returned Item Reporting.
+     * This query identifies the customers who might be having problems with the parts that are shipped to them.
+     *
+     * @param orderDate The start date for the three-month period
+     * @return List of maps containing the lost revenue by customer
+     */
+    @Select("""
+            SELECT
+              c.c_custkey,
+              c.c_name,
+              SUM(l.l_extendedprice * (1 - l.l_discount)) AS revenue,
+              c.c_acctbal,
+              n.n_name,
+              c.c_address,
+              c.c_phone,
+              c.c_comment
+            FROM
+              customer c,
+              orders o,
+              lineitem l,
+              nation n
+            WHERE
+              c.c_custkey = o.o_custkey
+              AND l.l_orderkey = o.o_orderkey
+              AND o.o_orderdate >= #{orderDate}
+              AND o.o_orderdate < DATE_ADD(#{orderDate}, INTERVAL 3 MONTH)
+              AND l.l_returnflag = 'R'
+              AND c.c_nationkey = n.n_nationkey
+            GROUP BY
+              c.c_custkey,
+              c.c_name,
+              c.c_acctbal,
+              c.c_phone,
+              n.n_name,
+              c.c_address,
+              c.c_comment
+            ORDER BY
+              revenue DESC
+            LIMIT 20
+            """)
+    List<Map<String, Object>> q10(@Param("orderDate") LocalDate orderDate);
+
+    /**
+     * Executes TPC-H Query 11: Important Stock Identification.
+     * This query finds the most important subset of the suppliers' stock in a given nation.
+     *
+     * @param nation The name of the nation of the suppliers
+     * @param fraction The fraction of the total stock value a part has to exceed
+     * @return List of maps containing the stock value by part
+     */
+    @Select("""
+            SELECT
+              ps.ps_partkey,
+              SUM(ps.ps_supplycost * ps.ps_availqty) AS stock_value
+            FROM
+              partsupp ps,
+              supplier s,
+              nation n
+            WHERE
+              ps.ps_suppkey = s.s_suppkey
+              AND s.s_nationkey = n.n_nationkey
+              AND n.n_name = #{nation}
+            GROUP BY
+              ps.ps_partkey
+            HAVING
+              SUM(ps.ps_supplycost * ps.ps_availqty) > (
+                SELECT
+                  SUM(ps2.ps_supplycost * ps2.ps_availqty) * #{fraction}
+                FROM
+                  partsupp ps2,
+                  supplier s2,
+                  nation n2
+                WHERE
+                  ps2.ps_suppkey = s2.s_suppkey
+                  AND s2.s_nationkey = n2.n_nationkey
+                  AND n2.n_name = #{nation}
+              )
+            ORDER BY
+              stock_value DESC
+            """)
+    List<Map<String, Object>> q11(@Param("nation") String nation, @Param("fraction") BigDecimal fraction);
+
+    /**
+     * Executes TPC-H Query 12: Shipping Modes and Order Priority.
+     * This query determines whether selecting less expensive modes of shipping is negatively affecting the critical-priority orders.
+     *
+     * @param shipMode1 The first ship mode
+     * @param shipMode2 The second ship mode
+     * @param receiptDate The start date for the one-year period
+     * @return List of maps containing the late line item counts by ship mode
+     */
+    @Select("""
+            SELECT
+              l.l_shipmode,
+              SUM(CASE WHEN o.o_orderpriority = '1-URGENT' OR o.o_orderpriority = '2-HIGH' THEN 1 ELSE 0 END) AS high_line_count,
+              SUM(CASE WHEN o.o_orderpriority <> '1-URGENT' AND o.o_orderpriority <> '2-HIGH' THEN 1 ELSE 0 END) AS low_line_count
+            FROM
+              orders o,
+              lineitem l
+            WHERE
+              o.o_orderkey = l.l_orderkey
+              AND l.l_shipmode IN (#{shipMode1}, #{shipMode2})
+              AND l.l_commitdate < l.l_receiptdate
+              AND l.l_shipdate < l.l_commitdate
+              AND l.l_receiptdate >= #{receiptDate}
+              AND l.l_receiptdate < DATE_ADD(#{receiptDate}, INTERVAL 1 YEAR)
+            GROUP BY
+              l.l_shipmode
+            ORDER BY
+              l.l_shipmode
+            """)
+    List<Map<String, Object>> q12(@Param("shipMode1") String shipMode1, @Param("shipMode2") String shipMode2,
+            @Param("receiptDate") LocalDate receiptDate);
+
+    /**
+     * Executes TPC-H Query 13: Customer Distribution.
+     * This query determines the distribution of customers by the number of orders they have made.
+     *
+     * @param word1 The first word of the excluded order comments
+     * @param word2 The second word of the excluded order comments
+     * @return List of maps containing the number of customers by order count
+     */
+    @Select("""
+            SELECT
+              c_count,
+              COUNT(*) AS custdist
+            FROM
+              (
+                SELECT
+                  c.c_custkey,
+                  COUNT(o.o_orderkey) AS c_count
+                FROM
+                  customer c
+                  LEFT OUTER JOIN orders o ON c.c_custkey = o.o_custkey AND o.o_comment NOT LIKE CONCAT('%', #{word1}, '%', #{word2}, '%')
+                GROUP BY
+                  c.c_custkey
+              ) AS c_orders
+            GROUP BY
+              c_count
+            ORDER BY
+              custdist DESC,
+              c_count DESC
+            """)
+    List<Map<String, Object>> q13(@Param("word1") String word1, @Param("word2") String word2);
+
+    /**
+     * Executes TPC-H Query 14: Promotion Effect.
+     * This query monitors the market response to a promotion such as TV advertisements or a special campaign.
+     *
+     * @param shipDate The start date for the one-month period
+     * @return List of maps containing the promotion revenue percentage
+     */
+    @Select("""
+            SELECT
+              100.00 * SUM(CASE WHEN p.p_type LIKE 'PROMO%' THEN l.l_extendedprice * (1 - l.l_discount) ELSE 0 END)
+                / SUM(l.l_extendedprice * (1 - l.l_discount)) AS promo_revenue
+            FROM
+              lineitem l,
+              part p
+            WHERE
+              l.l_partkey = p.p_partkey
+              AND l.l_shipdate >= #{shipDate}
+              AND l.l_shipdate < DATE_ADD(#{shipDate}, INTERVAL 1 MONTH)
+            """)
+    List<Map<String, Object>> q14(@Param("shipDate") LocalDate shipDate);
+
+    /**
+     * Executes TPC-H Query 15: Top Supplier.
+     * This query determines the top supplier so it can be rewarded, given more business, or identified for special recognition.
+     *
+     * @param shipDate The start date for the three-month period
+     * @return List of maps containing the suppliers with the maximum revenue
+     */
+    @Select("""
+            WITH revenue0 AS (
+              SELECT
+                l_suppkey AS supplier_no,
+                SUM(l_extendedprice * (1 - l_discount)) AS total_revenue
+              FROM
+                lineitem
+              WHERE
+                l_shipdate >= #{shipDate}
+                AND l_shipdate < DATE_ADD(#{shipDate}, INTERVAL 3 MONTH)
+              GROUP BY
+                l_suppkey
+            )
+            SELECT
+              s.s_suppkey,
+              s.s_name,
+              s.s_address,
+              s.s_phone,
+              r.total_revenue
+            FROM
+              supplier s,
+              revenue0 r
+            WHERE
+              s.s_suppkey = r.supplier_no
+              AND r.total_revenue = (
+                SELECT
+                  MAX(total_revenue)
+                FROM
+                  revenue0
+              )
+            ORDER BY
+              s.s_suppkey
+            """)
+    List<Map<String, Object>> q15(@Param("shipDate") LocalDate shipDate);
+
+    /**
+     * Executes TPC-H Query 16: Parts/Supplier Relationship.
+     * This query finds out how many suppliers can supply parts with given attributes.
+     *
+     * @param brand The excluded brand
+     * @param type The prefix of the excluded part types
+     * @param sizes The part sizes
+     * @return List of maps containing the supplier counts by brand, type and size
+     */
+    @Select("""
+            <script>
+            SELECT
+              p.p_brand,
+              p.p_type,
+              p.p_size,
+              COUNT(DISTINCT ps.ps_suppkey) AS supplier_cnt
+            FROM
+              partsupp ps,
+              part p
+            WHERE
+              p.p_partkey = ps.ps_partkey
+              AND p.p_brand &lt;> #{brand}
+              AND p.p_type NOT LIKE CONCAT(#{type}, '%')
+              AND p.p_size IN <foreach collection="sizes" item="size" open="(" separator=", " close=")">#{size}</foreach>
+              AND ps.ps_suppkey NOT IN (
+                SELECT
+                  s.s_suppkey
+                FROM
+                  supplier s
+                WHERE
+                  s.s_comment LIKE '%Customer%Complaints%'
+              )
+            GROUP BY
+              p.p_brand,
+              p.p_type,
+              p.p_size
+            ORDER BY
+              supplier_cnt DESC,
+              p.p_brand,
+              p.p_type,
+              p.p_size
+            </script>
+            """)
+    List<Map<String, Object>> q16(@Param("brand") String brand, @Param("type") String type,
+            @Param("sizes") List<Integer> sizes);
+
+    /**
+     * Executes TPC-H Query 17: Small-Quantity-Order Revenue.
+     * This query determines how much average yearly revenue would be lost if orders were no longer filled for small quantities of certain parts.
+     *
+     * @param brand The brand of the parts
+     * @param container The container of the parts
+     * @return List of maps containing the average yearly revenue
+     */
+    @Select("""
+            SELECT
+              SUM(l.l_extendedprice) / 7.0 AS avg_yearly
+            FROM
+              lineitem l,
+              part p
+            WHERE
+              p.p_partkey = l.l_partkey
+              AND p.p_brand = #{brand}
+              AND p.p_container = #{container}
+              AND l.l_quantity < (
+                SELECT
+                  0.2 * AVG(l2.l_quantity)
+                FROM
+                  lineitem l2
+                WHERE
+                  l2.l_partkey = p.p_partkey
+              )
+            """)
+    List<Map<String, Object>> q17(@Param("brand") String brand, @Param("container") String container);
+
+    /**
+     * Executes TPC-H Query 18: Large Volume Customer.
+     * This query ranks customers based on their having placed a large quantity order.
+     *
+     * @param quantity The total quantity an order has to exceed
+     * @return List of maps containing the large orders with their customers
+     */
+    @Select("""
+            SELECT
+              c.c_name,
+              c.c_custkey,
+              o.o_orderkey,
+              o.o_orderdate,
+              o.o_totalprice,
+              SUM(l.l_quantity) AS sum_quantity
+            FROM
+              customer c,
+              orders o,
+              lineitem l
+            WHERE
+              o.o_orderkey IN (
+                SELECT
+                  l2.l_orderkey
+                FROM
+                  lineitem l2
+                GROUP BY
+                  l2.l_orderkey
+                HAVING
+                  SUM(l2.l_quantity) > #{quantity}
+              )
+              AND c.c_custkey = o.o_custkey
+              AND o.o_orderkey = l.l_orderkey
+            GROUP BY
+              c.c_name,
+              c.c_custkey,
+              o.o_orderkey,
+              o.o_orderdate,
+              o.o_totalprice
+            ORDER BY
+              o.o_totalprice DESC,
+              o.o_orderdate
+            LIMIT 100
+            """)
+    List<Map<String, Object>> q18(@Param("quantity") int quantity);
+
+    /**
+     * Executes TPC-H Query 19: Discounted Revenue.
+     * This query reports the gross discounted revenue attributed to the sale of selected parts handled in a particular manner.
+     *
+     * @param brand1 The brand of the small containers
+     * @param brand2 The brand of the medium containers
+     * @param brand3 The brand of the large containers
+     * @param quantity1 The minimum quantity of the small containers
+     * @param quantity2 The minimum quantity of the medium containers
+     * @param quantity3 The minimum quantity of the large containers
+     * @return List of maps containing the discounted revenue
+     */
+    @Select("""
+            SELECT
+              SUM(l.l_extendedprice * (1 - l.l_discount)) AS revenue
+            FROM
+              lineitem l,
+              part p
+            WHERE
+              (
+                p.p_partkey = l.l_partkey
+                AND p.p_brand = #{brand1}
+                AND p.p_container IN ('SM CASE', 'SM BOX', 'SM PACK', 'SM PKG')
+                AND l.l_quantity >= #{quantity1}
+                AND l.l_quantity <= #{quantity1} + 10
+                AND p.p_size BETWEEN 1 AND 5
+                AND l.l_shipmode IN ('AIR', 'AIR REG')
+                AND l.l_shipinstruct = 'DELIVER IN PERSON'
+              )
+              OR (
+                p.p_partkey = l.l_partkey
+                AND p.p_brand = #{brand2}
+                AND p.p_container IN ('MED BAG', 'MED BOX', 'MED PKG', 'MED PACK')
+                AND l.l_quantity >= #{quantity2}
+                AND l.l_quantity <= #{quantity2} + 10
+                AND p.p_size BETWEEN 1 AND 10
+                AND l.l_shipmode IN ('AIR', 'AIR REG')
+                AND l.l_shipinstruct = 'DELIVER IN PERSON'
+              )
+              OR (
+                p.p_partkey = l.l_partkey
+                AND p.p_brand = #{brand3}
+                AND p.p_container IN ('LG CASE', 'LG BOX', 'LG PACK', 'LG PKG')
+                AND l.l_quantity >= #{quantity3}
+                AND l.l_quantity <= #{quantity3} + 10
+                AND p.p_size BETWEEN 1 AND 15
+                AND l.l_shipmode IN ('AIR', 'AIR REG')
+                AND l.l_shipinstruct = 'DELIVER IN PERSON'
+              )
+            """)
+    List<Map<String, Object>> q19(@Param("brand1") String brand1, @Param("brand2") String brand2,
+            @Param("brand3") String brand3, @Param("quantity1") int quantity1, @Param("quantity2") int quantity2,
+            @Param("quantity3") int quantity3);
+
+    /**
+     * Executes TPC-H Query 20: Potential Part Promotion.
+     * This query identifies suppliers in a nation who have an excess of a given part available.
+     *
+     * @param color The color the part name starts with
+     * @param shipDate The start date for the one-year period
+     * @param nation The name of the nation of the suppliers
+     * @return List of maps containing the names and addresses of the suppliers
+     */
+    @Select("""
+            SELECT
+              s.s_name,
+              s.s_address
+            FROM
+              supplier s,
+              nation n
+            WHERE
+              s.s_suppkey IN (
+                SELECT
+                  ps.ps_suppkey
+                FROM
+                  partsupp ps
+                WHERE
+                  ps.ps_partkey IN (
+                    SELECT
+                      p.p_partkey
+                    FROM
+                      part p
+                    WHERE
+                      p.p_name LIKE CONCAT(#{color}, '%')
+                  )
+                  AND ps.ps_availqty > (
+                    SELECT
+                      0.5 * SUM(l.l_quantity)
+                    FROM
+                      lineitem l
+                    WHERE
+                      l.l_partkey = ps.ps_partkey
+                      AND l.l_suppkey = ps.ps_suppkey
+                      AND l.l_shipdate >= #{shipDate}
+                      AND l.l_shipdate < DATE_ADD(#{shipDate}, INTERVAL 1 YEAR)
+                  )
+              )
+              AND s.s_nationkey = n.n_nationkey
+              AND n.n_name = #{nation}
+            ORDER BY
+              s.s_name
+            """)
+    List<Map<String, Object>> q20(@Param("color") String color, @Param("shipDate") LocalDate shipDate,
+            @Param("nation") String nation);
+
+    /**
+     * Executes TPC-H Query 21: Suppliers Who Kept Orders Waiting.
+     * This query identifies suppliers who were not able to ship required parts in a timely manner.
+     *
+     * @param nation The name of the nation of the suppliers
+     * @return List of maps containing the number of waiting orders by supplier
+     */
+    @Select("""
+            SELECT
+              s.s_name,
+              COUNT(*) AS numwait
+            FROM
+              supplier s,
+              lineitem l1,
+              orders o,
+              nation n
+            WHERE
+              s.s_suppkey = l1.l_suppkey
+              AND o.o_orderkey = l1.l_orderkey
+              AND o.o_orderstatus = 'F'
+              AND l1.l_receiptdate > l1.l_commitdate
+              AND EXISTS (
+                SELECT *
+                FROM
+                  lineitem l2
+                WHERE
+                  l2.l_orderkey = l1.l_orderkey
+                  AND l2.l_suppkey <> l1.l_suppkey
+              )
+              AND NOT EXISTS (
+                SELECT *
+                FROM
+                  lineitem l3
+                WHERE
+                  l3.l_orderkey = l1.l_orderkey
+                  AND l3.l_suppkey <> l1.l_suppkey
+                  AND l3.l_receiptdate > l3.l_commitdate
+              )
+              AND s.s_nationkey = n.n_nationkey
+              AND n.n_name = #{nation}
+            GROUP BY
+              s.s_name
+            ORDER BY
+              numwait DESC,
+              s.s_name
+            LIMIT 100
+            """)
+    List<Map<String, Object>> q21(@Param("nation") String nation);
+
+    /**
+     * Executes TPC-H Query 22: Global Sales Opportunity.
+     * This query identifies geographies where there are customers who may be likely to make a purchase.
+     *
+     * @param countryCodes The country codes, the first two digits of the phone numbers
+     * @return List of maps containing the customer counts and balances by country code
+     */
+    @Select("""
+            <script>
+            SELECT
+              cntrycode,
+              COUNT(*) AS numcust,
+              SUM(c_acctbal) AS totacctbal
+            FROM
+              (
+                SELECT
+                  SUBSTRING(c.c_phone, 1, 2) AS cntrycode,
+                  c.c_acctbal
+                FROM
+                  customer c
+                WHERE
+                  SUBSTRING(c.c_phone, 1, 2) IN <foreach collection="countryCodes" item="countryCode" open="(" separator=", " close=")">#{countryCode}</foreach>
+                  AND c.c_acctbal > (
+                    SELECT
+                      AVG(c2.c_acctbal)
+                    FROM
+                      customer c2
+                    WHERE
+                      c2.c_acctbal > 0.00
+                      AND SUBSTRING(c2.c_phone, 1, 2) IN <foreach collection="countryCodes" item="countryCode" open="(" separator=", " close=")">#{countryCode}</foreach>
+                  )
+                  AND NOT EXISTS (
+                    SELECT *
+                    FROM
+                      orders o
+                    WHERE
+                      o.o_custkey = c.c_custkey
+                  )
+              ) AS custsale
+            GROUP BY
+              cntrycode
+            ORDER BY
+              cntrycode
+            </script>
+            """)
+    List<Map<String, Object>> q22(@Param("countryCodes") List<String> countryCodes);
 }
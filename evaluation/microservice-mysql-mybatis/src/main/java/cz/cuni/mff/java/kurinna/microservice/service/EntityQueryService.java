@@ -0,0 +1,339 @@
+package cz.cuni.mff.java.kurinna.microservice.service;
+
+import cz.cuni.mff.java.kurinna.common.utils.StatementCounter;
+import cz.cuni.mff.java.kurinna.microservice.model.Customer;
+import cz.cuni.mff.java.kurinna.microservice.model.LineItem;
+import cz.cuni.mff.java.kurinna.microservice.model.Orders;
+import cz.cuni.mff.java.kurinna.microservice.model.PartSupp;
+import cz.cuni.mff.java.kurinna.microservice.repository.EntityMapper;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.defaults.DefaultSqlSession;
+import org.apache.ibatis.transaction.jdbc.JdbcTransaction;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Executes the row-returning queries through {@link EntityMapper}. The list methods materialize the
+ * mapped POJOs, the cursor and handler methods map the rows one by one and only count them.
+ * <p>
+ * A MyBatis cursor is bound to the SQL session that opened it, so the cursor methods run in a
+ * transaction which keeps the session open until the cursor is exhausted. The point lookups run
+ * without a transaction, so every lookup gets a fresh session and its local cache is never reused.
+ * <p>
+ * The object graph queries run in a session of their own over a {@link StatementCounter#counting counting}
+ * datasource, so their statements are counted without intercepting the statements of the other queries.
+ */
+@Service
+public class EntityQueryService {
+    private final EntityMapper entityMapper;
+    private final Configuration configuration;
+    private final DataSource graphDataSource;
+
+    public EntityQueryService(EntityMapper entityMapper, SqlSessionFactory sqlSessionFactory, DataSource dataSource) {
+        this.entityMapper = entityMapper;
+        this.configuration = sqlSessionFactory.getConfiguration();
+        this.graphDataSource = StatementCounter.counting(dataSource);
+    }
+
+    // A1) Non-Indexed Columns
+    public List<LineItem> a1() {
+        return entityMapper.a1();
+    }
+
+    @Transactional
+    public long a1Cursor() {
+        return count(entityMapper.a1Cursor());
+    }
+
+    public long a1Handler() {
+        return count(entityMapper::a1Handler);
+    }
+
+    // A2) Non-Indexed Columns — Range Query
+    public List<Orders> a2(LocalDate startDate, LocalDate endDate) {
+        return entityMapper.a2(startDate, endDate);
+    }
+
+    @Transactional
+    public long a2Cursor(LocalDate startDate, LocalDate endDate) {
+        return count(entityMapper.a2Cursor(startDate, endDate));
+    }
+
+    public long a2Handler(LocalDate startDate, LocalDate endDate) {
+        return count((ResultHandler<Orders> handler) -> entityMapper.a2Handler(startDate, endDate, handler));
+    }
+
+    // A3) Indexed Columns
+    public List<Customer> a3() {
+        return entityMapper.a3();
+    }
+
+    @Transactional
+    public long a3Cursor() {
+        return count(entityMapper.a3Cursor());
+    }
+
+    public long a3Handler() {
+        return count(entityMapper::a3Handler);
+    }
+
+    // A4) Indexed Columns — Range Query
+    public List<Orders> a4(int minOrderKey, int maxOrderKey) {
+        return entityMapper.a4(minOrderKey, maxOrderKey);
+    }
+
+    @Transactional
+    public long a4Cursor(int minOrderKey, int maxOrderKey) {
+        return count(entityMapper.a4Cursor(minOrderKey, maxOrderKey));
+    }
+
+    public long a4Handler(int minOrderKey, int maxOrderKey) {
+        return count((ResultHandler<Orders> handler) -> entityMapper.a4Handler(minOrderKey, maxOrderKey, handler));
+    }
+
+    // C1) Non-Indexed Columns
+    public List<Orders> c1() {
+        return entityMapper.c1();
+    }
+
+    @Transactional
+    public long c1Cursor() {
+        return count(entityMapper.c1Cursor());
+    }
+
+    public long c1Handler() {
+        return count(entityMapper::c1Handler);
+    }
+
+    // C2) Indexed Columns
+    public List<Orders> c2() {
+        return entityMapper.c2();
+    }
+
+    @Transactional
+    public long c2Cursor() {
+        return count(entityMapper.c2Cursor());
+    }
+
+    public long c2Handler() {
+        return count(entityMapper::c2Handler);
+    }
+
+    // C3) Complex Join 1
+    public List<Orders> c3() {
+        return entityMapper.c3();
+    }
+
+    @Transactional
+    public long c3Cursor() {
+        return count(entityMapper.c3Cursor());
+    }
+
+    public long c3Handler() {
+        return count(entityMapper::c3Handler);
+    }
+
+    // C4) Complex Join 2
+    public List<Orders> c4() {
+        return entityMapper.c4();
+    }
+
+    @Transactional
+    public long c4Cursor() {
+        return count(entityMapper.c4Cursor());
+    }
+
+    public long c4Handler() {
+        return count(entityMapper::c4Handler);
+    }
+
+    // C5) Left Outer Join
+    public List<Orders> c5() {
+        return entityMapper.c5();
+    }
+
+    @Transactional
+    public long c5Cursor() {
+        return count(entityMapper.c5Cursor());
+    }
+
+    public long c5Handler() {
+        return count(entityMapper::c5Handler);
+    }
+
+    // E1) Non-Indexed Columns Sorting
+    public List<Customer> e1() {
+        return entityMapper.e1();
+    }
+
+    @Transactional
+    public long e1Cursor() {
+        return count(entityMapper.e1Cursor());
+    }
+
+    public long e1Handler() {
+        return count(entityMapper::e1Handler);
+    }
+
+    // E2) Indexed Columns Sorting
+    public List<Orders> e2() {
+        return entityMapper.e2();
+    }
+
+    @Transactional
+    public long e2Cursor() {
+        return count(entityMapper.e2Cursor());
+    }
+
+    public long e2Handler() {
+        return count(entityMapper::e2Handler);
+    }
+
+    // E3) Distinct
+    public List<Customer> e3() {
+        return entityMapper.e3();
+    }
+
+    @Transactional
+    public long e3Cursor() {
+        return count(entityMapper.e3Cursor());
+    }
+
+    public long e3Handler() {
+        return count(entityMapper::e3Handler);
+    }
+
+    // F1) Orders by Primary Key
+    public Orders f1(long orderKey) {
+        return entityMapper.f1(orderKey);
+    }
+
+    // F2) Customer by Primary Key
+    public Customer f2(long customerKey) {
+        return entityMapper.f2(customerKey);
+    }
+
+    // F3) Line Item by Composite Key
+    public LineItem f3(long orderKey, int lineNumber) {
+        return entityMapper.f3(orderKey, lineNumber);
+    }
+
+    // F4) Part Supplier by Composite Key
+    public PartSupp f4(long partKey, long supplierKey) {
+        return entityMapper.f4(partKey, supplierKey);
+    }
+
+    // G1) Orders by Offset
+    public List<Orders> g1(int offset, int limit) {
+        return entityMapper.g1((long) offset + limit, new RowBounds(offset, limit));
+    }
+
+    // G2) Orders by Keyset
+    public List<Orders> g2(long orderKey, int limit) {
+        return entityMapper.g2(orderKey, limit);
+    }
+
+    // G3) Line Items by Offset
+    public List<LineItem> g3(int offset, int limit) {
+        return entityMapper.g3((long) offset + limit, new RowBounds(offset, limit));
+    }
+
+    // G4) Line Items by Keyset
+    public List<LineItem> g4(long orderKey, long lineNumber, int limit) {
+        return entityMapper.g4(orderKey, lineNumber, limit);
+    }
+
+    // H1) Orders with Customer and Line Items — Lazy N+1
+    public List<Orders> h1(LocalDate startDate, LocalDate endDate) {
+        return graph(mapper -> mapper.h1(startDate, endDate));
+    }
+
+    // H2) Orders with Customer and Line Items — Join Fetch
+    public List<Orders> h2(LocalDate startDate, LocalDate endDate) {
+        return graph(mapper -> mapper.h2(startDate, endDate));
+    }
+
+    // H3) Orders with Customer and Line Items — Batch Fetch
+    public List<Orders> h3(LocalDate startDate, LocalDate endDate, int batchSize) {
+        return graph(mapper -> h3(mapper, startDate, endDate, batchSize));
+    }
+
+    private static List<Orders> h3(EntityMapper mapper, LocalDate startDate, LocalDate endDate, int batchSize) {
+        List<Orders> orders = mapper.h3(startDate, endDate);
+
+        Map<Long, Customer> customers = new HashMap<>();
+        List<Long> customerKeys = orders.stream().map(order -> order.getCustomer().getC_custkey()).distinct().toList();
+        for (List<Long> keys : batches(customerKeys, batchSize)) {
+            for (Customer customer : mapper.h3Customers(keys)) {
+                customers.put(customer.getC_custkey(), customer);
+            }
+        }
+
+        Map<Long, Orders> ordersByKey = new HashMap<>();
+        for (Orders order : orders) {
+            order.setCustomer(customers.get(order.getCustomer().getC_custkey()));
+            order.setLineItems(new ArrayList<>());
+            ordersByKey.put(order.getO_orderkey(), order);
+        }
+        for (List<Long> keys : batches(new ArrayList<>(ordersByKey.keySet()), batchSize)) {
+            for (LineItem lineItem : mapper.h3LineItems(keys)) {
+                ordersByKey.get(lineItem.getLineItemPK().getOrder().getO_orderkey()).getLineItems().add(lineItem);
+            }
+        }
+        return orders;
+    }
+
+    /**
+     * Runs an object graph query in a session over the counting datasource. The session is opened on a
+     * plain JDBC transaction, the Spring managed transactions of the factory only use its own datasource.
+     */
+    private <T> T graph(Function<EntityMapper, T> query) {
+        JdbcTransaction transaction = new JdbcTransaction(graphDataSource, null, true);
+        try (SqlSession session = new DefaultSqlSession(configuration, configuration.newExecutor(transaction))) {
+            return query.apply(session.getMapper(EntityMapper.class));
+        }
+    }
+
+    private static <T> List<List<T>> batches(List<T> values, int batchSize) {
+        int size = Math.max(batchSize, 1);
+        List<List<T>> batches = new ArrayList<>();
+        for (int i = 0; i < values.size(); i += size) {
+            batches.add(values.subList(i, Math.min(i + size, values.size())));
+        }
+        return batches;
+    }
+
+    private static long count(Cursor<?> cursor) {
+        try (cursor) {
+            long rows = 0;
+            for (Object ignored : cursor) {
+                rows++;
+            }
+            return rows;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static <T> long count(Consumer<ResultHandler<T>> query) {
+        long[] rows = {0};
+        query.accept(context -> rows[0]++);
+        return rows[0];
+    }
+}
@@ -4,6 +4,7 @@ import cz.cuni.mff.java.kurinna.common.service.IQueryService;
 import cz.cuni.mff.java.kurinna.microservice.repository.UniversalMapper;
 import org.springframework.stereotype.Service;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
@@ -36,6 +37,75 @@ public class QueryService implements IQueryService<Map<String, Object>> {
         return universalMapper.q5(region, orderDate);
     }
 
+    public List<Map<String, Object>> q6(LocalDate shipDate, BigDecimal discount, int quantity) {
+        return universalMapper.q6(shipDate, discount, quantity);
+    }
+
+    public List<Map<String, Object>> q7(String nation1, String nation2) {
+        return universalMapper.q7(nation1, nation2);
+    }
+
+    public List<Map<String, Object>> q8(String nation, String region, String type) {
+        return universalMapper.q8(nation, region, type);
+    }
+
+    public List<Map<String, Object>> q9(String color) {
+        return universalMapper.q9(color);
+    }
+
+    public List<Map<String, Object>> q10(LocalDate orderDate) {
+        return universalMapper.q10(orderDate);
+    }
+
+    public List<Map<String, Object>> q11(String nation, BigDecimal fraction) {
+        return universalMapper.q11(nation, fraction);
+    }
+
+    public List<Map<String, Object>> q12(String shipMode1, String shipMode2, LocalDate receiptDate) {
+        return universalMapper.q12(shipMode1, shipMode2, receiptDate);
+    }
+
+    public List<Map<String, Object>> q13(String word1, String word2) {
+        return universalMapper.q13(word1, word2);
+    }
+
+    public List<Map<String, Object>> q14(LocalDate shipDate) {
+        return universalMapper.q14(shipDate);
+    }
+
+    public List<Map<String, Object>> q15(LocalDate shipDate) {
+        return universalMapper.q15(shipDate);
+    }
+
+    public List<Map<String, Object>> q16(String brand, String type, List<Integer> sizes) {
+        return universalMapper.q16(brand, type, sizes);
+    }
+
+    public List<Map<String, Object>> q17(String brand, String container) {
+        return universalMapper.q17(brand, container);
+    }
+
+    public List<Map<String, Object>> q18(int quantity) {
+        return universalMapper.q18(quantity);
+    }
+
+    public List<Map<String, Object>> q19(String brand1, String brand2, String brand3, int quantity1, int quantity2,
+            int quantity3) {
+        return universalMapper.q19(brand1, brand2, brand3, quantity1, quantity2, quantity3);
+    }
+
+    public List<Map<String, Object>> q20(String color, LocalDate shipDate, String nation) {
+        return universalMapper.q20(color, shipDate, nation);
+    }
+
+    public List<Map<String, Object>> q21(String nation) {
+        return universalMapper.q21(nation);
+    }
+
+    public List<Map<String, Object>> q22(List<String> countryCodes) {
+        return universalMapper.q22(countryCodes);
+    }
+
     // A1) Non-Indexed Columns
     public List<Map<String, Object>> a1() {
         return universalMapper.a1();
@@ -0,0 +1,77 @@
+package cz.cuni.mff.java.kurinna.microservice.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import cz.cuni.mff.java.kurinna.microservice.model.Nation;
+import cz.cuni.mff.java.kurinna.microservice.model.Part;
+import cz.cuni.mff.java.kurinna.microservice.model.Region;
+import cz.cuni.mff.java.kurinna.microservice.model.Supplier;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * Backs Hibernate's second-level and query cache with a local Caffeine JCache provider. Only active with
+ * {@code jpa.cache.enabled=true}, which also switches the caches on in the Hibernate properties.
+ * <p>
+ * The caches of all regions are created up front: one per cached reference entity and one for the query
+ * results, bounded by {@code jpa.cache.maximum-size} entries and expiring {@code jpa.cache.ttl} after
+ * they were written. The update timestamps region is neither bounded nor expiring, as Hibernate requires,
+ * since an evicted timestamp would let stale query results through. The entries are stored by reference,
+ * Hibernate only puts immutable entries into the cache.
+ */
+@Configuration
+@ConditionalOnProperty(name = "jpa.cache.enabled", havingValue = "true")
+public class JpaCacheConfig {
+    /**
+     * The reference tables cached in the second-level cache, their regions are named after the entity class.
+     */
+    private static final List<Class<?>> CACHED_ENTITIES = List.of(Region.class, Nation.class, Supplier.class, Part.class);
+
+    @Value("${jpa.cache.maximum-size}")
+    private long maximumSize;
+
+    @Value("${jpa.cache.ttl}")
+    private Duration ttl;
+
+    @Bean(destroyMethod = "close")
+    public CacheManager jpaCacheManager() {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager();
+        CaffeineConfiguration<Object, Object> bounded = new CaffeineConfiguration<>()
+                .setMaximumSize(OptionalLong.of(maximumSize))
+                .setExpireAfterWrite(OptionalLong.of(ttl.toNanos()))
+                .setNativeStatisticsEnabled(true)
+                .setStoreByValue(false);
+        for (Class<?> entity : CACHED_ENTITIES) {
+            cacheManager.createCache(entity.getName(), bounded);
+        }
+        cacheManager.createCache(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME, bounded);
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+                new CaffeineConfiguration<>()
+                        .setNativeStatisticsEnabled(true)
+                        .setStoreByValue(false));
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer jpaCacheProperties(CacheManager jpaCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, ConfigSettings.SIMPLE_FACTORY_NAME);
+            properties.put(ConfigSettings.CACHE_MANAGER, jpaCacheManager);
+            // Every region is configured above, a cache created with the provider defaults would be unbounded
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+}
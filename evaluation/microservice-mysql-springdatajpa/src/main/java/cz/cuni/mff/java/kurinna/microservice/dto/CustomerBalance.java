@@ -0,0 +1,7 @@
+package cz.cuni.mff.java.kurinna.microservice.dto;
+
+/**
+ * Row of query E1, a customer and its account balance.
+ */
+public record CustomerBalance(String name, String address, Double accountBalance) {
+}
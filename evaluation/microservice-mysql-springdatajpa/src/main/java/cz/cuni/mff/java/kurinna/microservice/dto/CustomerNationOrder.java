@@ -0,0 +1,10 @@
+package cz.cuni.mff.java.kurinna.microservice.dto;
+
+import java.sql.Timestamp;
+
+/**
+ * Row of query C3, an order with the name and nation of its customer.
+ */
+public record CustomerNationOrder(String customerName, String nationName, Timestamp orderDate,
+        Double totalPrice) {
+}
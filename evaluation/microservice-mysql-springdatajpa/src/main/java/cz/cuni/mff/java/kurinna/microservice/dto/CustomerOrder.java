@@ -0,0 +1,9 @@
+package cz.cuni.mff.java.kurinna.microservice.dto;
+
+import java.sql.Timestamp;
+
+/**
+ * Row of queries C1 and C2, an order with the name of its customer.
+ */
+public record CustomerOrder(String customerName, Timestamp orderDate, Double totalPrice) {
+}
@@ -0,0 +1,7 @@
+package cz.cuni.mff.java.kurinna.microservice.dto;
+
+/**
+ * Row of TPC-H query 5, the revenue of a nation through local suppliers.
+ */
+public record LocalSupplierVolume(String nationName, Double revenue) {
+}
@@ -0,0 +1,7 @@
+package cz.cuni.mff.java.kurinna.microservice.dto;
+
+/**
+ * Row of TPC-H query 4, the number of late orders of an order priority.
+ */
+public record OrderPriorityCount(String orderPriority, Long orderCount) {
+}
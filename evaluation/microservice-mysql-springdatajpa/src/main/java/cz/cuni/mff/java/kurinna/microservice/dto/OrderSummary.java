@@ -0,0 +1,9 @@
+package cz.cuni.mff.java.kurinna.microservice.dto;
+
+import java.sql.Timestamp;
+
+/**
+ * Row of query E2, the key columns of an order.
+ */
+public record OrderSummary(Long orderKey, Long customerKey, Timestamp orderDate, Double totalPrice) {
+}
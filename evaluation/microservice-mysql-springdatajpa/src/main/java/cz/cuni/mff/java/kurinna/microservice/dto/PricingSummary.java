@@ -0,0 +1,8 @@
+package cz.cuni.mff.java.kurinna.microservice.dto;
+
+/**
+ * Row of TPC-H query 1, the pricing summary of a return flag and line status.
+ */
+public record PricingSummary(String returnFlag, String lineStatus, Double sumQty, Double sumBasePrice,
+        Double sumDiscPrice, Double sumCharge, Double avgQty, Double avgPrice, Double avgDisc, Long countOrder) {
+}
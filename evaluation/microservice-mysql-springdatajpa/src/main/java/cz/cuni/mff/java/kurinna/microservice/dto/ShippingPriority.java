@@ -0,0 +1,9 @@
+package cz.cuni.mff.java.kurinna.microservice.dto;
+
+import java.sql.Timestamp;
+
+/**
+ * Row of TPC-H query 3, an unshipped order and its revenue.
+ */
+public record ShippingPriority(Long orderKey, Double revenue, Timestamp orderDate, Integer shipPriority) {
+}
@@ -19,7 +19,7 @@ public class Customer {
     @Column(length = 40)
     private String c_address;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "c_nationkey", referencedColumnName = "n_nationkey")
     private Nation nation;
 
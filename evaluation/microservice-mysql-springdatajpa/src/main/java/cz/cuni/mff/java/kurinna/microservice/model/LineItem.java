@@ -16,7 +16,7 @@ public class LineItem {
     @EmbeddedId
     private LineItemPK lineItemPK;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumns({
             @JoinColumn(name = "l_suppkey", referencedColumnName = "ps_suppkey"),
             @JoinColumn(name = "l_partkey", referencedColumnName = "ps_partkey")
@@ -1,12 +1,18 @@
 package cz.cuni.mff.java.kurinna.microservice.model;
 
 import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 import java.io.Serializable;
 
 @Embeddable
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
 public class LineItemPK implements Serializable {
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "l_orderkey", referencedColumnName = "o_orderkey")
     private Orders order;
 
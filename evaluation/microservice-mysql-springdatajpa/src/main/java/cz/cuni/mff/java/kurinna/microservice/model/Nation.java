@@ -2,8 +2,14 @@ package cz.cuni.mff.java.kurinna.microservice.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Immutable;
 
 @Entity
+@Immutable
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY)
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
@@ -16,7 +22,7 @@ public class Nation {
     @Column(length = 25)
     private String n_name;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "n_regionkey", referencedColumnName = "r_regionkey")
     private Region region;
 
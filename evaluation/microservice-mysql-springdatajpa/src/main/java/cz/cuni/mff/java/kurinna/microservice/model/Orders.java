@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.*;
 
 import java.sql.Timestamp;
+import java.util.List;
 
 @Entity
 @NoArgsConstructor
@@ -15,7 +16,7 @@ public class Orders {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long o_orderkey;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "o_custkey", referencedColumnName = "c_custkey")
     private Customer customer;
 
@@ -37,6 +38,6 @@ public class Orders {
     @Column(length = 79)
     private String o_comment;
 
-//    @OneToMany(mappedBy = "order")
-//    private List<LineItem> lineItems;
+    @OneToMany(mappedBy = "lineItemPK.order")
+    private List<LineItem> lineItems;
 }
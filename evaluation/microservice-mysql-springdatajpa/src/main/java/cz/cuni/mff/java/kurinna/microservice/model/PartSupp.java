@@ -15,12 +15,12 @@ public class PartSupp {
     @EmbeddedId
     private PartSuppPK partSuppPK;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @MapsId("part")
     @JoinColumn(name = "ps_partkey", referencedColumnName = "p_partkey")
     private Part part;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @MapsId("supplier")
     @JoinColumn(name = "ps_suppkey", referencedColumnName = "s_suppkey")
     private Supplier supplier;
@@ -2,10 +2,18 @@ package cz.cuni.mff.java.kurinna.microservice.model;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 import java.io.Serializable;
 
 @Embeddable
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@EqualsAndHashCode
 public class PartSuppPK implements Serializable {
     @Column(name = "ps_partkey")
     private Long part;
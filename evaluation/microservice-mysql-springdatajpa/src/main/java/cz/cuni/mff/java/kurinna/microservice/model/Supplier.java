@@ -2,8 +2,14 @@ package cz.cuni.mff.java.kurinna.microservice.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Immutable;
 
 @Entity
+@Immutable
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY)
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
@@ -19,7 +25,7 @@ public class Supplier {
     @Column(length = 40)
     private String s_address;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "s_nationkey", referencedColumnName = "n_nationkey")
     private Nation nation;
 
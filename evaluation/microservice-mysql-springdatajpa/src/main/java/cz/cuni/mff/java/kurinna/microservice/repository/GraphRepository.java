@@ -0,0 +1,102 @@
+package cz.cuni.mff.java.kurinna.microservice.repository;
+
+import cz.cuni.mff.java.kurinna.common.utils.StatementCounter;
+import cz.cuni.mff.java.kurinna.microservice.model.Orders;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceUnit;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Repository class loading orders with their customer and line items through the entity associations.
+ * Every load opens its own entity manager, so the associations are never resolved from the persistence context
+ * of a previous load. The customer and line items of every order are accessed before the entity manager is
+ * closed, so the returned graph is fully initialized and detached.
+ * <p>
+ * The associations are mapped lazily, the loads differ only in how Hibernate resolves them: one statement per
+ * order and association, one joined statement, or statements over batches of orders and customers. The batch
+ * size is set on the session instead of with {@code @BatchSize} on the mapping, which would batch the lazy
+ * load as well.
+ * <p>
+ * The sessions of the loads are opened with a statement inspector, which reports every statement the session
+ * executes to the {@link StatementCounter}. The sessions of the other queries are opened without it.
+ */
+@Repository
+public class GraphRepository {
+    private static final String ORDERS = "SELECT o FROM Orders o WHERE o.o_orderdate BETWEEN :startDate AND :endDate "
+            + "ORDER BY o.o_orderkey";
+    private static final String ORDERS_JOIN_FETCH = "SELECT DISTINCT o FROM Orders o JOIN FETCH o.customer "
+            + "LEFT JOIN FETCH o.lineItems WHERE o.o_orderdate BETWEEN :startDate AND :endDate ORDER BY o.o_orderkey";
+
+    @PersistenceUnit
+    private EntityManagerFactory entityManagerFactory;
+
+    /**
+     * H1) Loads orders within a date range and resolves their customer and line items lazily, one statement
+     * per order and association (N+1).
+     *
+     * @param startDate The start date of the range, inclusive
+     * @param endDate The end date of the range, inclusive
+     * @return The orders with their customer and line items
+     */
+    public List<Orders> h1(LocalDate startDate, LocalDate endDate) {
+        return load(ORDERS, startDate, endDate, 0);
+    }
+
+    /**
+     * H2) Loads orders within a date range with their customer and line items fetched by one joined statement.
+     *
+     * @param startDate The start date of the range, inclusive
+     * @param endDate The end date of the range, inclusive
+     * @return The orders with their customer and line items
+     */
+    public List<Orders> h2(LocalDate startDate, LocalDate endDate) {
+        return load(ORDERS_JOIN_FETCH, startDate, endDate, 0);
+    }
+
+    /**
+     * H3) Loads orders within a date range and resolves their customers and line items in batches, one
+     * statement per batch of uninitialized customers or line item collections.
+     *
+     * @param startDate The start date of the range, inclusive
+     * @param endDate The end date of the range, inclusive
+     * @param batchSize Number of customers or collections initialized by one statement
+     * @return The orders with their customer and line items
+     */
+    public List<Orders> h3(LocalDate startDate, LocalDate endDate, int batchSize) {
+        return load(ORDERS, startDate, endDate, batchSize);
+    }
+
+    private List<Orders> load(String jpql, LocalDate startDate, LocalDate endDate, int batchSize) {
+        EntityManager entityManager = entityManagerFactory.unwrap(SessionFactory.class).withOptions()
+                .statementInspector(sql -> {
+                    StatementCounter.executed();
+                    return sql;
+                })
+                .openSession();
+        try {
+            if (batchSize > 0) {
+                entityManager.unwrap(Session.class).setFetchBatchSize(batchSize);
+            }
+            List<Orders> orders = entityManager.createQuery(jpql, Orders.class)
+                    .setParameter("startDate", Timestamp.valueOf(startDate.atStartOfDay()))
+                    .setParameter("endDate", Timestamp.valueOf(endDate.atStartOfDay()))
+                    .setHint(HibernateHints.HINT_READ_ONLY, true)
+                    .getResultList();
+            for (Orders order : orders) {
+                order.getCustomer().getC_name();
+                order.getLineItems().size();
+            }
+            return orders;
+        } finally {
+            entityManager.close();
+        }
+    }
+}
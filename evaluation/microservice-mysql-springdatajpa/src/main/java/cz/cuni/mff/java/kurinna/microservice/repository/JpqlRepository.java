@@ -0,0 +1,504 @@
+package cz.cuni.mff.java.kurinna.microservice.repository;
+
+import cz.cuni.mff.java.kurinna.microservice.dto.CustomerBalance;
+import cz.cuni.mff.java.kurinna.microservice.dto.CustomerNationOrder;
+import cz.cuni.mff.java.kurinna.microservice.dto.CustomerOrder;
+import cz.cuni.mff.java.kurinna.microservice.dto.CustomerOrderKey;
+import cz.cuni.mff.java.kurinna.microservice.dto.CustomerRegionOrder;
+import cz.cuni.mff.java.kurinna.microservice.dto.LocalSupplierVolume;
+import cz.cuni.mff.java.kurinna.microservice.dto.MinimumCostSupplier;
+import cz.cuni.mff.java.kurinna.microservice.dto.MonthlyMaxPrice;
+import cz.cuni.mff.java.kurinna.microservice.dto.MonthlyOrderCount;
+import cz.cuni.mff.java.kurinna.microservice.dto.NationSegment;
+import cz.cuni.mff.java.kurinna.microservice.dto.OrderPriorityCount;
+import cz.cuni.mff.java.kurinna.microservice.dto.OrderSummary;
+import cz.cuni.mff.java.kurinna.microservice.dto.PricingSummary;
+import cz.cuni.mff.java.kurinna.microservice.dto.ShippingPriority;
+import cz.cuni.mff.java.kurinna.microservice.model.Customer;
+import cz.cuni.mff.java.kurinna.microservice.model.LineItem;
+import cz.cuni.mff.java.kurinna.microservice.model.Orders;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Repository class executing the query set as JPQL through the mapped entities.
+ * Unlike {@link UniversalRepositoryImpl}, which passes native SQL through and returns {@code Object[]} rows,
+ * the queries are written against the entity model and translated by Hibernate. The scans return managed
+ * entities, the other queries select either constructor-expression DTO projections or {@link Tuple}s with
+ * the same select list, and the set operations return scalar keys.
+ * <p>
+ * Every query can be materialized with {@code getResultList()} or streamed with {@code getResultStream()}.
+ * All queries are executed with the read-only hint, so Hibernate keeps no snapshots of the loaded entities
+ * for dirty checking. The streaming variant passes the configured fetch size as the fetch size hint:
+ * {@link Integer#MIN_VALUE} makes the MySQL driver stream the result row by row, a positive value together
+ * with {@code useCursorFetch=true} in the connection URL reads it through a server-side cursor in batches
+ * of that size. A stream has to be consumed inside a transaction which keeps the entity manager open.
+ * <p>
+ * The TPC-H queries are marked cacheable, with {@code jpa.cache.enabled=true} their list results are served
+ * from the query cache. Streamed results always bypass it.
+ */
+@Repository
+public class JpqlRepository {
+    /**
+     * Number of streamed rows after which the persistence context is cleared, so the entities of the
+     * consumed rows can be garbage collected.
+     */
+    private static final int CLEAR_INTERVAL = 1000;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final int fetchSize;
+
+    /**
+     * Constructs a new JpqlRepository.
+     *
+     * @param fetchSize The fetch size hint of the streaming queries
+     */
+    public JpqlRepository(@Value("${jpa.streaming.fetch-size:-2147483648}") int fetchSize) {
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * A1) Retrieves all line items.
+     *
+     * @return Query over the lineitem entities
+     */
+    public JpqlQuery<LineItem> a1() {
+        return entities(LineItem.class, "SELECT l FROM lineitem l", Map.of());
+    }
+
+    /**
+     * A2) Retrieves orders within a specified date range.
+     *
+     * @param startDate The start date of the range (inclusive)
+     * @param endDate The end date of the range (inclusive)
+     * @return Query over the order entities within the date range
+     */
+    public JpqlQuery<Orders> a2(LocalDate startDate, LocalDate endDate) {
+        return entities(Orders.class, "SELECT o FROM Orders o WHERE o.o_orderdate BETWEEN :startDate AND :endDate",
+                Map.of("startDate", timestamp(startDate), "endDate", timestamp(endDate)));
+    }
+
+    /**
+     * A3) Retrieves all customers.
+     *
+     * @return Query over the customer entities
+     */
+    public JpqlQuery<Customer> a3() {
+        return entities(Customer.class, "SELECT c FROM Customer c", Map.of());
+    }
+
+    /**
+     * A4) Retrieves orders within a specified order key range.
+     *
+     * @param minOrderKey The minimum order key (inclusive)
+     * @param maxOrderKey The maximum order key (inclusive)
+     * @return Query over the order entities within the order key range
+     */
+    public JpqlQuery<Orders> a4(int minOrderKey, int maxOrderKey) {
+        return entities(Orders.class, "SELECT o FROM Orders o WHERE o.o_orderkey BETWEEN :minOrderKey AND :maxOrderKey",
+                Map.of("minOrderKey", (long) minOrderKey, "maxOrderKey", (long) maxOrderKey));
+    }
+
+    /**
+     * B1) Counts orders grouped by month.
+     *
+     * @return Projection of the order counts by month
+     */
+    public Projection<MonthlyOrderCount> b1() {
+        return projection(MonthlyOrderCount.class,
+                "COUNT(o.o_orderkey), FORMAT(o.o_orderdate AS 'yyyy-MM')",
+                "FROM Orders o " +
+                "GROUP BY FORMAT(o.o_orderdate AS 'yyyy-MM')");
+    }
+
+    /**
+     * B2) Finds the maximum extended price for line items grouped by ship month.
+     *
+     * @return Projection of the maximum prices by ship month
+     */
+    public Projection<MonthlyMaxPrice> b2() {
+        return projection(MonthlyMaxPrice.class,
+                "FORMAT(l.l_shipdate AS 'yyyy-MM'), MAX(l.l_extendedprice)",
+                "FROM lineitem l " +
+                "GROUP BY FORMAT(l.l_shipdate AS 'yyyy-MM')");
+    }
+
+    /**
+     * C1) Cartesian product between customer and orders entities.
+     *
+     * @return Projection of the orders with the name of their customer
+     */
+    public Projection<CustomerOrder> c1() {
+        return projection(CustomerOrder.class,
+                "c.c_name, o.o_orderdate, o.o_totalprice",
+                "FROM Customer c, Orders o");
+    }
+
+    /**
+     * C2) Joins the orders with their customer.
+     *
+     * @return Projection of the orders with the name of their customer
+     */
+    public Projection<CustomerOrder> c2() {
+        return projection(CustomerOrder.class,
+                "c.c_name, o.o_orderdate, o.o_totalprice",
+                "FROM Orders o " +
+                "JOIN o.customer c");
+    }
+
+    /**
+     * C3) Joins the orders with their customer and the customer's nation.
+     *
+     * @return Projection of the orders with the name and nation of their customer
+     */
+    public Projection<CustomerNationOrder> c3() {
+        return projection(CustomerNationOrder.class,
+                "c.c_name, n.n_name, o.o_orderdate, o.o_totalprice",
+                "FROM Orders o " +
+                "JOIN o.customer c " +
+                "JOIN c.nation n");
+    }
+
+    /**
+     * C4) Joins the orders with their customer, the customer's nation and its region.
+     *
+     * @return Projection of the orders with the name, nation and region of their customer
+     */
+    public Projection<CustomerRegionOrder> c4() {
+        return projection(CustomerRegionOrder.class,
+                "c.c_name, n.n_name, r.r_name, o.o_orderdate, o.o_totalprice",
+                "FROM Orders o " +
+                "JOIN o.customer c " +
+                "JOIN c.nation n " +
+                "JOIN n.region r");
+    }
+
+    /**
+     * C5) Left outer join between customers and orders. The customer has no mapped collection of its
+     * orders, so the orders are joined as an entity on their customer.
+     *
+     * @return Projection of the customers and their orders (if any)
+     */
+    public Projection<CustomerOrderKey> c5() {
+        return projection(CustomerOrderKey.class,
+                "c.c_custkey, c.c_name, o.o_orderkey, o.o_orderdate",
+                "FROM Customer c " +
+                "LEFT JOIN Orders o ON o.customer = c");
+    }
+
+    /**
+     * D1) Combines nation keys from both customer and supplier entities.
+     *
+     * @return Projection of the unique nation keys from both entities
+     */
+    public Projection<Long> d1() {
+        return projection(Long.class,
+                "c.nation.n_nationkey",
+                "FROM Customer c " +
+                "UNION " +
+                "SELECT s.nation.n_nationkey FROM Supplier s");
+    }
+
+    /**
+     * D2) Finds customer keys that also exist as supplier keys.
+     *
+     * @return Projection of the customer keys that are also supplier keys
+     */
+    public Projection<Long> d2() {
+        return distinctProjection(Long.class,
+                "c.c_custkey",
+                "FROM Customer c " +
+                "WHERE c.c_custkey IN (SELECT s.s_suppkey FROM Supplier s)");
+    }
+
+    /**
+     * D3) Finds customer keys that do not exist as supplier keys.
+     *
+     * @return Projection of the customer keys that are not supplier keys
+     */
+    public Projection<Long> d3() {
+        return distinctProjection(Long.class,
+                "c.c_custkey",
+                "FROM Customer c " +
+                "WHERE c.c_custkey NOT IN (SELECT DISTINCT s.s_suppkey FROM Supplier s)");
+    }
+
+    /**
+     * E1) Retrieves customer information sorted by account balance in descending order.
+     *
+     * @return Projection of the customers sorted by account balance
+     */
+    public Projection<CustomerBalance> e1() {
+        return projection(CustomerBalance.class,
+                "c.c_name, c.c_address, c.c_acctbal",
+                "FROM Customer c " +
+                "ORDER BY c.c_acctbal DESC");
+    }
+
+    /**
+     * E2) Retrieves order information sorted by order key. The customer key is read from the foreign key
+     * column, the customer is not joined.
+     *
+     * @return Projection of the orders sorted by order key
+     */
+    public Projection<OrderSummary> e2() {
+        return projection(OrderSummary.class,
+                "o.o_orderkey, o.customer.c_custkey, o.o_orderdate, o.o_totalprice",
+                "FROM Orders o " +
+                "ORDER BY o.o_orderkey");
+    }
+
+    /**
+     * E3) Retrieves unique combinations of nation key and market segment from customers.
+     *
+     * @return Projection of the unique nation key and market segment combinations
+     */
+    public Projection<NationSegment> e3() {
+        return distinctProjection(NationSegment.class,
+                "c.nation.n_nationkey, c.c_mktsegment",
+                "FROM Customer c");
+    }
+
+    /**
+     * Executes TPC-H Query 1: Pricing Summary Report.
+     *
+     * @param days Number of days to subtract from the cutoff date (1998-12-01)
+     * @return Projection of the pricing summaries by return flag and line status
+     */
+    public Projection<PricingSummary> q1(int days) {
+        return cacheableProjection(PricingSummary.class,
+                "l.l_returnflag, " +
+                "l.l_linestatus, " +
+                "SUM(l.l_quantity), " +
+                "SUM(l.l_extendedprice), " +
+                "SUM(l.l_extendedprice * (1 - l.l_discount)), " +
+                "SUM(l.l_extendedprice * (1 - l.l_discount) * (1 + l.l_tax)), " +
+                "AVG(l.l_quantity), " +
+                "AVG(l.l_extendedprice), " +
+                "AVG(l.l_discount), " +
+                "COUNT(*)",
+                "FROM lineitem l " +
+                "WHERE l.l_shipdate <= :cutoff " +
+                "GROUP BY l.l_returnflag, l.l_linestatus " +
+                "ORDER BY l.l_returnflag, l.l_linestatus",
+                Map.of("cutoff", timestamp(LocalDate.of(1998, 12, 1).minusDays(days))), 0);
+    }
+
+    /**
+     * Executes TPC-H Query 2: Minimum Cost Supplier.
+     *
+     * @param size The size of the part
+     * @param type The type of the part (used in LIKE pattern)
+     * @param region The name of the region
+     * @return Projection of the suppliers offering the parts at the minimum cost
+     */
+    public Projection<MinimumCostSupplier> q2(int size, String type, String region) {
+        return cacheableProjection(MinimumCostSupplier.class,
+                "s.s_acctbal, s.s_name, n.n_name, p.p_partkey, p.p_mfgr, s.s_address, s.s_phone, s.s_comment",
+                "FROM partsupp ps " +
+                "JOIN ps.part p " +
+                "JOIN ps.supplier s " +
+                "JOIN s.nation n " +
+                "JOIN n.region r " +
+                "WHERE p.p_size = :size " +
+                "AND p.p_type LIKE :type " +
+                "AND r.r_name = :region " +
+                "AND ps.ps_supplycost = ( " +
+                "    SELECT MIN(ps2.ps_supplycost) " +
+                "    FROM partsupp ps2 " +
+                "    JOIN ps2.supplier s2 " +
+                "    JOIN s2.nation n2 " +
+                "    JOIN n2.region r2 " +
+                "    WHERE ps2.part = p " +
+                "    AND r2.r_name = :region " +
+                ") " +
+                "ORDER BY s.s_acctbal DESC, n.n_name, s.s_name, p.p_partkey",
+                Map.of("size", size, "type", type, "region", region), 100);
+    }
+
+    /**
+     * Executes TPC-H Query 3: Shipping Priority.
+     *
+     * @param segment The market segment to consider
+     * @param orderDate The cutoff date for orders
+     * @param shipDate The cutoff date for shipments
+     * @return Projection of the unshipped orders with the highest revenue
+     */
+    public Projection<ShippingPriority> q3(String segment, LocalDate orderDate, LocalDate shipDate) {
+        return cacheableProjection(ShippingPriority.class,
+                "o.o_orderkey, SUM(l.l_extendedprice * (1 - l.l_discount)), o.o_orderdate, o.o_shippriority",
+                "FROM lineitem l " +
+                "JOIN l.lineItemPK.order o " +
+                "JOIN o.customer c " +
+                "WHERE c.c_mktsegment = :segment " +
+                "AND o.o_orderdate < :orderDate " +
+                "AND l.l_shipdate > :shipDate " +
+                "GROUP BY o.o_orderkey, o.o_orderdate, o.o_shippriority " +
+                "ORDER BY SUM(l.l_extendedprice * (1 - l.l_discount)) DESC, o.o_orderdate",
+                Map.of("segment", segment, "orderDate", timestamp(orderDate), "shipDate", timestamp(shipDate)), 10);
+    }
+
+    /**
+     * Executes TPC-H Query 4: Order Priority Checking.
+     *
+     * @param orderDate The start date for the three-month period
+     * @return Projection of the order counts by priority
+     */
+    public Projection<OrderPriorityCount> q4(LocalDate orderDate) {
+        return cacheableProjection(OrderPriorityCount.class,
+                "o.o_orderpriority, COUNT(o)",
+                "FROM Orders o " +
+                "WHERE o.o_orderdate >= :startDate " +
+                "AND o.o_orderdate < :endDate " +
+                "AND EXISTS ( " +
+                "    SELECT 1 " +
+                "    FROM lineitem l " +
+                "    WHERE l.lineItemPK.order = o " +
+                "    AND l.l_commitdate < l.l_receiptdate " +
+                ") " +
+                "GROUP BY o.o_orderpriority " +
+                "ORDER BY o.o_orderpriority",
+                Map.of("startDate", timestamp(orderDate), "endDate", timestamp(orderDate.plusMonths(3))), 0);
+    }
+
+    /**
+     * Executes TPC-H Query 5: Local Supplier Volume.
+     *
+     * @param region The name of the region
+     * @param orderDate The start date for the one-year period
+     * @return Projection of the revenues by nation
+     */
+    public Projection<LocalSupplierVolume> q5(String region, LocalDate orderDate) {
+        return cacheableProjection(LocalSupplierVolume.class,
+                "n.n_name, SUM(l.l_extendedprice * (1 - l.l_discount))",
+                "FROM lineitem l " +
+                "JOIN l.lineItemPK.order o " +
+                "JOIN o.customer c " +
+                "JOIN Supplier s ON s.s_suppkey = l.partSupp.partSuppPK.supplier " +
+                "JOIN s.nation n " +
+                "JOIN n.region r " +
+                "WHERE c.nation = n " +
+                "AND r.r_name = :region " +
+                "AND o.o_orderdate >= :startDate " +
+                "AND o.o_orderdate < :endDate " +
+                "GROUP BY n.n_name " +
+                "ORDER BY SUM(l.l_extendedprice * (1 - l.l_discount)) DESC",
+                Map.of("region", region, "startDate", timestamp(orderDate),
+                        "endDate", timestamp(orderDate.plusYears(1))), 0);
+    }
+
+    private <T> JpqlQuery<T> entities(Class<T> type, String jpql, Map<String, Object> parameters) {
+        return new JpqlQuery<>(entityManager, jpql, type, parameters, 0, fetchSize, false);
+    }
+
+    private <T> Projection<T> projection(Class<T> type, String selection, String from) {
+        return projection(type, "", selection, from, Map.of(), 0, false);
+    }
+
+    private <T> Projection<T> distinctProjection(Class<T> type, String selection, String from) {
+        return projection(type, "DISTINCT ", selection, from, Map.of(), 0, false);
+    }
+
+    /**
+     * Builds a projection whose list results are stored in the query cache, if it is enabled. The TPC-H
+     * queries are issued repeatedly with the same parameters, unlike the scans their results are small.
+     */
+    private <T> Projection<T> cacheableProjection(Class<T> type, String selection, String from,
+            Map<String, Object> parameters, int maxResults) {
+        return projection(type, "", selection, from, parameters, maxResults, true);
+    }
+
+    /**
+     * Builds the DTO and the tuple variant of a query from its select list. Records are instantiated
+     * with a constructor expression, other types are selected as a scalar.
+     */
+    private <T> Projection<T> projection(Class<T> type, String distinct, String selection, String from,
+            Map<String, Object> parameters, int maxResults, boolean cacheable) {
+        String dtoSelection = type.isRecord() ? "NEW " + type.getName() + "(" + selection + ")" : selection;
+        return new Projection<>(
+                new JpqlQuery<>(entityManager, "SELECT " + distinct + dtoSelection + " " + from, type,
+                        parameters, maxResults, fetchSize, cacheable),
+                new JpqlQuery<>(entityManager, "SELECT " + distinct + selection + " " + from, Tuple.class,
+                        parameters, maxResults, fetchSize, cacheable));
+    }
+
+    private static Timestamp timestamp(LocalDate date) {
+        return Timestamp.valueOf(date.atStartOfDay());
+    }
+
+    /**
+     * The result type of a projection query.
+     */
+    public enum ResultType {
+        DTO, TUPLE
+    }
+
+    /**
+     * A query selecting the same columns either into DTOs or into tuples.
+     *
+     * @param <T> The type of the DTOs
+     */
+    public record Projection<T>(JpqlQuery<T> dto, JpqlQuery<Tuple> tuple) {
+        public JpqlQuery<?> as(ResultType resultType) {
+            return resultType == ResultType.TUPLE ? tuple : dto;
+        }
+    }
+
+    /**
+     * A JPQL query which is created in the entity manager bound to the calling thread when it is executed.
+     *
+     * @param <T> The type of the results
+     */
+    public record JpqlQuery<T>(EntityManager entityManager, String jpql, Class<T> resultClass,
+            Map<String, Object> parameters, int maxResults, int fetchSize, boolean cacheable) {
+        public List<T> getResultList() {
+            return query().getResultList();
+        }
+
+        /**
+         * Streams the results through {@code getResultStream()}, the stream is closed before returning.
+         *
+         * @return The number of results
+         */
+        public long getResultStream() {
+            long rows = 0;
+            try (Stream<T> stream = query().setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize).getResultStream()) {
+                Iterator<T> iterator = stream.iterator();
+                while (iterator.hasNext()) {
+                    iterator.next();
+                    if (++rows % CLEAR_INTERVAL == 0) {
+                        entityManager.clear();
+                    }
+                }
+            }
+            return rows;
+        }
+
+        private TypedQuery<T> query() {
+            TypedQuery<T> query = entityManager.createQuery(jpql, resultClass)
+                    .setHint(HibernateHints.HINT_READ_ONLY, true);
+            parameters.forEach(query::setParameter);
+            if (maxResults > 0) {
+                query.setMaxResults(maxResults);
+            }
+            if (cacheable) {
+                query.setHint(HibernateHints.HINT_CACHEABLE, true);
+            }
+            return query;
+        }
+    }
+}
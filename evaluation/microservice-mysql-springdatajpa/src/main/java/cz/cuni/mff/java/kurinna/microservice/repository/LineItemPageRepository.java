@@ -0,0 +1,48 @@
+package cz.cuni.mff.java.kurinna.microservice.repository;
+
+import cz.cuni.mff.java.kurinna.microservice.model.LineItem;
+import cz.cuni.mff.java.kurinna.microservice.model.LineItemPK;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+/**
+ * Spring Data repository reading the line items page by page, ordered by their composite primary key.
+ * Like {@link OrdersPageRepository}, the offset variant returns a {@link Slice} of the requested page and
+ * the keyset variant the first page of the rows following the key of the previous page. The order key is
+ * read through the order reference of the embedded id, which Hibernate resolves to the l_orderkey column
+ * without joining the orders.
+ */
+public interface LineItemPageRepository extends Repository<LineItem, LineItemPK> {
+    /**
+     * G3) Reads a page of line items, skipping the rows of the preceding pages.
+     *
+     * @param pageable The number and the size of the page
+     * @return The line items of the page
+     */
+    @Query("SELECT l FROM lineitem l ORDER BY l.lineItemPK.order.o_orderkey, l.lineItemPK.l_linenumber")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    Slice<LineItem> g3(Pageable pageable);
+
+    /**
+     * G4) Reads a page of line items following the given composite primary key.
+     *
+     * @param orderKey The order key of the last row of the previous page, 0 for the first page
+     * @param lineNumber The line number of the last row of the previous page
+     * @param pageable The first page of the requested size
+     * @return The line items of the page
+     */
+    @Query("SELECT l FROM lineitem l " +
+            "WHERE l.lineItemPK.order.o_orderkey > :orderKey " +
+            "OR (l.lineItemPK.order.o_orderkey = :orderKey AND l.lineItemPK.l_linenumber > :lineNumber) " +
+            "ORDER BY l.lineItemPK.order.o_orderkey, l.lineItemPK.l_linenumber")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<LineItem> g4(@Param("orderKey") long orderKey, @Param("lineNumber") int lineNumber, Pageable pageable);
+}
@@ -0,0 +1,88 @@
+package cz.cuni.mff.java.kurinna.microservice.repository;
+
+import cz.cuni.mff.java.kurinna.microservice.model.Customer;
+import cz.cuni.mff.java.kurinna.microservice.model.LineItem;
+import cz.cuni.mff.java.kurinna.microservice.model.LineItemPK;
+import cz.cuni.mff.java.kurinna.microservice.model.Orders;
+import cz.cuni.mff.java.kurinna.microservice.model.PartSupp;
+import cz.cuni.mff.java.kurinna.microservice.model.PartSuppPK;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceUnit;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.stereotype.Repository;
+
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Repository class looking up single entities by their primary key with {@link EntityManager#find}.
+ * Every lookup opens its own entity manager, so it is never served from the persistence context of a previous
+ * lookup and the loaded entity is detached when the lookup returns. The lookups are read-only, Hibernate keeps
+ * no snapshots of the loaded entities for dirty checking.
+ * <p>
+ * The composite keys are passed as the embedded id classes. The order of a {@link LineItemPK} is a reference
+ * created by the same entity manager, which only carries the order key and is never initialized.
+ */
+@Repository
+public class LookupRepository {
+    private static final Map<String, Object> READ_ONLY = Map.of(HibernateHints.HINT_READ_ONLY, true);
+
+    @PersistenceUnit
+    private EntityManagerFactory entityManagerFactory;
+
+    /**
+     * F1) Looks up a single order by its primary key.
+     *
+     * @param orderKey The order key
+     * @return The order, or null if there is no such order
+     */
+    public Orders f1(long orderKey) {
+        return lookup(entityManager -> entityManager.find(Orders.class, orderKey, READ_ONLY));
+    }
+
+    /**
+     * F2) Looks up a single customer by its primary key.
+     *
+     * @param customerKey The customer key
+     * @return The customer, or null if there is no such customer
+     */
+    public Customer f2(long customerKey) {
+        return lookup(entityManager -> entityManager.find(Customer.class, customerKey, READ_ONLY));
+    }
+
+    /**
+     * F3) Looks up a single line item by its composite primary key.
+     *
+     * @param orderKey The order key of the line item
+     * @param lineNumber The line number within the order
+     * @return The line item, or null if there is no such line item
+     */
+    public LineItem f3(long orderKey, int lineNumber) {
+        return lookup(entityManager -> {
+            LineItemPK key = new LineItemPK(entityManager.getReference(Orders.class, orderKey), lineNumber);
+            return entityManager.find(LineItem.class, key, READ_ONLY);
+        });
+    }
+
+    /**
+     * F4) Looks up a single part supplier by its composite primary key.
+     *
+     * @param partKey The part key
+     * @param supplierKey The supplier key
+     * @return The part supplier, or null if there is no such part supplier
+     */
+    public PartSupp f4(long partKey, long supplierKey) {
+        return lookup(entityManager -> entityManager.find(PartSupp.class, new PartSuppPK(partKey, supplierKey),
+                READ_ONLY));
+    }
+
+    private <T> T lookup(Function<EntityManager, T> find) {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            return find.apply(entityManager);
+        } finally {
+            entityManager.close();
+        }
+    }
+}
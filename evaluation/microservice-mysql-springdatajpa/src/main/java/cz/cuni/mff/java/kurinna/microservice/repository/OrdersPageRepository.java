@@ -0,0 +1,46 @@
+package cz.cuni.mff.java.kurinna.microservice.repository;
+
+import cz.cuni.mff.java.kurinna.microservice.model.Orders;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+/**
+ * Spring Data repository reading the orders page by page. The pages are requested with a {@link Pageable},
+ * which Spring Data applies as the first and maximum result of the query. The offset variant returns a
+ * {@link Slice}, which reads one row past the page to tell whether there is a next page, but unlike a
+ * {@link org.springframework.data.domain.Page} does not count the rows of the table. The keyset variant
+ * always requests the first page of the rows following the key of the previous page.
+ * <p>
+ * The queries are declared with JPQL, the underscores in the attribute names cannot be expressed in
+ * derived query methods. Outside a transaction every page is read by its own entity manager.
+ */
+public interface OrdersPageRepository extends Repository<Orders, Long> {
+    /**
+     * G1) Reads a page of orders ordered by the order key, skipping the rows of the preceding pages.
+     *
+     * @param pageable The number and the size of the page
+     * @return The orders of the page
+     */
+    @Query("SELECT o FROM Orders o ORDER BY o.o_orderkey")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    Slice<Orders> g1(Pageable pageable);
+
+    /**
+     * G2) Reads a page of orders following the given order key.
+     *
+     * @param orderKey The order key of the last row of the previous page, 0 for the first page
+     * @param pageable The first page of the requested size
+     * @return The orders of the page
+     */
+    @Query("SELECT o FROM Orders o WHERE o.o_orderkey > :orderKey ORDER BY o.o_orderkey")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<Orders> g2(@Param("orderKey") long orderKey, Pageable pageable);
+}
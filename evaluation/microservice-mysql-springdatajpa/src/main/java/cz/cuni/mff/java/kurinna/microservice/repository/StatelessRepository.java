@@ -0,0 +1,85 @@
+package cz.cuni.mff.java.kurinna.microservice.repository;
+
+import cz.cuni.mff.java.kurinna.microservice.repository.JpqlRepository.JpqlQuery;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.query.SelectionQuery;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository class executing the JPQL queries of {@link JpqlRepository} in a Hibernate {@link StatelessSession}.
+ * A stateless session has no persistence context: the loaded entities are neither registered in a first-level
+ * cache nor snapshotted for dirty checking, they are detached as soon as they are read. Associations are not
+ * loaded lazily, so the queries only touch the attributes and foreign keys selected by the query itself.
+ * <p>
+ * Every query runs in its own session, which borrows a connection from the pool for the duration of the query.
+ * The results are either listed or scrolled forward-only through {@link ScrollableResults} with the configured
+ * fetch size: {@link Integer#MIN_VALUE} makes the MySQL driver stream the result row by row, a positive value
+ * together with {@code useCursorFetch=true} in the connection URL reads it through a server-side cursor
+ * in batches of that size.
+ */
+@Repository
+public class StatelessRepository {
+    private final SessionFactory sessionFactory;
+    private final int fetchSize;
+
+    /**
+     * Constructs a new StatelessRepository.
+     *
+     * @param entityManagerFactory The entity manager factory backed by the Hibernate session factory
+     * @param fetchSize The fetch size of the scrolled queries
+     */
+    public StatelessRepository(EntityManagerFactory entityManagerFactory,
+            @Value("${jpa.stateless.fetch-size:-2147483648}") int fetchSize) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * Executes the query in a new stateless session and materializes the results.
+     *
+     * @param query The query to execute
+     * @return The detached results
+     */
+    public <T> List<T> list(JpqlQuery<T> query) {
+        try (StatelessSession session = sessionFactory.openStatelessSession()) {
+            return selection(session, query).list();
+        }
+    }
+
+    /**
+     * Executes the query in a new stateless session and scrolls through the results forward-only.
+     * The results are read one by one and only counted, the cursor is closed before returning.
+     *
+     * @param query The query to execute
+     * @return The number of results
+     */
+    public long scroll(JpqlQuery<?> query) {
+        long rows = 0;
+        try (StatelessSession session = sessionFactory.openStatelessSession();
+             ScrollableResults<?> results = selection(session, query)
+                     .setFetchSize(fetchSize)
+                     .scroll(ScrollMode.FORWARD_ONLY)) {
+            while (results.next()) {
+                results.get();
+                rows++;
+            }
+        }
+        return rows;
+    }
+
+    private static <T> SelectionQuery<T> selection(StatelessSession session, JpqlQuery<T> query) {
+        SelectionQuery<T> selection = session.createSelectionQuery(query.jpql(), query.resultClass());
+        query.parameters().forEach(selection::setParameter);
+        if (query.maxResults() > 0) {
+            selection.setMaxResults(query.maxResults());
+        }
+        return selection;
+    }
+}
@@ -2,6 +2,7 @@ package cz.cuni.mff.java.kurinna.microservice.repository;
 
 import org.springframework.data.repository.NoRepositoryBean;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -202,4 +203,176 @@ public interface UniversalRepository {
      * @return List of Object arrays containing revenue by nation
      */
     List<Object[]> q5(String region, LocalDate orderDate);
+
+    /**
+     * Executes TPC-H Query 6: Forecasting Revenue Change.
+     * This query quantifies the amount of revenue increase that would have resulted from eliminating discounts in a given range.
+     *
+     * @param shipDate The start date for the one-year period
+     * @param discount The discount, line items within 0.01 of it are considered
+     * @param quantity The exclusive upper bound of the line item quantity
+     * @return List of Object arrays containing the potential revenue increase
+     */
+    List<Object[]> q6(LocalDate shipDate, BigDecimal discount, int quantity);
+
+    /**
+     * Executes TPC-H Query 7: Volume Shipping.
+     * This query determines the value of goods shipped between two nations in 1995 and 1996.
+     *
+     * @param nation1 The name of the first nation
+     * @param nation2 The name of the second nation
+     * @return List of Object arrays containing the shipped revenue by supplier nation, customer nation and year
+     */
+    List<Object[]> q7(String nation1, String nation2);
+
+    /**
+     * Executes TPC-H Query 8: National Market Share.
+     * This query determines how the market share of a nation within a region has changed over two years for a given part type.
+     *
+     * @param nation The name of the nation whose market share is computed
+     * @param region The name of the region of the customers
+     * @param type The part type
+     * @return List of Object arrays containing the market share by year
+     */
+    List<Object[]> q8(String nation, String region, String type);
+
+    /**
+     * Executes TPC-H Query 9: Product Type Profit Measure.
+     * This query determines how much profit is made on a given line of parts, broken out by supplier nation and year.
+     *
+     * @param color The color contained in the part name
+     * @return List of Object arrays containing the profit by nation and year
+     */
+    List<Object[]> q9(String color);
+
+    /**
+     * Executes TPC-H Query 10: Returned Item Reporting.
+     * This query identifies the customers who might be having problems with the parts that are shipped to them.
+     *
+     * @param orderDate The start date for the three-month period
+     * @return List of Object arrays containing the lost revenue by customer
+     */
+    List<Object[]> q10(LocalDate orderDate);
+
+    /**
+     * Executes TPC-H Query 11: Important Stock Identification.
+     * This query finds the most important subset of the suppliers' stock in a given nation.
+     *
+     * @param nation The name of the nation of the suppliers
+     * @param fraction The fraction of the total stock value a part has to exceed
+     * @return List of Object arrays containing the stock value by part
+     */
+    List<Object[]> q11(String nation, BigDecimal fraction);
+
+    /**
+     * Executes TPC-H Query 12: Shipping Modes and Order Priority.
+     * This query determines whether selecting less expensive modes of shipping is negatively affecting the critical-priority orders.
+     *
+     * @param shipMode1 The first ship mode
+     * @param shipMode2 The second ship mode
+     * @param receiptDate The start date for the one-year period
+     * @return List of Object arrays containing the late line item counts by ship mode
+     */
+    List<Object[]> q12(String shipMode1, String shipMode2, LocalDate receiptDate);
+
+    /**
+     * Executes TPC-H Query 13: Customer Distribution.
+     * This query determines the distribution of customers by the number of orders they have made.
+     *
+     * @param word1 The first word of the excluded order comments
+     * @param word2 The second word of the excluded order comments
+     * @return List of Object arrays containing the number of customers by order count
+     */
+    List<Object[]> q13(String word1, String word2);
+
+    /**
+     * Executes TPC-H Query 14: Promotion Effect.
+     * This query monitors the market response to a promotion such as TV advertisements or a special campaign.
+     *
+     * @param shipDate The start date for the one-month period
+     * @return List of Object arrays containing the promotion revenue percentage
+     */
+    List<Object[]> q14(LocalDate shipDate);
+
+    /**
+     * Executes TPC-H Query 15: Top Supplier.
+     * This query determines the top supplier so it can be rewarded, given more business, or identified for special recognition.
+     *
+     * @param shipDate The start date for the three-month period
+     * @return List of Object arrays containing the suppliers with the maximum revenue
+     */
+    List<Object[]> q15(LocalDate shipDate);
+
+    /**
+     * Executes TPC-H Query 16: Parts/Supplier Relationship.
+     * This query finds out how many suppliers can supply parts with given attributes.
+     *
+     * @param brand The excluded brand
+     * @param type The prefix of the excluded part types
+     * @param sizes The part sizes
+     * @return List of Object arrays containing the supplier counts by brand, type and size
+     */
+    List<Object[]> q16(String brand, String type, List<Integer> sizes);
+
+    /**
+     * Executes TPC-H Query 17: Small-Quantity-Order Revenue.
+     * This query determines how much average yearly revenue would be lost if orders were no longer filled for small quantities of certain parts.
+     *
+     * @param brand The brand of the parts
+     * @param container The container of the parts
+     * @return List of Object arrays containing the average yearly revenue
+     */
+    List<Object[]> q17(String brand, String container);
+
+    /**
+     * Executes TPC-H Query 18: Large Volume Customer.
+     * This query ranks customers based on their having placed a large quantity order.
+     *
+     * @param quantity The total quantity an order has to exceed
+     * @return List of Object arrays containing the large orders with their customers
+     */
+    List<Object[]> q18(int quantity);
+
+    /**
+     * Executes TPC-H Query 19: Discounted Revenue.
+     * This query reports the gross discounted revenue attributed to the sale of selected parts handled in a particular manner.
+     *
+     * @param brand1 The brand of the small containers
+     * @param brand2 The brand of the medium containers
+     * @param brand3 The brand of the large containers
+     * @param quantity1 The minimum quantity of the small containers
+     * @param quantity2 The minimum quantity of the medium containers
+     * @param quantity3 The minimum quantity of the large containers
+     * @return List of Object arrays containing the discounted revenue
+     */
+    List<Object[]> q19(String brand1, String brand2, String brand3, int quantity1, int quantity2, int quantity3);
+
+    /**
+     * Executes TPC-H Query 20: Potential Part Promotion.
+     * This query identifies suppliers in a nation who have an excess of a given part available.
+     *
+     * @param color The color the part name starts with
+     * @param shipDate The start date for the one-year period
+     * @param nation The name of the nation of the suppliers
+     * @return List of Object arrays containing the names and addresses of the suppliers
+     */
+    List<Object[]> q20(String color, LocalDate shipDate, String nation);
+
+    /**
+     * Executes TPC-H Query 21: Suppliers Who Kept Orders Waiting.
+     * This query identifies suppliers who were not able to ship required parts in a timely manner.
+     *
+     * @param nation The name of the nation of the suppliers
+     * @return List of Object arrays containing the number of waiting orders by supplier
+     */
+    List<Object[]> q21(String nation);
+
+    /**
+     * Executes TPC-H Query 22: Global Sales Opportunity.
+     * This query identifies geographies where there are customers who may be likely to make a purchase.
+     *
+     * @param countryCodes The country codes, the first two digits of the phone numbers
+     * @return List of Object arrays containing the customer counts and balances by country code
+     */
+    List<Object[]> q22(List<String> countryCodes);
 }
@@ -3,8 +3,10 @@ package cz.cuni.mff.java.kurinna.microservice.repository;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import jakarta.persistence.Query;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -183,6 +185,7 @@ public class UniversalRepositoryImpl implements UniversalRepository {
         return query.getResultList();
     }
 
+    // The TPC-H queries are cacheable, with jpa.cache.enabled=true their results are served from the query cache
     @Override
     public List<Object[]> q1(int days) {
         String sql = "SELECT " +
@@ -194,10 +197,11 @@ public class UniversalRepositoryImpl implements UniversalRepository {
                 "SUM(l.l_extendedprice * (1 - l.l_discount) * (1 + l.l_tax)) AS sum_net_profit, " +
                 "l.l_shipdate " +
                 "FROM lineitem l " +
-                "WHERE l.l_shipdate <= DATE_ADD(CURDATE(), INTERVAL ?1 DAY) " +
+                "WHERE l.l_shipdate <= DATE_SUB('1998-12-01', INTERVAL ?1 DAY) " +
                 "GROUP BY l.l_returnflag, l.l_linestatus, l.l_shipdate";
 
         Query query = entityManager.createNativeQuery(sql);
+        query.setHint(HibernateHints.HINT_CACHEABLE, true);
         query.setParameter(1, days);
 
         return query.getResultList();
@@ -249,6 +253,7 @@ public class UniversalRepositoryImpl implements UniversalRepository {
                 "p.p_partkey ";
 
         Query query = entityManager.createNativeQuery(sql);
+        query.setHint(HibernateHints.HINT_CACHEABLE, true);
         query.setParameter(1, size);
         query.setParameter(2, type);
         query.setParameter(3, region);
@@ -281,6 +286,7 @@ public class UniversalRepositoryImpl implements UniversalRepository {
                 "o.o_orderdate ";
 
         Query query = entityManager.createNativeQuery(sql);
+        query.setHint(HibernateHints.HINT_CACHEABLE, true);
         query.setParameter(1, segment);
         query.setParameter(2, java.sql.Date.valueOf(orderDate));
         query.setParameter(3, java.sql.Date.valueOf(shipDate));
@@ -312,6 +318,7 @@ public class UniversalRepositoryImpl implements UniversalRepository {
                 "o.o_orderpriority";
 
         Query query = entityManager.createNativeQuery(sql);
+        query.setHint(HibernateHints.HINT_CACHEABLE, true);
         query.setParameter(1, java.sql.Date.valueOf(orderDate));
 
         return query.getResultList();
@@ -345,9 +352,678 @@ public class UniversalRepositoryImpl implements UniversalRepository {
                 "revenue DESC";
 
         Query query = entityManager.createNativeQuery(sql);
+        query.setHint(HibernateHints.HINT_CACHEABLE, true);
         query.setParameter(1, region);
         query.setParameter(2, java.sql.Date.valueOf(orderDate));
 
         return query.getResultList();
     }
+
+    @Override
+    public List<Object[]> q6(LocalDate shipDate, BigDecimal discount, int quantity) {
+        String sql = "SELECT " +
+                "SUM(l_extendedprice * l_discount) AS revenue " +
+                "FROM " +
+                "lineitem " +
+                "WHERE " +
+                "l_shipdate >= ?1 " +
+                "AND l_shipdate < DATE_ADD(?1, INTERVAL 1 YEAR) " +
+                "AND l_discount BETWEEN ?2 - 0.01 AND ?2 + 0.01 " +
+                "AND l_quantity < ?3";
+
+        Query query = entityManager.createNativeQuery(sql);
+        query.setHint(HibernateHints.HINT_CACHEABLE, true);
+        query.setParameter(1, java.sql.Date.valueOf(shipDate));
+        query.setParameter(2, discount);
+        query.setParameter(3, quantity);
+
+        return query.getResultList();
+    }
+
+    @Override
+    public List<Object[]> q7(String nation1, String nation2) {
+        String sql = "SELECT " +
+                "supp_nation, " +
+                "cust_nation, " +
+                "l_year, " +
+                "SUM(volume) AS revenue " +
+                "FROM " +
+                "( " +
+                "    SELECT " +
+                "        n1.n_name AS supp_nation, " +
+                "        n2.n_name AS cust_nation, " +
+                "        EXTRACT(YEAR FROM l.l_shipdate) AS l_year, " +
+                "        l.l_extendedprice * (1 - l.l_discount) AS volume " +
+                "    FROM " +
+                "        supplier s, " +
+                "        lineitem l, " +
+                "        orders o, " +
+                "        customer c, " +
+                "        nation n1, " +
+                "        nation n2 " +
+                "    WHERE " +
+                "        s.s_suppkey = l.l_suppkey " +
+                "        AND o.o_orderkey = l.l_orderkey " +
+                "        AND c.c_custkey = o.o_custkey " +
+                "        AND s.s_nationkey = n1.n_nationkey " +
+                "        AND c.c_nationkey = n2.n_nationkey " +
+                "        AND ( " +
+                "            (n1.n_name = ?1 AND n2.n_name = ?2) " +
+                "            OR (n1.n_name = ?2 AND n2.n_name = ?1) " +
+                "        ) " +
+                "        AND l.l_shipdate BETWEEN '1995-01-01' AND '1996-12-31' " +
+                ") AS shipping " +
+                "GROUP BY " +
+                "supp_nation, " +
+                "cust_nation, " +
+                "l_year " +
+                "ORDER BY " +
+                "supp_nation, " +
+                "cust_nation, " +
+                "l_year";
+
+        Query query = entityManager.createNativeQuery(sql);
+        query.setHint(HibernateHints.HINT_CACHEABLE, true);
+        query.setParameter(1, nation1);
+        query.setParameter(2, nation2);
+
+        return query.getResultList();
+    }
+
+    @Override
+    public List<Object[]> q8(String nation, String region, String type) {
+        String sql = "SELECT " +
+                "o_year, " +
+                "SUM(CASE WHEN nation = ?1 THEN volume ELSE 0 END) / SUM(volume) AS mkt_share " +
+                "FROM " +
+                "( " +
+                "    SELECT " +
+                "        EXTRACT(YEAR FROM o.o_orderdate) AS o_year, " +
+                "        l.l_extendedprice * (1 - l.l_discount) AS volume, " +
+                "        n2.n_name AS nation " +
+                "    FROM " +
+                "        part p, " +
+                "        supplier s, " +
+                "        lineitem l, " +
+                "        orders o, " +
+                "        customer c, " +
+                "        nation n1, " +
+                "        nation n2, " +
+                "        region r " +
+                "    WHERE " +
+                "        p.p_partkey = l.l_partkey " +
+                "        AND s.s_suppkey = l.l_suppkey " +
+                "        AND l.l_orderkey = o.o_orderkey " +
+                "        AND o.o_custkey = c.c_custkey " +
+                "        AND c.c_nationkey = n1.n_nationkey " +
+                "        AND n1.n_regionkey = r.r_regionkey " +
+                "        AND r.r_name = ?2 " +
+                "        AND s.s_nationkey = n2.n_nationkey " +
+                "        AND o.o_orderdate BETWEEN '1995-01-01' AND '1996-12-31' " +
+                "        AND p.p_type = ?3 " +
+                ") AS all_nations " +
+                "GROUP BY " +
+                "o_year " +
+                "ORDER BY " +
+                "o_year";
+
+        Query query = entityManager.createNativeQuery(sql);
+        query.setHint(HibernateHints.HINT_CACHEABLE, true);
+        query.setParameter(1, nation);
+        query.setParameter(2, region);
+        query.setParameter(3, type);
+
+        return query.getResultList();
+    }
+
+    @Override
+    public List<Object[]> q9(String color) {
+        String sql = "SELECT " +
+                "nation, " +
+                "o_year, " +
+                "SUM(amount) AS sum_profit " +
+                "FROM " +
+                "( " +
+                "    SELECT " +
+                "        n.n_name AS nation, " +
+                "        EXTRACT(YEAR FROM o.o_orderdate) AS o_year, " +
+                "        l.l_extendedprice * (1 - l.l_discount) - ps.ps_supplycost * l.l_quantity AS amount " +
+                "    FROM " +
+                "        part p, " +
+                "        supplier s, " +
+                "        lineitem l, " +
+                "        partsupp ps, " +
+                "        orders o, " +
+                "        nation n " +
+                "    WHERE " +
+                "        s.s_suppkey = l.l_suppkey " +
+                "        AND ps.ps_suppkey = l.l_suppkey " +
+                "        AND ps.ps_partkey = l.l_partkey " +
+                "        AND p.p_partkey = l.l_partkey " +
+                "        AND o.o_orderkey = l.l_orderkey " +
+                "        AND s.s_nationkey = n.n_nationkey " +
+                "        AND p.p_name LIKE CONCAT('%', ?1, '%') " +
+                ") AS profit " +
+                "GROUP BY " +
+                "nation, " +
+                "o_year " +
+                "ORDER BY " +
+                "nation, " +
+                "o_year DESC";
+
+        Query query = entityManager.createNativeQuery(sql);
+        query.setHint(HibernateHints.HINT_CACHEABLE, true);
+        query.setParameter(1, color);
+
+        return query.getResultList();
+    }
+
+    @Override
+    public List<Object[]> q10(LocalDate orderDate) {
+        String sql = "SELECT " +
+                "c.c_custkey, " +
+                "c.c_name, " +
+                "SUM(l.l_extendedprice * (1 - l.l_discount)) AS revenue, " +
+                "c.c_acctbal, " +
+                "n.n_name, " +
+                "c.c_address, " +
+                "c.c_phone, " +
+                "c.c_comment " +
+                "FROM " +
+                "customer c, " +
+                "orders o, " +
+                "lineitem l, " +
+                "nation n " +
+                "WHERE " +
+                "c.c_custkey = o.o_custkey " +
+                "AND l.l_orderkey = o.o_orderkey " +
+                "AND o.o_orderdate >= ?1 " +
+                "AND o.o_orderdate < DATE_ADD(?1, INTERVAL 3 MONTH) " +
+                "AND l.l_returnflag = 'R' " +
+                "AND c.c_nationkey = n.n_nationkey " +
+                "GROUP BY " +
+                "c.c_custkey, " +
+                "c.c_name, " +
+                "c.c_acctbal, " +
+                "c.c_phone, " +
+                "n.n_name, " +
+                "c.c_address, " +
+                "c.c_comment " +
+                "ORDER BY " +
+                "revenue DESC " +
+                "LIMIT 20";
+
+        Query query = entityManager.createNativeQuery(sql);
+        query.setHint(HibernateHints.HINT_CACHEABLE, true);
+        query.setParameter(1, java.sql.Date.valueOf(orderDate));
+
+        return query.getResultList();
+    }
+
+    @Override
+    public List<Object[]> q11(String nation, BigDecimal fraction) {
+        String sql = "SELECT " +
+                "ps.ps_partkey, " +
+                "SUM(ps.ps_supplycost * ps.ps_availqty) AS stock_value " +
+                "FROM " +
+                "partsupp ps, " +
+                "supplier s, " +
+                "nation n " +
+                "WHERE " +
+                "ps.ps_suppkey = s.s_suppkey " +
+                "AND s.s_nationkey = n.n_nationkey " +
+                "AND n.n_name = ?1 " +
+                "GROUP BY " +
+                "ps.ps_partkey " +
+                "HAVING " +
+                "SUM(ps.ps_supplycost * ps.ps_availqty) > ( " +
+                "    SELECT " +
+                "        SUM(ps2.ps_supplycost * ps2.ps_availqty) * ?2 " +
+                "    FROM " +
+                "        partsupp ps2, " +
+                "        supplier s2, " +
+                "        nation n2 " +
+                "    WHERE " +
+                "        ps2.ps_suppkey = s2.s_suppkey " +
+                "        AND s2.s_nationkey = n2.n_nationkey " +
+                "        AND n2.n_name = ?1 " +
+                ") " +
+                "ORDER BY " +
+                "stock_value DESC";
+
+        Query query = entityManager.createNativeQuery(sql);
+        query.setHint(HibernateHints.HINT_CACHEABLE, true);
+        query.setParameter(1, nation);
+        query.setParameter(2, fraction);
+
+        return query.getResultList();
+    }
+
+    @Override
+    public List<Object[]> q12(String shipMode1, String shipMode2, LocalDate receiptDate) {
+        String sql = "SELECT " +
+                "l.l_shipmode, " +
+                "SUM(CASE WHEN o.o_orderpriority = '1-URGENT' OR o.o_orderpriority = '2-HIGH' THEN 1 ELSE 0 END) AS high_line_count, " +
+                "SUM(CASE WHEN o.o_orderpriority <> '1-URGENT' AND o.o_orderpriority <> '2-HIGH' THEN 1 ELSE 0 END) AS low_line_count " +
+                "FROM " +
+                "orders o, " +
+                "lineitem l " +
+                "WHERE " +
+                "o.o_orderkey = l.l_orderkey " +
+                "AND l.l_shipmode IN (?1, ?2) " +
+                "AND l.l_commitdate < l.l_receiptdate " +
+                "AND l.l_shipdate < l.l_commitdate " +
+                "AND l.l_receiptdate >= ?3 " +
+                "AND l.l_receiptdate < DATE_ADD(?3, INTERVAL 1 YEAR) " +
+                "GROUP BY " +
+                "l.l_shipmode " +
+                "ORDER BY " +
+                "l.l_shipmode";
+
+        Query query = entityManager.createNativeQuery(sql);
+        query.setHint(HibernateHints.HINT_CACHEABLE, true);
+        query.setParameter(1, shipMode1);
+        query.setParameter(2, shipMode2);
+        query.setParameter(3, java.sql.Date.valueOf(receiptDate));
+
+        return query.getResultList();
+    }
+
+    @Override
+    public List<Object[]> q13(String word1, String word2) {
+        String sql = "SELECT " +
+                "c_count, " +
+                "COUNT(*) AS custdist " +
+                "FROM " +
+                "( " +
+                "    SELECT " +
+                "        c.c_custkey, " +
+                "        COUNT(o.o_orderkey) AS c_count " +
+                "    FROM " +
+                "        customer c " +
+                "        LEFT OUTER JOIN orders o ON c.c_custkey = o.o_custkey AND o.o_comment NOT LIKE CONCAT('%', ?1, '%', ?2, '%') " +
+                "    GROUP BY " +
+                "        c.c_custkey " +
+                ") AS c_orders " +
+                "GROUP BY " +
+                "c_count " +
+                "ORDER BY " +
+                "custdist DESC, " +
+                "c_count DESC";
+
+        Query query = entityManager.createNativeQuery(sql);
+        query.setHint(HibernateHints.HINT_CACHEABLE, true);
+        query.setParameter(1, word1);
+        query.setParameter(2, word2);
+
+        return query.getResultList();
+    }
+
+    @Override
+    public List<Object[]> q14(LocalDate shipDate) {
+        String sql = "SELECT " +
+                "100.00 * SUM(CASE WHEN p.p_type LIKE 'PROMO%' THEN l.l_extendedprice * (1 - l.l_discount) ELSE 0 END) " +
+                "    / SUM(l.l_extendedprice * (1 - l.l_discount)) AS promo_revenue " +
+                "FROM " +
+                "lineitem l, " +
+                "part p " +
+                "WHERE " +
+                "l.l_partkey = p.p_partkey " +
+                "AND l.l_shipdate >= ?1 " +
+                "AND l.l_shipdate < DATE_ADD(?1, INTERVAL 1 MONTH)";
+
+        Query query = entityManager.createNativeQuery(sql);
+        query.setHint(HibernateHints.HINT_CACHEABLE, true);
+        query.setParameter(1, java.sql.Date.valueOf(shipDate));
+
+        return query.getResultList();
+    }
+
+    @Override
+    public List<Object[]> q15(LocalDate shipDate) {
+        String sql = "WITH revenue0 AS ( " +
+                "    SELECT " +
+                "        l_suppkey AS supplier_no, " +
+                "        SUM(l_extendedprice * (1 - l_discount)) AS total_revenue " +
+                "    FROM " +
+                "        lineitem " +
+                "    WHERE " +
+                "        l_shipdate >= ?1 " +
+                "        AND l_shipdate < DATE_ADD(?1, INTERVAL 3 MONTH) " +
+                "    GROUP BY " +
+                "        l_suppkey " +
+                ") " +
+                "SELECT " +
+                "s.s_suppkey, " +
+                "s.s_name, " +
+                "s.s_address, " +
+                "s.s_phone, " +
+                "r.total_revenue " +
+                "FROM " +
+                "supplier s, " +
+                "revenue0 r " +
+                "WHERE " +
+                "s.s_suppkey = r.supplier_no " +
+                "AND r.total_revenue = ( " +
+                "    SELECT " +
+                "        MAX(total_revenue) " +
+                "    FROM " +
+                "        revenue0 " +
+                ") " +
+                "ORDER BY " +
+                "s.s_suppkey";
+
+        Query query = entityManager.createNativeQuery(sql);
+        query.setHint(HibernateHints.HINT_CACHEABLE, true);
+        query.setParameter(1, java.sql.Date.valueOf(shipDate));
+
+        return query.getResultList();
+    }
+
+    @Override
+    public List<Object[]> q16(String brand, String type, List<Integer> sizes) {
+        String sql = "SELECT " +
+                "p.p_brand, " +
+                "p.p_type, " +
+                "p.p_size, " +
+                "COUNT(DISTINCT ps.ps_suppkey) AS supplier_cnt " +
+                "FROM " +
+                "partsupp ps, " +
+                "part p " +
+                "WHERE " +
+                "p.p_partkey = ps.ps_partkey " +
+                "AND p.p_brand <> ?1 " +
+                "AND p.p_type NOT LIKE CONCAT(?2, '%') " +
+                "AND p.p_size IN (?3) " +
+                "AND ps.ps_suppkey NOT IN ( " +
+                "    SELECT " +
+                "        s.s_suppkey " +
+                "    FROM " +
+                "        supplier s " +
+                "    WHERE " +
+                "        s.s_comment LIKE '%Customer%Complaints%' " +
+                ") " +
+                "GROUP BY " +
+                "p.p_brand, " +
+                "p.p_type, " +
+                "p.p_size " +
+                "ORDER BY " +
+                "supplier_cnt DESC, " +
+                "p.p_brand, " +
+                "p.p_type, " +
+                "p.p_size";
+
+        Query query = entityManager.createNativeQuery(sql);
+        query.setHint(HibernateHints.HINT_CACHEABLE, true);
+        query.setParameter(1, brand);
+        query.setParameter(2, type);
+        query.setParameter(3, sizes);
+
+        return query.getResultList();
+    }
+
+    @Override
+    public List<Object[]> q17(String brand, String container) {
+        String sql = "SELECT " +
+                "SUM(l.l_extendedprice) / 7.0 AS avg_yearly " +
+                "FROM " +
+                "lineitem l, " +
+                "part p " +
+                "WHERE " +
+                "p.p_partkey = l.l_partkey " +
+                "AND p.p_brand = ?1 " +
+                "AND p.p_container = ?2 " +
+                "AND l.l_quantity < ( " +
+                "    SELECT " +
+                "        0.2 * AVG(l2.l_quantity) " +
+                "    FROM " +
+                "        lineitem l2 " +
+                "    WHERE " +
+                "        l2.l_partkey = p.p_partkey " +
+                ")";
+
+        Query query = entityManager.createNativeQuery(sql);
+        query.setHint(HibernateHints.HINT_CACHEABLE, true);
+        query.setParameter(1, brand);
+        query.setParameter(2, container);
+
+        return query.getResultList();
+    }
+
+    @Override
+    public List<Object[]> q18(int quantity) {
+        String sql = "SELECT " +
+                "c.c_name, " +
+                "c.c_custkey, " +
+                "o.o_orderkey, " +
+                "o.o_orderdate, " +
+                "o.o_totalprice, " +
+                "SUM(l.l_quantity) AS sum_quantity " +
+                "FROM " +
+                "customer c, " +
+                "orders o, " +
+                "lineitem l " +
+                "WHERE " +
+                "o.o_orderkey IN ( " +
+                "    SELECT " +
+                "        l2.l_orderkey " +
+                "    FROM " +
+                "        lineitem l2 " +
+                "    GROUP BY " +
+                "        l2.l_orderkey " +
+                "    HAVING " +
+                "        SUM(l2.l_quantity) > ?1 " +
+                ") " +
+                "AND c.c_custkey = o.o_custkey " +
+                "AND o.o_orderkey = l.l_orderkey " +
+                "GROUP BY " +
+                "c.c_name, " +
+                "c.c_custkey, " +
+                "o.o_orderkey, " +
+                "o.o_orderdate, " +
+                "o.o_totalprice " +
+                "ORDER BY " +
+                "o.o_totalprice DESC, " +
+                "o.o_orderdate " +
+                "LIMIT 100";
+
+        Query query = entityManager.createNativeQuery(sql);
+        query.setHint(HibernateHints.HINT_CACHEABLE, true);
+        query.setParameter(1, quantity);
+
+        return query.getResultList();
+    }
+
+    @Override
+    public List<Object[]> q19(String brand1, String brand2, String brand3, int quantity1, int quantity2,
+            int quantity3) {
+        String sql = "SELECT " +
+                "SUM(l.l_extendedprice * (1 - l.l_discount)) AS revenue " +
+                "FROM " +
+                "lineitem l, " +
+                "part p " +
+                "WHERE " +
+                "( " +
+                "    p.p_partkey = l.l_partkey " +
+                "    AND p.p_brand = ?1 " +
+                "    AND p.p_container IN ('SM CASE', 'SM BOX', 'SM PACK', 'SM PKG') " +
+                "    AND l.l_quantity >= ?2 " +
+                "    AND l.l_quantity <= ?2 + 10 " +
+                "    AND p.p_size BETWEEN 1 AND 5 " +
+                "    AND l.l_shipmode IN ('AIR', 'AIR REG') " +
+                "    AND l.l_shipinstruct = 'DELIVER IN PERSON' " +
+                ") " +
+                "OR ( " +
+                "    p.p_partkey = l.l_partkey " +
+                "    AND p.p_brand = ?3 " +
+                "    AND p.p_container IN ('MED BAG', 'MED BOX', 'MED PKG', 'MED PACK') " +
+                "    AND l.l_quantity >= ?4 " +
+                "    AND l.l_quantity <= ?4 + 10 " +
+                "    AND p.p_size BETWEEN 1 AND 10 " +
+                "    AND l.l_shipmode IN ('AIR', 'AIR REG') " +
+                "    AND l.l_shipinstruct = 'DELIVER IN PERSON' " +
+                ") " +
+                "OR ( " +
+                "    p.p_partkey = l.l_partkey " +
+                "    AND p.p_brand = ?5 " +
+                "    AND p.p_container IN ('LG CASE', 'LG BOX', 'LG PACK', 'LG PKG') " +
+                "    AND l.l_quantity >= ?6 " +
+                "    AND l.l_quantity <= ?6 + 10 " +
+                "    AND p.p_size BETWEEN 1 AND 15 " +
+                "    AND l.l_shipmode IN ('AIR', 'AIR REG') " +
+                "    AND l.l_shipinstruct = 'DELIVER IN PERSON' " +
+                ")";
+
+        Query query = entityManager.createNativeQuery(sql);
+        query.setHint(HibernateHints.HINT_CACHEABLE, true);
+        query.setParameter(1, brand1);
+        query.setParameter(2, quantity1);
+        query.setParameter(3, brand2);
+        query.setParameter(4, quantity2);
+        query.setParameter(5, brand3);
+        query.setParameter(6, quantity3);
+
+        return query.getResultList();
+    }
+
+    @Override
+    public List<Object[]> q20(String color, LocalDate shipDate, String nation) {
+        String sql = "SELECT " +
+                "s.s_name, " +
+                "s.s_address " +
+                "FROM " +
+                "supplier s, " +
+                "nation n " +
+                "WHERE " +
+                "s.s_suppkey IN ( " +
+                "    SELECT " +
+                "        ps.ps_suppkey " +
+                "    FROM " +
+                "        partsupp ps " +
+                "    WHERE " +
+                "        ps.ps_partkey IN ( " +
+                "            SELECT " +
+                "                p.p_partkey " +
+                "            FROM " +
+                "                part p " +
+                "            WHERE " +
+                "                p.p_name LIKE CONCAT(?1, '%') " +
+                "        ) " +
+                "        AND ps.ps_availqty > ( " +
+                "            SELECT " +
+                "                0.5 * SUM(l.l_quantity) " +
+                "            FROM " +
+                "                lineitem l " +
+                "            WHERE " +
+                "                l.l_partkey = ps.ps_partkey " +
+                "                AND l.l_suppkey = ps.ps_suppkey " +
+                "                AND l.l_shipdate >= ?2 " +
+                "                AND l.l_shipdate < DATE_ADD(?2, INTERVAL 1 YEAR) " +
+                "        ) " +
+                ") " +
+                "AND s.s_nationkey = n.n_nationkey " +
+                "AND n.n_name = ?3 " +
+                "ORDER BY " +
+                "s.s_name";
+
+        Query query = entityManager.createNativeQuery(sql);
+        query.setHint(HibernateHints.HINT_CACHEABLE, true);
+        query.setParameter(1, color);
+        query.setParameter(2, java.sql.Date.valueOf(shipDate));
+        query.setParameter(3, nation);
+
+        return query.getResultList();
+    }
+
+    @Override
+    public List<Object[]> q21(String nation) {
+        String sql = "SELECT " +
+                "s.s_name, " +
+                "COUNT(*) AS numwait " +
+                "FROM " +
+                "supplier s, " +
+                "lineitem l1, " +
+                "orders o, " +
+                "nation n " +
+                "WHERE " +
+                "s.s_suppkey = l1.l_suppkey " +
+                "AND o.o_orderkey = l1.l_orderkey " +
+                "AND o.o_orderstatus = 'F' " +
+                "AND l1.l_receiptdate > l1.l_commitdate " +
+                "AND EXISTS ( " +
+                "    SELECT * " +
+                "    FROM " +
+                "        lineitem l2 " +
+                "    WHERE " +
+                "        l2.l_orderkey = l1.l_orderkey " +
+                "        AND l2.l_suppkey <> l1.l_suppkey " +
+                ") " +
+                "AND NOT EXISTS ( " +
+                "    SELECT * " +
+                "    FROM " +
+                "        lineitem l3 " +
+                "    WHERE " +
+                "        l3.l_orderkey = l1.l_orderkey " +
+                "        AND l3.l_suppkey <> l1.l_suppkey " +
+                "        AND l3.l_receiptdate > l3.l_commitdate " +
+                ") " +
+                "AND s.s_nationkey = n.n_nationkey " +
+                "AND n.n_name = ?1 " +
+                "GROUP BY " +
+                "s.s_name " +
+                "ORDER BY " +
+                "numwait DESC, " +
+                "s.s_name " +
+                "LIMIT 100";
+
+        Query query = entityManager.createNativeQuery(sql);
+        query.setHint(HibernateHints.HINT_CACHEABLE, true);
+        query.setParameter(1, nation);
+
+        return query.getResultList();
+    }
+
+    @Override
+    public List<Object[]> q22(List<String> countryCodes) {
+        String sql = "SELECT " +
+                "cntrycode, " +
+                "COUNT(*) AS numcust, " +
+                "SUM(c_acctbal) AS totacctbal " +
+                "FROM " +
+                "( " +
+                "    SELECT " +
+                "        SUBSTRING(c.c_phone, 1, 2) AS cntrycode, " +
+                "        c.c_acctbal " +
+                "    FROM " +
+                "        customer c " +
+                "    WHERE " +
+                "        SUBSTRING(c.c_phone, 1, 2) IN (?1) " +
+                "        AND c.c_acctbal > ( " +
+                "            SELECT " +
+                "                AVG(c2.c_acctbal) " +
+                "            FROM " +
+                "                customer c2 " +
+                "            WHERE " +
+                "                c2.c_acctbal > 0.00 " +
+                "                AND SUBSTRING(c2.c_phone, 1, 2) IN (?1) " +
+                "        ) " +
+                "        AND NOT EXISTS ( " +
+                "            SELECT * " +
+                "            FROM " +
+                "                orders o " +
+                "            WHERE " +
+                "                o.o_custkey = c.c_custkey " +
+                "        ) " +
+                ") AS custsale " +
+                "GROUP BY " +
+                "cntrycode " +
+                "ORDER BY " +
+                "cntrycode";
+
+        Query query = entityManager.createNativeQuery(sql);
+        query.setHint(HibernateHints.HINT_CACHEABLE, true);
+        query.setParameter(1, countryCodes);
+
+        return query.getResultList();
+    }
 }
@@ -0,0 +1,92 @@
+package cz.cuni.mff.java.kurinna.microservice.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Reports the activity of the second-level and query cache enabled by {@code jpa.cache.enabled=true}.
+ * <p>
+ * The hits, misses and puts are taken from Hibernate's statistics, the evictions from the native statistics
+ * of the Caffeine caches backing the regions, which count both the entries evicted by size and the expired
+ * ones. The counters are global, so the activity of concurrently executed queries is reported together.
+ */
+@Component
+public class CacheStatistics {
+    private final Statistics statistics;
+    private final CacheManager cacheManager;
+
+    public CacheStatistics(EntityManagerFactory entityManagerFactory, ObjectProvider<CacheManager> cacheManager) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        this.cacheManager = cacheManager.getIfAvailable();
+    }
+
+    /**
+     * Creates a supplier of the cache activity for one measurement. Every call reports the activity since
+     * the previous call, the first one the activity since the sampler was created, which includes the warmup.
+     *
+     * @return A supplier of the cache statistics, which returns null if the caches are disabled
+     */
+    public Supplier<Map<String, Long>> sampler() {
+        if (cacheManager == null) {
+            return () -> null;
+        }
+        Counters[] last = {counters()};
+        return () -> {
+            Counters current = counters();
+            Map<String, Long> stats = current.minus(last[0]).toMap();
+            last[0] = current;
+            return stats;
+        };
+    }
+
+    private Counters counters() {
+        long evictions = 0;
+        for (String name : cacheManager.getCacheNames()) {
+            Cache<?, ?> cache = cacheManager.getCache(name);
+            evictions += cache.unwrap(com.github.benmanes.caffeine.cache.Cache.class).stats().evictionCount();
+        }
+        return new Counters(
+                statistics.getSecondLevelCacheHitCount(),
+                statistics.getSecondLevelCacheMissCount(),
+                statistics.getSecondLevelCachePutCount(),
+                statistics.getQueryCacheHitCount(),
+                statistics.getQueryCacheMissCount(),
+                statistics.getQueryCachePutCount(),
+                evictions);
+    }
+
+    private record Counters(long secondLevelCacheHits, long secondLevelCacheMisses, long secondLevelCachePuts,
+            long queryCacheHits, long queryCacheMisses, long queryCachePuts, long cacheEvictions) {
+        Counters minus(Counters other) {
+            return new Counters(
+                    secondLevelCacheHits - other.secondLevelCacheHits,
+                    secondLevelCacheMisses - other.secondLevelCacheMisses,
+                    secondLevelCachePuts - other.secondLevelCachePuts,
+                    queryCacheHits - other.queryCacheHits,
+                    queryCacheMisses - other.queryCacheMisses,
+                    queryCachePuts - other.queryCachePuts,
+                    cacheEvictions - other.cacheEvictions);
+        }
+
+        Map<String, Long> toMap() {
+            Map<String, Long> stats = new LinkedHashMap<>();
+            stats.put("secondLevelCacheHits", secondLevelCacheHits);
+            stats.put("secondLevelCacheMisses", secondLevelCacheMisses);
+            stats.put("secondLevelCachePuts", secondLevelCachePuts);
+            stats.put("queryCacheHits", queryCacheHits);
+            stats.put("queryCacheMisses", queryCacheMisses);
+            stats.put("queryCachePuts", queryCachePuts);
+            stats.put("cacheEvictions", cacheEvictions);
+            return stats;
+        }
+    }
+}
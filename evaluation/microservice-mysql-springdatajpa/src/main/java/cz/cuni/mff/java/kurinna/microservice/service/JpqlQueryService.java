@@ -0,0 +1,250 @@
+package cz.cuni.mff.java.kurinna.microservice.service;
+
+import cz.cuni.mff.java.kurinna.microservice.model.Customer;
+import cz.cuni.mff.java.kurinna.microservice.model.LineItem;
+import cz.cuni.mff.java.kurinna.microservice.model.Orders;
+import cz.cuni.mff.java.kurinna.microservice.repository.JpqlRepository;
+import cz.cuni.mff.java.kurinna.microservice.repository.JpqlRepository.ResultType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Executes the query set as JPQL through {@link JpqlRepository}. The list methods materialize the entities,
+ * DTOs or tuples, the stream methods read them one by one and only count them.
+ * <p>
+ * A result stream is bound to the entity manager that opened it, so the stream methods run in a read-only
+ * transaction which keeps the entity manager open until the stream is closed. The list methods run without
+ * a transaction in an entity manager which is closed after the query, so the persistence context never
+ * outlives one execution.
+ */
+@Service
+public class JpqlQueryService {
+    private final JpqlRepository jpqlRepository;
+
+    public JpqlQueryService(JpqlRepository jpqlRepository) {
+        this.jpqlRepository = jpqlRepository;
+    }
+
+    // A1) Non-Indexed Columns
+    public List<LineItem> a1() {
+        return jpqlRepository.a1().getResultList();
+    }
+
+    @Transactional(readOnly = true)
+    public long a1Stream() {
+        return jpqlRepository.a1().getResultStream();
+    }
+
+    // A2) Non-Indexed Columns — Range Query
+    public List<Orders> a2(LocalDate startDate, LocalDate endDate) {
+        return jpqlRepository.a2(startDate, endDate).getResultList();
+    }
+
+    @Transactional(readOnly = true)
+    public long a2Stream(LocalDate startDate, LocalDate endDate) {
+        return jpqlRepository.a2(startDate, endDate).getResultStream();
+    }
+
+    // A3) Indexed Columns
+    public List<Customer> a3() {
+        return jpqlRepository.a3().getResultList();
+    }
+
+    @Transactional(readOnly = true)
+    public long a3Stream() {
+        return jpqlRepository.a3().getResultStream();
+    }
+
+    // A4) Indexed Columns — Range Query
+    public List<Orders> a4(int minOrderKey, int maxOrderKey) {
+        return jpqlRepository.a4(minOrderKey, maxOrderKey).getResultList();
+    }
+
+    @Transactional(readOnly = true)
+    public long a4Stream(int minOrderKey, int maxOrderKey) {
+        return jpqlRepository.a4(minOrderKey, maxOrderKey).getResultStream();
+    }
+
+    // B1) COUNT
+    public List<?> b1(ResultType resultType) {
+        return jpqlRepository.b1().as(resultType).getResultList();
+    }
+
+    @Transactional(readOnly = true)
+    public long b1Stream(ResultType resultType) {
+        return jpqlRepository.b1().as(resultType).getResultStream();
+    }
+
+    // B2) MAX
+    public List<?> b2(ResultType resultType) {
+        return jpqlRepository.b2().as(resultType).getResultList();
+    }
+
+    @Transactional(readOnly = true)
+    public long b2Stream(ResultType resultType) {
+        return jpqlRepository.b2().as(resultType).getResultStream();
+    }
+
+    // C1) Non-Indexed Columns
+    public List<?> c1(ResultType resultType) {
+        return jpqlRepository.c1().as(resultType).getResultList();
+    }
+
+    @Transactional(readOnly = true)
+    public long c1Stream(ResultType resultType) {
+        return jpqlRepository.c1().as(resultType).getResultStream();
+    }
+
+    // C2) Indexed Columns
+    public List<?> c2(ResultType resultType) {
+        return jpqlRepository.c2().as(resultType).getResultList();
+    }
+
+    @Transactional(readOnly = true)
+    public long c2Stream(ResultType resultType) {
+        return jpqlRepository.c2().as(resultType).getResultStream();
+    }
+
+    // C3) Complex Join 1
+    public List<?> c3(ResultType resultType) {
+        return jpqlRepository.c3().as(resultType).getResultList();
+    }
+
+    @Transactional(readOnly = true)
+    public long c3Stream(ResultType resultType) {
+        return jpqlRepository.c3().as(resultType).getResultStream();
+    }
+
+    // C4) Complex Join 2
+    public List<?> c4(ResultType resultType) {
+        return jpqlRepository.c4().as(resultType).getResultList();
+    }
+
+    @Transactional(readOnly = true)
+    public long c4Stream(ResultType resultType) {
+        return jpqlRepository.c4().as(resultType).getResultStream();
+    }
+
+    // C5) Left Outer Join
+    public List<?> c5(ResultType resultType) {
+        return jpqlRepository.c5().as(resultType).getResultList();
+    }
+
+    @Transactional(readOnly = true)
+    public long c5Stream(ResultType resultType) {
+        return jpqlRepository.c5().as(resultType).getResultStream();
+    }
+
+    // D1) UNION
+    public List<?> d1(ResultType resultType) {
+        return jpqlRepository.d1().as(resultType).getResultList();
+    }
+
+    @Transactional(readOnly = true)
+    public long d1Stream(ResultType resultType) {
+        return jpqlRepository.d1().as(resultType).getResultStream();
+    }
+
+    // D2) INTERSECT
+    public List<?> d2(ResultType resultType) {
+        return jpqlRepository.d2().as(resultType).getResultList();
+    }
+
+    @Transactional(readOnly = true)
+    public long d2Stream(ResultType resultType) {
+        return jpqlRepository.d2().as(resultType).getResultStream();
+    }
+
+    // D3) DIFFERENCE
+    public List<?> d3(ResultType resultType) {
+        return jpqlRepository.d3().as(resultType).getResultList();
+    }
+
+    @Transactional(readOnly = true)
+    public long d3Stream(ResultType resultType) {
+        return jpqlRepository.d3().as(resultType).getResultStream();
+    }
+
+    // E1) Non-Indexed Columns Sorting
+    public List<?> e1(ResultType resultType) {
+        return jpqlRepository.e1().as(resultType).getResultList();
+    }
+
+    @Transactional(readOnly = true)
+    public long e1Stream(ResultType resultType) {
+        return jpqlRepository.e1().as(resultType).getResultStream();
+    }
+
+    // E2) Indexed Columns Sorting
+    public List<?> e2(ResultType resultType) {
+        return jpqlRepository.e2().as(resultType).getResultList();
+    }
+
+    @Transactional(readOnly = true)
+    public long e2Stream(ResultType resultType) {
+        return jpqlRepository.e2().as(resultType).getResultStream();
+    }
+
+    // E3) Distinct
+    public List<?> e3(ResultType resultType) {
+        return jpqlRepository.e3().as(resultType).getResultList();
+    }
+
+    @Transactional(readOnly = true)
+    public long e3Stream(ResultType resultType) {
+        return jpqlRepository.e3().as(resultType).getResultStream();
+    }
+
+    // Q1) Pricing Summary Report
+    public List<?> q1(int days, ResultType resultType) {
+        return jpqlRepository.q1(days).as(resultType).getResultList();
+    }
+
+    @Transactional(readOnly = true)
+    public long q1Stream(int days, ResultType resultType) {
+        return jpqlRepository.q1(days).as(resultType).getResultStream();
+    }
+
+    // Q2) Minimum Cost Supplier
+    public List<?> q2(int size, String type, String region, ResultType resultType) {
+        return jpqlRepository.q2(size, type, region).as(resultType).getResultList();
+    }
+
+    @Transactional(readOnly = true)
+    public long q2Stream(int size, String type, String region, ResultType resultType) {
+        return jpqlRepository.q2(size, type, region).as(resultType).getResultStream();
+    }
+
+    // Q3) Shipping Priority
+    public List<?> q3(String segment, LocalDate orderDate, LocalDate shipDate, ResultType resultType) {
+        return jpqlRepository.q3(segment, orderDate, shipDate).as(resultType).getResultList();
+    }
+
+    @Transactional(readOnly = true)
+    public long q3Stream(String segment, LocalDate orderDate, LocalDate shipDate, ResultType resultType) {
+        return jpqlRepository.q3(segment, orderDate, shipDate).as(resultType).getResultStream();
+    }
+
+    // Q4) Order Priority Checking
+    public List<?> q4(LocalDate orderDate, ResultType resultType) {
+        return jpqlRepository.q4(orderDate).as(resultType).getResultList();
+    }
+
+    @Transactional(readOnly = true)
+    public long q4Stream(LocalDate orderDate, ResultType resultType) {
+        return jpqlRepository.q4(orderDate).as(resultType).getResultStream();
+    }
+
+    // Q5) Local Supplier Volume
+    public List<?> q5(String region, LocalDate orderDate, ResultType resultType) {
+        return jpqlRepository.q5(region, orderDate).as(resultType).getResultList();
+    }
+
+    @Transactional(readOnly = true)
+    public long q5Stream(String region, LocalDate orderDate, ResultType resultType) {
+        return jpqlRepository.q5(region, orderDate).as(resultType).getResultStream();
+    }
+}
@@ -1,17 +1,37 @@
 package cz.cuni.mff.java.kurinna.microservice.service;
 import cz.cuni.mff.java.kurinna.common.service.IQueryService;
+import cz.cuni.mff.java.kurinna.microservice.model.Customer;
+import cz.cuni.mff.java.kurinna.microservice.model.LineItem;
+import cz.cuni.mff.java.kurinna.microservice.model.Orders;
+import cz.cuni.mff.java.kurinna.microservice.model.PartSupp;
+import cz.cuni.mff.java.kurinna.microservice.repository.GraphRepository;
+import cz.cuni.mff.java.kurinna.microservice.repository.LineItemPageRepository;
+import cz.cuni.mff.java.kurinna.microservice.repository.LookupRepository;
+import cz.cuni.mff.java.kurinna.microservice.repository.OrdersPageRepository;
 import cz.cuni.mff.java.kurinna.microservice.repository.UniversalRepository;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 
 @Service
 public class QueryService implements IQueryService<Object[]> {
     private final UniversalRepository universalRepository;
-
-    public QueryService(UniversalRepository universalRepository) {
+    private final LookupRepository lookupRepository;
+    private final OrdersPageRepository ordersPageRepository;
+    private final LineItemPageRepository lineItemPageRepository;
+    private final GraphRepository graphRepository;
+
+    public QueryService(UniversalRepository universalRepository, LookupRepository lookupRepository,
+            OrdersPageRepository ordersPageRepository, LineItemPageRepository lineItemPageRepository,
+            GraphRepository graphRepository) {
         this.universalRepository = universalRepository;
+        this.lookupRepository = lookupRepository;
+        this.ordersPageRepository = ordersPageRepository;
+        this.lineItemPageRepository = lineItemPageRepository;
+        this.graphRepository = graphRepository;
     }
 
     // Basic queries
@@ -83,6 +103,53 @@ public class QueryService implements IQueryService<Object[]> {
         return universalRepository.e3();
     }
 
+    // Point lookups
+    public Orders f1(long orderKey) {
+        return lookupRepository.f1(orderKey);
+    }
+
+    public Customer f2(long customerKey) {
+        return lookupRepository.f2(customerKey);
+    }
+
+    public LineItem f3(long orderKey, int lineNumber) {
+        return lookupRepository.f3(orderKey, lineNumber);
+    }
+
+    public PartSupp f4(long partKey, long supplierKey) {
+        return lookupRepository.f4(partKey, supplierKey);
+    }
+
+    // Pagination
+    public List<Orders> g1(int page, int size) {
+        return ordersPageRepository.g1(PageRequest.of(page, size)).getContent();
+    }
+
+    public List<Orders> g2(long orderKey, int size) {
+        return ordersPageRepository.g2(orderKey, PageRequest.ofSize(size));
+    }
+
+    public List<LineItem> g3(int page, int size) {
+        return lineItemPageRepository.g3(PageRequest.of(page, size)).getContent();
+    }
+
+    public List<LineItem> g4(long orderKey, int lineNumber, int size) {
+        return lineItemPageRepository.g4(orderKey, lineNumber, PageRequest.ofSize(size));
+    }
+
+    // Object graph
+    public List<Orders> h1(LocalDate startDate, LocalDate endDate) {
+        return graphRepository.h1(startDate, endDate);
+    }
+
+    public List<Orders> h2(LocalDate startDate, LocalDate endDate) {
+        return graphRepository.h2(startDate, endDate);
+    }
+
+    public List<Orders> h3(LocalDate startDate, LocalDate endDate, int batchSize) {
+        return graphRepository.h3(startDate, endDate, batchSize);
+    }
+
     public List<Object[]> q1(int days) {
         return universalRepository.q1(days);
     }
@@ -102,4 +169,73 @@ public class QueryService implements IQueryService<Object[]> {
     public List<Object[]> q5(String region, LocalDate orderDate) {
         return universalRepository.q5(region, orderDate);
     }
+
+    public List<Object[]> q6(LocalDate shipDate, BigDecimal discount, int quantity) {
+        return universalRepository.q6(shipDate, discount, quantity);
+    }
+
+    public List<Object[]> q7(String nation1, String nation2) {
+        return universalRepository.q7(nation1, nation2);
+    }
+
+    public List<Object[]> q8(String nation, String region, String type) {
+        return universalRepository.q8(nation, region, type);
+    }
+
+    public List<Object[]> q9(String color) {
+        return universalRepository.q9(color);
+    }
+
+    public List<Object[]> q10(LocalDate orderDate) {
+        return universalRepository.q10(orderDate);
+    }
+
+    public List<Object[]> q11(String nation, BigDecimal fraction) {
+        return universalRepository.q11(nation, fraction);
+    }
+
+    public List<Object[]> q12(String shipMode1, String shipMode2, LocalDate receiptDate) {
+        return universalRepository.q12(shipMode1, shipMode2, receiptDate);
+    }
+
+    public List<Object[]> q13(String word1, String word2) {
+        return universalRepository.q13(word1, word2);
+    }
+
+    public List<Object[]> q14(LocalDate shipDate) {
+        return universalRepository.q14(shipDate);
+    }
+
+    public List<Object[]> q15(LocalDate shipDate) {
+        return universalRepository.q15(shipDate);
+    }
+
+    public List<Object[]> q16(String brand, String type, List<Integer> sizes) {
+        return universalRepository.q16(brand, type, sizes);
+    }
+
+    public List<Object[]> q17(String brand, String container) {
+        return universalRepository.q17(brand, container);
+    }
+
+    public List<Object[]> q18(int quantity) {
+        return universalRepository.q18(quantity);
+    }
+
+    public List<Object[]> q19(String brand1, String brand2, String brand3, int quantity1, int quantity2,
+            int quantity3) {
+        return universalRepository.q19(brand1, brand2, brand3, quantity1, quantity2, quantity3);
+    }
+
+    public List<Object[]> q20(String color, LocalDate shipDate, String nation) {
+        return universalRepository.q20(color, shipDate, nation);
+    }
+
+    public List<Object[]> q21(String nation) {
+        return universalRepository.q21(nation);
+    }
+
+    public List<Object[]> q22(List<String> countryCodes) {
+        return universalRepository.q22(countryCodes);
+    }
 }
@@ -0,0 +1,138 @@
+package cz.cuni.mff.java.kurinna.microservice.service;
+
+import cz.cuni.mff.java.kurinna.microservice.model.Customer;
+import cz.cuni.mff.java.kurinna.microservice.model.LineItem;
+import cz.cuni.mff.java.kurinna.microservice.model.Orders;
+import cz.cuni.mff.java.kurinna.microservice.repository.JpqlRepository;
+import cz.cuni.mff.java.kurinna.microservice.repository.JpqlRepository.ResultType;
+import cz.cuni.mff.java.kurinna.microservice.repository.StatelessRepository;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Executes the scans and joins of the JPQL query set in a stateless session through {@link StatelessRepository}.
+ * The queries are the same as in {@link JpqlQueryService}, so both paths can be compared directly. The list
+ * methods materialize the detached results, the scroll methods read them forward-only and only count them.
+ * The aggregations are left out, their results are not entities and gain nothing from skipping the
+ * persistence context.
+ */
+@Service
+public class StatelessQueryService {
+    private final JpqlRepository jpqlRepository;
+    private final StatelessRepository statelessRepository;
+
+    public StatelessQueryService(JpqlRepository jpqlRepository, StatelessRepository statelessRepository) {
+        this.jpqlRepository = jpqlRepository;
+        this.statelessRepository = statelessRepository;
+    }
+
+    // A1) Non-Indexed Columns
+    public List<LineItem> a1() {
+        return statelessRepository.list(jpqlRepository.a1());
+    }
+
+    public long a1Scroll() {
+        return statelessRepository.scroll(jpqlRepository.a1());
+    }
+
+    // A2) Non-Indexed Columns — Range Query
+    public List<Orders> a2(LocalDate startDate, LocalDate endDate) {
+        return statelessRepository.list(jpqlRepository.a2(startDate, endDate));
+    }
+
+    public long a2Scroll(LocalDate startDate, LocalDate endDate) {
+        return statelessRepository.scroll(jpqlRepository.a2(startDate, endDate));
+    }
+
+    // A3) Indexed Columns
+    public List<Customer> a3() {
+        return statelessRepository.list(jpqlRepository.a3());
+    }
+
+    public long a3Scroll() {
+        return statelessRepository.scroll(jpqlRepository.a3());
+    }
+
+    // A4) Indexed Columns — Range Query
+    public List<Orders> a4(int minOrderKey, int maxOrderKey) {
+        return statelessRepository.list(jpqlRepository.a4(minOrderKey, maxOrderKey));
+    }
+
+    public long a4Scroll(int minOrderKey, int maxOrderKey) {
+        return statelessRepository.scroll(jpqlRepository.a4(minOrderKey, maxOrderKey));
+    }
+
+    // C1) Non-Indexed Columns
+    public List<?> c1(ResultType resultType) {
+        return statelessRepository.list(jpqlRepository.c1().as(resultType));
+    }
+
+    public long c1Scroll(ResultType resultType) {
+        return statelessRepository.scroll(jpqlRepository.c1().as(resultType));
+    }
+
+    // C2) Indexed Columns
+    public List<?> c2(ResultType resultType) {
+        return statelessRepository.list(jpqlRepository.c2().as(resultType));
+    }
+
+    public long c2Scroll(ResultType resultType) {
+        return statelessRepository.scroll(jpqlRepository.c2().as(resultType));
+    }
+
+    // C3) Complex Join 1
+    public List<?> c3(ResultType resultType) {
+        return statelessRepository.list(jpqlRepository.c3().as(resultType));
+    }
+
+    public long c3Scroll(ResultType resultType) {
+        return statelessRepository.scroll(jpqlRepository.c3().as(resultType));
+    }
+
+    // C4) Complex Join 2
+    public List<?> c4(ResultType resultType) {
+        return statelessRepository.list(jpqlRepository.c4().as(resultType));
+    }
+
+    public long c4Scroll(ResultType resultType) {
+        return statelessRepository.scroll(jpqlRepository.c4().as(resultType));
+    }
+
+    // C5) Left Outer Join
+    public List<?> c5(ResultType resultType) {
+        return statelessRepository.list(jpqlRepository.c5().as(resultType));
+    }
+
+    public long c5Scroll(ResultType resultType) {
+        return statelessRepository.scroll(jpqlRepository.c5().as(resultType));
+    }
+
+    // E1) Non-Indexed Columns Sorting
+    public List<?> e1(ResultType resultType) {
+        return statelessRepository.list(jpqlRepository.e1().as(resultType));
+    }
+
+    public long e1Scroll(ResultType resultType) {
+        return statelessRepository.scroll(jpqlRepository.e1().as(resultType));
+    }
+
+    // E2) Indexed Columns Sorting
+    public List<?> e2(ResultType resultType) {
+        return statelessRepository.list(jpqlRepository.e2().as(resultType));
+    }
+
+    public long e2Scroll(ResultType resultType) {
+        return statelessRepository.scroll(jpqlRepository.e2().as(resultType));
+    }
+
+    // E3) Distinct
+    public List<?> e3(ResultType resultType) {
+        return statelessRepository.list(jpqlRepository.e3().as(resultType));
+    }
+
+    public long e3Scroll(ResultType resultType) {
+        return statelessRepository.scroll(jpqlRepository.e3().as(resultType));
+    }
+}
@@ -0,0 +1,41 @@
+package cz.cuni.mff.java.kurinna.microservice.client;
+
+import cz.cuni.mff.java.kurinna.common.utils.QueryExecutor;
+import feign.RequestInterceptor;
+import feign.RequestTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Adds {@code jfr=false} to the microservice requests sent by a thread inside {@link #withoutJfr}, so the
+ * microservices measure them without JFR collection and respond as soon as the query completes. The load
+ * generators time the requests on the client side and send all of them this way.
+ */
+@Component
+public class JfrRequestInterceptor implements RequestInterceptor {
+    private static final ThreadLocal<Boolean> WITHOUT_JFR = new ThreadLocal<>();
+
+    /**
+     * Sends the requests of the call without JFR collection.
+     *
+     * @param call A lambda sending the requests
+     * @return The result of the call
+     * @throws Exception if the call fails
+     */
+    public static <T> T withoutJfr(Callable<T> call) throws Exception {
+        WITHOUT_JFR.set(true);
+        try {
+            return call.call();
+        } finally {
+            WITHOUT_JFR.remove();
+        }
+    }
+
+    @Override
+    public void apply(RequestTemplate template) {
+        if (Boolean.TRUE.equals(WITHOUT_JFR.get())) {
+            template.query(QueryExecutor.JFR_PARAMETER, "false");
+        }
+    }
+}
@@ -1,11 +1,14 @@
 package cz.cuni.mff.java.kurinna.microservice.client;
 
+import cz.cuni.mff.java.kurinna.common.dto.Measurement;
 import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 
-import java.util.Map;
+import java.math.BigDecimal;
+import java.util.List;
 
 @FeignClient(name = "microservice-mysql-jdbc")
 public interface MicroserviceMysqlJdbcClient {
@@ -14,78 +17,336 @@ public interface MicroserviceMysqlJdbcClient {
     ResponseEntity<String> health();
 
     // A-series queries
-    @GetMapping("/a1")
-    ResponseEntity<Map<String, Object>> getNonIndexedColumns();
+    @GetMapping(value = "/a1", produces = MediaType.APPLICATION_CBOR_VALUE)
+    ResponseEntity<Measurement> getNonIndexedColumns(
+            @RequestParam int warmup,
+            @RequestParam int iterations);
 
-    @GetMapping("/a2")
-    ResponseEntity<Map<String, Object>> getNonIndexedColumnsRangeQuery(
+    @GetMapping(value = "/a2", produces = MediaType.APPLICATION_CBOR_VALUE)
+    ResponseEntity<Measurement> getNonIndexedColumnsRangeQuery(
             @RequestParam(defaultValue = "1996-01-01") String startDate,
-            @RequestParam(defaultValue = "1996-12-31") String endDate);
+            @RequestParam(defaultValue = "1996-12-31") String endDate,
+            @RequestParam int warmup,
+            @RequestParam int iterations);
 
-    @GetMapping("/a3")
-    ResponseEntity<Map<String, Object>> getIndexedColumns();
+    @GetMapping(value = "/a3", produces = MediaType.APPLICATION_CBOR_VALUE)
+    ResponseEntity<Measurement> getIndexedColumns(
+            @RequestParam int warmup,
+            @RequestParam int iterations);
 
-    @GetMapping("/a4")
-    ResponseEntity<Map<String, Object>> getIndexedColumnsRangeQuery(
+    @GetMapping(value = "/a4", produces = MediaType.APPLICATION_CBOR_VALUE)
+    ResponseEntity<Measurement> getIndexedColumnsRangeQuery(
             @RequestParam(defaultValue = "1000") int minOrderKey,
-            @RequestParam(defaultValue = "50000") int maxOrderKey);
+            @RequestParam(defaultValue = "50000") int maxOrderKey,
+            @RequestParam int warmup,
+            @RequestParam int iterations);
 
     // B-series queries
-    @GetMapping("/b1")
-    ResponseEntity<Map<String, Object>> getCount();
+    @GetMapping(value = "/b1", produces = MediaType.APPLICATION_CBOR_VALUE)
+    ResponseEntity<Measurement> getCount(
+            @RequestParam int warmup,
+            @RequestParam int iterations);
 
-    @GetMapping("/b2")
-    ResponseEntity<Map<String, Object>> getMax();
+    @GetMapping(value = "/b2", produces = MediaType.APPLICATION_CBOR_VALUE)
+    ResponseEntity<Measurement> getMax(
+            @RequestParam int warmup,
+            @RequestParam int iterations);
 
     // C-series queries
-    @GetMapping("/c1")
-    ResponseEntity<Map<String, Object>> getJoinNonIndexedColumns();
+    @GetMapping(value = "/c1", produces = MediaType.APPLICATION_CBOR_VALUE)
+    ResponseEntity<Measurement> getJoinNonIndexedColumns(
+            @RequestParam int warmup,
+            @RequestParam int iterations);
 
-    @GetMapping("/c2")
-    ResponseEntity<Map<String, Object>> getJoinIndexedColumns();
+    @GetMapping(value = "/c2", produces = MediaType.APPLICATION_CBOR_VALUE)
+    ResponseEntity<Measurement> getJoinIndexedColumns(
+            @RequestParam int warmup,
+            @RequestParam int iterations);
 
-    @GetMapping("/c3")
-    ResponseEntity<Map<String, Object>> getComplexJoin1();
+    @GetMapping(value = "/c3", produces = MediaType.APPLICATION_CBOR_VALUE)
+    ResponseEntity<Measurement> getComplexJoin1(
+            @RequestParam int warmup,
+            @RequestParam int iterations);
 
-    @GetMapping("/c4")
-    ResponseEntity<Map<String, Object>> getComplexJoin2();
+    @GetMapping(value = "/c4", produces = MediaType.APPLICATION_CBOR_VALUE)
+    ResponseEntity<Measurement> getComplexJoin2(
+            @RequestParam int warmup,
+            @RequestParam int iterations);
 
-    @GetMapping("/c5")
-    ResponseEntity<Map<String, Object>> getLeftOuterJoin();
+    @GetMapping(value = "/c5", produces = MediaType.APPLICATION_CBOR_VALUE)
+    ResponseEntity<Measurement> getLeftOuterJoin(
+            @RequestParam int warmup,
+            @RequestParam int iterations);
 
     // D-series queries
-    @GetMapping("/d1")
-    ResponseEntity<Map<String, Object>> getUnion();
+    @GetMapping(value = "/d1", produces = MediaType.APPLICATION_CBOR_VALUE)
+    ResponseEntity<Measurement> getUnion(
+            @RequestParam int warmup,
+            @RequestParam int iterations);
 
-    @GetMapping("/d2")
-    ResponseEntity<Map<String, Object>> getIntersect();
+    @GetMapping(value = "/d2", produces = MediaType.APPLICATION_CBOR_VALUE)
+    ResponseEntity<Measurement> getIntersect(
+            @RequestParam int warmup,
+            @RequestParam int iterations);
 
-    @GetMapping("/d3")
-    ResponseEntity<Map<String, Object>> getDifference();
+    @GetMapping(value = "/d3", produces = MediaType.APPLICATION_CBOR_VALUE)
+    ResponseEntity<Measurement> getDifference(
+            @RequestParam int warmup,
+            @RequestParam int iterations);
 
     // E-series queries
-    @GetMapping("/e1")
-    ResponseEntity<Map<String, Object>> getNonIndexedColumnsSorting();
+    @GetMapping(value = "/e1", produces = MediaType.APPLICATION_CBOR_VALUE)
+    ResponseEntity<Measurement> getNonIndexedColumnsSorting(
+            @RequestParam int warmup,
+            @RequestParam int iterations);
 
-    @GetMapping("/e2")
-    ResponseEntity<Map<String, Object>> getIndexedColumnsSorting();
+    @GetMapping(value = "/e2", produces = MediaType.APPLICATION_CBOR_VALUE)
+    ResponseEntity<Measurement> getIndexedColumnsSorting(
+            @RequestParam int warmup,
+            @RequestParam int iterations);
 
-    @GetMapping("/e3")
-    ResponseEntity<Map<String, Object>> getDistinct();
+    @GetMapping(value = "/e3", produces = MediaType.APPLICATION_CBOR_VALUE)
+    ResponseEntity<Measurement> getDistinct(
+            @RequestParam int warmup,
+            @RequestParam int iterations);
+
+    // F-series point lookups
+    @GetMapping(value = "/f1", produces = MediaType.APPLICATION_CBOR_VALUE)
+    ResponseEntity<Measurement> getOrderByKey(
+            @RequestParam(defaultValue = "1000") int operations,
+            @RequestParam(defaultValue = "0") long seed,
+            @RequestParam(defaultValue = "1") double scaleFactor,
+            @RequestParam int warmup,
+            @RequestParam int iterations);
+
+    @GetMapping(value = "/f2", produces = MediaType.APPLICATION_CBOR_VALUE)
+    ResponseEntity<Measurement> getCustomerByKey(
+            @RequestParam(defaultValue = "1000") int operations,
+            @RequestParam(defaultValue = "0") long seed,
+            @RequestParam(defaultValue = "1") double scaleFactor,
+            @RequestParam int warmup,
+            @RequestParam int iterations);
+
+    @GetMapping(value = "/f3", produces = MediaType.APPLICATION_CBOR_VALUE)
+    ResponseEntity<Measurement> getLineItemByKey(
+            @RequestParam(defaultValue = "1000") int operations,
+            @RequestParam(defaultValue = "0") long seed,
+            @RequestParam(defaultValue = "1") double scaleFactor,
+            @RequestParam int warmup,
+            @RequestParam int iterations);
+
+    @GetMapping(value = "/f4", produces = MediaType.APPLICATION_CBOR_VALUE)
+    ResponseEntity<Measurement> getPartSuppByKey(
+            @RequestParam(defaultValue = "1000") int operations,
+            @RequestParam(defaultValue = "0") long seed,
+            @RequestParam(defaultValue = "1") double scaleFactor,
+            @RequestParam int warmup,
+            @RequestParam int iterations);
+
+    // G-series pagination
+    @GetMapping(value = "/g1", produces = MediaType.APPLICATION_CBOR_VALUE)
+    ResponseEntity<Measurement> getOrdersPageByOffset(
+            @RequestParam(defaultValue = "100") int pageSize,
+            @RequestParam(defaultValue = "100") int pages,
+            @RequestParam int warmup,
+            @RequestParam int iterations);
+
+    @GetMapping(value = "/g2", produces = MediaType.APPLICATION_CBOR_VALUE)
+    ResponseEntity<Measurement> getOrdersPageByKeyset(
+            @RequestParam(defaultValue = "100") int pageSize,
+            @RequestParam(defaultValue = "100") int pages,
+            @RequestParam int warmup,
+            @RequestParam int iterations);
+
+    @GetMapping(value = "/g3", produces = MediaType.APPLICATION_CBOR_VALUE)
+    ResponseEntity<Measurement> getLineItemsPageByOffset(
+            @RequestParam(defaultValue = "100") int pageSize,
+            @RequestParam(defaultValue = "100") int pages,
+            @RequestParam int warmup,
+            @RequestParam int iterations);
+
+    @GetMapping(value = "/g4", produces = MediaType.APPLICATION_CBOR_VALUE)
+    ResponseEntity<Measurement> getLineItemsPageByKeyset(
+            @RequestParam(defaultValue = "100") int pageSize,
+            @RequestParam(defaultValue = "100") int pages,
+            @RequestParam int warmup,
+            @RequestParam int iterations);
+
+    @GetMapping(value = "/h1", produces = MediaType.APPLICATION_CBOR_VALUE)
+    ResponseEntity<Measurement> getOrdersGraphLazy(
+            @RequestParam(defaultValue = "1995-01-01") String startDate,
+            @RequestParam(defaultValue = "1995-01-07") String endDate,
+            @RequestParam int warmup,
+            @RequestParam int iterations);
+
+    @GetMapping(value = "/h2", produces = MediaType.APPLICATION_CBOR_VALUE)
+    ResponseEntity<Measurement> getOrdersGraphJoinFetch(
+            @RequestParam(defaultValue = "1995-01-01") String startDate,
+            @RequestParam(defaultValue = "1995-01-07") String endDate,
+            @RequestParam int warmup,
+            @RequestParam int iterations);
+
+    @GetMapping(value = "/h3", produces = MediaType.APPLICATION_CBOR_VALUE)
+    ResponseEntity<Measurement> getOrdersGraphBatchFetch(
+            @RequestParam(defaultValue = "1995-01-01") String startDate,
+            @RequestParam(defaultValue = "1995-01-07") String endDate,
+            @RequestParam(defaultValue = "100") int batchSize,
+            @RequestParam int warmup,
+            @RequestParam int iterations);
 
     // Q-series queries
-    @GetMapping("/q1")
-    ResponseEntity<Map<String, Object>> getPricingSummary();
+    @GetMapping(value = "/q1", produces = MediaType.APPLICATION_CBOR_VALUE)
+    ResponseEntity<Measurement> getPricingSummary(
+            @RequestParam(defaultValue = "90") int delta,
+            @RequestParam int warmup,
+            @RequestParam int iterations);
+
+    @GetMapping(value = "/q2", produces = MediaType.APPLICATION_CBOR_VALUE)
+    ResponseEntity<Measurement> getMinimumCostSupplier(
+            @RequestParam(defaultValue = "15") int size,
+            @RequestParam(defaultValue = "BRASS") String type,
+            @RequestParam(defaultValue = "EUROPE") String region,
+            @RequestParam int warmup,
+            @RequestParam int iterations);
+
+    @GetMapping(value = "/q3", produces = MediaType.APPLICATION_CBOR_VALUE)
+    ResponseEntity<Measurement> getShippingPriority(
+            @RequestParam(defaultValue = "BUILDING") String segment,
+            @RequestParam(defaultValue = "1995-03-15") String date,
+            @RequestParam int warmup,
+            @RequestParam int iterations);
+
+    @GetMapping(value = "/q4", produces = MediaType.APPLICATION_CBOR_VALUE)
+    ResponseEntity<Measurement> getOrderPriorityChecking(
+            @RequestParam(defaultValue = "1993-07-01") String orderDate,
+            @RequestParam int warmup,
+            @RequestParam int iterations);
+
+    @GetMapping(value = "/q5", produces = MediaType.APPLICATION_CBOR_VALUE)
+    ResponseEntity<Measurement> getLocalSupplierVolume(
+            @RequestParam(defaultValue = "ASIA") String region,
+            @RequestParam(defaultValue = "1994-01-01") String orderDate,
+            @RequestParam int warmup,
+            @RequestParam int iterations);
+
+    @GetMapping(value = "/q6", produces = MediaType.APPLICATION_CBOR_VALUE)
+    ResponseEntity<Measurement> getForecastingRevenueChange(
+            @RequestParam(defaultValue = "1994-01-01") String shipDate,
+            @RequestParam(defaultValue = "0.06") BigDecimal discount,
+            @RequestParam(defaultValue = "24") int quantity,
+            @RequestParam int warmup,
+            @RequestParam int iterations);
+
+    @GetMapping(value = "/q7", produces = MediaType.APPLICATION_CBOR_VALUE)
+    ResponseEntity<Measurement> getVolumeShipping(
+            @RequestParam(defaultValue = "FRANCE") String nation1,
+            @RequestParam(defaultValue = "GERMANY") String nation2,
+            @RequestParam int warmup,
+            @RequestParam int iterations);
+
+    @GetMapping(value = "/q8", produces = MediaType.APPLICATION_CBOR_VALUE)
+    ResponseEntity<Measurement> getNationalMarketShare(
+            @RequestParam(defaultValue = "BRAZIL") String nation,
+            @RequestParam(defaultValue = "AMERICA") String region,
+            @RequestParam(defaultValue = "ECONOMY ANODIZED STEEL") String type,
+            @RequestParam int warmup,
+            @RequestParam int iterations);
+
+    @GetMapping(value = "/q9", produces = MediaType.APPLICATION_CBOR_VALUE)
+    ResponseEntity<Measurement> getProductTypeProfitMeasure(
+            @RequestParam(defaultValue = "green") String color,
+            @RequestParam int warmup,
+            @RequestParam int iterations);
+
+    @GetMapping(value = "/q10", produces = MediaType.APPLICATION_CBOR_VALUE)
+    ResponseEntity<Measurement> getReturnedItemReporting(
+            @RequestParam(defaultValue = "1993-10-01") String orderDate,
+            @RequestParam int warmup,
+            @RequestParam int iterations);
+
+    @GetMapping(value = "/q11", produces = MediaType.APPLICATION_CBOR_VALUE)
+    ResponseEntity<Measurement> getImportantStockIdentification(
+            @RequestParam(defaultValue = "GERMANY") String nation,
+            @RequestParam(defaultValue = "0.0001") BigDecimal fraction,
+            @RequestParam int warmup,
+            @RequestParam int iterations);
+
+    @GetMapping(value = "/q12", produces = MediaType.APPLICATION_CBOR_VALUE)
+    ResponseEntity<Measurement> getShippingModesAndOrderPriority(
+            @RequestParam(defaultValue = "MAIL") String shipMode1,
+            @RequestParam(defaultValue = "SHIP") String shipMode2,
+            @RequestParam(defaultValue = "1994-01-01") String receiptDate,
+            @RequestParam int warmup,
+            @RequestParam int iterations);
+
+    @GetMapping(value = "/q13", produces = MediaType.APPLICATION_CBOR_VALUE)
+    ResponseEntity<Measurement> getCustomerDistribution(
+            @RequestParam(defaultValue = "special") String word1,
+            @RequestParam(defaultValue = "requests") String word2,
+            @RequestParam int warmup,
+            @RequestParam int iterations);
+
+    @GetMapping(value = "/q14", produces = MediaType.APPLICATION_CBOR_VALUE)
+    ResponseEntity<Measurement> getPromotionEffect(
+            @RequestParam(defaultValue = "1995-09-01") String shipDate,
+            @RequestParam int warmup,
+            @RequestParam int iterations);
+
+    @GetMapping(value = "/q15", produces = MediaType.APPLICATION_CBOR_VALUE)
+    ResponseEntity<Measurement> getTopSupplier(
+            @RequestParam(defaultValue = "1996-01-01") String shipDate,
+            @RequestParam int warmup,
+            @RequestParam int iterations);
+
+    @GetMapping(value = "/q16", produces = MediaType.APPLICATION_CBOR_VALUE)
+    ResponseEntity<Measurement> getPartsSupplierRelationship(
+            @RequestParam(defaultValue = "Brand#45") String brand,
+            @RequestParam(defaultValue = "MEDIUM POLISHED") String type,
+            @RequestParam(defaultValue = "49,14,23,45,19,3,36,9") List<Integer> sizes,
+            @RequestParam int warmup,
+            @RequestParam int iterations);
+
+    @GetMapping(value = "/q17", produces = MediaType.APPLICATION_CBOR_VALUE)
+    ResponseEntity<Measurement> getSmallQuantityOrderRevenue(
+            @RequestParam(defaultValue = "Brand#23") String brand,
+            @RequestParam(defaultValue = "MED BOX") String container,
+            @RequestParam int warmup,
+            @RequestParam int iterations);
+
+    @GetMapping(value = "/q18", produces = MediaType.APPLICATION_CBOR_VALUE)
+    ResponseEntity<Measurement> getLargeVolumeCustomer(
+            @RequestParam(defaultValue = "300") int quantity,
+            @RequestParam int warmup,
+            @RequestParam int iterations);
 
-    @GetMapping("/q2")
-    ResponseEntity<Map<String, Object>> getMinimumCostSupplier();
+    @GetMapping(value = "/q19", produces = MediaType.APPLICATION_CBOR_VALUE)
+    ResponseEntity<Measurement> getDiscountedRevenue(
+            @RequestParam(defaultValue = "Brand#12") String brand1,
+            @RequestParam(defaultValue = "Brand#23") String brand2,
+            @RequestParam(defaultValue = "Brand#34") String brand3,
+            @RequestParam(defaultValue = "1") int quantity1,
+            @RequestParam(defaultValue = "10") int quantity2,
+            @RequestParam(defaultValue = "20") int quantity3,
+            @RequestParam int warmup,
+            @RequestParam int iterations);
 
-    @GetMapping("/q3")
-    ResponseEntity<Map<String, Object>> getShippingPriority();
+    @GetMapping(value = "/q20", produces = MediaType.APPLICATION_CBOR_VALUE)
+    ResponseEntity<Measurement> getPotentialPartPromotion(
+            @RequestParam(defaultValue = "forest") String color,
+            @RequestParam(defaultValue = "1994-01-01") String shipDate,
+            @RequestParam(defaultValue = "CANADA") String nation,
+            @RequestParam int warmup,
+            @RequestParam int iterations);
 
-    @GetMapping("/q4")
-    ResponseEntity<Map<String, Object>> getOrderPriorityChecking();
+    @GetMapping(value = "/q21", produces = MediaType.APPLICATION_CBOR_VALUE)
+    ResponseEntity<Measurement> getSuppliersWhoKeptOrdersWaiting(
+            @RequestParam(defaultValue = "SAUDI ARABIA") String nation,
+            @RequestParam int warmup,
+            @RequestParam int iterations);
 
-    @GetMapping("/q5")
-    ResponseEntity<Map<String, Object>> getLocalSupplierVolume();
+    @GetMapping(value = "/q22", produces = MediaType.APPLICATION_CBOR_VALUE)
+    ResponseEntity<Measurement> getGlobalSalesOpportunity(
+            @RequestParam(defaultValue = "13,31,23,29,30,18,17") List<String> countryCodes,
+            @RequestParam int warmup,
+            @RequestParam int iterations);
 }
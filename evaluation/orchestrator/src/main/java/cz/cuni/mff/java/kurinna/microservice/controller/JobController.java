@@ -0,0 +1,142 @@
+package cz.cuni.mff.java.kurinna.microservice.controller;
+
+import cz.cuni.mff.java.kurinna.microservice.service.BenchmarkJob;
+import cz.cuni.mff.java.kurinna.microservice.service.BenchmarkJobService;
+import cz.cuni.mff.java.kurinna.microservice.service.BenchmarkSettings;
+import cz.cuni.mff.java.kurinna.microservice.service.SuiteSettings;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+
+import static cz.cuni.mff.java.kurinna.microservice.utils.Utils.*;
+
+/**
+ * Asynchronous variant of the {@link OrchestratorController} query endpoints. A run is submitted
+ * as a job, its progress can be polled or streamed and the results are fetched once it finishes.
+ */
+@RestController
+@RequestMapping("/orchestrator/jobs")
+public class JobController {
+    private final BenchmarkJobService jobService;
+
+    public JobController(BenchmarkJobService jobService) {
+        this.jobService = jobService;
+    }
+
+    /**
+     * Submits a run of every selected query on every selected service.
+     *
+     * @param queries     Comma separated queries, defaults to all queries
+     * @param services    Comma separated services, defaults to all services
+     * @param warmup      Unmeasured rounds over the whole matrix, defaults to 1
+     * @param repetitions Measured rounds over the whole matrix, defaults to 3
+     * @param iterations  Measured executions inside the service per request, defaults to 1
+     * @param shuffle     Randomize the order of the cells in every round, defaults to true
+     * @param seed        Seed of the randomized ordering and of the query parameters, fixed if not provided
+     * @param randomize   Draw random query parameters in every round, defaults to false
+     * @param pause       Pause between two requests in milliseconds, defaults to 500
+     * @param tag         Version tag stored with the results
+     */
+    @PostMapping(value = "/suite", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Map<String, Object>> submitSuite(
+            @RequestParam Optional<String> queries,
+            @RequestParam Optional<String> services,
+            @RequestParam Optional<String> warmup,
+            @RequestParam Optional<String> repetitions,
+            @RequestParam Optional<String> iterations,
+            @RequestParam Optional<String> shuffle,
+            @RequestParam Optional<String> seed,
+            @RequestParam Optional<String> randomize,
+            @RequestParam Optional<String> pause,
+            @RequestParam Optional<String> tag) {
+        SuiteSettings settings = new SuiteSettings(
+                parseQueries(queries),
+                parseServices(services),
+                Math.max(parseInteger(warmup, 1), 0),
+                Math.max(parseInteger(repetitions, 3), 1),
+                Math.max(parseInteger(iterations, 1), 1),
+                shuffle.isEmpty() || parseBoolean(shuffle),
+                parseSeed(seed),
+                parseBoolean(randomize),
+                Math.max(parseInteger(pause, 500), 0),
+                tag.orElse(null));
+        try {
+            return ResponseEntity.accepted().body(jobService.submitSuite(settings).toMap());
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(Map.of("status", "error", "error", "Job queue is full"));
+        }
+    }
+
+    @PostMapping(value = "/{query}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Map<String, Object>> submitQuery(
+            @PathVariable String query,
+            @RequestParam Optional<String> repetitions,
+            @RequestParam Optional<String> warmup,
+            @RequestParam Optional<String> iterations,
+            @RequestParam Optional<String> parallel,
+            @RequestParam Optional<String> services,
+            @RequestParam Optional<String> randomize,
+            @RequestParam Optional<String> seed,
+            @RequestParam Optional<String> tag) {
+        BenchmarkSettings settings = parseSettings(repetitions, warmup, iterations, parallel, services, randomize, seed, tag);
+        try {
+            return ResponseEntity.accepted().body(jobService.submitQuery(query, settings).toMap());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("status", "error", "error", e.getMessage()));
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(Map.of("status", "error", "error", "Job queue is full"));
+        }
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<Map<String, Object>>> getJobs() {
+        return ResponseEntity.ok(jobService.getJobs().stream().map(BenchmarkJob::toMap).toList());
+    }
+
+    @GetMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Map<String, Object>> getJob(@PathVariable String id) {
+        return jobService.getJob(id)
+                .map(job -> ResponseEntity.ok(job.toMap()))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Returns the results of a completed job, or its state with status 202 while it is still queued or running.
+     */
+    @GetMapping(value = "/{id}/results", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Map<String, Object>> getJobResults(@PathVariable String id) {
+        return jobService.getJob(id)
+                .map(job -> job.getStatus() == BenchmarkJob.Status.COMPLETED
+                        ? ResponseEntity.ok(job.getResults())
+                        : job.isFinished()
+                                ? ResponseEntity.status(HttpStatus.CONFLICT).body(job.toMap())
+                                : ResponseEntity.accepted().body(job.toMap()))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Streams the progress of a job as server-sent events until it finishes.
+     */
+    @GetMapping(value = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamJob(@PathVariable String id) {
+        return jobService.subscribe(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @DeleteMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Map<String, Object>> cancelJob(@PathVariable String id) {
+        return jobService.cancel(id)
+                .map(job -> ResponseEntity.ok(job.toMap()))
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
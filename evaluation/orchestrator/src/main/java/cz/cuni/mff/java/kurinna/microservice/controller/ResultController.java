@@ -0,0 +1,83 @@
+package cz.cuni.mff.java.kurinna.microservice.controller;
+
+import cz.cuni.mff.java.kurinna.microservice.service.ResultComparisonService;
+import cz.cuni.mff.java.kurinna.microservice.service.ResultStore;
+import cz.cuni.mff.java.kurinna.microservice.service.RunRecord;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static cz.cuni.mff.java.kurinna.microservice.utils.Utils.parseDouble;
+import static cz.cuni.mff.java.kurinna.microservice.utils.Utils.parseInteger;
+
+/**
+ * Access to the stored benchmark results and comparison of runs against a baseline.
+ */
+@RestController
+@RequestMapping("/orchestrator/results")
+public class ResultController {
+    private final ResultStore resultStore;
+    private final ResultComparisonService comparisonService;
+
+    public ResultController(ResultStore resultStore, ResultComparisonService comparisonService) {
+        this.resultStore = resultStore;
+        this.comparisonService = comparisonService;
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<ResultStore.IndexEntry>> getResults(
+            @RequestParam Optional<String> query,
+            @RequestParam Optional<String> service,
+            @RequestParam Optional<String> tag,
+            @RequestParam Optional<String> runId,
+            @RequestParam Optional<String> limit) {
+        return ResponseEntity.ok(resultStore.find(entry -> query.map(entry.query()::equals).orElse(true)
+                && service.map(entry.service()::equals).orElse(true)
+                && tag.map(entry.tag()::equals).orElse(true)
+                && runId.map(entry.runId()::equals).orElse(true),
+                Math.max(parseInteger(limit, 100), 1)));
+    }
+
+    /**
+     * Compares a candidate run against a baseline run. Runs are selected by run id or by tag and must
+     * have drawn their query parameters with the same seed and randomization.
+     *
+     * @param baseline  Run id or tag of the baseline
+     * @param candidate Run id or tag of the candidate
+     * @param query     Optional query to compare
+     * @param service   Optional service to compare
+     * @param alpha     Significance level, defaults to 0.05
+     * @param threshold Minimal relative increase of the median flagged as a regression, defaults to 0.05
+     */
+    @GetMapping(value = "/compare", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Map<String, Object>> compare(
+            @RequestParam String baseline,
+            @RequestParam String candidate,
+            @RequestParam Optional<String> query,
+            @RequestParam Optional<String> service,
+            @RequestParam Optional<String> alpha,
+            @RequestParam Optional<String> threshold) {
+        try {
+            return ResponseEntity.ok(comparisonService.compare(baseline, candidate, query, service,
+                    parseDouble(alpha, 0.05), parseDouble(threshold, 0.05)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("status", "error", "error", e.getMessage()));
+        } catch (IOException e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("status", "error", "error", e.getMessage()));
+        }
+    }
+
+    @GetMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<RunRecord> getResult(@PathVariable String id) throws IOException {
+        return resultStore.get(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,180 @@
+package cz.cuni.mff.java.kurinna.microservice.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A benchmark run submitted to the {@link BenchmarkJobService}. Progress is counted in steps,
+ * one step being a single request of a query to a single service.
+ */
+public class BenchmarkJob {
+    public enum Status {
+        QUEUED, RUNNING, COMPLETED, FAILED, CANCELLED
+    }
+
+    private final String id;
+    private final String type;
+    private final Map<String, Object> parameters;
+    private final int totalSteps;
+    private final Instant submittedAt = Instant.now();
+    private final AtomicInteger completedSteps = new AtomicInteger();
+    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+
+    private volatile Status status = Status.QUEUED;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile Map<String, Object> results;
+    private volatile String error;
+    private volatile Future<?> future;
+
+    BenchmarkJob(String id, String type, Map<String, Object> parameters, int totalSteps) {
+        this.id = id;
+        this.type = type;
+        this.parameters = parameters;
+        this.totalSteps = totalSteps;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public Map<String, Object> getResults() {
+        return results;
+    }
+
+    public Instant getSubmittedAt() {
+        return submittedAt;
+    }
+
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED || status == Status.CANCELLED;
+    }
+
+    /**
+     * Marks one more step of the job as completed and notifies the subscribers.
+     */
+    public void advance() {
+        completedSteps.incrementAndGet();
+        publish("progress");
+    }
+
+    void setFuture(Future<?> future) {
+        this.future = future;
+    }
+
+    void start() {
+        startedAt = Instant.now();
+        status = Status.RUNNING;
+        publish("progress");
+    }
+
+    void complete(Map<String, Object> results) {
+        this.results = results;
+        finish(Status.COMPLETED);
+    }
+
+    void fail(String error) {
+        this.error = error;
+        finish(Status.FAILED);
+    }
+
+    /**
+     * Cancels the job, interrupting it if it is already running.
+     *
+     * @return True if the job was cancelled, false if it had already finished
+     */
+    synchronized boolean cancel() {
+        if (isFinished()) {
+            return false;
+        }
+        if (future != null) {
+            future.cancel(true);
+        }
+        finish(Status.CANCELLED);
+        return true;
+    }
+
+    private synchronized void finish(Status finalStatus) {
+        if (isFinished()) {
+            return;
+        }
+        finishedAt = Instant.now();
+        status = finalStatus;
+        publish("finished");
+        emitters.forEach(SseEmitter::complete);
+        emitters.clear();
+    }
+
+    /**
+     * Registers a subscriber for progress events. If the job has already finished, the final
+     * state is sent right away and the emitter is completed.
+     *
+     * @param emitter The emitter of the subscriber
+     */
+    synchronized void subscribe(SseEmitter emitter) {
+        emitter.onCompletion(() -> emitters.remove(emitter));
+        emitter.onTimeout(() -> emitters.remove(emitter));
+        emitter.onError(e -> emitters.remove(emitter));
+        try {
+            emitter.send(SseEmitter.event().name(isFinished() ? "finished" : "progress").data(toMap()));
+        } catch (IOException e) {
+            emitter.completeWithError(e);
+            return;
+        }
+        if (isFinished()) {
+            emitter.complete();
+        } else {
+            emitters.add(emitter);
+        }
+    }
+
+    private void publish(String event) {
+        if (emitters.isEmpty()) {
+            return;
+        }
+        Map<String, Object> state = toMap();
+        for (SseEmitter emitter : emitters) {
+            try {
+                emitter.send(SseEmitter.event().name(event).data(state));
+            } catch (IOException | IllegalStateException e) {
+                emitters.remove(emitter);
+            }
+        }
+    }
+
+    /**
+     * Helper method to convert the job state into a response map, without the results
+     *
+     * @return A map containing the job id, status, parameters and progress
+     */
+    public Map<String, Object> toMap() {
+        int completed = Math.min(completedSteps.get(), totalSteps);
+        Map<String, Object> state = new LinkedHashMap<>();
+        state.put("id", id);
+        state.put("type", type);
+        state.put("status", status);
+        state.put("parameters", parameters);
+        state.put("completedSteps", completed);
+        state.put("totalSteps", totalSteps);
+        state.put("progress", totalSteps > 0 ? (double) completed / totalSteps : 0.0);
+        state.put("submittedAt", submittedAt.toString());
+        state.put("startedAt", startedAt != null ? startedAt.toString() : null);
+        state.put("finishedAt", finishedAt != null ? finishedAt.toString() : null);
+        if (error != null) {
+            state.put("error", error);
+        }
+        return state;
+    }
+}
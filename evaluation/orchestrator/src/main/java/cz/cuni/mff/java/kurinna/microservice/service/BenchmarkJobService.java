@@ -0,0 +1,196 @@
+package cz.cuni.mff.java.kurinna.microservice.service;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs benchmark jobs in the background on a bounded pool of worker threads. Jobs that do not
+ * fit into the pool wait in a bounded queue, further submissions are rejected.
+ */
+@Service
+public class BenchmarkJobService {
+    private final BenchmarkService benchmarkService;
+    private final SuiteService suiteService;
+    private final QueryCatalog queryCatalog;
+    private final ThreadPoolExecutor executor;
+    private final int retainedJobs;
+    private final Map<String, BenchmarkJob> jobs = new ConcurrentHashMap<>();
+
+    public BenchmarkJobService(BenchmarkService benchmarkService, SuiteService suiteService, QueryCatalog queryCatalog,
+            @Value("${orchestrator.jobs.workers:1}") int workers,
+            @Value("${orchestrator.jobs.queue-capacity:32}") int queueCapacity,
+            @Value("${orchestrator.jobs.retained:100}") int retainedJobs) {
+        this.benchmarkService = benchmarkService;
+        this.suiteService = suiteService;
+        this.queryCatalog = queryCatalog;
+        this.retainedJobs = retainedJobs;
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("benchmark-job-", 1).daemon().factory());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Submits a run of a query on the selected services.
+     *
+     * @param query    The query name, e.g. "q3"
+     * @param settings The settings of the run
+     * @return The queued job
+     * @throws IllegalArgumentException    if the query is unknown
+     * @throws RejectedExecutionException if the job queue is full
+     */
+    public BenchmarkJob submitQuery(String query, BenchmarkSettings settings) {
+        queryCatalog.getQuery(query);
+
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        parameters.put("query", query);
+        parameters.put("repetitions", settings.repetitions());
+        parameters.put("warmup", settings.warmup());
+        parameters.put("iterations", settings.iterations());
+        parameters.put("parallel", settings.parallel());
+        parameters.put("services", settings.services());
+        parameters.put("randomize", settings.randomize());
+        parameters.put("seed", settings.seed());
+        parameters.put("tag", settings.tag());
+
+        int totalSteps = settings.repetitions() * settings.services().size();
+        return submit("query", parameters, totalSteps,
+                job -> benchmarkService.run(query, settings, (service, repetition) -> job.advance()));
+    }
+
+    /**
+     * Submits a run of the selected queries on the selected services.
+     *
+     * @param settings The settings of the suite
+     * @return The queued job
+     * @throws RejectedExecutionException if the job queue is full
+     */
+    public BenchmarkJob submitSuite(SuiteSettings settings) {
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        parameters.put("queries", settings.queries());
+        parameters.put("services", settings.services());
+        parameters.put("warmup", settings.warmupRounds());
+        parameters.put("repetitions", settings.repetitions());
+        parameters.put("iterations", settings.iterations());
+        parameters.put("shuffle", settings.shuffle());
+        parameters.put("seed", settings.seed());
+        parameters.put("randomize", settings.randomize());
+        parameters.put("pause", settings.pauseMillis());
+        parameters.put("tag", settings.tag());
+
+        return submit("suite", parameters, suiteService.countSteps(settings),
+                job -> suiteService.run(settings, job));
+    }
+
+    /**
+     * Submits a job running an arbitrary task.
+     *
+     * @param type       The type of the job, e.g. "query"
+     * @param parameters The parameters of the job reported with its state
+     * @param totalSteps The number of steps the task reports through {@link BenchmarkJob#advance()}
+     * @param task       The task producing the results of the job
+     * @return The queued job
+     * @throws RejectedExecutionException if the job queue is full
+     */
+    public BenchmarkJob submit(String type, Map<String, Object> parameters, int totalSteps, JobTask task) {
+        BenchmarkJob job = new BenchmarkJob(UUID.randomUUID().toString(), type, parameters, totalSteps);
+        evictFinishedJobs();
+        jobs.put(job.getId(), job);
+
+        try {
+            job.setFuture(executor.submit(() -> execute(job, task)));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getId());
+            throw e;
+        }
+        return job;
+    }
+
+    private void execute(BenchmarkJob job, JobTask task) {
+        if (job.isFinished()) {
+            return;
+        }
+        job.start();
+        try {
+            job.complete(task.run(job));
+        } catch (Exception e) {
+            job.fail(e.getMessage());
+        }
+    }
+
+    public Optional<BenchmarkJob> getJob(String id) {
+        return Optional.ofNullable(jobs.get(id));
+    }
+
+    /**
+     * @return All retained jobs, the most recently submitted first
+     */
+    public List<BenchmarkJob> getJobs() {
+        List<BenchmarkJob> list = new ArrayList<>(jobs.values());
+        list.sort(Comparator.comparing(BenchmarkJob::getSubmittedAt).reversed());
+        return list;
+    }
+
+    /**
+     * Cancels a queued or running job.
+     *
+     * @param id The job id
+     * @return The job if it exists
+     */
+    public Optional<BenchmarkJob> cancel(String id) {
+        Optional<BenchmarkJob> job = getJob(id);
+        job.ifPresent(BenchmarkJob::cancel);
+        return job;
+    }
+
+    /**
+     * Subscribes to the progress events of a job.
+     *
+     * @param id The job id
+     * @return The emitter streaming the events if the job exists
+     */
+    public Optional<SseEmitter> subscribe(String id) {
+        return getJob(id).map(job -> {
+            SseEmitter emitter = new SseEmitter(0L);
+            job.subscribe(emitter);
+            return emitter;
+        });
+    }
+
+    private void evictFinishedJobs() {
+        List<BenchmarkJob> finished = jobs.values().stream()
+                .filter(BenchmarkJob::isFinished)
+                .sorted(Comparator.comparing(BenchmarkJob::getSubmittedAt))
+                .toList();
+        for (int i = 0; i < finished.size() - retainedJobs + 1; i++) {
+            jobs.remove(finished.get(i).getId());
+        }
+    }
+
+    /**
+     * Task executed by a job
+     */
+    @FunctionalInterface
+    public interface JobTask {
+        Map<String, Object> run(BenchmarkJob job) throws Exception;
+    }
+}
@@ -0,0 +1,207 @@
+package cz.cuni.mff.java.kurinna.microservice.service;
+
+import cz.cuni.mff.java.kurinna.common.dto.Measurement;
+import cz.cuni.mff.java.kurinna.microservice.utils.Measurements;
+import cz.cuni.mff.java.kurinna.microservice.utils.SampleStatistics;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Runs a query on the selected microservices and aggregates the measurements of every service.
+ * The samples of every service are appended to the {@link ResultStore}. The query parameters of
+ * every repetition are drawn before the run, so all services receive the same parameters.
+ */
+@Service
+public class BenchmarkService {
+    private final QueryCatalog queryCatalog;
+    private final ResultStore resultStore;
+    private final QueryParameterGenerator parameterGenerator;
+
+    public BenchmarkService(QueryCatalog queryCatalog, ResultStore resultStore,
+            QueryParameterGenerator parameterGenerator) {
+        this.queryCatalog = queryCatalog;
+        this.resultStore = resultStore;
+        this.parameterGenerator = parameterGenerator;
+    }
+
+    /**
+     * Runs a query on the selected services.
+     *
+     * @param query    The query name, e.g. "q3"
+     * @param settings The settings of the run
+     * @return A map containing the query info and the results of every service
+     * @throws IllegalArgumentException if the query is unknown
+     */
+    public Map<String, Object> run(String query, BenchmarkSettings settings) {
+        return run(query, settings, (service, repetition) -> {
+        });
+    }
+
+    /**
+     * Runs a query on the selected services and reports every finished repetition.
+     *
+     * @param query    The query name, e.g. "q3"
+     * @param settings The settings of the run
+     * @param listener The listener notified after every repetition, possibly from several threads
+     * @return A map containing the query info and the results of every service
+     * @throws IllegalArgumentException if the query is unknown
+     */
+    public Map<String, Object> run(String query, BenchmarkSettings settings, ProgressListener listener) {
+        QueryCatalog.QueryDefinition definition = queryCatalog.getQuery(query);
+        Map<String, Object> results = createResultsMap(definition.name(), definition.description());
+        String runId = UUID.randomUUID().toString();
+        String tag = resultStore.resolveTag(settings.tag());
+        results.put("runId", runId);
+        results.put("tag", tag);
+
+        QueryParameterGenerator.ParameterStream stream = parameterGenerator.stream(settings.randomize(), settings.seed());
+        List<QueryParameters> parameters = new ArrayList<>();
+        for (int i = 0; i < settings.repetitions(); i++) {
+            parameters.add(stream.next(query));
+        }
+        results.put("randomize", settings.randomize());
+        results.put("seed", settings.seed());
+        results.put("queryParameters", parameters.stream().map(QueryParameters::values).toList());
+
+        Map<String, QueryExecutor> executors = new LinkedHashMap<>();
+        definition.executors().forEach((serviceName, queryExecutor) -> {
+            if (settings.services().contains(serviceName)) {
+                executors.put(serviceName, queryExecutor);
+            }
+        });
+
+        if (!settings.parallel()) {
+            executors.forEach((serviceName, queryExecutor) -> results.put(serviceName,
+                    executeQueryWithTiming(query, serviceName, queryExecutor, settings, parameters, listener, runId, tag)));
+            return results;
+        }
+
+        // Every service runs on its own virtual thread, closing the executor waits for all of them
+        Map<String, Future<Map<String, Object>>> futures = new LinkedHashMap<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            executors.forEach((serviceName, queryExecutor) -> futures.put(serviceName,
+                    executor.submit(() -> executeQueryWithTiming(query, serviceName, queryExecutor, settings, parameters,
+                            listener, runId, tag))));
+        }
+
+        futures.forEach((serviceName, future) -> {
+            try {
+                results.put(serviceName, future.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                results.put(serviceName, Map.of("status", "error", "error", "Interrupted"));
+            } catch (ExecutionException e) {
+                results.put(serviceName, Map.of("status", "error", "error", String.valueOf(e.getCause().getMessage())));
+            }
+        });
+        return results;
+    }
+
+    /**
+     * Helper method to create a results map with query info
+     *
+     * @param queryName   The name of the query
+     * @param description The description of the query
+     * @return A map containing the query info
+     */
+    private Map<String, Object> createResultsMap(String queryName, String description) {
+        Map<String, Object> results = new LinkedHashMap<>();
+        results.put("query", queryName);
+        results.put("description", description);
+        return results;
+    }
+
+    /**
+     * Helper method to execute a query and extract its execution time and memory
+     * usage from the response
+     *
+     * @param query           The query name
+     * @param serviceName     The name of the service executing the query
+     * @param queryExecutor   A lambda that executes the query
+     * @param settings        The settings of the run
+     * @param queryParameters The query parameters of every repetition
+     * @param listener        The listener notified after every repetition
+     * @param runId           The id of the run stored with the results
+     * @param tag             The version tag stored with the results
+     * @return A map containing the results of the service
+     */
+    private Map<String, Object> executeQueryWithTiming(String query, String serviceName, QueryExecutor queryExecutor,
+            BenchmarkSettings settings, List<QueryParameters> queryParameters, ProgressListener listener, String runId,
+            String tag) {
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        parameters.put("repetitions", settings.repetitions());
+        parameters.put("warmup", settings.warmup());
+        parameters.put("iterations", settings.iterations());
+        parameters.put("parallel", settings.parallel());
+        parameters.put("randomize", settings.randomize());
+        parameters.put("seed", settings.seed());
+
+        Map<String, Object> serviceResults = new LinkedHashMap<>();
+        Measurements measurements = new Measurements();
+        List<Measurement> iterationResultsList = new ArrayList<>();
+
+        for (int i = 0; i < settings.repetitions(); i++) {
+            if (Thread.currentThread().isInterrupted()) {
+                serviceResults.put("status", "error");
+                serviceResults.put("error", "Interrupted");
+                break;
+            }
+            try {
+                Measurement response = queryExecutor.execute(queryParameters.get(i), settings.warmup(),
+                        settings.iterations());
+                measurements.record(response);
+                if (response.delta() == null) {
+                    serviceResults.put("delta", 0.0);
+                }
+
+                serviceResults.put("status", response.status() != null ? response.status() : "success");
+                iterationResultsList.add(response);
+            } catch (Exception e) {
+                serviceResults.put("status", "error");
+                serviceResults.put("error", e.getMessage());
+            }
+            listener.onRepetition(serviceName, i + 1);
+        }
+
+        serviceResults.put("repetition", settings.repetitions());
+        serviceResults.put("warmup", settings.warmup());
+        serviceResults.put("iterations", settings.iterations());
+
+        SampleStatistics executionTime = measurements.getExecutionTime();
+        SampleStatistics memoryUsage = measurements.getMemoryUsage();
+        serviceResults.put("averageExecutionTime", executionTime.getMean());
+        serviceResults.put("averageMemoryUsage", memoryUsage.getMean());
+
+        serviceResults.put("maxExecutionTime", executionTime.getMax());
+        serviceResults.put("minExecutionTime", executionTime.getMin());
+        serviceResults.put("maxMemoryUsage", memoryUsage.getMax());
+        serviceResults.put("minMemoryUsage", memoryUsage.getMin());
+        serviceResults.put("executionTimeStatistics", executionTime.toMap());
+        serviceResults.put("memoryUsageStatistics", memoryUsage.toMap());
+        serviceResults.put("iterationResults", iterationResultsList);
+
+        resultStore.append(new RunRecord(UUID.randomUUID().toString(), runId, Instant.now().toString(), tag, "query",
+                query, serviceName, parameters, measurements.getExecutionTimeSamples(),
+                measurements.getMemoryUsageSamples(), measurements.getRequestExecutionTimes(),
+                measurements.getRequestMemoryUsages()));
+        return serviceResults;
+    }
+
+    /**
+     * Listener notified after every finished repetition of a service
+     */
+    @FunctionalInterface
+    public interface ProgressListener {
+        void onRepetition(String service, int repetition);
+    }
+}
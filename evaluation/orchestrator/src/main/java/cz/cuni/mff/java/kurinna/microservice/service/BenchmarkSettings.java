@@ -0,0 +1,20 @@
+package cz.cuni.mff.java.kurinna.microservice.service;
+
+import java.util.Set;
+
+/**
+ * Settings of a benchmark run of one query.
+ *
+ * @param repetitions The number of times the query is requested from every service
+ * @param warmup      The number of unmeasured executions inside the service per repetition
+ * @param iterations  The number of measured executions inside the service per repetition
+ * @param parallel    Whether the services are queried concurrently instead of one after another
+ * @param services    The services to query
+ * @param randomize   Whether the query parameters are drawn randomly for every repetition instead of
+ *                    using the parameters of the TPC-H validation run
+ * @param seed        The seed of the drawn query parameters
+ * @param tag         The version tag stored with the results, the configured default if null
+ */
+public record BenchmarkSettings(int repetitions, int warmup, int iterations, boolean parallel,
+        Set<String> services, boolean randomize, long seed, String tag) {
+}
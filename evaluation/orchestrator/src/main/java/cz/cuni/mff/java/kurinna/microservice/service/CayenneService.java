@@ -1,10 +1,9 @@
 package cz.cuni.mff.java.kurinna.microservice.service;
 
+import cz.cuni.mff.java.kurinna.common.dto.Measurement;
 import cz.cuni.mff.java.kurinna.microservice.client.MicroserviceMysqlCayenneClient;
 import org.springframework.stereotype.Service;
 
-import java.util.Map;
-
 @Service
 public class CayenneService {
     private final MicroserviceMysqlCayenneClient cayenneClient;
@@ -19,186 +18,438 @@ public class CayenneService {
     }
 
     // get pricing summary
-    public Map<String, Object> getPricingSummary() {
-        Map<String, Object> response = cayenneClient.getPricingSummary().getBody();
-        if (response == null || response.isEmpty()) {
+    public Measurement getPricingSummary(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = cayenneClient.getPricingSummary(parameters.get("delta"), warmup, iterations).getBody();
+        if (response == null) {
             throw new RuntimeException("No data found");
         }
         return response;
     }
 
     // get minimum cost supplier
-    public Map<String, Object> getMinimumCostSupplier() {
-        Map<String, Object> response = cayenneClient.getMinimumCostSupplier().getBody();
-        if (response == null || response.isEmpty()) {
+    public Measurement getMinimumCostSupplier(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = cayenneClient.getMinimumCostSupplier(parameters.get("size"), parameters.get("type"), parameters.get("region"), warmup, iterations).getBody();
+        if (response == null) {
             throw new RuntimeException("No data found");
         }
         return response;
     }
 
     // get shipping priority
-    public Map<String, Object> getShippingPriority() {
-        Map<String, Object> response = cayenneClient.getShippingPriority().getBody();
-        if (response == null || response.isEmpty()) {
+    public Measurement getShippingPriority(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = cayenneClient.getShippingPriority(parameters.get("segment"), parameters.get("date"), warmup, iterations).getBody();
+        if (response == null) {
             throw new RuntimeException("No data found");
         }
         return response;
     }
 
     // get order priority checking
-    public Map<String, Object> getOrderPriorityChecking() {
-        Map<String, Object> response = cayenneClient.getOrderPriorityChecking().getBody();
-        if (response == null || response.isEmpty()) {
+    public Measurement getOrderPriorityChecking(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = cayenneClient.getOrderPriorityChecking(parameters.get("orderDate"), warmup, iterations).getBody();
+        if (response == null) {
             throw new RuntimeException("No data found");
         }
         return response;
     }
 
     // get local supplier volume
-    public Map<String, Object> getLocalSupplierVolume() {
-        Map<String, Object> response = cayenneClient.getLocalSupplierVolume().getBody();
-        if (response == null || response.isEmpty()) {
+    public Measurement getLocalSupplierVolume(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = cayenneClient.getLocalSupplierVolume(parameters.get("region"), parameters.get("orderDate"), warmup, iterations).getBody();
+        if (response == null) {
+            throw new RuntimeException("No data found");
+        }
+        return response;
+    }
+
+    // get forecasting revenue change
+    public Measurement getForecastingRevenueChange(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = cayenneClient.getForecastingRevenueChange(parameters.get("shipDate"), parameters.get("discount"), parameters.get("quantity"), warmup, iterations).getBody();
+        if (response == null) {
+            throw new RuntimeException("No data found");
+        }
+        return response;
+    }
+
+    // get volume shipping
+    public Measurement getVolumeShipping(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = cayenneClient.getVolumeShipping(parameters.get("nation1"), parameters.get("nation2"), warmup, iterations).getBody();
+        if (response == null) {
+            throw new RuntimeException("No data found");
+        }
+        return response;
+    }
+
+    // get national market share
+    public Measurement getNationalMarketShare(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = cayenneClient.getNationalMarketShare(parameters.get("nation"), parameters.get("region"), parameters.get("type"), warmup, iterations).getBody();
+        if (response == null) {
+            throw new RuntimeException("No data found");
+        }
+        return response;
+    }
+
+    // get product type profit measure
+    public Measurement getProductTypeProfitMeasure(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = cayenneClient.getProductTypeProfitMeasure(parameters.get("color"), warmup, iterations).getBody();
+        if (response == null) {
+            throw new RuntimeException("No data found");
+        }
+        return response;
+    }
+
+    // get returned item reporting
+    public Measurement getReturnedItemReporting(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = cayenneClient.getReturnedItemReporting(parameters.get("orderDate"), warmup, iterations).getBody();
+        if (response == null) {
+            throw new RuntimeException("No data found");
+        }
+        return response;
+    }
+
+    // get important stock identification
+    public Measurement getImportantStockIdentification(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = cayenneClient.getImportantStockIdentification(parameters.get("nation"), parameters.get("fraction"), warmup, iterations).getBody();
+        if (response == null) {
+            throw new RuntimeException("No data found");
+        }
+        return response;
+    }
+
+    // get shipping modes and order priority
+    public Measurement getShippingModesAndOrderPriority(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = cayenneClient.getShippingModesAndOrderPriority(parameters.get("shipMode1"), parameters.get("shipMode2"), parameters.get("receiptDate"), warmup, iterations).getBody();
+        if (response == null) {
+            throw new RuntimeException("No data found");
+        }
+        return response;
+    }
+
+    // get customer distribution
+    public Measurement getCustomerDistribution(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = cayenneClient.getCustomerDistribution(parameters.get("word1"), parameters.get("word2"), warmup, iterations).getBody();
+        if (response == null) {
+            throw new RuntimeException("No data found");
+        }
+        return response;
+    }
+
+    // get promotion effect
+    public Measurement getPromotionEffect(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = cayenneClient.getPromotionEffect(parameters.get("shipDate"), warmup, iterations).getBody();
+        if (response == null) {
+            throw new RuntimeException("No data found");
+        }
+        return response;
+    }
+
+    // get top supplier
+    public Measurement getTopSupplier(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = cayenneClient.getTopSupplier(parameters.get("shipDate"), warmup, iterations).getBody();
+        if (response == null) {
+            throw new RuntimeException("No data found");
+        }
+        return response;
+    }
+
+    // get parts supplier relationship
+    public Measurement getPartsSupplierRelationship(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = cayenneClient.getPartsSupplierRelationship(parameters.get("brand"), parameters.get("type"), parameters.get("sizes"), warmup, iterations).getBody();
+        if (response == null) {
+            throw new RuntimeException("No data found");
+        }
+        return response;
+    }
+
+    // get small quantity order revenue
+    public Measurement getSmallQuantityOrderRevenue(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = cayenneClient.getSmallQuantityOrderRevenue(parameters.get("brand"), parameters.get("container"), warmup, iterations).getBody();
+        if (response == null) {
+            throw new RuntimeException("No data found");
+        }
+        return response;
+    }
+
+    // get large volume customer
+    public Measurement getLargeVolumeCustomer(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = cayenneClient.getLargeVolumeCustomer(parameters.get("quantity"), warmup, iterations).getBody();
+        if (response == null) {
+            throw new RuntimeException("No data found");
+        }
+        return response;
+    }
+
+    // get discounted revenue
+    public Measurement getDiscountedRevenue(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = cayenneClient.getDiscountedRevenue(parameters.get("brand1"), parameters.get("brand2"), parameters.get("brand3"), parameters.get("quantity1"), parameters.get("quantity2"), parameters.get("quantity3"), warmup, iterations).getBody();
+        if (response == null) {
+            throw new RuntimeException("No data found");
+        }
+        return response;
+    }
+
+    // get potential part promotion
+    public Measurement getPotentialPartPromotion(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = cayenneClient.getPotentialPartPromotion(parameters.get("color"), parameters.get("shipDate"), parameters.get("nation"), warmup, iterations).getBody();
+        if (response == null) {
+            throw new RuntimeException("No data found");
+        }
+        return response;
+    }
+
+    // get suppliers who kept orders waiting
+    public Measurement getSuppliersWhoKeptOrdersWaiting(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = cayenneClient.getSuppliersWhoKeptOrdersWaiting(parameters.get("nation"), warmup, iterations).getBody();
+        if (response == null) {
+            throw new RuntimeException("No data found");
+        }
+        return response;
+    }
+
+    // get global sales opportunity
+    public Measurement getGlobalSalesOpportunity(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = cayenneClient.getGlobalSalesOpportunity(parameters.get("countryCodes"), warmup, iterations).getBody();
+        if (response == null) {
             throw new RuntimeException("No data found");
         }
         return response;
     }
 
     // A) Selection, Projection, Source (of data)
-    public Map<String, Object> executeQueryA1() {
-        Map<String, Object> response = cayenneClient.getNonIndexedColumns().getBody();
-        if (response == null || response.isEmpty()) {
+    public Measurement executeQueryA1(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = cayenneClient.getNonIndexedColumns(warmup, iterations).getBody();
+        if (response == null) {
             throw new RuntimeException("No data found");
         }
         return response;
     }
 
-    public Map<String, Object> executeQueryA2() {
-        Map<String, Object> response = cayenneClient.getNonIndexedColumnsRangeQuery("1996-01-01", "1996-12-31").getBody();
-        if (response == null || response.isEmpty()) {
+    public Measurement executeQueryA2(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = cayenneClient.getNonIndexedColumnsRangeQuery(parameters.get("startDate"), parameters.get("endDate"), warmup, iterations).getBody();
+        if (response == null) {
             throw new RuntimeException("No data found");
         }
         return response;
     }
 
-    public Map<String, Object> executeQueryA3() {
-        Map<String, Object> response = cayenneClient.getIndexedColumns().getBody();
-        if (response == null || response.isEmpty()) {
+    public Measurement executeQueryA3(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = cayenneClient.getIndexedColumns(warmup, iterations).getBody();
+        if (response == null) {
             throw new RuntimeException("No data found");
         }
         return response;
     }
 
-    public Map<String, Object> executeQueryA4() {
-        Map<String, Object> response = cayenneClient.getIndexedColumnsRangeQuery(1000, 50000).getBody();
-        if (response == null || response.isEmpty()) {
+    public Measurement executeQueryA4(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = cayenneClient.getIndexedColumnsRangeQuery(parameters.get("minOrderKey"), parameters.get("maxOrderKey"), warmup, iterations).getBody();
+        if (response == null) {
             throw new RuntimeException("No data found");
         }
         return response;
     }
 
     // B) Aggregation
-    public Map<String, Object> executeQueryB1() {
-        Map<String, Object> response = cayenneClient.getCount().getBody();
-        if (response == null || response.isEmpty()) {
+    public Measurement executeQueryB1(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = cayenneClient.getCount(warmup, iterations).getBody();
+        if (response == null) {
             throw new RuntimeException("No data found");
         }
         return response;
     }
 
-    public Map<String, Object> executeQueryB2() {
-        Map<String, Object> response = cayenneClient.getMax().getBody();
-        if (response == null || response.isEmpty()) {
+    public Measurement executeQueryB2(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = cayenneClient.getMax(warmup, iterations).getBody();
+        if (response == null) {
             throw new RuntimeException("No data found");
         }
         return response;
     }
 
     // C) Joins
-    public Map<String, Object> executeQueryC1() {
-        Map<String, Object> response = cayenneClient.getJoinNonIndexedColumns().getBody();
-        if (response == null || response.isEmpty()) {
+    public Measurement executeQueryC1(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = cayenneClient.getJoinNonIndexedColumns(warmup, iterations).getBody();
+        if (response == null) {
             throw new RuntimeException("No data found");
         }
         return response;
     }
 
-    public Map<String, Object> executeQueryC2() {
-        Map<String, Object> response = cayenneClient.getJoinIndexedColumns().getBody();
-        if (response == null || response.isEmpty()) {
+    public Measurement executeQueryC2(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = cayenneClient.getJoinIndexedColumns(warmup, iterations).getBody();
+        if (response == null) {
             throw new RuntimeException("No data found");
         }
         return response;
     }
 
-    public Map<String, Object> executeQueryC3() {
-        Map<String, Object> response = cayenneClient.getComplexJoin1().getBody();
-        if (response == null || response.isEmpty()) {
+    public Measurement executeQueryC3(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = cayenneClient.getComplexJoin1(warmup, iterations).getBody();
+        if (response == null) {
             throw new RuntimeException("No data found");
         }
         return response;
     }
 
-    public Map<String, Object> executeQueryC4() {
-        Map<String, Object> response = cayenneClient.getComplexJoin2().getBody();
-        if (response == null || response.isEmpty()) {
+    public Measurement executeQueryC4(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = cayenneClient.getComplexJoin2(warmup, iterations).getBody();
+        if (response == null) {
             throw new RuntimeException("No data found");
         }
         return response;
     }
 
-    public Map<String, Object> executeQueryC5() {
-        Map<String, Object> response = cayenneClient.getLeftOuterJoin().getBody();
-        if (response == null || response.isEmpty()) {
+    public Measurement executeQueryC5(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = cayenneClient.getLeftOuterJoin(warmup, iterations).getBody();
+        if (response == null) {
             throw new RuntimeException("No data found");
         }
         return response;
     }
 
     // D) Set operations
-    public Map<String, Object> executeQueryD1() {
-        Map<String, Object> response = cayenneClient.getUnion().getBody();
-        if (response == null || response.isEmpty()) {
+    public Measurement executeQueryD1(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = cayenneClient.getUnion(warmup, iterations).getBody();
+        if (response == null) {
             throw new RuntimeException("No data found");
         }
         return response;
     }
 
-    public Map<String, Object> executeQueryD2() {
-        Map<String, Object> response = cayenneClient.getIntersect().getBody();
-        if (response == null || response.isEmpty()) {
+    public Measurement executeQueryD2(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = cayenneClient.getIntersect(warmup, iterations).getBody();
+        if (response == null) {
             throw new RuntimeException("No data found");
         }
         return response;
     }
 
-    public Map<String, Object> executeQueryD3() {
-        Map<String, Object> response = cayenneClient.getDifference().getBody();
-        if (response == null || response.isEmpty()) {
+    public Measurement executeQueryD3(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = cayenneClient.getDifference(warmup, iterations).getBody();
+        if (response == null) {
             throw new RuntimeException("No data found");
         }
         return response;
     }
 
     // E) Result Modification
-    public Map<String, Object> executeQueryE1() {
-        Map<String, Object> response = cayenneClient.getNonIndexedColumnsSorting().getBody();
-        if (response == null || response.isEmpty()) {
+    public Measurement executeQueryE1(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = cayenneClient.getNonIndexedColumnsSorting(warmup, iterations).getBody();
+        if (response == null) {
+            throw new RuntimeException("No data found");
+        }
+        return response;
+    }
+
+    public Measurement executeQueryE2(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = cayenneClient.getIndexedColumnsSorting(warmup, iterations).getBody();
+        if (response == null) {
+            throw new RuntimeException("No data found");
+        }
+        return response;
+    }
+
+    public Measurement executeQueryE3(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = cayenneClient.getDistinct(warmup, iterations).getBody();
+        if (response == null) {
+            throw new RuntimeException("No data found");
+        }
+        return response;
+    }
+
+    public Measurement executeQueryF1(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = cayenneClient.getOrderByKey(parameters.get("operations"), parameters.get("seed"),
+                parameters.get("scaleFactor"), warmup, iterations).getBody();
+        if (response == null) {
+            throw new RuntimeException("No data found");
+        }
+        return response;
+    }
+
+    public Measurement executeQueryF2(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = cayenneClient.getCustomerByKey(parameters.get("operations"), parameters.get("seed"),
+                parameters.get("scaleFactor"), warmup, iterations).getBody();
+        if (response == null) {
+            throw new RuntimeException("No data found");
+        }
+        return response;
+    }
+
+    public Measurement executeQueryF3(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = cayenneClient.getLineItemByKey(parameters.get("operations"), parameters.get("seed"),
+                parameters.get("scaleFactor"), warmup, iterations).getBody();
+        if (response == null) {
+            throw new RuntimeException("No data found");
+        }
+        return response;
+    }
+
+    public Measurement executeQueryF4(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = cayenneClient.getPartSuppByKey(parameters.get("operations"), parameters.get("seed"),
+                parameters.get("scaleFactor"), warmup, iterations).getBody();
+        if (response == null) {
+            throw new RuntimeException("No data found");
+        }
+        return response;
+    }
+
+    public Measurement executeQueryG1(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = cayenneClient.getOrdersPageByOffset(parameters.get("pageSize"), parameters.get("pages"), warmup,
+                iterations).getBody();
+        if (response == null) {
+            throw new RuntimeException("No data found");
+        }
+        return response;
+    }
+
+    public Measurement executeQueryG2(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = cayenneClient.getOrdersPageByKeyset(parameters.get("pageSize"), parameters.get("pages"), warmup,
+                iterations).getBody();
+        if (response == null) {
+            throw new RuntimeException("No data found");
+        }
+        return response;
+    }
+
+    public Measurement executeQueryG3(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = cayenneClient.getLineItemsPageByOffset(parameters.get("pageSize"), parameters.get("pages"), warmup,
+                iterations).getBody();
+        if (response == null) {
+            throw new RuntimeException("No data found");
+        }
+        return response;
+    }
+
+    public Measurement executeQueryG4(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = cayenneClient.getLineItemsPageByKeyset(parameters.get("pageSize"), parameters.get("pages"), warmup,
+                iterations).getBody();
+        if (response == null) {
+            throw new RuntimeException("No data found");
+        }
+        return response;
+    }
+
+    public Measurement executeQueryH1(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = cayenneClient.getOrdersGraphLazy(parameters.get("startDate"), parameters.get("endDate"), warmup,
+                iterations).getBody();
+        if (response == null) {
             throw new RuntimeException("No data found");
         }
         return response;
     }
 
-    public Map<String, Object> executeQueryE2() {
-        Map<String, Object> response = cayenneClient.getIndexedColumnsSorting().getBody();
-        if (response == null || response.isEmpty()) {
+    public Measurement executeQueryH2(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = cayenneClient.getOrdersGraphJoinFetch(parameters.get("startDate"), parameters.get("endDate"), warmup,
+                iterations).getBody();
+        if (response == null) {
             throw new RuntimeException("No data found");
         }
         return response;
     }
 
-    public Map<String, Object> executeQueryE3() {
-        Map<String, Object> response = cayenneClient.getDistinct().getBody();
-        if (response == null || response.isEmpty()) {
+    public Measurement executeQueryH3(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = cayenneClient.getOrdersGraphBatchFetch(parameters.get("startDate"), parameters.get("endDate"),
+                parameters.get("batchSize"), warmup, iterations).getBody();
+        if (response == null) {
             throw new RuntimeException("No data found");
         }
         return response;
@@ -1,10 +1,9 @@
 package cz.cuni.mff.java.kurinna.microservice.service;
 
+import cz.cuni.mff.java.kurinna.common.dto.Measurement;
 import cz.cuni.mff.java.kurinna.microservice.client.MicroserviceMysqlJdbcClient;
 import org.springframework.stereotype.Service;
 
-import java.util.Map;
-
 @Service
 public class JdbcService {
     private final MicroserviceMysqlJdbcClient jdbcClient;
@@ -19,186 +18,438 @@ public class JdbcService {
     }
 
     // get pricing summary
-    public Map<String, Object> getPricingSummary() {
-        Map<String, Object> response = jdbcClient.getPricingSummary().getBody();
-        if (response == null || response.isEmpty()) {
+    public Measurement getPricingSummary(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jdbcClient.getPricingSummary(parameters.get("delta"), warmup, iterations).getBody();
+        if (response == null) {
             throw new RuntimeException("No data found");
         }
         return response;
     }
 
     // get minimum cost supplier
-    public Map<String, Object> getMinimumCostSupplier() {
-        Map<String, Object> response = jdbcClient.getMinimumCostSupplier().getBody();
-        if (response == null || response.isEmpty()) {
+    public Measurement getMinimumCostSupplier(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jdbcClient.getMinimumCostSupplier(parameters.get("size"), parameters.get("type"), parameters.get("region"), warmup, iterations).getBody();
+        if (response == null) {
             throw new RuntimeException("No data found");
         }
         return response;
     }
 
     // get shipping priority
-    public Map<String, Object> getShippingPriority() {
-        Map<String, Object> response = jdbcClient.getShippingPriority().getBody();
-        if (response == null || response.isEmpty()) {
+    public Measurement getShippingPriority(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jdbcClient.getShippingPriority(parameters.get("segment"), parameters.get("date"), warmup, iterations).getBody();
+        if (response == null) {
             throw new RuntimeException("No data found");
         }
         return response;
     }
 
     // get order priority checking
-    public Map<String, Object> getOrderPriorityChecking() {
-        Map<String, Object> response = jdbcClient.getOrderPriorityChecking().getBody();
-        if (response == null || response.isEmpty()) {
+    public Measurement getOrderPriorityChecking(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jdbcClient.getOrderPriorityChecking(parameters.get("orderDate"), warmup, iterations).getBody();
+        if (response == null) {
             throw new RuntimeException("No data found");
         }
         return response;
     }
 
     // get local supplier volume
-    public Map<String, Object> getLocalSupplierVolume() {
-        Map<String, Object> response = jdbcClient.getLocalSupplierVolume().getBody();
-        if (response == null || response.isEmpty()) {
+    public Measurement getLocalSupplierVolume(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jdbcClient.getLocalSupplierVolume(parameters.get("region"), parameters.get("orderDate"), warmup, iterations).getBody();
+        if (response == null) {
+            throw new RuntimeException("No data found");
+        }
+        return response;
+    }
+
+    // get forecasting revenue change
+    public Measurement getForecastingRevenueChange(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jdbcClient.getForecastingRevenueChange(parameters.get("shipDate"), parameters.get("discount"), parameters.get("quantity"), warmup, iterations).getBody();
+        if (response == null) {
+            throw new RuntimeException("No data found");
+        }
+        return response;
+    }
+
+    // get volume shipping
+    public Measurement getVolumeShipping(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jdbcClient.getVolumeShipping(parameters.get("nation1"), parameters.get("nation2"), warmup, iterations).getBody();
+        if (response == null) {
+            throw new RuntimeException("No data found");
+        }
+        return response;
+    }
+
+    // get national market share
+    public Measurement getNationalMarketShare(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jdbcClient.getNationalMarketShare(parameters.get("nation"), parameters.get("region"), parameters.get("type"), warmup, iterations).getBody();
+        if (response == null) {
+            throw new RuntimeException("No data found");
+        }
+        return response;
+    }
+
+    // get product type profit measure
+    public Measurement getProductTypeProfitMeasure(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jdbcClient.getProductTypeProfitMeasure(parameters.get("color"), warmup, iterations).getBody();
+        if (response == null) {
+            throw new RuntimeException("No data found");
+        }
+        return response;
+    }
+
+    // get returned item reporting
+    public Measurement getReturnedItemReporting(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jdbcClient.getReturnedItemReporting(parameters.get("orderDate"), warmup, iterations).getBody();
+        if (response == null) {
+            throw new RuntimeException("No data found");
+        }
+        return response;
+    }
+
+    // get important stock identification
+    public Measurement getImportantStockIdentification(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jdbcClient.getImportantStockIdentification(parameters.get("nation"), parameters.get("fraction"), warmup, iterations).getBody();
+        if (response == null) {
+            throw new RuntimeException("No data found");
+        }
+        return response;
+    }
+
+    // get shipping modes and order priority
+    public Measurement getShippingModesAndOrderPriority(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jdbcClient.getShippingModesAndOrderPriority(parameters.get("shipMode1"), parameters.get("shipMode2"), parameters.get("receiptDate"), warmup, iterations).getBody();
+        if (response == null) {
+            throw new RuntimeException("No data found");
+        }
+        return response;
+    }
+
+    // get customer distribution
+    public Measurement getCustomerDistribution(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jdbcClient.getCustomerDistribution(parameters.get("word1"), parameters.get("word2"), warmup, iterations).getBody();
+        if (response == null) {
+            throw new RuntimeException("No data found");
+        }
+        return response;
+    }
+
+    // get promotion effect
+    public Measurement getPromotionEffect(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jdbcClient.getPromotionEffect(parameters.get("shipDate"), warmup, iterations).getBody();
+        if (response == null) {
+            throw new RuntimeException("No data found");
+        }
+        return response;
+    }
+
+    // get top supplier
+    public Measurement getTopSupplier(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jdbcClient.getTopSupplier(parameters.get("shipDate"), warmup, iterations).getBody();
+        if (response == null) {
+            throw new RuntimeException("No data found");
+        }
+        return response;
+    }
+
+    // get parts supplier relationship
+    public Measurement getPartsSupplierRelationship(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jdbcClient.getPartsSupplierRelationship(parameters.get("brand"), parameters.get("type"), parameters.get("sizes"), warmup, iterations).getBody();
+        if (response == null) {
+            throw new RuntimeException("No data found");
+        }
+        return response;
+    }
+
+    // get small quantity order revenue
+    public Measurement getSmallQuantityOrderRevenue(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jdbcClient.getSmallQuantityOrderRevenue(parameters.get("brand"), parameters.get("container"), warmup, iterations).getBody();
+        if (response == null) {
+            throw new RuntimeException("No data found");
+        }
+        return response;
+    }
+
+    // get large volume customer
+    public Measurement getLargeVolumeCustomer(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jdbcClient.getLargeVolumeCustomer(parameters.get("quantity"), warmup, iterations).getBody();
+        if (response == null) {
+            throw new RuntimeException("No data found");
+        }
+        return response;
+    }
+
+    // get discounted revenue
+    public Measurement getDiscountedRevenue(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jdbcClient.getDiscountedRevenue(parameters.get("brand1"), parameters.get("brand2"), parameters.get("brand3"), parameters.get("quantity1"), parameters.get("quantity2"), parameters.get("quantity3"), warmup, iterations).getBody();
+        if (response == null) {
+            throw new RuntimeException("No data found");
+        }
+        return response;
+    }
+
+    // get potential part promotion
+    public Measurement getPotentialPartPromotion(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jdbcClient.getPotentialPartPromotion(parameters.get("color"), parameters.get("shipDate"), parameters.get("nation"), warmup, iterations).getBody();
+        if (response == null) {
+            throw new RuntimeException("No data found");
+        }
+        return response;
+    }
+
+    // get suppliers who kept orders waiting
+    public Measurement getSuppliersWhoKeptOrdersWaiting(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jdbcClient.getSuppliersWhoKeptOrdersWaiting(parameters.get("nation"), warmup, iterations).getBody();
+        if (response == null) {
+            throw new RuntimeException("No data found");
+        }
+        return response;
+    }
+
+    // get global sales opportunity
+    public Measurement getGlobalSalesOpportunity(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jdbcClient.getGlobalSalesOpportunity(parameters.get("countryCodes"), warmup, iterations).getBody();
+        if (response == null) {
             throw new RuntimeException("No data found");
         }
         return response;
     }
 
     // A) Selection, Projection, Source (of data)
-    public Map<String, Object> executeQueryA1() {
-        Map<String, Object> response = jdbcClient.getNonIndexedColumns().getBody();
-        if (response == null || response.isEmpty()) {
+    public Measurement executeQueryA1(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jdbcClient.getNonIndexedColumns(warmup, iterations).getBody();
+        if (response == null) {
             throw new RuntimeException("No data found");
         }
         return response;
     }
 
-    public Map<String, Object> executeQueryA2() {
-        Map<String, Object> response = jdbcClient.getNonIndexedColumnsRangeQuery("1996-01-01", "1996-12-31").getBody();
-        if (response == null || response.isEmpty()) {
+    public Measurement executeQueryA2(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jdbcClient.getNonIndexedColumnsRangeQuery(parameters.get("startDate"), parameters.get("endDate"), warmup, iterations).getBody();
+        if (response == null) {
             throw new RuntimeException("No data found");
         }
         return response;
     }
 
-    public Map<String, Object> executeQueryA3() {
-        Map<String, Object> response = jdbcClient.getIndexedColumns().getBody();
-        if (response == null || response.isEmpty()) {
+    public Measurement executeQueryA3(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jdbcClient.getIndexedColumns(warmup, iterations).getBody();
+        if (response == null) {
             throw new RuntimeException("No data found");
         }
         return response;
     }
 
-    public Map<String, Object> executeQueryA4() {
-        Map<String, Object> response = jdbcClient.getIndexedColumnsRangeQuery(1000, 50000).getBody();
-        if (response == null || response.isEmpty()) {
+    public Measurement executeQueryA4(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jdbcClient.getIndexedColumnsRangeQuery(parameters.get("minOrderKey"), parameters.get("maxOrderKey"), warmup, iterations).getBody();
+        if (response == null) {
             throw new RuntimeException("No data found");
         }
         return response;
     }
 
     // B) Aggregation
-    public Map<String, Object> executeQueryB1() {
-        Map<String, Object> response = jdbcClient.getCount().getBody();
-        if (response == null || response.isEmpty()) {
+    public Measurement executeQueryB1(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jdbcClient.getCount(warmup, iterations).getBody();
+        if (response == null) {
             throw new RuntimeException("No data found");
         }
         return response;
     }
 
-    public Map<String, Object> executeQueryB2() {
-        Map<String, Object> response = jdbcClient.getMax().getBody();
-        if (response == null || response.isEmpty()) {
+    public Measurement executeQueryB2(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jdbcClient.getMax(warmup, iterations).getBody();
+        if (response == null) {
             throw new RuntimeException("No data found");
         }
         return response;
     }
 
     // C) Joins
-    public Map<String, Object> executeQueryC1() {
-        Map<String, Object> response = jdbcClient.getJoinNonIndexedColumns().getBody();
-        if (response == null || response.isEmpty()) {
+    public Measurement executeQueryC1(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jdbcClient.getJoinNonIndexedColumns(warmup, iterations).getBody();
+        if (response == null) {
             throw new RuntimeException("No data found");
         }
         return response;
     }
 
-    public Map<String, Object> executeQueryC2() {
-        Map<String, Object> response = jdbcClient.getJoinIndexedColumns().getBody();
-        if (response == null || response.isEmpty()) {
+    public Measurement executeQueryC2(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jdbcClient.getJoinIndexedColumns(warmup, iterations).getBody();
+        if (response == null) {
             throw new RuntimeException("No data found");
         }
         return response;
     }
 
-    public Map<String, Object> executeQueryC3() {
-        Map<String, Object> response = jdbcClient.getComplexJoin1().getBody();
-        if (response == null || response.isEmpty()) {
+    public Measurement executeQueryC3(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jdbcClient.getComplexJoin1(warmup, iterations).getBody();
+        if (response == null) {
             throw new RuntimeException("No data found");
         }
         return response;
     }
 
-    public Map<String, Object> executeQueryC4() {
-        Map<String, Object> response = jdbcClient.getComplexJoin2().getBody();
-        if (response == null || response.isEmpty()) {
+    public Measurement executeQueryC4(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jdbcClient.getComplexJoin2(warmup, iterations).getBody();
+        if (response == null) {
             throw new RuntimeException("No data found");
         }
         return response;
     }
 
-    public Map<String, Object> executeQueryC5() {
-        Map<String, Object> response = jdbcClient.getLeftOuterJoin().getBody();
-        if (response == null || response.isEmpty()) {
+    public Measurement executeQueryC5(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jdbcClient.getLeftOuterJoin(warmup, iterations).getBody();
+        if (response == null) {
             throw new RuntimeException("No data found");
         }
         return response;
     }
 
     // D) Set operations
-    public Map<String, Object> executeQueryD1() {
-        Map<String, Object> response = jdbcClient.getUnion().getBody();
-        if (response == null || response.isEmpty()) {
+    public Measurement executeQueryD1(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jdbcClient.getUnion(warmup, iterations).getBody();
+        if (response == null) {
             throw new RuntimeException("No data found");
         }
         return response;
     }
 
-    public Map<String, Object> executeQueryD2() {
-        Map<String, Object> response = jdbcClient.getIntersect().getBody();
-        if (response == null || response.isEmpty()) {
+    public Measurement executeQueryD2(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jdbcClient.getIntersect(warmup, iterations).getBody();
+        if (response == null) {
             throw new RuntimeException("No data found");
         }
         return response;
     }
 
-    public Map<String, Object> executeQueryD3() {
-        Map<String, Object> response = jdbcClient.getDifference().getBody();
-        if (response == null || response.isEmpty()) {
+    public Measurement executeQueryD3(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jdbcClient.getDifference(warmup, iterations).getBody();
+        if (response == null) {
             throw new RuntimeException("No data found");
         }
         return response;
     }
 
     // E) Result Modification
-    public Map<String, Object> executeQueryE1() {
-        Map<String, Object> response = jdbcClient.getNonIndexedColumnsSorting().getBody();
-        if (response == null || response.isEmpty()) {
+    public Measurement executeQueryE1(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jdbcClient.getNonIndexedColumnsSorting(warmup, iterations).getBody();
+        if (response == null) {
+            throw new RuntimeException("No data found");
+        }
+        return response;
+    }
+
+    public Measurement executeQueryE2(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jdbcClient.getIndexedColumnsSorting(warmup, iterations).getBody();
+        if (response == null) {
+            throw new RuntimeException("No data found");
+        }
+        return response;
+    }
+
+    public Measurement executeQueryE3(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jdbcClient.getDistinct(warmup, iterations).getBody();
+        if (response == null) {
+            throw new RuntimeException("No data found");
+        }
+        return response;
+    }
+
+    public Measurement executeQueryF1(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jdbcClient.getOrderByKey(parameters.get("operations"), parameters.get("seed"),
+                parameters.get("scaleFactor"), warmup, iterations).getBody();
+        if (response == null) {
+            throw new RuntimeException("No data found");
+        }
+        return response;
+    }
+
+    public Measurement executeQueryF2(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jdbcClient.getCustomerByKey(parameters.get("operations"), parameters.get("seed"),
+                parameters.get("scaleFactor"), warmup, iterations).getBody();
+        if (response == null) {
+            throw new RuntimeException("No data found");
+        }
+        return response;
+    }
+
+    public Measurement executeQueryF3(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jdbcClient.getLineItemByKey(parameters.get("operations"), parameters.get("seed"),
+                parameters.get("scaleFactor"), warmup, iterations).getBody();
+        if (response == null) {
+            throw new RuntimeException("No data found");
+        }
+        return response;
+    }
+
+    public Measurement executeQueryF4(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jdbcClient.getPartSuppByKey(parameters.get("operations"), parameters.get("seed"),
+                parameters.get("scaleFactor"), warmup, iterations).getBody();
+        if (response == null) {
+            throw new RuntimeException("No data found");
+        }
+        return response;
+    }
+
+    public Measurement executeQueryG1(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jdbcClient.getOrdersPageByOffset(parameters.get("pageSize"), parameters.get("pages"), warmup,
+                iterations).getBody();
+        if (response == null) {
+            throw new RuntimeException("No data found");
+        }
+        return response;
+    }
+
+    public Measurement executeQueryG2(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jdbcClient.getOrdersPageByKeyset(parameters.get("pageSize"), parameters.get("pages"), warmup,
+                iterations).getBody();
+        if (response == null) {
+            throw new RuntimeException("No data found");
+        }
+        return response;
+    }
+
+    public Measurement executeQueryG3(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jdbcClient.getLineItemsPageByOffset(parameters.get("pageSize"), parameters.get("pages"), warmup,
+                iterations).getBody();
+        if (response == null) {
+            throw new RuntimeException("No data found");
+        }
+        return response;
+    }
+
+    public Measurement executeQueryG4(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jdbcClient.getLineItemsPageByKeyset(parameters.get("pageSize"), parameters.get("pages"), warmup,
+                iterations).getBody();
+        if (response == null) {
+            throw new RuntimeException("No data found");
+        }
+        return response;
+    }
+
+    public Measurement executeQueryH1(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jdbcClient.getOrdersGraphLazy(parameters.get("startDate"), parameters.get("endDate"), warmup,
+                iterations).getBody();
+        if (response == null) {
             throw new RuntimeException("No data found");
         }
         return response;
     }
 
-    public Map<String, Object> executeQueryE2() {
-        Map<String, Object> response = jdbcClient.getIndexedColumnsSorting().getBody();
-        if (response == null || response.isEmpty()) {
+    public Measurement executeQueryH2(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jdbcClient.getOrdersGraphJoinFetch(parameters.get("startDate"), parameters.get("endDate"), warmup,
+                iterations).getBody();
+        if (response == null) {
             throw new RuntimeException("No data found");
         }
         return response;
     }
 
-    public Map<String, Object> executeQueryE3() {
-        Map<String, Object> response = jdbcClient.getDistinct().getBody();
-        if (response == null || response.isEmpty()) {
+    public Measurement executeQueryH3(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jdbcClient.getOrdersGraphBatchFetch(parameters.get("startDate"), parameters.get("endDate"),
+                parameters.get("batchSize"), warmup, iterations).getBody();
+        if (response == null) {
             throw new RuntimeException("No data found");
         }
         return response;
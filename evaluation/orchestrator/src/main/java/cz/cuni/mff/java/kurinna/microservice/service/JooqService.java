@@ -1,10 +1,9 @@
 package cz.cuni.mff.java.kurinna.microservice.service;
 
+import cz.cuni.mff.java.kurinna.common.dto.Measurement;
 import cz.cuni.mff.java.kurinna.microservice.client.MicroserviceMysqlJooqClient;
 import org.springframework.stereotype.Service;
 
-import java.util.Map;
-
 @Service
 public class JooqService {
     private final MicroserviceMysqlJooqClient jooqClient;
@@ -18,186 +17,438 @@ public class JooqService {
     }
 
     // get pricing summary
-    public Map<String, Object> getPricingSummary() {
-        Map<String, Object> response = jooqClient.getPricingSummary().getBody();
-        if (response == null || response.isEmpty()) {
+    public Measurement getPricingSummary(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jooqClient.getPricingSummary(parameters.get("delta"), warmup, iterations).getBody();
+        if (response == null) {
             throw new RuntimeException("No data found");
         }
         return response;
     }
 
     // get minimum cost supplier
-    public Map<String, Object> getMinimumCostSupplier() {
-        Map<String, Object> response = jooqClient.getMinimumCostSupplier().getBody();
-        if (response == null || response.isEmpty()) {
+    public Measurement getMinimumCostSupplier(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jooqClient.getMinimumCostSupplier(parameters.get("size"), parameters.get("type"), parameters.get("region"), warmup, iterations).getBody();
+        if (response == null) {
             throw new RuntimeException("No data found");
         }
         return response;
     }
 
     // get shipping priority
-    public Map<String, Object> getShippingPriority() {
-        Map<String, Object> response = jooqClient.getShippingPriority().getBody();
-        if (response == null || response.isEmpty()) {
+    public Measurement getShippingPriority(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jooqClient.getShippingPriority(parameters.get("segment"), parameters.get("date"), warmup, iterations).getBody();
+        if (response == null) {
             throw new RuntimeException("No data found");
         }
         return response;
     }
 
     // get order priority checking
-    public Map<String, Object> getOrderPriorityChecking() {
-        Map<String, Object> response = jooqClient.getOrderPriorityChecking().getBody();
-        if (response == null || response.isEmpty()) {
+    public Measurement getOrderPriorityChecking(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jooqClient.getOrderPriorityChecking(parameters.get("orderDate"), warmup, iterations).getBody();
+        if (response == null) {
             throw new RuntimeException("No data found");
         }
         return response;
     }
 
     // get local supplier volume
-    public Map<String, Object> getLocalSupplierVolume() {
-        Map<String, Object> response = jooqClient.getLocalSupplierVolume().getBody();
-        if (response == null || response.isEmpty()) {
+    public Measurement getLocalSupplierVolume(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jooqClient.getLocalSupplierVolume(parameters.get("region"), parameters.get("orderDate"), warmup, iterations).getBody();
+        if (response == null) {
+            throw new RuntimeException("No data found");
+        }
+        return response;
+    }
+
+    // get forecasting revenue change
+    public Measurement getForecastingRevenueChange(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jooqClient.getForecastingRevenueChange(parameters.get("shipDate"), parameters.get("discount"), parameters.get("quantity"), warmup, iterations).getBody();
+        if (response == null) {
+            throw new RuntimeException("No data found");
+        }
+        return response;
+    }
+
+    // get volume shipping
+    public Measurement getVolumeShipping(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jooqClient.getVolumeShipping(parameters.get("nation1"), parameters.get("nation2"), warmup, iterations).getBody();
+        if (response == null) {
+            throw new RuntimeException("No data found");
+        }
+        return response;
+    }
+
+    // get national market share
+    public Measurement getNationalMarketShare(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jooqClient.getNationalMarketShare(parameters.get("nation"), parameters.get("region"), parameters.get("type"), warmup, iterations).getBody();
+        if (response == null) {
+            throw new RuntimeException("No data found");
+        }
+        return response;
+    }
+
+    // get product type profit measure
+    public Measurement getProductTypeProfitMeasure(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jooqClient.getProductTypeProfitMeasure(parameters.get("color"), warmup, iterations).getBody();
+        if (response == null) {
+            throw new RuntimeException("No data found");
+        }
+        return response;
+    }
+
+    // get returned item reporting
+    public Measurement getReturnedItemReporting(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jooqClient.getReturnedItemReporting(parameters.get("orderDate"), warmup, iterations).getBody();
+        if (response == null) {
+            throw new RuntimeException("No data found");
+        }
+        return response;
+    }
+
+    // get important stock identification
+    public Measurement getImportantStockIdentification(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jooqClient.getImportantStockIdentification(parameters.get("nation"), parameters.get("fraction"), warmup, iterations).getBody();
+        if (response == null) {
+            throw new RuntimeException("No data found");
+        }
+        return response;
+    }
+
+    // get shipping modes and order priority
+    public Measurement getShippingModesAndOrderPriority(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jooqClient.getShippingModesAndOrderPriority(parameters.get("shipMode1"), parameters.get("shipMode2"), parameters.get("receiptDate"), warmup, iterations).getBody();
+        if (response == null) {
+            throw new RuntimeException("No data found");
+        }
+        return response;
+    }
+
+    // get customer distribution
+    public Measurement getCustomerDistribution(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jooqClient.getCustomerDistribution(parameters.get("word1"), parameters.get("word2"), warmup, iterations).getBody();
+        if (response == null) {
+            throw new RuntimeException("No data found");
+        }
+        return response;
+    }
+
+    // get promotion effect
+    public Measurement getPromotionEffect(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jooqClient.getPromotionEffect(parameters.get("shipDate"), warmup, iterations).getBody();
+        if (response == null) {
+            throw new RuntimeException("No data found");
+        }
+        return response;
+    }
+
+    // get top supplier
+    public Measurement getTopSupplier(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jooqClient.getTopSupplier(parameters.get("shipDate"), warmup, iterations).getBody();
+        if (response == null) {
+            throw new RuntimeException("No data found");
+        }
+        return response;
+    }
+
+    // get parts supplier relationship
+    public Measurement getPartsSupplierRelationship(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jooqClient.getPartsSupplierRelationship(parameters.get("brand"), parameters.get("type"), parameters.get("sizes"), warmup, iterations).getBody();
+        if (response == null) {
+            throw new RuntimeException("No data found");
+        }
+        return response;
+    }
+
+    // get small quantity order revenue
+    public Measurement getSmallQuantityOrderRevenue(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jooqClient.getSmallQuantityOrderRevenue(parameters.get("brand"), parameters.get("container"), warmup, iterations).getBody();
+        if (response == null) {
+            throw new RuntimeException("No data found");
+        }
+        return response;
+    }
+
+    // get large volume customer
+    public Measurement getLargeVolumeCustomer(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jooqClient.getLargeVolumeCustomer(parameters.get("quantity"), warmup, iterations).getBody();
+        if (response == null) {
+            throw new RuntimeException("No data found");
+        }
+        return response;
+    }
+
+    // get discounted revenue
+    public Measurement getDiscountedRevenue(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jooqClient.getDiscountedRevenue(parameters.get("brand1"), parameters.get("brand2"), parameters.get("brand3"), parameters.get("quantity1"), parameters.get("quantity2"), parameters.get("quantity3"), warmup, iterations).getBody();
+        if (response == null) {
+            throw new RuntimeException("No data found");
+        }
+        return response;
+    }
+
+    // get potential part promotion
+    public Measurement getPotentialPartPromotion(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jooqClient.getPotentialPartPromotion(parameters.get("color"), parameters.get("shipDate"), parameters.get("nation"), warmup, iterations).getBody();
+        if (response == null) {
+            throw new RuntimeException("No data found");
+        }
+        return response;
+    }
+
+    // get suppliers who kept orders waiting
+    public Measurement getSuppliersWhoKeptOrdersWaiting(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jooqClient.getSuppliersWhoKeptOrdersWaiting(parameters.get("nation"), warmup, iterations).getBody();
+        if (response == null) {
+            throw new RuntimeException("No data found");
+        }
+        return response;
+    }
+
+    // get global sales opportunity
+    public Measurement getGlobalSalesOpportunity(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jooqClient.getGlobalSalesOpportunity(parameters.get("countryCodes"), warmup, iterations).getBody();
+        if (response == null) {
             throw new RuntimeException("No data found");
         }
         return response;
     }
 
     // A) Selection, Projection, Source (of data)
-    public Map<String, Object> executeQueryA1() {
-        Map<String, Object> response = jooqClient.getNonIndexedColumns().getBody();
-        if (response == null || response.isEmpty()) {
+    public Measurement executeQueryA1(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jooqClient.getNonIndexedColumns(warmup, iterations).getBody();
+        if (response == null) {
             throw new RuntimeException("No data found");
         }
         return response;
     }
 
-    public Map<String, Object> executeQueryA2() {
-        Map<String, Object> response = jooqClient.getNonIndexedColumnsRangeQuery("1996-01-01", "1996-12-31").getBody();
-        if (response == null || response.isEmpty()) {
+    public Measurement executeQueryA2(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jooqClient.getNonIndexedColumnsRangeQuery(parameters.get("startDate"), parameters.get("endDate"), warmup, iterations).getBody();
+        if (response == null) {
             throw new RuntimeException("No data found");
         }
         return response;
     }
 
-    public Map<String, Object> executeQueryA3() {
-        Map<String, Object> response = jooqClient.getIndexedColumns().getBody();
-        if (response == null || response.isEmpty()) {
+    public Measurement executeQueryA3(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jooqClient.getIndexedColumns(warmup, iterations).getBody();
+        if (response == null) {
             throw new RuntimeException("No data found");
         }
         return response;
     }
 
-    public Map<String, Object> executeQueryA4() {
-        Map<String, Object> response = jooqClient.getIndexedColumnsRangeQuery(1000, 50000).getBody();
-        if (response == null || response.isEmpty()) {
+    public Measurement executeQueryA4(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jooqClient.getIndexedColumnsRangeQuery(parameters.get("minOrderKey"), parameters.get("maxOrderKey"), warmup, iterations).getBody();
+        if (response == null) {
             throw new RuntimeException("No data found");
         }
         return response;
     }
 
     // B) Aggregation
-    public Map<String, Object> executeQueryB1() {
-        Map<String, Object> response = jooqClient.getCount().getBody();
-        if (response == null || response.isEmpty()) {
+    public Measurement executeQueryB1(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jooqClient.getCount(warmup, iterations).getBody();
+        if (response == null) {
             throw new RuntimeException("No data found");
         }
         return response;
     }
 
-    public Map<String, Object> executeQueryB2() {
-        Map<String, Object> response = jooqClient.getMax().getBody();
-        if (response == null || response.isEmpty()) {
+    public Measurement executeQueryB2(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jooqClient.getMax(warmup, iterations).getBody();
+        if (response == null) {
             throw new RuntimeException("No data found");
         }
         return response;
     }
 
     // C) Joins
-    public Map<String, Object> executeQueryC1() {
-        Map<String, Object> response = jooqClient.getJoinNonIndexedColumns().getBody();
-        if (response == null || response.isEmpty()) {
+    public Measurement executeQueryC1(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jooqClient.getJoinNonIndexedColumns(warmup, iterations).getBody();
+        if (response == null) {
             throw new RuntimeException("No data found");
         }
         return response;
     }
 
-    public Map<String, Object> executeQueryC2() {
-        Map<String, Object> response = jooqClient.getJoinIndexedColumns().getBody();
-        if (response == null || response.isEmpty()) {
+    public Measurement executeQueryC2(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jooqClient.getJoinIndexedColumns(warmup, iterations).getBody();
+        if (response == null) {
             throw new RuntimeException("No data found");
         }
         return response;
     }
 
-    public Map<String, Object> executeQueryC3() {
-        Map<String, Object> response = jooqClient.getComplexJoin1().getBody();
-        if (response == null || response.isEmpty()) {
+    public Measurement executeQueryC3(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jooqClient.getComplexJoin1(warmup, iterations).getBody();
+        if (response == null) {
             throw new RuntimeException("No data found");
         }
         return response;
     }
 
-    public Map<String, Object> executeQueryC4() {
-        Map<String, Object> response = jooqClient.getComplexJoin2().getBody();
-        if (response == null || response.isEmpty()) {
+    public Measurement executeQueryC4(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jooqClient.getComplexJoin2(warmup, iterations).getBody();
+        if (response == null) {
             throw new RuntimeException("No data found");
         }
         return response;
     }
 
-    public Map<String, Object> executeQueryC5() {
-        Map<String, Object> response = jooqClient.getLeftOuterJoin().getBody();
-        if (response == null || response.isEmpty()) {
+    public Measurement executeQueryC5(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jooqClient.getLeftOuterJoin(warmup, iterations).getBody();
+        if (response == null) {
             throw new RuntimeException("No data found");
         }
         return response;
     }
 
     // D) Set operations
-    public Map<String, Object> executeQueryD1() {
-        Map<String, Object> response = jooqClient.getUnion().getBody();
-        if (response == null || response.isEmpty()) {
+    public Measurement executeQueryD1(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jooqClient.getUnion(warmup, iterations).getBody();
+        if (response == null) {
             throw new RuntimeException("No data found");
         }
         return response;
     }
 
-    public Map<String, Object> executeQueryD2() {
-        Map<String, Object> response = jooqClient.getIntersect().getBody();
-        if (response == null || response.isEmpty()) {
+    public Measurement executeQueryD2(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jooqClient.getIntersect(warmup, iterations).getBody();
+        if (response == null) {
             throw new RuntimeException("No data found");
         }
         return response;
     }
 
-    public Map<String, Object> executeQueryD3() {
-        Map<String, Object> response = jooqClient.getDifference().getBody();
-        if (response == null || response.isEmpty()) {
+    public Measurement executeQueryD3(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jooqClient.getDifference(warmup, iterations).getBody();
+        if (response == null) {
             throw new RuntimeException("No data found");
         }
         return response;
     }
 
     // E) Result Modification
-    public Map<String, Object> executeQueryE1() {
-        Map<String, Object> response = jooqClient.getNonIndexedColumnsSorting().getBody();
-        if (response == null || response.isEmpty()) {
+    public Measurement executeQueryE1(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jooqClient.getNonIndexedColumnsSorting(warmup, iterations).getBody();
+        if (response == null) {
+            throw new RuntimeException("No data found");
+        }
+        return response;
+    }
+
+    public Measurement executeQueryE2(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jooqClient.getIndexedColumnsSorting(warmup, iterations).getBody();
+        if (response == null) {
+            throw new RuntimeException("No data found");
+        }
+        return response;
+    }
+
+    public Measurement executeQueryE3(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jooqClient.getDistinct(warmup, iterations).getBody();
+        if (response == null) {
+            throw new RuntimeException("No data found");
+        }
+        return response;
+    }
+
+    public Measurement executeQueryF1(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jooqClient.getOrderByKey(parameters.get("operations"), parameters.get("seed"),
+                parameters.get("scaleFactor"), warmup, iterations).getBody();
+        if (response == null) {
+            throw new RuntimeException("No data found");
+        }
+        return response;
+    }
+
+    public Measurement executeQueryF2(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jooqClient.getCustomerByKey(parameters.get("operations"), parameters.get("seed"),
+                parameters.get("scaleFactor"), warmup, iterations).getBody();
+        if (response == null) {
+            throw new RuntimeException("No data found");
+        }
+        return response;
+    }
+
+    public Measurement executeQueryF3(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jooqClient.getLineItemByKey(parameters.get("operations"), parameters.get("seed"),
+                parameters.get("scaleFactor"), warmup, iterations).getBody();
+        if (response == null) {
+            throw new RuntimeException("No data found");
+        }
+        return response;
+    }
+
+    public Measurement executeQueryF4(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jooqClient.getPartSuppByKey(parameters.get("operations"), parameters.get("seed"),
+                parameters.get("scaleFactor"), warmup, iterations).getBody();
+        if (response == null) {
+            throw new RuntimeException("No data found");
+        }
+        return response;
+    }
+
+    public Measurement executeQueryG1(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jooqClient.getOrdersPageByOffset(parameters.get("pageSize"), parameters.get("pages"), warmup,
+                iterations).getBody();
+        if (response == null) {
+            throw new RuntimeException("No data found");
+        }
+        return response;
+    }
+
+    public Measurement executeQueryG2(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jooqClient.getOrdersPageByKeyset(parameters.get("pageSize"), parameters.get("pages"), warmup,
+                iterations).getBody();
+        if (response == null) {
+            throw new RuntimeException("No data found");
+        }
+        return response;
+    }
+
+    public Measurement executeQueryG3(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jooqClient.getLineItemsPageByOffset(parameters.get("pageSize"), parameters.get("pages"), warmup,
+                iterations).getBody();
+        if (response == null) {
+            throw new RuntimeException("No data found");
+        }
+        return response;
+    }
+
+    public Measurement executeQueryG4(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jooqClient.getLineItemsPageByKeyset(parameters.get("pageSize"), parameters.get("pages"), warmup,
+                iterations).getBody();
+        if (response == null) {
+            throw new RuntimeException("No data found");
+        }
+        return response;
+    }
+
+    public Measurement executeQueryH1(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jooqClient.getOrdersGraphLazy(parameters.get("startDate"), parameters.get("endDate"), warmup,
+                iterations).getBody();
+        if (response == null) {
             throw new RuntimeException("No data found");
         }
         return response;
     }
 
-    public Map<String, Object> executeQueryE2() {
-        Map<String, Object> response = jooqClient.getIndexedColumnsSorting().getBody();
-        if (response == null || response.isEmpty()) {
+    public Measurement executeQueryH2(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jooqClient.getOrdersGraphJoinFetch(parameters.get("startDate"), parameters.get("endDate"), warmup,
+                iterations).getBody();
+        if (response == null) {
             throw new RuntimeException("No data found");
         }
         return response;
     }
 
-    public Map<String, Object> executeQueryE3() {
-        Map<String, Object> response = jooqClient.getDistinct().getBody();
-        if (response == null || response.isEmpty()) {
+    public Measurement executeQueryH3(QueryParameters parameters, int warmup, int iterations) {
+        Measurement response = jooqClient.getOrdersGraphBatchFetch(parameters.get("startDate"), parameters.get("endDate"),
+                parameters.get("batchSize"), warmup, iterations).getBody();
+        if (response == null) {
             throw new RuntimeException("No data found");
         }
         return response;
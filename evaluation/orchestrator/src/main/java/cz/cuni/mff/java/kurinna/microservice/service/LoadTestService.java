@@ -0,0 +1,241 @@
+package cz.cuni.mff.java.kurinna.microservice.service;
+
+import cz.cuni.mff.java.kurinna.common.dto.Measurement;
+import cz.cuni.mff.java.kurinna.microservice.utils.SampleStatistics;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+import static cz.cuni.mff.java.kurinna.microservice.client.JfrRequestInterceptor.withoutJfr;
+
+/**
+ * Load generators for a single query on a single service.
+ * <p>
+ * In the closed-loop mode every client sends the next request as soon as the previous one
+ * completes, so the offered load adapts to the latency of the service under test. In the
+ * open-loop mode requests are scheduled at a constant arrival rate regardless of how fast
+ * the service responds.
+ * <p>
+ * The latency is timed on the client side. The requests are sent with {@code jfr=false}, so the service
+ * executes the query once without JFR collection and does not wait for the JFR stream before responding.
+ * A response with the error status, e.g. after a pool timeout, counts as an error like a failed request,
+ * its latency is not recorded.
+ */
+@Service
+public class LoadTestService {
+    private final QueryCatalog queryCatalog;
+
+    public LoadTestService(QueryCatalog queryCatalog) {
+        this.queryCatalog = queryCatalog;
+    }
+
+    /**
+     * Runs a query on a service once per concurrency level, each for a fixed duration.
+     *
+     * @param query             The query name, e.g. "q3"
+     * @param service           The service name, e.g. "jdbc"
+     * @param concurrencyLevels The numbers of concurrent clients to measure
+     * @param duration          How long each concurrency level is measured
+     * @param parameters        The stream the parameters of every request are drawn from
+     * @return A map containing the throughput and latency distribution of every concurrency level
+     * @throws IllegalArgumentException if the query or the service is unknown
+     */
+    public Map<String, Object> runClosedLoop(String query, String service, List<Integer> concurrencyLevels,
+            Duration duration, QueryParameterGenerator.ParameterStream parameters) {
+        QueryExecutor queryExecutor = queryCatalog.getExecutor(query, service);
+
+        List<Map<String, Object>> levels = new ArrayList<>();
+        for (int concurrency : concurrencyLevels) {
+            levels.add(runLevel(query, queryExecutor, parameters, concurrency, duration));
+        }
+
+        Map<String, Object> results = new LinkedHashMap<>();
+        results.put("query", query);
+        results.put("service", service);
+        results.put("mode", "closed-loop");
+        results.put("randomize", parameters.isRandomized());
+        results.put("seed", parameters.getSeed());
+        results.put("durationSeconds", duration.toMillis() / 1000.0);
+        results.put("levels", levels);
+        return results;
+    }
+
+    private Map<String, Object> runLevel(String query, QueryExecutor queryExecutor,
+            QueryParameterGenerator.ParameterStream parameters, int concurrency, Duration duration) {
+        List<Future<ClientResult>> futures = new ArrayList<>(concurrency);
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                futures.add(executor.submit(() -> runClient(query, queryExecutor, parameters, deadline)));
+            }
+        }
+        double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        SampleStatistics latency = new SampleStatistics();
+        long errors = 0;
+        String lastError = null;
+        for (Future<ClientResult> future : futures) {
+            try {
+                ClientResult result = future.get();
+                latency.add(result.latency());
+                errors += result.errors();
+                if (result.lastError() != null) {
+                    lastError = result.lastError();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (ExecutionException e) {
+                errors++;
+                lastError = e.getCause().getMessage();
+            }
+        }
+
+        Map<String, Object> level = new LinkedHashMap<>();
+        level.put("concurrency", concurrency);
+        level.put("requests", latency.getCount());
+        level.put("errors", errors);
+        level.put("elapsedSeconds", elapsedSeconds);
+        level.put("qps", latency.getCount() / elapsedSeconds);
+        level.put("latency", latency.toMap());
+        if (lastError != null) {
+            level.put("lastError", lastError);
+        }
+        return level;
+    }
+
+    /**
+     * Sends requests at a constant arrival rate for a fixed duration. The corrected latency is
+     * measured from the intended send time of the request, so time spent waiting for a free
+     * connection slot while the service is saturated is not omitted. The uncorrected latency is
+     * measured from the actual send time.
+     *
+     * @param query       The query name, e.g. "q3"
+     * @param service     The service name, e.g. "jdbc"
+     * @param rate        The number of requests per second
+     * @param duration    How long requests are scheduled
+     * @param maxInFlight The maximum number of outstanding requests
+     * @param parameters  The stream the parameters of every request are drawn from
+     * @return A map containing the achieved rate and the corrected and uncorrected latency distributions
+     * @throws IllegalArgumentException if the query or the service is unknown
+     */
+    public Map<String, Object> runOpenLoop(String query, String service, int rate, Duration duration,
+            int maxInFlight, QueryParameterGenerator.ParameterStream parameters) {
+        QueryExecutor queryExecutor = queryCatalog.getExecutor(query, service);
+
+        long interval = 1_000_000_000L / rate;
+        long total = Math.max(duration.toNanos() / interval, 1);
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        SampleStatistics corrected = new SampleStatistics();
+        SampleStatistics uncorrected = new SampleStatistics();
+        SampleStatistics sendLag = new SampleStatistics();
+        AtomicLong errors = new AtomicLong();
+        AtomicReference<String> lastError = new AtomicReference<>();
+
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; i < total; i++) {
+                long intended = start + i * interval;
+                long wait = intended - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                try {
+                    inFlight.acquire();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+
+                QueryParameters requestParameters = parameters.next(query);
+                executor.submit(() -> {
+                    long sent = System.nanoTime();
+                    try {
+                        Measurement response = withoutJfr(() -> queryExecutor.execute(requestParameters, 0, 1));
+                        long end = System.nanoTime();
+                        if ("error".equals(response.status())) {
+                            errors.incrementAndGet();
+                            lastError.set(response.error());
+                            return;
+                        }
+                        synchronized (corrected) {
+                            corrected.record((end - intended) / 1_000_000.0); // Convert to milliseconds
+                            uncorrected.record((end - sent) / 1_000_000.0);
+                            sendLag.record((sent - intended) / 1_000_000.0);
+                        }
+                    } catch (Exception e) {
+                        errors.incrementAndGet();
+                        lastError.set(e.getMessage());
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+        double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        Map<String, Object> results = new LinkedHashMap<>();
+        results.put("query", query);
+        results.put("service", service);
+        results.put("mode", "open-loop");
+        results.put("randomize", parameters.isRandomized());
+        results.put("seed", parameters.getSeed());
+        results.put("targetRate", rate);
+        results.put("durationSeconds", duration.toMillis() / 1000.0);
+        results.put("maxInFlight", maxInFlight);
+        results.put("scheduled", total);
+        results.put("requests", corrected.getCount());
+        results.put("errors", errors.get());
+        results.put("elapsedSeconds", elapsedSeconds);
+        results.put("achievedRate", corrected.getCount() / elapsedSeconds);
+        results.put("correctedLatency", corrected.toMap());
+        results.put("uncorrectedLatency", uncorrected.toMap());
+        results.put("sendLag", sendLag.toMap());
+        if (lastError.get() != null) {
+            results.put("lastError", lastError.get());
+        }
+        return results;
+    }
+
+    private ClientResult runClient(String query, QueryExecutor queryExecutor,
+            QueryParameterGenerator.ParameterStream parameters, long deadline) {
+        SampleStatistics latency = new SampleStatistics();
+        long errors = 0;
+        String lastError = null;
+
+        while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+            QueryParameters requestParameters = parameters.next(query);
+            long t0 = System.nanoTime();
+            try {
+                Measurement response = withoutJfr(() -> queryExecutor.execute(requestParameters, 0, 1));
+                if ("error".equals(response.status())) {
+                    errors++;
+                    lastError = response.error();
+                } else {
+                    latency.record((System.nanoTime() - t0) / 1_000_000.0); // Convert to milliseconds
+                }
+            } catch (Exception e) {
+                errors++;
+                lastError = e.getMessage();
+            }
+        }
+        return new ClientResult(latency, errors, lastError);
+    }
+
+    private record ClientResult(SampleStatistics latency, long errors, String lastError) {
+    }
+}
@@ -0,0 +1,533 @@
+package cz.cuni.mff.java.kurinna.microservice.service;
+
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Registry of the query executors of every microservice, addressed by the query and service names
+ * used in {@link cz.cuni.mff.java.kurinna.microservice.utils.Utils#ALL_QUERIES} and
+ * {@link cz.cuni.mff.java.kurinna.microservice.utils.Utils#ALL_SERVICES}.
+ */
+@Service
+public class QueryCatalog {
+    private final Map<String, QueryDefinition> queries = new LinkedHashMap<>();
+
+    public QueryCatalog(MyBatisService myBatisService, SpringDataJpaService springDataJpaService,
+            CayenneService cayenneService, EbeanService ebeanService, JdbcService jdbcService,
+            JooqService jooqService) {
+        register("q1",
+                "Q1) Pricing Summary Report Query",
+                "TPC-H Q1 query that reports pricing summary for all items shipped before a given date.",
+                myBatisService::getPricingSummary,
+                springDataJpaService::getPricingSummary,
+                cayenneService::getPricingSummary,
+                ebeanService::getPricingSummary,
+                jdbcService::getPricingSummary,
+                jooqService::getPricingSummary);
+        register("q2",
+                "Q2) Minimum Cost Supplier Query",
+                "TPC-H Q2 query that finds suppliers who can supply parts of a given type and size at minimum cost.",
+                myBatisService::getMinimumCostSupplier,
+                springDataJpaService::getMinimumCostSupplier,
+                cayenneService::getMinimumCostSupplier,
+                ebeanService::getMinimumCostSupplier,
+                jdbcService::getMinimumCostSupplier,
+                jooqService::getMinimumCostSupplier);
+        register("q3",
+                "Q3) Shipping Priority Query",
+                "TPC-H Q3 query that retrieves the shipping priority and potential revenue of orders.",
+                myBatisService::getShippingPriority,
+                springDataJpaService::getShippingPriority,
+                cayenneService::getShippingPriority,
+                ebeanService::getShippingPriority,
+                jdbcService::getShippingPriority,
+                jooqService::getShippingPriority);
+        register("q4",
+                "Q4) Order Priority Checking Query",
+                "TPC-H Q4 query that counts orders with at least one lineitem that was received later than committed.",
+                myBatisService::getOrderPriorityChecking,
+                springDataJpaService::getOrderPriorityChecking,
+                cayenneService::getOrderPriorityChecking,
+                ebeanService::getOrderPriorityChecking,
+                jdbcService::getOrderPriorityChecking,
+                jooqService::getOrderPriorityChecking);
+        register("q5",
+                "Q5) Local Supplier Volume Query",
+                "TPC-H Q5 query that lists the revenue volume for each nation in a region where suppliers and customers are from the same nation.",
+                myBatisService::getLocalSupplierVolume,
+                springDataJpaService::getLocalSupplierVolume,
+                cayenneService::getLocalSupplierVolume,
+                ebeanService::getLocalSupplierVolume,
+                jdbcService::getLocalSupplierVolume,
+                jooqService::getLocalSupplierVolume);
+        register("q6",
+                "Q6) Forecasting Revenue Change Query",
+                "TPC-H Q6 query that quantifies the revenue increase from eliminating small discounts on small quantities in a given year.",
+                myBatisService::getForecastingRevenueChange,
+                springDataJpaService::getForecastingRevenueChange,
+                cayenneService::getForecastingRevenueChange,
+                ebeanService::getForecastingRevenueChange,
+                jdbcService::getForecastingRevenueChange,
+                jooqService::getForecastingRevenueChange);
+        register("q7",
+                "Q7) Volume Shipping Query",
+                "TPC-H Q7 query that determines the value of goods shipped between two nations in 1995 and 1996.",
+                myBatisService::getVolumeShipping,
+                springDataJpaService::getVolumeShipping,
+                cayenneService::getVolumeShipping,
+                ebeanService::getVolumeShipping,
+                jdbcService::getVolumeShipping,
+                jooqService::getVolumeShipping);
+        register("q8",
+                "Q8) National Market Share Query",
+                "TPC-H Q8 query that determines how the market share of a nation within a region has changed over two years for a given part type.",
+                myBatisService::getNationalMarketShare,
+                springDataJpaService::getNationalMarketShare,
+                cayenneService::getNationalMarketShare,
+                ebeanService::getNationalMarketShare,
+                jdbcService::getNationalMarketShare,
+                jooqService::getNationalMarketShare);
+        register("q9",
+                "Q9) Product Type Profit Measure Query",
+                "TPC-H Q9 query that determines the profit made on a line of parts, broken out by supplier nation and year.",
+                myBatisService::getProductTypeProfitMeasure,
+                springDataJpaService::getProductTypeProfitMeasure,
+                cayenneService::getProductTypeProfitMeasure,
+                ebeanService::getProductTypeProfitMeasure,
+                jdbcService::getProductTypeProfitMeasure,
+                jooqService::getProductTypeProfitMeasure);
+        register("q10",
+                "Q10) Returned Item Reporting Query",
+                "TPC-H Q10 query that identifies the top 20 customers by revenue lost through returned items in a quarter.",
+                myBatisService::getReturnedItemReporting,
+                springDataJpaService::getReturnedItemReporting,
+                cayenneService::getReturnedItemReporting,
+                ebeanService::getReturnedItemReporting,
+                jdbcService::getReturnedItemReporting,
+                jooqService::getReturnedItemReporting);
+        register("q11",
+                "Q11) Important Stock Identification Query",
+                "TPC-H Q11 query that finds the parts representing a significant fraction of the total stock value of the suppliers in a nation.",
+                myBatisService::getImportantStockIdentification,
+                springDataJpaService::getImportantStockIdentification,
+                cayenneService::getImportantStockIdentification,
+                ebeanService::getImportantStockIdentification,
+                jdbcService::getImportantStockIdentification,
+                jooqService::getImportantStockIdentification);
+        register("q12",
+                "Q12) Shipping Modes and Order Priority Query",
+                "TPC-H Q12 query that counts the late line items of high and low priority orders for two ship modes in a given year.",
+                myBatisService::getShippingModesAndOrderPriority,
+                springDataJpaService::getShippingModesAndOrderPriority,
+                cayenneService::getShippingModesAndOrderPriority,
+                ebeanService::getShippingModesAndOrderPriority,
+                jdbcService::getShippingModesAndOrderPriority,
+                jooqService::getShippingModesAndOrderPriority);
+        register("q13",
+                "Q13) Customer Distribution Query",
+                "TPC-H Q13 query that determines the distribution of customers by the number of orders they have made, including customers without orders.",
+                myBatisService::getCustomerDistribution,
+                springDataJpaService::getCustomerDistribution,
+                cayenneService::getCustomerDistribution,
+                ebeanService::getCustomerDistribution,
+                jdbcService::getCustomerDistribution,
+                jooqService::getCustomerDistribution);
+        register("q14",
+                "Q14) Promotion Effect Query",
+                "TPC-H Q14 query that determines the percentage of the revenue in a month that was derived from promotional parts.",
+                myBatisService::getPromotionEffect,
+                springDataJpaService::getPromotionEffect,
+                cayenneService::getPromotionEffect,
+                ebeanService::getPromotionEffect,
+                jdbcService::getPromotionEffect,
+                jooqService::getPromotionEffect);
+        register("q15",
+                "Q15) Top Supplier Query",
+                "TPC-H Q15 query that finds the supplier who contributed the most to the total revenue of a quarter, the revenue view is a common table expression.",
+                myBatisService::getTopSupplier,
+                springDataJpaService::getTopSupplier,
+                cayenneService::getTopSupplier,
+                ebeanService::getTopSupplier,
+                jdbcService::getTopSupplier,
+                jooqService::getTopSupplier);
+        register("q16",
+                "Q16) Parts/Supplier Relationship Query",
+                "TPC-H Q16 query that counts the suppliers without customer complaints who can supply parts with given attributes.",
+                myBatisService::getPartsSupplierRelationship,
+                springDataJpaService::getPartsSupplierRelationship,
+                cayenneService::getPartsSupplierRelationship,
+                ebeanService::getPartsSupplierRelationship,
+                jdbcService::getPartsSupplierRelationship,
+                jooqService::getPartsSupplierRelationship);
+        register("q17",
+                "Q17) Small-Quantity-Order Revenue Query",
+                "TPC-H Q17 query that determines the average yearly revenue lost if small orders of a brand and container were no longer filled.",
+                myBatisService::getSmallQuantityOrderRevenue,
+                springDataJpaService::getSmallQuantityOrderRevenue,
+                cayenneService::getSmallQuantityOrderRevenue,
+                ebeanService::getSmallQuantityOrderRevenue,
+                jdbcService::getSmallQuantityOrderRevenue,
+                jooqService::getSmallQuantityOrderRevenue);
+        register("q18",
+                "Q18) Large Volume Customer Query",
+                "TPC-H Q18 query that lists the top 100 customers who have placed orders with a total quantity above a given level.",
+                myBatisService::getLargeVolumeCustomer,
+                springDataJpaService::getLargeVolumeCustomer,
+                cayenneService::getLargeVolumeCustomer,
+                ebeanService::getLargeVolumeCustomer,
+                jdbcService::getLargeVolumeCustomer,
+                jooqService::getLargeVolumeCustomer);
+        register("q19",
+                "Q19) Discounted Revenue Query",
+                "TPC-H Q19 query that reports the discounted revenue of air-shipped parts of three brand, container and quantity combinations.",
+                myBatisService::getDiscountedRevenue,
+                springDataJpaService::getDiscountedRevenue,
+                cayenneService::getDiscountedRevenue,
+                ebeanService::getDiscountedRevenue,
+                jdbcService::getDiscountedRevenue,
+                jooqService::getDiscountedRevenue);
+        register("q20",
+                "Q20) Potential Part Promotion Query",
+                "TPC-H Q20 query that identifies the suppliers in a nation having an excess of parts of a given color, a candidate for a promotional offer.",
+                myBatisService::getPotentialPartPromotion,
+                springDataJpaService::getPotentialPartPromotion,
+                cayenneService::getPotentialPartPromotion,
+                ebeanService::getPotentialPartPromotion,
+                jdbcService::getPotentialPartPromotion,
+                jooqService::getPotentialPartPromotion);
+        register("q21",
+                "Q21) Suppliers Who Kept Orders Waiting Query",
+                "TPC-H Q21 query that identifies the suppliers of a nation who were the only late supplier of multi-supplier orders.",
+                myBatisService::getSuppliersWhoKeptOrdersWaiting,
+                springDataJpaService::getSuppliersWhoKeptOrdersWaiting,
+                cayenneService::getSuppliersWhoKeptOrdersWaiting,
+                ebeanService::getSuppliersWhoKeptOrdersWaiting,
+                jdbcService::getSuppliersWhoKeptOrdersWaiting,
+                jooqService::getSuppliersWhoKeptOrdersWaiting);
+        register("q22",
+                "Q22) Global Sales Opportunity Query",
+                "TPC-H Q22 query that counts the customers with an above-average balance who have not placed orders, by country code.",
+                myBatisService::getGlobalSalesOpportunity,
+                springDataJpaService::getGlobalSalesOpportunity,
+                cayenneService::getGlobalSalesOpportunity,
+                ebeanService::getGlobalSalesOpportunity,
+                jdbcService::getGlobalSalesOpportunity,
+                jooqService::getGlobalSalesOpportunity);
+        register("a1",
+                "A1) Non-Indexed Columns",
+                "SELECT * FROM lineitem",
+                myBatisService::executeQueryA1,
+                springDataJpaService::executeQueryA1,
+                cayenneService::executeQueryA1,
+                ebeanService::executeQueryA1,
+                jdbcService::executeQueryA1,
+                jooqService::executeQueryA1);
+        register("a2",
+                "A2) Non-Indexed Columns — Range Query",
+                "SELECT * FROM orders WHERE o_orderdate BETWEEN '1996-01-01' AND '1996-12-31';",
+                myBatisService::executeQueryA2,
+                springDataJpaService::executeQueryA2,
+                cayenneService::executeQueryA2,
+                ebeanService::executeQueryA2,
+                jdbcService::executeQueryA2,
+                jooqService::executeQueryA2);
+        register("a3",
+                "A3) Indexed Columns",
+                "SELECT * FROM customer",
+                myBatisService::executeQueryA3,
+                springDataJpaService::executeQueryA3,
+                cayenneService::executeQueryA3,
+                ebeanService::executeQueryA3,
+                jdbcService::executeQueryA3,
+                jooqService::executeQueryA3);
+        register("a4",
+                "A4) Indexed Columns — Range Query",
+                "SELECT * FROM orders WHERE o_orderkey BETWEEN 1000 AND 2000;",
+                myBatisService::executeQueryA4,
+                springDataJpaService::executeQueryA4,
+                cayenneService::executeQueryA4,
+                ebeanService::executeQueryA4,
+                jdbcService::executeQueryA4,
+                jooqService::executeQueryA4);
+        register("b1",
+                "B1) COUNT",
+                "SELECT COUNT(*) AS order_count FROM orders WHERE o_orderdate BETWEEN '1996-01-01' AND '1996-12-31';",
+                myBatisService::executeQueryB1,
+                springDataJpaService::executeQueryB1,
+                cayenneService::executeQueryB1,
+                ebeanService::executeQueryB1,
+                jdbcService::executeQueryB1,
+                jooqService::executeQueryB1);
+        register("b2",
+                "B2) MAX",
+                "SELECT MAX(l_extendedprice) AS max_price FROM lineitem;",
+                myBatisService::executeQueryB2,
+                springDataJpaService::executeQueryB2,
+                cayenneService::executeQueryB2,
+                ebeanService::executeQueryB2,
+                jdbcService::executeQueryB2,
+                jooqService::executeQueryB2);
+        register("c1",
+                "C1) Non-Indexed Columns",
+                "SELECT c.c_name, o.o_orderdate, o.o_totalprice FROM customer c, orders o WHERE c.c_mktsegment = 'BUILDING' AND c.c_custkey = o.o_custkey;",
+                myBatisService::executeQueryC1,
+                springDataJpaService::executeQueryC1,
+                cayenneService::executeQueryC1,
+                ebeanService::executeQueryC1,
+                jdbcService::executeQueryC1,
+                jooqService::executeQueryC1);
+        register("c2",
+                "C2) Indexed Columns",
+                "SELECT c.c_name, o.o_orderdate, o.o_totalprice FROM customer c JOIN orders o ON c.c_custkey = o.o_custkey WHERE o.o_orderkey BETWEEN 1000 AND 2000;",
+                myBatisService::executeQueryC2,
+                springDataJpaService::executeQueryC2,
+                cayenneService::executeQueryC2,
+                ebeanService::executeQueryC2,
+                jdbcService::executeQueryC2,
+                jooqService::executeQueryC2);
+        register("c3",
+                "C3) Complex Join 1",
+                "SELECT c.c_name, n.n_name, o.o_orderdate, o.o_totalprice FROM customer c JOIN nation n ON c.c_nationkey = n.n_nationkey JOIN orders o ON c.c_custkey = o.o_custkey WHERE n.n_name = 'GERMANY' AND o.o_orderdate BETWEEN '1996-01-01' AND '1996-12-31';",
+                myBatisService::executeQueryC3,
+                springDataJpaService::executeQueryC3,
+                cayenneService::executeQueryC3,
+                ebeanService::executeQueryC3,
+                jdbcService::executeQueryC3,
+                jooqService::executeQueryC3);
+        register("c4",
+                "C4) Complex Join 2",
+                "SELECT c.c_name, n.n_name, r.r_name, o.o_orderdate, o.o_totalprice FROM customer c JOIN nation n ON c.c_nationkey = n.n_nationkey JOIN region r ON n.n_regionkey = r.r_regionkey JOIN orders o ON c.c_custkey = o.o_custkey WHERE r.r_name = 'EUROPE' AND o.o_orderdate BETWEEN '1996-01-01' AND '1996-12-31';",
+                myBatisService::executeQueryC4,
+                springDataJpaService::executeQueryC4,
+                cayenneService::executeQueryC4,
+                ebeanService::executeQueryC4,
+                jdbcService::executeQueryC4,
+                jooqService::executeQueryC4);
+        register("c5",
+                "C5) Left Outer Join",
+                "SELECT c.c_custkey, c.c_name, o.o_orderkey, o.o_orderdate FROM customer c LEFT OUTER JOIN orders o ON c.c_custkey = o.o_custkey WHERE c.c_nationkey = 3;",
+                myBatisService::executeQueryC5,
+                springDataJpaService::executeQueryC5,
+                cayenneService::executeQueryC5,
+                ebeanService::executeQueryC5,
+                jdbcService::executeQueryC5,
+                jooqService::executeQueryC5);
+        register("d1",
+                "D1) UNION",
+                "(SELECT c_nationkey FROM customer WHERE c_acctbal > 9000) UNION (SELECT s_nationkey FROM supplier;",
+                myBatisService::executeQueryD1,
+                springDataJpaService::executeQueryD1,
+                cayenneService::executeQueryD1,
+                ebeanService::executeQueryD1,
+                jdbcService::executeQueryD1,
+                jooqService::executeQueryD1);
+        register("d2",
+                "D2) INTERSECT",
+                "SELECT DISTINCT c_nationkey FROM customer WHERE c_acctbal > 9000 AND c_nationkey IN (SELECT s_nationkey FROM supplier;",
+                myBatisService::executeQueryD2,
+                springDataJpaService::executeQueryD2,
+                cayenneService::executeQueryD2,
+                ebeanService::executeQueryD2,
+                jdbcService::executeQueryD2,
+                jooqService::executeQueryD2);
+        register("d3",
+                "D3) DIFFERENCE",
+                "SELECT DISTINCT c_nationkey FROM customer WHERE c_acctbal > 9000 AND c_nationkey NOT IN (SELECT s_nationkey FROM supplier;",
+                myBatisService::executeQueryD3,
+                springDataJpaService::executeQueryD3,
+                cayenneService::executeQueryD3,
+                ebeanService::executeQueryD3,
+                jdbcService::executeQueryD3,
+                jooqService::executeQueryD3);
+        register("e1",
+                "E1) Non-Indexed Columns Sorting",
+                "SELECT c_name, c_address, c_acctbal FROM customer ORDER BY c_acctbal DESC;",
+                myBatisService::executeQueryE1,
+                springDataJpaService::executeQueryE1,
+                cayenneService::executeQueryE1,
+                ebeanService::executeQueryE1,
+                jdbcService::executeQueryE1,
+                jooqService::executeQueryE1);
+        register("e2",
+                "E2) Indexed Columns Sorting",
+                "SELECT o_orderkey, o_custkey, o_orderdate, o_totalprice FROM orders ORDER BY o_orderkey;",
+                myBatisService::executeQueryE2,
+                springDataJpaService::executeQueryE2,
+                cayenneService::executeQueryE2,
+                ebeanService::executeQueryE2,
+                jdbcService::executeQueryE2,
+                jooqService::executeQueryE2);
+        register("e3",
+                "E3) Distinct",
+                "SELECT DISTINCT c_nationkey, c_mktsegment FROM customer;",
+                myBatisService::executeQueryE3,
+                springDataJpaService::executeQueryE3,
+                cayenneService::executeQueryE3,
+                ebeanService::executeQueryE3,
+                jdbcService::executeQueryE3,
+                jooqService::executeQueryE3);
+        register("f1",
+                "F1) Orders by Primary Key",
+                "SELECT * FROM orders WHERE o_orderkey = ?;",
+                myBatisService::executeQueryF1,
+                springDataJpaService::executeQueryF1,
+                cayenneService::executeQueryF1,
+                ebeanService::executeQueryF1,
+                jdbcService::executeQueryF1,
+                jooqService::executeQueryF1);
+        register("f2",
+                "F2) Customer by Primary Key",
+                "SELECT * FROM customer WHERE c_custkey = ?;",
+                myBatisService::executeQueryF2,
+                springDataJpaService::executeQueryF2,
+                cayenneService::executeQueryF2,
+                ebeanService::executeQueryF2,
+                jdbcService::executeQueryF2,
+                jooqService::executeQueryF2);
+        register("f3",
+                "F3) Line Item by Composite Key",
+                "SELECT * FROM lineitem WHERE l_orderkey = ? AND l_linenumber = ?;",
+                myBatisService::executeQueryF3,
+                springDataJpaService::executeQueryF3,
+                cayenneService::executeQueryF3,
+                ebeanService::executeQueryF3,
+                jdbcService::executeQueryF3,
+                jooqService::executeQueryF3);
+        register("f4",
+                "F4) Part Supplier by Composite Key",
+                "SELECT * FROM partsupp WHERE ps_partkey = ? AND ps_suppkey = ?;",
+                myBatisService::executeQueryF4,
+                springDataJpaService::executeQueryF4,
+                cayenneService::executeQueryF4,
+                ebeanService::executeQueryF4,
+                jdbcService::executeQueryF4,
+                jooqService::executeQueryF4);
+        register("g1",
+                "G1) Orders by Offset",
+                "SELECT * FROM orders ORDER BY o_orderkey LIMIT ? OFFSET ?;",
+                myBatisService::executeQueryG1,
+                springDataJpaService::executeQueryG1,
+                cayenneService::executeQueryG1,
+                ebeanService::executeQueryG1,
+                jdbcService::executeQueryG1,
+                jooqService::executeQueryG1);
+        register("g2",
+                "G2) Orders by Keyset",
+                "SELECT * FROM orders WHERE o_orderkey > ? ORDER BY o_orderkey LIMIT ?;",
+                myBatisService::executeQueryG2,
+                springDataJpaService::executeQueryG2,
+                cayenneService::executeQueryG2,
+                ebeanService::executeQueryG2,
+                jdbcService::executeQueryG2,
+                jooqService::executeQueryG2);
+        register("g3",
+                "G3) Line Items by Offset",
+                "SELECT * FROM lineitem ORDER BY l_orderkey, l_linenumber LIMIT ? OFFSET ?;",
+                myBatisService::executeQueryG3,
+                springDataJpaService::executeQueryG3,
+                cayenneService::executeQueryG3,
+                ebeanService::executeQueryG3,
+                jdbcService::executeQueryG3,
+                jooqService::executeQueryG3);
+        register("g4",
+                "G4) Line Items by Keyset",
+                "SELECT * FROM lineitem WHERE l_orderkey > ? OR (l_orderkey = ? AND l_linenumber > ?) ORDER BY l_orderkey, l_linenumber LIMIT ?;",
+                myBatisService::executeQueryG4,
+                springDataJpaService::executeQueryG4,
+                cayenneService::executeQueryG4,
+                ebeanService::executeQueryG4,
+                jdbcService::executeQueryG4,
+                jooqService::executeQueryG4);
+        register("h1",
+                "H1) Orders with Customer and Line Items — Lazy N+1",
+                "SELECT * FROM orders WHERE o_orderdate BETWEEN ? AND ?; SELECT * FROM customer WHERE c_custkey = ?; SELECT * FROM lineitem WHERE l_orderkey = ?;",
+                myBatisService::executeQueryH1,
+                springDataJpaService::executeQueryH1,
+                cayenneService::executeQueryH1,
+                ebeanService::executeQueryH1,
+                jdbcService::executeQueryH1,
+                jooqService::executeQueryH1);
+        register("h2",
+                "H2) Orders with Customer and Line Items — Join Fetch",
+                "SELECT * FROM orders o JOIN customer c ON c.c_custkey = o.o_custkey LEFT JOIN lineitem l ON l.l_orderkey = o.o_orderkey WHERE o.o_orderdate BETWEEN ? AND ?;",
+                myBatisService::executeQueryH2,
+                springDataJpaService::executeQueryH2,
+                cayenneService::executeQueryH2,
+                ebeanService::executeQueryH2,
+                jdbcService::executeQueryH2,
+                jooqService::executeQueryH2);
+        register("h3",
+                "H3) Orders with Customer and Line Items — Batch Fetch",
+                "SELECT * FROM orders WHERE o_orderdate BETWEEN ? AND ?; SELECT * FROM customer WHERE c_custkey IN (...); SELECT * FROM lineitem WHERE l_orderkey IN (...);",
+                myBatisService::executeQueryH3,
+                springDataJpaService::executeQueryH3,
+                cayenneService::executeQueryH3,
+                ebeanService::executeQueryH3,
+                jdbcService::executeQueryH3,
+                jooqService::executeQueryH3);
+    }
+
+    private void register(String query, String name, String description, QueryExecutor myBatisQuery,
+            QueryExecutor springDataJpaQuery, QueryExecutor cayenneQuery, QueryExecutor ebeanQuery,
+            QueryExecutor jdbcQuery, QueryExecutor jooqQuery) {
+        Map<String, QueryExecutor> services = new LinkedHashMap<>();
+        services.put("myBatis", myBatisQuery);
+        services.put("springDataJpa", springDataJpaQuery);
+        services.put("cayenne", cayenneQuery);
+        services.put("ebean", ebeanQuery);
+        services.put("jdbc", jdbcQuery);
+        services.put("jooq", jooqQuery);
+        queries.put(query, new QueryDefinition(name, description, services));
+    }
+
+    /**
+     * @return The names of all registered queries
+     */
+    public Set<String> getQueries() {
+        return queries.keySet();
+    }
+
+    /**
+     * Returns the definition of a query.
+     *
+     * @param query The query name, e.g. "q3"
+     * @return The query definition
+     * @throws IllegalArgumentException if the query is unknown
+     */
+    public QueryDefinition getQuery(String query) {
+        QueryDefinition definition = queries.get(query);
+        if (definition == null) {
+            throw new IllegalArgumentException("Unknown query: " + query);
+        }
+        return definition;
+    }
+
+    /**
+     * Returns the executor of a query on a service.
+     *
+     * @param query   The query name, e.g. "q3"
+     * @param service The service name, e.g. "jdbc"
+     * @return The query executor
+     * @throws IllegalArgumentException if the query or the service is unknown
+     */
+    public QueryExecutor getExecutor(String query, String service) {
+        QueryExecutor executor = getQuery(query).executors().get(service);
+        if (executor == null) {
+            throw new IllegalArgumentException("Unknown service: " + service);
+        }
+        return executor;
+    }
+
+    /**
+     * A query with its display name, description and the executors of every service.
+     *
+     * @param name        The display name of the query
+     * @param description The SQL or a short description of the query
+     * @param executors   The query executors keyed by service name
+     */
+    public record QueryDefinition(String name, String description, Map<String, QueryExecutor> executors) {
+    }
+}
@@ -0,0 +1,11 @@
+package cz.cuni.mff.java.kurinna.microservice.service;
+
+import cz.cuni.mff.java.kurinna.common.dto.Measurement;
+
+/**
+ * Functional interface for executing a query on a single microservice
+ */
+@FunctionalInterface
+public interface QueryExecutor {
+    Measurement execute(QueryParameters parameters, int warmup, int iterations) throws Exception;
+}
@@ -0,0 +1,305 @@
+package cz.cuni.mff.java.kurinna.microservice.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Generates the substitution parameters of the queries in the way the TPC-H qgen tool does. Every
+ * parameter is drawn uniformly from the domain defined by the TPC-H specification (clause 2.4), so
+ * consecutive requests of a query differ in their parameters and the database and ORM caches see
+ * a realistic mix of statements. A stream of parameters is fully determined by its seed.
+ * <p>
+ * The custom queries draw a one-year window of order dates (A2) and a window of 49 000 order keys (A4),
+ * the other custom queries have no parameters. The point lookups (F1-F4) draw the seed from which the
+ * microservice derives the looked up keys, bounded by the configured scale factor. The pagination queries
+ * (G1-G4) always walk the configured number of pages of the configured size from the start of the table.
+ * The object graph queries (H1-H3) draw a window of the configured number of order dates, the batch
+ * fetch is always executed with the configured batch size.
+ */
+@Service
+public class QueryParameterGenerator {
+    private static final String[] REGIONS = {"AFRICA", "AMERICA", "ASIA", "EUROPE", "MIDDLE EAST"};
+    private static final String[] NATIONS = {
+            "ALGERIA", "ARGENTINA", "BRAZIL", "CANADA", "EGYPT", "ETHIOPIA", "FRANCE", "GERMANY", "INDIA",
+            "INDONESIA", "IRAN", "IRAQ", "JAPAN", "JORDAN", "KENYA", "MOROCCO", "MOZAMBIQUE", "PERU", "CHINA",
+            "ROMANIA", "SAUDI ARABIA", "VIETNAM", "RUSSIA", "UNITED KINGDOM", "UNITED STATES"
+    };
+    // The region of every nation, indexed by the nation key
+    private static final int[] NATION_REGIONS = {
+            0, 1, 1, 1, 4, 0, 3, 3, 2, 2, 4, 4, 2, 4, 0, 0, 0, 1, 2, 3, 4, 2, 3, 3, 1
+    };
+    private static final String[] SEGMENTS = {"AUTOMOBILE", "BUILDING", "FURNITURE", "MACHINERY", "HOUSEHOLD"};
+    private static final String[] TYPE_SYLLABLES_1 = {"STANDARD", "SMALL", "MEDIUM", "LARGE", "ECONOMY", "PROMO"};
+    private static final String[] TYPE_SYLLABLES_2 = {"ANODIZED", "BURNISHED", "PLATED", "POLISHED", "BRUSHED"};
+    private static final String[] TYPE_SYLLABLES_3 = {"TIN", "NICKEL", "BRASS", "STEEL", "COPPER"};
+    private static final String[] CONTAINER_SYLLABLES_1 = {"SM", "LG", "MED", "JUMBO", "WRAP"};
+    private static final String[] CONTAINER_SYLLABLES_2 = {"CASE", "BOX", "BAG", "JAR", "PKG", "PACK", "CAN", "DRUM"};
+    private static final String[] SHIP_MODES = {"REG AIR", "AIR", "RAIL", "SHIP", "TRUCK", "MAIL", "FOB"};
+    private static final String[] WORDS_1 = {"special", "pending", "unusual", "express"};
+    private static final String[] WORDS_2 = {"packages", "requests", "accounts", "deposits"};
+    private static final String[] COLORS = {
+            "almond", "antique", "aquamarine", "azure", "beige", "bisque", "black", "blanched", "blue", "blush",
+            "brown", "burlywood", "burnished", "chartreuse", "chiffon", "chocolate", "coral", "cornflower",
+            "cornsilk", "cream", "cyan", "dark", "deep", "dim", "dodger", "drab", "firebrick", "floral", "forest",
+            "frosted", "gainsboro", "ghost", "goldenrod", "green", "grey", "honeydew", "hot", "indian", "ivory",
+            "khaki", "lace", "lavender", "lawn", "lemon", "light", "lime", "linen", "magenta", "maroon", "medium",
+            "metallic", "midnight", "mint", "misty", "moccasin", "navajo", "navy", "olive", "orange", "orchid",
+            "pale", "papaya", "peach", "peru", "pink", "plum", "powder", "puff", "purple", "red", "rose", "rosy",
+            "royal", "saddle", "salmon", "sandy", "seashell", "sienna", "sky", "slate", "smoke", "snow", "spring",
+            "steel", "tan", "thistle", "tomato", "turquoise", "violet", "wheat", "white", "yellow"
+    };
+    private static final int ORDER_KEY_WINDOW = 49_000;
+    private static final int LOOKUP_OPERATIONS = 1000;
+    // Order dates are in [1992-01-01, 1998-08-02]
+    private static final LocalDate FIRST_ORDER_DATE = LocalDate.of(1992, 1, 1);
+    private static final int ORDER_DATES = 2406;
+
+    private final double scaleFactor;
+    private final int pageSize;
+    private final int pages;
+    private final int graphDays;
+    private final int graphBatchSize;
+
+    public QueryParameterGenerator(@Value("${orchestrator.parameters.scale-factor:1}") double scaleFactor,
+            @Value("${orchestrator.pagination.page-size:100}") int pageSize,
+            @Value("${orchestrator.pagination.pages:100}") int pages,
+            @Value("${orchestrator.graph.days:7}") int graphDays,
+            @Value("${orchestrator.graph.batch-size:100}") int graphBatchSize) {
+        this.scaleFactor = scaleFactor;
+        this.pageSize = pageSize;
+        this.pages = pages;
+        this.graphDays = Math.min(Math.max(graphDays, 1), ORDER_DATES);
+        this.graphBatchSize = graphBatchSize;
+    }
+
+    /**
+     * Creates a stream of parameters.
+     *
+     * @param randomize Whether the parameters are drawn randomly, otherwise every request uses the
+     *                  parameters of the TPC-H validation run
+     * @param seed      The seed of the random draws
+     * @return The stream of parameters
+     */
+    public ParameterStream stream(boolean randomize, long seed) {
+        return new ParameterStream(randomize ? new Random(seed) : null, seed);
+    }
+
+    /**
+     * Returns the parameters of the TPC-H validation run (clause 2.4), the custom queries use the
+     * ranges they were originally defined with and the point lookups the seed 0.
+     *
+     * @param query The query name, e.g. "q3"
+     * @return The parameters of the query, empty if the query has none
+     */
+    public QueryParameters validation(String query) {
+        return switch (query) {
+            case "q1" -> parameters("delta", 90);
+            case "q2" -> parameters("size", 15, "type", "BRASS", "region", "EUROPE");
+            case "q3" -> parameters("segment", "BUILDING", "date", "1995-03-15");
+            case "q4" -> parameters("orderDate", "1993-07-01");
+            case "q5" -> parameters("region", "ASIA", "orderDate", "1994-01-01");
+            case "q6" -> parameters("shipDate", "1994-01-01", "discount", new BigDecimal("0.06"), "quantity", 24);
+            case "q7" -> parameters("nation1", "FRANCE", "nation2", "GERMANY");
+            case "q8" -> parameters("nation", "BRAZIL", "region", "AMERICA", "type", "ECONOMY ANODIZED STEEL");
+            case "q9" -> parameters("color", "green");
+            case "q10" -> parameters("orderDate", "1993-10-01");
+            case "q11" -> parameters("nation", "GERMANY", "fraction", new BigDecimal("0.0001"));
+            case "q12" -> parameters("shipMode1", "MAIL", "shipMode2", "SHIP", "receiptDate", "1994-01-01");
+            case "q13" -> parameters("word1", "special", "word2", "requests");
+            case "q14" -> parameters("shipDate", "1995-09-01");
+            case "q15" -> parameters("shipDate", "1996-01-01");
+            case "q16" -> parameters("brand", "Brand#45", "type", "MEDIUM POLISHED",
+                    "sizes", List.of(49, 14, 23, 45, 19, 3, 36, 9));
+            case "q17" -> parameters("brand", "Brand#23", "container", "MED BOX");
+            case "q18" -> parameters("quantity", 300);
+            case "q19" -> parameters("brand1", "Brand#12", "brand2", "Brand#23", "brand3", "Brand#34",
+                    "quantity1", 1, "quantity2", 10, "quantity3", 20);
+            case "q20" -> parameters("color", "forest", "shipDate", "1994-01-01", "nation", "CANADA");
+            case "q21" -> parameters("nation", "SAUDI ARABIA");
+            case "q22" -> parameters("countryCodes", List.of("13", "31", "23", "29", "30", "18", "17"));
+            case "a2" -> parameters("startDate", "1996-01-01", "endDate", "1996-12-31");
+            case "a4" -> parameters("minOrderKey", 1000, "maxOrderKey", 50000);
+            case "f1", "f2", "f3", "f4" -> lookups(0L);
+            case "g1", "g2", "g3", "g4" -> pagination();
+            case "h1", "h2", "h3" -> graph(LocalDate.of(1995, 1, 1));
+            default -> QueryParameters.NONE;
+        };
+    }
+
+    private QueryParameters lookups(long seed) {
+        return parameters("operations", LOOKUP_OPERATIONS, "seed", seed, "scaleFactor", scaleFactor);
+    }
+
+    private QueryParameters pagination() {
+        return parameters("pageSize", pageSize, "pages", pages);
+    }
+
+    private QueryParameters graph(LocalDate startDate) {
+        return parameters("startDate", startDate.toString(),
+                "endDate", startDate.plusDays(graphDays - 1).toString(), "batchSize", graphBatchSize);
+    }
+
+    private static QueryParameters parameters(Object... namesAndValues) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (int i = 0; i < namesAndValues.length; i += 2) {
+            values.put((String) namesAndValues[i], namesAndValues[i + 1]);
+        }
+        return new QueryParameters(values);
+    }
+
+    /**
+     * A sequence of parameters drawn from a single random generator. The draws are synchronized,
+     * so a stream can be shared by concurrent clients, the assignment of the draws to the clients
+     * is then no longer reproducible.
+     */
+    public final class ParameterStream {
+        private final Random random;
+        private final long seed;
+
+        private ParameterStream(Random random, long seed) {
+            this.random = random;
+            this.seed = seed;
+        }
+
+        public boolean isRandomized() {
+            return random != null;
+        }
+
+        public long getSeed() {
+            return seed;
+        }
+
+        /**
+         * Draws the parameters of the next request of a query.
+         *
+         * @param query The query name, e.g. "q3"
+         * @return The parameters of the query, empty if the query has none
+         */
+        public synchronized QueryParameters next(String query) {
+            if (random == null) {
+                return validation(query);
+            }
+            return switch (query) {
+                case "q1" -> parameters("delta", uniform(60, 120));
+                case "q2" -> parameters("size", uniform(1, 50), "type", pick(TYPE_SYLLABLES_3),
+                        "region", pick(REGIONS));
+                case "q3" -> parameters("segment", pick(SEGMENTS), "date", day(LocalDate.of(1995, 3, 1), 31));
+                case "q4" -> parameters("orderDate", month(YearMonth.of(1993, 1), YearMonth.of(1997, 10)));
+                case "q5" -> parameters("region", pick(REGIONS), "orderDate", year());
+                case "q6" -> parameters("shipDate", year(), "discount", BigDecimal.valueOf(uniform(2, 9), 2),
+                        "quantity", uniform(24, 25));
+                case "q7" -> {
+                    List<String> nations = distinct(NATIONS, 2);
+                    yield parameters("nation1", nations.get(0), "nation2", nations.get(1));
+                }
+                case "q8" -> {
+                    int nation = random.nextInt(NATIONS.length);
+                    yield parameters("nation", NATIONS[nation], "region", REGIONS[NATION_REGIONS[nation]],
+                            "type", pick(TYPE_SYLLABLES_1) + " " + pick(TYPE_SYLLABLES_2) + " " + pick(TYPE_SYLLABLES_3));
+                }
+                case "q9" -> parameters("color", pick(COLORS));
+                case "q10" -> parameters("orderDate", month(YearMonth.of(1993, 2), YearMonth.of(1995, 1)));
+                case "q11" -> parameters("nation", pick(NATIONS),
+                        "fraction", new BigDecimal("0.0001").divide(BigDecimal.valueOf(scaleFactor), MathContext.DECIMAL64));
+                case "q12" -> {
+                    List<String> shipModes = distinct(SHIP_MODES, 2);
+                    yield parameters("shipMode1", shipModes.get(0), "shipMode2", shipModes.get(1),
+                            "receiptDate", year());
+                }
+                case "q13" -> parameters("word1", pick(WORDS_1), "word2", pick(WORDS_2));
+                case "q14" -> parameters("shipDate", month(YearMonth.of(1993, 1), YearMonth.of(1997, 12)));
+                case "q15" -> parameters("shipDate", month(YearMonth.of(1993, 1), YearMonth.of(1997, 10)));
+                case "q16" -> {
+                    Set<Integer> sizes = new LinkedHashSet<>();
+                    while (sizes.size() < 8) {
+                        sizes.add(uniform(1, 50));
+                    }
+                    yield parameters("brand", brand(), "type", pick(TYPE_SYLLABLES_1) + " " + pick(TYPE_SYLLABLES_2),
+                            "sizes", List.copyOf(sizes));
+                }
+                case "q17" -> parameters("brand", brand(),
+                        "container", pick(CONTAINER_SYLLABLES_1) + " " + pick(CONTAINER_SYLLABLES_2));
+                case "q18" -> parameters("quantity", uniform(312, 315));
+                case "q19" -> parameters("brand1", brand(), "brand2", brand(), "brand3", brand(),
+                        "quantity1", uniform(1, 10), "quantity2", uniform(10, 20), "quantity3", uniform(20, 30));
+                case "q20" -> parameters("color", pick(COLORS), "shipDate", year(), "nation", pick(NATIONS));
+                case "q21" -> parameters("nation", pick(NATIONS));
+                case "q22" -> {
+                    // The country code of a phone number is the nation key plus 10
+                    List<String> countryCodes = new ArrayList<>();
+                    for (int nation : distinctIndices(NATIONS.length, 7)) {
+                        countryCodes.add(String.valueOf(nation + 10));
+                    }
+                    yield parameters("countryCodes", countryCodes);
+                }
+                case "a2" -> {
+                    YearMonth start = YearMonth.of(1992, 1).plusMonths(random.nextInt(68));
+                    yield parameters("startDate", start.atDay(1).toString(),
+                            "endDate", start.plusYears(1).atDay(1).minusDays(1).toString());
+                }
+                case "a4" -> {
+                    // Order keys are sparse, only the first 8 of every 32 keys up to 6 000 000 x SF are used
+                    int maxOrderKey = (int) Math.min(6_000_000L * scaleFactor, Integer.MAX_VALUE);
+                    int min = uniform(1, Math.max(maxOrderKey - ORDER_KEY_WINDOW, 1));
+                    yield parameters("minOrderKey", min, "maxOrderKey", min + ORDER_KEY_WINDOW);
+                }
+                case "f1", "f2", "f3", "f4" -> lookups(random.nextLong());
+                case "g1", "g2", "g3", "g4" -> pagination();
+                case "h1", "h2", "h3" -> graph(FIRST_ORDER_DATE.plusDays(random.nextInt(ORDER_DATES - graphDays + 1)));
+                default -> QueryParameters.NONE;
+            };
+        }
+
+        private int uniform(int min, int max) {
+            return min + random.nextInt(max - min + 1);
+        }
+
+        private String pick(String[] values) {
+            return values[random.nextInt(values.length)];
+        }
+
+        private String brand() {
+            return "Brand#" + uniform(1, 5) + uniform(1, 5);
+        }
+
+        // The first day of a year in [1993, 1997]
+        private String year() {
+            return LocalDate.of(uniform(1993, 1997), 1, 1).toString();
+        }
+
+        // The first day of a month in [from, to]
+        private String month(YearMonth from, YearMonth to) {
+            int months = (to.getYear() - from.getYear()) * 12 + to.getMonthValue() - from.getMonthValue();
+            return from.plusMonths(uniform(0, months)).atDay(1).toString();
+        }
+
+        // A day in [from, from + days)
+        private String day(LocalDate from, int days) {
+            return from.plusDays(random.nextInt(days)).toString();
+        }
+
+        private List<String> distinct(String[] values, int count) {
+            return distinctIndices(values.length, count).stream().map(i -> values[i]).toList();
+        }
+
+        private List<Integer> distinctIndices(int bound, int count) {
+            Set<Integer> indices = new LinkedHashSet<>();
+            while (indices.size() < count) {
+                indices.add(random.nextInt(bound));
+            }
+            return List.copyOf(indices);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package cz.cuni.mff.java.kurinna.microservice.service;
+
+import java.util.Map;
+
+/**
+ * Substitution parameters of a single query request, addressed by the names of the request
+ * parameters of the microservice endpoint. Dates are kept in ISO format (yyyy-MM-dd).
+ *
+ * @param values The parameter values in the order they are drawn
+ */
+public record QueryParameters(Map<String, Object> values) {
+    public static final QueryParameters NONE = new QueryParameters(Map.of());
+
+    /**
+     * @param name The name of the parameter
+     * @return The value of the parameter, typed by the call site
+     * @throws IllegalArgumentException if the parameter is missing
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String name) {
+        Object value = values.get(name);
+        if (value == null) {
+            throw new IllegalArgumentException("Missing query parameter: " + name);
+        }
+        return (T) value;
+    }
+}
@@ -0,0 +1,169 @@
+package cz.cuni.mff.java.kurinna.microservice.service;
+
+import cz.cuni.mff.java.kurinna.microservice.utils.StatisticalTests;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.DoubleStream;
+
+/**
+ * Compares stored benchmark results of a candidate against a baseline. A run is selected either
+ * by its run id or by its tag, the requests of all matching records are pooled per query and service.
+ * The unit of the comparison is a request, represented by the median of its in-service iterations:
+ * the iterations of one request share the JVM, the connection and the caches of the service, so they
+ * are not independent samples. Records stored before the request medians were kept contribute their
+ * overall median as a single request.
+ * Only runs that executed the same workload, i.e. drew their query parameters with the same seed and
+ * randomization, are compared.
+ */
+@Service
+public class ResultComparisonService {
+    private final ResultStore resultStore;
+
+    public ResultComparisonService(ResultStore resultStore) {
+        this.resultStore = resultStore;
+    }
+
+    /**
+     * Compares the request medians of the execution times and allocated bytes of every query and
+     * service present in both the baseline and the candidate with a two-sided Mann-Whitney U test.
+     * A metric is flagged as a regression if the difference is significant and the median increased
+     * by more than the threshold.
+     *
+     * @param baseline  The run id or tag of the baseline
+     * @param candidate The run id or tag of the candidate
+     * @param query     Optional query name to restrict the comparison to
+     * @param service   Optional service name to restrict the comparison to
+     * @param alpha     The significance level
+     * @param threshold The minimal relative increase of the median considered a regression, e.g. 0.05
+     * @return A map containing the comparison of every query and service and the list of regressions
+     * @throws IOException if the stored results cannot be read
+     * @throws IllegalArgumentException if the baseline and the candidate drew different query parameters
+     */
+    public Map<String, Object> compare(String baseline, String candidate, Optional<String> query,
+            Optional<String> service, double alpha, double threshold) throws IOException {
+        Set<String> baselineWorkloads = new LinkedHashSet<>();
+        Set<String> candidateWorkloads = new LinkedHashSet<>();
+        Map<String, double[][]> baselineSamples = pool(baseline, query, service, baselineWorkloads);
+        Map<String, double[][]> candidateSamples = pool(candidate, query, service, candidateWorkloads);
+        if (!baselineWorkloads.equals(candidateWorkloads)) {
+            throw new IllegalArgumentException("Baseline and candidate executed different workloads: "
+                    + baselineWorkloads + " and " + candidateWorkloads);
+        }
+
+        List<Map<String, Object>> comparisons = new ArrayList<>();
+        List<Map<String, Object>> regressions = new ArrayList<>();
+        baselineSamples.forEach((key, base) -> {
+            double[][] cand = candidateSamples.get(key);
+            if (cand == null) {
+                return;
+            }
+            String[] parts = key.split("/", 2);
+            Map<String, Object> executionTime = compareMetric(base[0], cand[0], alpha, threshold);
+            Map<String, Object> memoryUsage = compareMetric(base[1], cand[1], alpha, threshold);
+
+            Map<String, Object> comparison = new LinkedHashMap<>();
+            comparison.put("query", parts[0]);
+            comparison.put("service", parts[1]);
+            comparison.put("executionTime", executionTime);
+            comparison.put("memoryUsage", memoryUsage);
+            comparisons.add(comparison);
+
+            for (Map.Entry<String, Map<String, Object>> metric : Map.of(
+                    "executionTime", executionTime, "memoryUsage", memoryUsage).entrySet()) {
+                if (Boolean.TRUE.equals(metric.getValue().get("regression"))) {
+                    Map<String, Object> regression = new LinkedHashMap<>();
+                    regression.put("query", parts[0]);
+                    regression.put("service", parts[1]);
+                    regression.put("metric", metric.getKey());
+                    regression.put("relativeChange", metric.getValue().get("relativeChange"));
+                    regression.put("pValue", metric.getValue().get("pValue"));
+                    regressions.add(regression);
+                }
+            }
+        });
+
+        Map<String, Object> results = new LinkedHashMap<>();
+        results.put("baseline", baseline);
+        results.put("candidate", candidate);
+        results.put("workloads", baselineWorkloads);
+        results.put("test", "Mann-Whitney U, two-sided");
+        results.put("unit", "median of the iterations of every request");
+        results.put("alpha", alpha);
+        results.put("threshold", threshold);
+        results.put("comparisons", comparisons);
+        results.put("regressions", regressions);
+        return results;
+    }
+
+    private Map<String, Object> compareMetric(double[] baseline, double[] candidate, double alpha,
+            double threshold) {
+        double baselineMedian = StatisticalTests.median(baseline);
+        double candidateMedian = StatisticalTests.median(candidate);
+        double relativeChange = baselineMedian > 0 ? (candidateMedian - baselineMedian) / baselineMedian : 0.0;
+        StatisticalTests.MannWhitneyResult test = StatisticalTests.mannWhitney(baseline, candidate);
+        boolean significant = test.pValue() < alpha;
+
+        Map<String, Object> metric = new LinkedHashMap<>();
+        metric.put("baselineRequests", baseline.length);
+        metric.put("candidateRequests", candidate.length);
+        metric.put("baselineMedian", baselineMedian);
+        metric.put("candidateMedian", candidateMedian);
+        metric.put("relativeChange", relativeChange);
+        metric.put("u", test.u());
+        metric.put("z", test.z());
+        metric.put("pValue", test.pValue());
+        metric.put("probabilityOfIncrease", test.probabilityOfIncrease());
+        metric.put("significant", significant);
+        metric.put("regression", significant && relativeChange > threshold);
+        metric.put("improvement", significant && relativeChange < -threshold);
+        return metric;
+    }
+
+    /**
+     * Pools the request medians of all records of a run per query and service.
+     *
+     * @param workloads Collects the seed and randomization of the parameters of every pooled record
+     * @return For every "query/service" key the execution time and allocated bytes request medians
+     */
+    private Map<String, double[][]> pool(String selector, Optional<String> query, Optional<String> service,
+            Set<String> workloads) throws IOException {
+        Predicate<ResultStore.IndexEntry> filter = entry -> (entry.runId().equals(selector)
+                || entry.tag().equals(selector))
+                && query.map(entry.query()::equals).orElse(true)
+                && service.map(entry.service()::equals).orElse(true);
+
+        Map<String, double[][]> pooled = new LinkedHashMap<>();
+        for (RunRecord record : resultStore.load(filter)) {
+            String key = record.query() + "/" + record.service();
+            workloads.add("seed=" + record.parameters().get("seed")
+                    + ", randomize=" + record.parameters().get("randomize"));
+            double[][] samples = pooled.getOrDefault(key, new double[][] { {}, {} });
+            pooled.put(key, new double[][] {
+                    DoubleStream.concat(DoubleStream.of(samples[0]),
+                            DoubleStream.of(requests(record.requestExecutionTimes(), record.executionTimes()))).toArray(),
+                    DoubleStream.concat(DoubleStream.of(samples[1]),
+                            DoubleStream.of(requests(record.requestMemoryUsages(), record.memoryUsages()))).toArray()
+            });
+        }
+        return pooled;
+    }
+
+    /**
+     * @return The request medians, or the median of all samples if the record has no request medians
+     */
+    private static double[] requests(double[] medians, double[] samples) {
+        if (medians != null) {
+            return medians;
+        }
+        return samples.length == 0 ? samples : new double[] { StatisticalTests.median(samples) };
+    }
+}
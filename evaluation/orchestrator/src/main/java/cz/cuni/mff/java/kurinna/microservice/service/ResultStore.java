@@ -0,0 +1,201 @@
+package cz.cuni.mff.java.kurinna.microservice.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+/**
+ * Append-only store of benchmark results. Every record is written as a single JSON line to a
+ * log file, an in-memory index of the record offsets is rebuilt from the log on startup, so
+ * records can be listed without parsing their samples and read individually by offset.
+ */
+@Service
+public class ResultStore {
+    private static final String LOG_FILE = "runs.jsonl";
+    private static final String UNTAGGED = "untagged";
+
+    private final ObjectMapper objectMapper;
+    private final Path logFile;
+    private final String defaultTag;
+    private final List<IndexEntry> index = new ArrayList<>();
+    private final FileChannel channel;
+
+    public ResultStore(ObjectMapper objectMapper,
+            @Value("${orchestrator.results.dir:results}") String directory,
+            @Value("${orchestrator.results.tag:}") String defaultTag) throws IOException {
+        this.objectMapper = objectMapper;
+        this.defaultTag = defaultTag;
+        this.logFile = Path.of(directory).resolve(LOG_FILE);
+        Files.createDirectories(logFile.getParent());
+        this.channel = FileChannel.open(logFile, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        rebuildIndex();
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Returns the tag stored with a run.
+     *
+     * @param tag The tag requested for the run, may be null or blank
+     * @return The requested tag, otherwise the configured default tag, otherwise "untagged"
+     */
+    public String resolveTag(String tag) {
+        if (tag != null && !tag.isBlank()) {
+            return tag.trim();
+        }
+        return defaultTag.isBlank() ? UNTAGGED : defaultTag.trim();
+    }
+
+    /**
+     * Appends a record to the log. A failure to write is reported but does not fail the benchmark.
+     *
+     * @param record The record to store
+     */
+    public synchronized void append(RunRecord record) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(record);
+            ByteBuffer buffer = ByteBuffer.allocate(json.length + 1).put(json).put((byte) '\n').flip();
+            long offset = channel.size();
+            long position = offset;
+            while (buffer.hasRemaining()) {
+                position += channel.write(buffer, position);
+            }
+            index.add(IndexEntry.of(record, offset, json.length));
+        } catch (IOException e) {
+            System.out.println("Failed to store result " + record.id() + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Lists the index entries matching a filter, the most recent first.
+     *
+     * @param filter The filter of the entries
+     * @param limit  The maximum number of entries
+     * @return The matching entries
+     */
+    public synchronized List<IndexEntry> find(Predicate<IndexEntry> filter, int limit) {
+        List<IndexEntry> entries = new ArrayList<>();
+        for (int i = index.size() - 1; i >= 0 && entries.size() < limit; i--) {
+            if (filter.test(index.get(i))) {
+                entries.add(index.get(i));
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Reads the records matching a filter, in the order they were stored.
+     *
+     * @param filter The filter of the entries
+     * @return The matching records
+     * @throws IOException if the log cannot be read
+     */
+    public List<RunRecord> load(Predicate<IndexEntry> filter) throws IOException {
+        List<IndexEntry> entries;
+        synchronized (this) {
+            entries = index.stream().filter(filter).toList();
+        }
+        List<RunRecord> records = new ArrayList<>(entries.size());
+        for (IndexEntry entry : entries) {
+            records.add(read(entry));
+        }
+        return records;
+    }
+
+    /**
+     * Reads a single record.
+     *
+     * @param id The record id
+     * @return The record if it exists
+     * @throws IOException if the log cannot be read
+     */
+    public Optional<RunRecord> get(String id) throws IOException {
+        List<RunRecord> records = load(entry -> entry.id().equals(id));
+        return records.stream().findFirst();
+    }
+
+    private RunRecord read(IndexEntry entry) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(entry.length());
+        long position = entry.offset();
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new IOException("Unexpected end of " + logFile);
+            }
+            position += read;
+        }
+        return objectMapper.readValue(buffer.array(), RunRecord.class);
+    }
+
+    /**
+     * Scans the log and indexes every complete record. A truncated last line, e.g. after a crash
+     * during a write, is skipped and overwritten by the next record.
+     */
+    private void rebuildIndex() throws IOException {
+        long offset = 0;
+        long validEnd = 0;
+        try (InputStream input = new BufferedInputStream(Files.newInputStream(logFile))) {
+            ByteArrayOutputStream line = new ByteArrayOutputStream();
+            int b;
+            while ((b = input.read()) != -1) {
+                if (b != '\n') {
+                    line.write(b);
+                    continue;
+                }
+                byte[] json = line.toByteArray();
+                line.reset();
+                try {
+                    index.add(IndexEntry.of(objectMapper.readValue(json, RunRecord.class), offset, json.length));
+                } catch (IOException e) {
+                    System.out.println("Skipping unreadable result at offset " + offset + ": " + e.getMessage());
+                }
+                offset += json.length + 1;
+                validEnd = offset;
+            }
+        }
+        if (channel.size() > validEnd) {
+            channel.truncate(validEnd);
+        }
+    }
+
+    /**
+     * Position and summary of a stored record.
+     *
+     * @param id        The id of the record
+     * @param runId     The id of the benchmark run the record belongs to
+     * @param timestamp The time the record was stored
+     * @param tag       The version tag of the run
+     * @param source    The kind of run that produced the record
+     * @param query     The query name
+     * @param service   The service name
+     * @param samples   The number of execution time samples
+     * @param offset    The offset of the record in the log
+     * @param length    The length of the record in bytes
+     */
+    public record IndexEntry(String id, String runId, String timestamp, String tag, String source, String query,
+            String service, int samples, long offset, int length) {
+        static IndexEntry of(RunRecord record, long offset, int length) {
+            return new IndexEntry(record.id(), record.runId(), record.timestamp(), record.tag(), record.source(),
+                    record.query(), record.service(), record.executionTimes().length, offset, length);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package cz.cuni.mff.java.kurinna.microservice.service;
+
+import java.util.Map;
+
+/**
+ * Stored measurements of one query on one service within a benchmark run.
+ *
+ * @param id             The id of the record
+ * @param runId          The id of the benchmark run the record belongs to
+ * @param timestamp      The time the record was stored
+ * @param tag            The version tag of the run, e.g. a git commit or a library version
+ * @param source         The kind of run that produced the record, "query" or "suite"
+ * @param query          The query name, e.g. "q3"
+ * @param service        The service name, e.g. "jdbc"
+ * @param parameters     The parameters of the run
+ * @param executionTimes The measured execution times in milliseconds
+ * @param memoryUsages   The measured allocated bytes
+ * @param requestExecutionTimes The median execution time of every request in milliseconds, null in records
+ *                              stored before the medians were kept
+ * @param requestMemoryUsages   The median allocated bytes of every request, null in records stored before
+ *                              the medians were kept
+ */
+public record RunRecord(String id, String runId, String timestamp, String tag, String source, String query,
+        String service, Map<String, Object> parameters, double[] executionTimes, double[] memoryUsages,
+        double[] requestExecutionTimes, double[] requestMemoryUsages) {
+}
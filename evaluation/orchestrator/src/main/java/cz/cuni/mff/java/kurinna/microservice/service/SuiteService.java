@@ -0,0 +1,243 @@
+package cz.cuni.mff.java.kurinna.microservice.service;
+
+import cz.cuni.mff.java.kurinna.common.dto.Measurement;
+import cz.cuni.mff.java.kurinna.microservice.utils.Measurements;
+import cz.cuni.mff.java.kurinna.microservice.utils.SampleStatistics;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Runs every selected query on every selected service. The cells of the matrix are executed
+ * in rounds, optionally in a different random order in every round, so slow drifts of the
+ * database or the host are spread evenly over all cells instead of penalizing the last ones.
+ * The query parameters are drawn once per query and round, so all services of a round receive
+ * the same parameters regardless of the order of the cells.
+ */
+@Service
+public class SuiteService {
+    private final QueryCatalog queryCatalog;
+    private final ResultStore resultStore;
+    private final QueryParameterGenerator parameterGenerator;
+
+    public SuiteService(QueryCatalog queryCatalog, ResultStore resultStore,
+            QueryParameterGenerator parameterGenerator) {
+        this.queryCatalog = queryCatalog;
+        this.resultStore = resultStore;
+        this.parameterGenerator = parameterGenerator;
+    }
+
+    /**
+     * @param settings The settings of the run
+     * @return The number of requests the suite sends, used as the progress of its job
+     */
+    public int countSteps(SuiteSettings settings) {
+        return (settings.warmupRounds() + settings.repetitions()) * settings.queries().size()
+                * settings.services().size();
+    }
+
+    /**
+     * Runs the suite.
+     *
+     * @param settings The settings of the run
+     * @param job      The job reporting the progress, one step per request
+     * @return A map containing the settings, the statistics of every cell and the ranking per category
+     * @throws InterruptedException if the run is cancelled
+     */
+    public Map<String, Object> run(SuiteSettings settings, BenchmarkJob job) throws InterruptedException {
+        Instant startedAt = Instant.now();
+        Random random = new Random(settings.seed());
+        QueryParameterGenerator.ParameterStream stream = parameterGenerator.stream(settings.randomize(), settings.seed());
+
+        Map<String, Map<String, Cell>> cells = new LinkedHashMap<>();
+        List<Cell> order = new ArrayList<>();
+        for (String query : settings.queries()) {
+            Map<String, Cell> row = new LinkedHashMap<>();
+            for (String service : settings.services()) {
+                Cell cell = new Cell(query, service, queryCatalog.getExecutor(query, service));
+                row.put(service, cell);
+                order.add(cell);
+            }
+            cells.put(query, row);
+        }
+
+        int rounds = settings.warmupRounds() + settings.repetitions();
+        for (int round = 0; round < rounds; round++) {
+            boolean measured = round >= settings.warmupRounds();
+            Map<String, QueryParameters> roundParameters = new LinkedHashMap<>();
+            for (String query : settings.queries()) {
+                roundParameters.put(query, stream.next(query));
+            }
+            if (settings.shuffle()) {
+                Collections.shuffle(order, random);
+            }
+            for (Cell cell : order) {
+                if (Thread.currentThread().isInterrupted()) {
+                    throw new InterruptedException("Suite cancelled");
+                }
+                cell.execute(roundParameters.get(cell.query), measured ? settings.iterations() : 1, measured);
+                job.advance();
+                if (settings.pauseMillis() > 0) {
+                    Thread.sleep(settings.pauseMillis());
+                }
+            }
+        }
+
+        String runId = UUID.randomUUID().toString();
+        String tag = resultStore.resolveTag(settings.tag());
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        parameters.put("warmup", settings.warmupRounds());
+        parameters.put("repetitions", settings.repetitions());
+        parameters.put("iterations", settings.iterations());
+        parameters.put("shuffle", settings.shuffle());
+        parameters.put("seed", settings.seed());
+        parameters.put("randomize", settings.randomize());
+        parameters.put("pause", settings.pauseMillis());
+
+        Map<String, Object> matrix = new LinkedHashMap<>();
+        cells.forEach((query, row) -> {
+            row.forEach((service, cell) -> resultStore.append(new RunRecord(UUID.randomUUID().toString(), runId,
+                    Instant.now().toString(), tag, "suite", query, service, parameters,
+                    cell.measurements.getExecutionTimeSamples(), cell.measurements.getMemoryUsageSamples(),
+                    cell.measurements.getRequestExecutionTimes(), cell.measurements.getRequestMemoryUsages())));
+
+            QueryCatalog.QueryDefinition definition = queryCatalog.getQuery(query);
+            Map<String, Object> services = new LinkedHashMap<>();
+            row.forEach((service, cell) -> services.put(service, cell.toMap()));
+
+            Map<String, Object> queryResults = new LinkedHashMap<>();
+            queryResults.put("query", definition.name());
+            queryResults.put("description", definition.description());
+            queryResults.put("services", services);
+            matrix.put(query, queryResults);
+        });
+
+        Map<String, Object> results = new LinkedHashMap<>();
+        results.put("runId", runId);
+        results.put("tag", tag);
+        results.put("settings", settings);
+        results.put("startedAt", startedAt.toString());
+        results.put("finishedAt", Instant.now().toString());
+        results.put("cells", matrix);
+        results.put("ranking", rank(cells));
+        return results;
+    }
+
+    /**
+     * Ranks the services within every query category (the first letter of the query name).
+     * In every query the services are ranked by their median execution time, the category
+     * ranking orders them by their average rank and also reports the geometric mean of their
+     * median times relative to the fastest service of each query.
+     */
+    private Map<String, Object> rank(Map<String, Map<String, Cell>> cells) {
+        Map<String, Map<String, List<double[]>>> scoresByCategory = new LinkedHashMap<>();
+
+        cells.forEach((query, row) -> {
+            List<Cell> ranked = row.values().stream()
+                    .filter(cell -> cell.executionTime.getCount() > 0)
+                    .sorted(Comparator.comparingDouble(cell -> cell.executionTime.getPercentile(50.0)))
+                    .toList();
+            if (ranked.isEmpty()) {
+                return;
+            }
+            double fastest = Math.max(ranked.getFirst().executionTime.getPercentile(50.0), Double.MIN_NORMAL);
+            String category = query.substring(0, 1).toUpperCase();
+            Map<String, List<double[]>> scores = scoresByCategory.computeIfAbsent(category,
+                    c -> new LinkedHashMap<>());
+            for (int i = 0; i < ranked.size(); i++) {
+                Cell cell = ranked.get(i);
+                double relative = Math.max(cell.executionTime.getPercentile(50.0), Double.MIN_NORMAL) / fastest;
+                scores.computeIfAbsent(cell.service, s -> new ArrayList<>()).add(new double[] { i + 1, relative });
+            }
+        });
+
+        Map<String, Object> ranking = new LinkedHashMap<>();
+        scoresByCategory.forEach((category, scores) -> {
+            List<Map<String, Object>> entries = new ArrayList<>();
+            scores.forEach((service, values) -> {
+                double rankSum = 0.0;
+                double logSum = 0.0;
+                for (double[] value : values) {
+                    rankSum += value[0];
+                    logSum += Math.log(value[1]);
+                }
+                Map<String, Object> entry = new LinkedHashMap<>();
+                entry.put("service", service);
+                entry.put("averageRank", rankSum / values.size());
+                entry.put("relativeMedianTime", Math.exp(logSum / values.size()));
+                entry.put("queries", values.size());
+                entries.add(entry);
+            });
+            entries.sort(Comparator
+                    .comparingDouble((Map<String, Object> entry) -> (double) entry.get("averageRank"))
+                    .thenComparingDouble(entry -> (double) entry.get("relativeMedianTime")));
+            for (int i = 0; i < entries.size(); i++) {
+                entries.get(i).put("rank", i + 1);
+            }
+            ranking.put(category, entries);
+        });
+        return ranking;
+    }
+
+    /**
+     * A single query on a single service
+     */
+    private static final class Cell {
+        private final String query;
+        private final String service;
+        private final QueryExecutor queryExecutor;
+        private final Measurements measurements = new Measurements();
+        private final SampleStatistics executionTime = measurements.getExecutionTime();
+        private int requests;
+        private int errors;
+        private String lastError;
+
+        private Cell(String query, String service, QueryExecutor queryExecutor) {
+            this.query = query;
+            this.service = service;
+            this.queryExecutor = queryExecutor;
+        }
+
+        private void execute(QueryParameters parameters, int iterations, boolean measured) {
+            try {
+                Measurement response = queryExecutor.execute(parameters, 0, iterations);
+                if (measured) {
+                    requests++;
+                    if ("error".equals(response.status())) {
+                        errors++;
+                        lastError = response.error();
+                    } else {
+                        measurements.record(response);
+                    }
+                }
+            } catch (Exception e) {
+                if (measured) {
+                    requests++;
+                    errors++;
+                    lastError = e.getMessage();
+                }
+            }
+        }
+
+        private Map<String, Object> toMap() {
+            Map<String, Object> cell = new LinkedHashMap<>();
+            cell.put("status", errors == 0 ? "success" : errors < requests ? "partial" : "error");
+            cell.put("requests", requests);
+            cell.put("errors", errors);
+            if (lastError != null) {
+                cell.put("error", lastError);
+            }
+            cell.put("executionTimeStatistics", executionTime.toMap());
+            cell.put("memoryUsageStatistics", measurements.getMemoryUsage().toMap());
+            return cell;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package cz.cuni.mff.java.kurinna.microservice.service;
+
+import java.util.Set;
+
+/**
+ * Settings of a suite run over the query × service matrix.
+ *
+ * @param queries      The queries to run
+ * @param services     The services to query
+ * @param warmupRounds The number of unmeasured rounds over the whole matrix before the measured ones
+ * @param repetitions  The number of measured rounds over the whole matrix
+ * @param iterations   The number of measured executions inside the service per request
+ * @param shuffle      Whether the order of the cells is randomized in every round
+ * @param seed         The seed of the randomized ordering and of the drawn query parameters
+ * @param randomize    Whether the query parameters are drawn randomly for every round instead of
+ *                     using the parameters of the TPC-H validation run
+ * @param pauseMillis  The pause between two consecutive requests in milliseconds
+ * @param tag          The version tag stored with the results, the configured default if null
+ */
+public record SuiteSettings(Set<String> queries, Set<String> services, int warmupRounds, int repetitions,
+        int iterations, boolean shuffle, long seed, boolean randomize, long pauseMillis, String tag) {
+}
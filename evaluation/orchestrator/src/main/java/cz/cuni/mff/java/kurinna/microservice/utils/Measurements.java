@@ -0,0 +1,100 @@
+package cz.cuni.mff.java.kurinna.microservice.utils;
+
+import cz.cuni.mff.java.kurinna.common.dto.IterationSample;
+import cz.cuni.mff.java.kurinna.common.dto.JfrStats;
+import cz.cuni.mff.java.kurinna.common.dto.Measurement;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Execution times and allocated bytes collected from microservice responses, kept both as
+ * distributions and as the raw samples in the order they were measured. The median of every
+ * response is kept as well, the iterations of one request share the state of the service, so
+ * only the requests are independent samples.
+ */
+public class Measurements {
+    private final SampleStatistics executionTime = new SampleStatistics();
+    private final SampleStatistics memoryUsage = new SampleStatistics();
+    private final List<Double> executionTimeSamples = new ArrayList<>();
+    private final List<Double> memoryUsageSamples = new ArrayList<>();
+    private final List<Double> requestExecutionTimes = new ArrayList<>();
+    private final List<Double> requestMemoryUsages = new ArrayList<>();
+
+    /**
+     * Helper method to record the execution time and allocated bytes of a service response.
+     * Every measured in-service iteration is recorded as a separate sample when the response
+     * contains them, otherwise the averaged values of the response are recorded. The allocated bytes
+     * are left out if the service reported its JFR statistics as incomplete.
+     *
+     * @param response The response of the microservice
+     */
+    public void record(Measurement response) {
+        int executionTimes = executionTimeSamples.size();
+        int memoryUsages = memoryUsageSamples.size();
+        if (response.samples() != null && !response.samples().isEmpty()) {
+            for (IterationSample sample : response.samples()) {
+                record(sample.elapsed(), complete(sample.jfr()) ? sample.delta() : null);
+            }
+        } else if (response.elapsed() != null) {
+            record(response.elapsed(), complete(response.jfr()) ? response.delta() : null);
+        }
+        recordMedian(executionTimeSamples.subList(executionTimes, executionTimeSamples.size()), requestExecutionTimes);
+        recordMedian(memoryUsageSamples.subList(memoryUsages, memoryUsageSamples.size()), requestMemoryUsages);
+    }
+
+    private static boolean complete(JfrStats jfr) {
+        return jfr == null || jfr.complete();
+    }
+
+    private static void recordMedian(List<Double> samples, List<Double> medians) {
+        if (!samples.isEmpty()) {
+            medians.add(StatisticalTests.median(samples.stream().mapToDouble(Double::doubleValue).toArray()));
+        }
+    }
+
+    private void record(double elapsed, Long delta) {
+        executionTime.record(elapsed);
+        executionTimeSamples.add(elapsed);
+        if (delta != null) {
+            memoryUsage.record(delta);
+            memoryUsageSamples.add(delta.doubleValue());
+        }
+    }
+
+    /**
+     * @return The execution time distribution in milliseconds
+     */
+    public SampleStatistics getExecutionTime() {
+        return executionTime;
+    }
+
+    /**
+     * @return The allocated bytes distribution
+     */
+    public SampleStatistics getMemoryUsage() {
+        return memoryUsage;
+    }
+
+    public double[] getExecutionTimeSamples() {
+        return executionTimeSamples.stream().mapToDouble(Double::doubleValue).toArray();
+    }
+
+    public double[] getMemoryUsageSamples() {
+        return memoryUsageSamples.stream().mapToDouble(Double::doubleValue).toArray();
+    }
+
+    /**
+     * @return The median execution time of every response in milliseconds
+     */
+    public double[] getRequestExecutionTimes() {
+        return requestExecutionTimes.stream().mapToDouble(Double::doubleValue).toArray();
+    }
+
+    /**
+     * @return The median allocated bytes of every response
+     */
+    public double[] getRequestMemoryUsages() {
+        return requestMemoryUsages.stream().mapToDouble(Double::doubleValue).toArray();
+    }
+}
@@ -0,0 +1,140 @@
+package cz.cuni.mff.java.kurinna.microservice.utils;
+
+import org.HdrHistogram.DoubleHistogram;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Distribution of a measured quantity (execution time, allocated bytes) collected across
+ * repetitions and in-service iterations. Percentiles are taken from an HdrHistogram with
+ * three significant digits, mean and standard deviation are computed exactly from the samples.
+ */
+public class SampleStatistics {
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    /**
+     * Two-sided 97.5% quantiles of the Student t-distribution for 1 to 30 degrees of freedom.
+     */
+    private static final double[] T_QUANTILES = {
+            12.706, 4.303, 3.182, 2.776, 2.571, 2.447, 2.365, 2.306, 2.262, 2.228,
+            2.201, 2.179, 2.160, 2.145, 2.131, 2.120, 2.110, 2.101, 2.093, 2.086,
+            2.080, 2.074, 2.069, 2.064, 2.060, 2.056, 2.052, 2.048, 2.045, 2.042
+    };
+    private static final double Z_QUANTILE = 1.960;
+
+    private final DoubleHistogram histogram = new DoubleHistogram(SIGNIFICANT_DIGITS);
+    private long count;
+    private double mean;
+    private double sumOfSquares;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    /**
+     * Records a single sample. Negative values are clamped to zero.
+     *
+     * @param value The measured value
+     */
+    public void record(double value) {
+        double sample = Math.max(value, 0.0);
+        histogram.recordValue(sample);
+
+        // Welford's online algorithm keeps the variance numerically stable
+        count++;
+        double delta = sample - mean;
+        mean += delta / count;
+        sumOfSquares += delta * (sample - mean);
+
+        min = Math.min(min, sample);
+        max = Math.max(max, sample);
+    }
+
+    /**
+     * Adds all samples of another distribution to this one.
+     *
+     * @param other The statistics to merge into this instance
+     */
+    public void add(SampleStatistics other) {
+        if (other.count == 0) {
+            return;
+        }
+        histogram.add(other.histogram);
+
+        long total = count + other.count;
+        double delta = other.mean - mean;
+        sumOfSquares += other.sumOfSquares + delta * delta * count * other.count / total;
+        mean += delta * other.count / total;
+        count = total;
+
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMean() {
+        return count > 0 ? mean : 0.0;
+    }
+
+    public double getMin() {
+        return count > 0 ? min : 0.0;
+    }
+
+    public double getMax() {
+        return count > 0 ? max : 0.0;
+    }
+
+    /**
+     * @return The sample standard deviation, or 0 if fewer than two samples were recorded
+     */
+    public double getStdDev() {
+        return count > 1 ? Math.sqrt(sumOfSquares / (count - 1)) : 0.0;
+    }
+
+    /**
+     * @param percentile The percentile in the range 0 to 100
+     * @return The value at the given percentile, or 0 if no samples were recorded
+     */
+    public double getPercentile(double percentile) {
+        // The histogram reports the upper bound of the bucket, which may exceed the largest sample
+        return count > 0 ? Math.min(histogram.getValueAtPercentile(percentile), max) : 0.0;
+    }
+
+    /**
+     * @return Half-width of the 95% confidence interval of the mean
+     */
+    public double getConfidenceHalfWidth() {
+        if (count < 2) {
+            return 0.0;
+        }
+        long degreesOfFreedom = count - 1;
+        double quantile = degreesOfFreedom <= T_QUANTILES.length
+                ? T_QUANTILES[(int) degreesOfFreedom - 1]
+                : Z_QUANTILE;
+        return quantile * getStdDev() / Math.sqrt(count);
+    }
+
+    /**
+     * Helper method to convert the statistics into a response map
+     *
+     * @return A map containing the sample count, mean, spread, percentiles and the 95% confidence interval
+     */
+    public Map<String, Object> toMap() {
+        double halfWidth = getConfidenceHalfWidth();
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        statistics.put("count", getCount());
+        statistics.put("mean", getMean());
+        statistics.put("stdDev", getStdDev());
+        statistics.put("min", getMin());
+        statistics.put("max", getMax());
+        statistics.put("p50", getPercentile(50.0));
+        statistics.put("p90", getPercentile(90.0));
+        statistics.put("p99", getPercentile(99.0));
+        statistics.put("p999", getPercentile(99.9));
+        statistics.put("ci95Lower", getMean() - halfWidth);
+        statistics.put("ci95Upper", getMean() + halfWidth);
+        return statistics;
+    }
+}
@@ -0,0 +1,106 @@
+package cz.cuni.mff.java.kurinna.microservice.utils;
+
+import java.util.Arrays;
+
+/**
+ * Non-parametric tests used to compare benchmark runs. Execution times are usually skewed and
+ * multi-modal, so the comparison does not assume normally distributed samples.
+ */
+public final class StatisticalTests {
+    private StatisticalTests() {
+    }
+
+    /**
+     * Result of a two-sided Mann-Whitney U test.
+     *
+     * @param u                     The U statistic of the candidate sample
+     * @param z                     The standardized U statistic, corrected for ties and continuity
+     * @param pValue                The two-sided p-value of the normal approximation
+     * @param probabilityOfIncrease The probability that a random candidate sample is larger than a random baseline sample
+     */
+    public record MannWhitneyResult(double u, double z, double pValue, double probabilityOfIncrease) {
+    }
+
+    /**
+     * Two-sided Mann-Whitney U test of the hypothesis that the candidate samples come from the
+     * same distribution as the baseline samples.
+     *
+     * @param baseline  The baseline samples
+     * @param candidate The candidate samples
+     * @return The test result, with a p-value of 1 if either sample is empty
+     */
+    public static MannWhitneyResult mannWhitney(double[] baseline, double[] candidate) {
+        int n1 = baseline.length;
+        int n2 = candidate.length;
+        if (n1 == 0 || n2 == 0) {
+            return new MannWhitneyResult(0.0, 0.0, 1.0, 0.5);
+        }
+
+        int n = n1 + n2;
+        double[][] pooled = new double[n][];
+        for (int i = 0; i < n1; i++) {
+            pooled[i] = new double[] { baseline[i], 0 };
+        }
+        for (int i = 0; i < n2; i++) {
+            pooled[n1 + i] = new double[] { candidate[i], 1 };
+        }
+        Arrays.sort(pooled, (a, b) -> Double.compare(a[0], b[0]));
+
+        // Average ranks for ties, the tie correction term is the sum of t^3 - t over the tie groups
+        double candidateRankSum = 0.0;
+        double tieCorrection = 0.0;
+        int i = 0;
+        while (i < n) {
+            int j = i;
+            while (j + 1 < n && pooled[j + 1][0] == pooled[i][0]) {
+                j++;
+            }
+            double rank = (i + j) / 2.0 + 1.0;
+            for (int k = i; k <= j; k++) {
+                if (pooled[k][1] == 1) {
+                    candidateRankSum += rank;
+                }
+            }
+            double t = j - i + 1;
+            tieCorrection += t * t * t - t;
+            i = j + 1;
+        }
+
+        double u = candidateRankSum - n2 * (n2 + 1) / 2.0;
+        double mean = n1 * (double) n2 / 2.0;
+        double variance = n1 * (double) n2 / 12.0 * ((n + 1) - tieCorrection / ((double) n * (n - 1)));
+        if (variance <= 0.0) {
+            return new MannWhitneyResult(u, 0.0, 1.0, u / (n1 * (double) n2));
+        }
+
+        double z = (u - mean - Math.signum(u - mean) * 0.5) / Math.sqrt(variance);
+        double pValue = Math.min(1.0, 2.0 * (1.0 - normalCdf(Math.abs(z))));
+        return new MannWhitneyResult(u, z, pValue, u / (n1 * (double) n2));
+    }
+
+    /**
+     * @param samples The samples
+     * @return The median of the samples, or 0 if there are none
+     */
+    public static double median(double[] samples) {
+        if (samples.length == 0) {
+            return 0.0;
+        }
+        double[] sorted = samples.clone();
+        Arrays.sort(sorted);
+        int middle = sorted.length / 2;
+        return sorted.length % 2 == 1 ? sorted[middle] : (sorted[middle - 1] + sorted[middle]) / 2.0;
+    }
+
+    /**
+     * Cumulative distribution function of the standard normal distribution, using the
+     * Abramowitz and Stegun approximation of the error function (absolute error below 1.5e-7).
+     */
+    static double normalCdf(double x) {
+        double t = 1.0 / (1.0 + 0.3275911 * Math.abs(x) / Math.sqrt(2.0));
+        double polynomial = t * (0.254829592 + t * (-0.284496736 + t * (1.421413741
+                + t * (-1.453152027 + t * 1.061405429))));
+        double erf = 1.0 - polynomial * Math.exp(-x * x / 2.0);
+        return x >= 0 ? (1.0 + erf) / 2.0 : (1.0 - erf) / 2.0;
+    }
+}
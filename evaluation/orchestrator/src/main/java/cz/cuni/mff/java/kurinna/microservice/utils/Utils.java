@@ -1,19 +1,38 @@
 package cz.cuni.mff.java.kurinna.microservice.utils;
 
+import cz.cuni.mff.java.kurinna.microservice.service.BenchmarkSettings;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 public class Utils {
+    /**
+     * Seed of the drawn query parameters if none is provided, so that runs without an explicit seed
+     * execute the same workload and remain comparable.
+     */
+    public static final long DEFAULT_SEED = 42L;
+
     public static final String[] ALL_SERVICES = new String[] {
             "ebean", "cayenne", "jdbc", "jooq", "myBatis", "springDataJpa"
     };
 
     public static final String[] ALL_QUERIES = new String[] {
             "q1", "q2", "q3", "q4", "q5",
+            "q6", "q7", "q8", "q9", "q10", "q11", "q12", "q13", "q14",
+            "q15", "q16", "q17", "q18", "q19", "q20", "q21", "q22",
             "a1", "a2", "a3", "a4",
             "b1", "b2",
             "c1", "c2", "c3", "c4", "c5",
             "d1", "d2", "d3",
-            "e1", "e2", "e3"
+            "e1", "e2", "e3",
+            "f1", "f2", "f3", "f4",
+            "g1", "g2", "g3", "g4",
+            "h1", "h2", "h3"
     };
 
     public static final Map<String, String> QUERY_DESCRIPTIONS = Map.ofEntries(
@@ -52,6 +71,23 @@ public class Utils {
             Map.entry("e2", "SELECT o_orderkey, o_custkey, o_orderdate, o_totalprice FROM orders ORDER BY o_orderkey"),
             Map.entry("e3", "SELECT DISTINCT c_nationkey, c_mktsegment FROM customer;"),
 
+            // F queries
+            Map.entry("f1", "SELECT * FROM orders WHERE o_orderkey = ?;"),
+            Map.entry("f2", "SELECT * FROM customer WHERE c_custkey = ?;"),
+            Map.entry("f3", "SELECT * FROM lineitem WHERE l_orderkey = ? AND l_linenumber = ?;"),
+            Map.entry("f4", "SELECT * FROM partsupp WHERE ps_partkey = ? AND ps_suppkey = ?;"),
+
+            // G queries
+            Map.entry("g1", "SELECT * FROM orders ORDER BY o_orderkey LIMIT ? OFFSET ?;"),
+            Map.entry("g2", "SELECT * FROM orders WHERE o_orderkey > ? ORDER BY o_orderkey LIMIT ?;"),
+            Map.entry("g3", "SELECT * FROM lineitem ORDER BY l_orderkey, l_linenumber LIMIT ? OFFSET ?;"),
+            Map.entry("g4", "SELECT * FROM lineitem WHERE l_orderkey > ? OR (l_orderkey = ? AND l_linenumber > ?) ORDER BY l_orderkey, l_linenumber LIMIT ?;"),
+
+            // H queries
+            Map.entry("h1", "SELECT * FROM orders WHERE o_orderdate BETWEEN ? AND ?; SELECT * FROM customer WHERE c_custkey = ?; SELECT * FROM lineitem WHERE l_orderkey = ?;"),
+            Map.entry("h2", "SELECT * FROM orders o JOIN customer c ON c.c_custkey = o.o_custkey LEFT JOIN lineitem l ON l.l_orderkey = o.o_orderkey WHERE o.o_orderdate BETWEEN ? AND ?;"),
+            Map.entry("h3", "SELECT * FROM orders WHERE o_orderdate BETWEEN ? AND ?; SELECT * FROM customer WHERE c_custkey IN (...); SELECT * FROM lineitem WHERE l_orderkey IN (...);"),
+
             // Q queries
             Map.entry("q1",
                     "SELECT l_returnflag, l_linestatus, SUM(l_quantity) AS sum_qty, SUM(l_extendedprice) AS sum_base_price, SUM(l_extendedprice * (1 - l_discount)) AS sum_disc_price, SUM(l_extendedprice * (1 - l_discount) * (1 + l_tax)) AS sum_charge, AVG(l_quantity) AS avg_qty, AVG(l_extendedprice) AS avg_price, AVG(l_discount) AS avg_disc, COUNT(*) AS count_order FROM lineitem WHERE l_shipdate <= DATE_SUB('1998-12-01', INTERVAL 90 DAY) GROUP BY l_returnflag, l_linestatus ORDER BY l_returnflag, l_linestatus"),
@@ -62,5 +98,174 @@ public class Utils {
             Map.entry("q4",
                     "SELECT o_orderpriority, COUNT(*) AS order_count FROM orders WHERE o_orderdate >= '1993-07-01' AND o_orderdate < DATE_ADD('1993-07-01', INTERVAL 3 MONTH) AND EXISTS (SELECT * FROM lineitem WHERE l_orderkey = o_orderkey AND l_commitdate < l_receiptdate) GROUP BY o_orderpriority ORDER BY o_orderpriority"),
             Map.entry("q5",
-                    "SELECT n.n_name, SUM(l.l_extendedprice * (1 - l.l_discount)) AS revenue FROM customer c, orders o, lineitem l, supplier s, nation n, region r WHERE c.c_custkey = o.o_custkey AND l.l_orderkey = o.o_orderkey AND l.l_suppkey = s.s_suppkey AND c.c_nationkey = s.s_nationkey AND s.s_nationkey = n.n_nationkey AND n.n_regionkey = r.r_regionkey AND r.r_name = 'ASIA' AND o.o_orderdate >= '1994-01-01' AND o.o_orderdate < DATE_ADD('1994-01-01', INTERVAL 1 YEAR) GROUP BY n.n_name ORDER BY revenue DESC"));
+                    "SELECT n.n_name, SUM(l.l_extendedprice * (1 - l.l_discount)) AS revenue FROM customer c, orders o, lineitem l, supplier s, nation n, region r WHERE c.c_custkey = o.o_custkey AND l.l_orderkey = o.o_orderkey AND l.l_suppkey = s.s_suppkey AND c.c_nationkey = s.s_nationkey AND s.s_nationkey = n.n_nationkey AND n.n_regionkey = r.r_regionkey AND r.r_name = 'ASIA' AND o.o_orderdate >= '1994-01-01' AND o.o_orderdate < DATE_ADD('1994-01-01', INTERVAL 1 YEAR) GROUP BY n.n_name ORDER BY revenue DESC"),
+            Map.entry("q6",
+                    "SELECT SUM(l_extendedprice * l_discount) AS revenue FROM lineitem WHERE l_shipdate >= '1994-01-01' AND l_shipdate < DATE_ADD('1994-01-01', INTERVAL 1 YEAR) AND l_discount BETWEEN 0.06 - 0.01 AND 0.06 + 0.01 AND l_quantity < 24"),
+            Map.entry("q7",
+                    "SELECT supp_nation, cust_nation, l_year, SUM(volume) AS revenue FROM (SELECT n1.n_name AS supp_nation, n2.n_name AS cust_nation, EXTRACT(YEAR FROM l.l_shipdate) AS l_year, l.l_extendedprice * (1 - l.l_discount) AS volume FROM supplier s, lineitem l, orders o, customer c, nation n1, nation n2 WHERE s.s_suppkey = l.l_suppkey AND o.o_orderkey = l.l_orderkey AND c.c_custkey = o.o_custkey AND s.s_nationkey = n1.n_nationkey AND c.c_nationkey = n2.n_nationkey AND ((n1.n_name = 'FRANCE' AND n2.n_name = 'GERMANY') OR (n1.n_name = 'GERMANY' AND n2.n_name = 'FRANCE')) AND l.l_shipdate BETWEEN '1995-01-01' AND '1996-12-31') AS shipping GROUP BY supp_nation, cust_nation, l_year ORDER BY supp_nation, cust_nation, l_year"),
+            Map.entry("q8",
+                    "SELECT o_year, SUM(CASE WHEN nation = 'BRAZIL' THEN volume ELSE 0 END) / SUM(volume) AS mkt_share FROM (SELECT EXTRACT(YEAR FROM o.o_orderdate) AS o_year, l.l_extendedprice * (1 - l.l_discount) AS volume, n2.n_name AS nation FROM part p, supplier s, lineitem l, orders o, customer c, nation n1, nation n2, region r WHERE p.p_partkey = l.l_partkey AND s.s_suppkey = l.l_suppkey AND l.l_orderkey = o.o_orderkey AND o.o_custkey = c.c_custkey AND c.c_nationkey = n1.n_nationkey AND n1.n_regionkey = r.r_regionkey AND r.r_name = 'AMERICA' AND s.s_nationkey = n2.n_nationkey AND o.o_orderdate BETWEEN '1995-01-01' AND '1996-12-31' AND p.p_type = 'ECONOMY ANODIZED STEEL') AS all_nations GROUP BY o_year ORDER BY o_year"),
+            Map.entry("q9",
+                    "SELECT nation, o_year, SUM(amount) AS sum_profit FROM (SELECT n.n_name AS nation, EXTRACT(YEAR FROM o.o_orderdate) AS o_year, l.l_extendedprice * (1 - l.l_discount) - ps.ps_supplycost * l.l_quantity AS amount FROM part p, supplier s, lineitem l, partsupp ps, orders o, nation n WHERE s.s_suppkey = l.l_suppkey AND ps.ps_suppkey = l.l_suppkey AND ps.ps_partkey = l.l_partkey AND p.p_partkey = l.l_partkey AND o.o_orderkey = l.l_orderkey AND s.s_nationkey = n.n_nationkey AND p.p_name LIKE '%green%') AS profit GROUP BY nation, o_year ORDER BY nation, o_year DESC"),
+            Map.entry("q10",
+                    "SELECT c.c_custkey, c.c_name, SUM(l.l_extendedprice * (1 - l.l_discount)) AS revenue, c.c_acctbal, n.n_name, c.c_address, c.c_phone, c.c_comment FROM customer c, orders o, lineitem l, nation n WHERE c.c_custkey = o.o_custkey AND l.l_orderkey = o.o_orderkey AND o.o_orderdate >= '1993-10-01' AND o.o_orderdate < DATE_ADD('1993-10-01', INTERVAL 3 MONTH) AND l.l_returnflag = 'R' AND c.c_nationkey = n.n_nationkey GROUP BY c.c_custkey, c.c_name, c.c_acctbal, c.c_phone, n.n_name, c.c_address, c.c_comment ORDER BY revenue DESC LIMIT 20"),
+            Map.entry("q11",
+                    "SELECT ps.ps_partkey, SUM(ps.ps_supplycost * ps.ps_availqty) AS stock_value FROM partsupp ps, supplier s, nation n WHERE ps.ps_suppkey = s.s_suppkey AND s.s_nationkey = n.n_nationkey AND n.n_name = 'GERMANY' GROUP BY ps.ps_partkey HAVING SUM(ps.ps_supplycost * ps.ps_availqty) > (SELECT SUM(ps2.ps_supplycost * ps2.ps_availqty) * 0.0001 FROM partsupp ps2, supplier s2, nation n2 WHERE ps2.ps_suppkey = s2.s_suppkey AND s2.s_nationkey = n2.n_nationkey AND n2.n_name = 'GERMANY') ORDER BY stock_value DESC"),
+            Map.entry("q12",
+                    "SELECT l.l_shipmode, SUM(CASE WHEN o.o_orderpriority = '1-URGENT' OR o.o_orderpriority = '2-HIGH' THEN 1 ELSE 0 END) AS high_line_count, SUM(CASE WHEN o.o_orderpriority <> '1-URGENT' AND o.o_orderpriority <> '2-HIGH' THEN 1 ELSE 0 END) AS low_line_count FROM orders o, lineitem l WHERE o.o_orderkey = l.l_orderkey AND l.l_shipmode IN ('MAIL', 'SHIP') AND l.l_commitdate < l.l_receiptdate AND l.l_shipdate < l.l_commitdate AND l.l_receiptdate >= '1994-01-01' AND l.l_receiptdate < DATE_ADD('1994-01-01', INTERVAL 1 YEAR) GROUP BY l.l_shipmode ORDER BY l.l_shipmode"),
+            Map.entry("q13",
+                    "SELECT c_count, COUNT(*) AS custdist FROM (SELECT c.c_custkey, COUNT(o.o_orderkey) AS c_count FROM customer c LEFT OUTER JOIN orders o ON c.c_custkey = o.o_custkey AND o.o_comment NOT LIKE '%special%requests%' GROUP BY c.c_custkey) AS c_orders GROUP BY c_count ORDER BY custdist DESC, c_count DESC"),
+            Map.entry("q14",
+                    "SELECT 100.00 * SUM(CASE WHEN p.p_type LIKE 'PROMO%' THEN l.l_extendedprice * (1 - l.l_discount) ELSE 0 END) / SUM(l.l_extendedprice * (1 - l.l_discount)) AS promo_revenue FROM lineitem l, part p WHERE l.l_partkey = p.p_partkey AND l.l_shipdate >= '1995-09-01' AND l.l_shipdate < DATE_ADD('1995-09-01', INTERVAL 1 MONTH)"),
+            Map.entry("q15",
+                    "WITH revenue0 AS (SELECT l_suppkey AS supplier_no, SUM(l_extendedprice * (1 - l_discount)) AS total_revenue FROM lineitem WHERE l_shipdate >= '1996-01-01' AND l_shipdate < DATE_ADD('1996-01-01', INTERVAL 3 MONTH) GROUP BY l_suppkey) SELECT s.s_suppkey, s.s_name, s.s_address, s.s_phone, r.total_revenue FROM supplier s, revenue0 r WHERE s.s_suppkey = r.supplier_no AND r.total_revenue = (SELECT MAX(total_revenue) FROM revenue0) ORDER BY s.s_suppkey"),
+            Map.entry("q16",
+                    "SELECT p.p_brand, p.p_type, p.p_size, COUNT(DISTINCT ps.ps_suppkey) AS supplier_cnt FROM partsupp ps, part p WHERE p.p_partkey = ps.ps_partkey AND p.p_brand <> 'Brand#45' AND p.p_type NOT LIKE 'MEDIUM POLISHED%' AND p.p_size IN (49, 14, 23, 45, 19, 3, 36, 9) AND ps.ps_suppkey NOT IN (SELECT s.s_suppkey FROM supplier s WHERE s.s_comment LIKE '%Customer%Complaints%') GROUP BY p.p_brand, p.p_type, p.p_size ORDER BY supplier_cnt DESC, p.p_brand, p.p_type, p.p_size"),
+            Map.entry("q17",
+                    "SELECT SUM(l.l_extendedprice) / 7.0 AS avg_yearly FROM lineitem l, part p WHERE p.p_partkey = l.l_partkey AND p.p_brand = 'Brand#23' AND p.p_container = 'MED BOX' AND l.l_quantity < (SELECT 0.2 * AVG(l2.l_quantity) FROM lineitem l2 WHERE l2.l_partkey = p.p_partkey)"),
+            Map.entry("q18",
+                    "SELECT c.c_name, c.c_custkey, o.o_orderkey, o.o_orderdate, o.o_totalprice, SUM(l.l_quantity) AS sum_quantity FROM customer c, orders o, lineitem l WHERE o.o_orderkey IN (SELECT l2.l_orderkey FROM lineitem l2 GROUP BY l2.l_orderkey HAVING SUM(l2.l_quantity) > 300) AND c.c_custkey = o.o_custkey AND o.o_orderkey = l.l_orderkey GROUP BY c.c_name, c.c_custkey, o.o_orderkey, o.o_orderdate, o.o_totalprice ORDER BY o.o_totalprice DESC, o.o_orderdate LIMIT 100"),
+            Map.entry("q19",
+                    "SELECT SUM(l.l_extendedprice * (1 - l.l_discount)) AS revenue FROM lineitem l, part p WHERE (p.p_partkey = l.l_partkey AND p.p_brand = 'Brand#12' AND p.p_container IN ('SM CASE', 'SM BOX', 'SM PACK', 'SM PKG') AND l.l_quantity >= 1 AND l.l_quantity <= 1 + 10 AND p.p_size BETWEEN 1 AND 5 AND l.l_shipmode IN ('AIR', 'AIR REG') AND l.l_shipinstruct = 'DELIVER IN PERSON') OR (p.p_partkey = l.l_partkey AND p.p_brand = 'Brand#23' AND p.p_container IN ('MED BAG', 'MED BOX', 'MED PKG', 'MED PACK') AND l.l_quantity >= 10 AND l.l_quantity <= 10 + 10 AND p.p_size BETWEEN 1 AND 10 AND l.l_shipmode IN ('AIR', 'AIR REG') AND l.l_shipinstruct = 'DELIVER IN PERSON') OR (p.p_partkey = l.l_partkey AND p.p_brand = 'Brand#34' AND p.p_container IN ('LG CASE', 'LG BOX', 'LG PACK', 'LG PKG') AND l.l_quantity >= 20 AND l.l_quantity <= 20 + 10 AND p.p_size BETWEEN 1 AND 15 AND l.l_shipmode IN ('AIR', 'AIR REG') AND l.l_shipinstruct = 'DELIVER IN PERSON')"),
+            Map.entry("q20",
+                    "SELECT s.s_name, s.s_address FROM supplier s, nation n WHERE s.s_suppkey IN (SELECT ps.ps_suppkey FROM partsupp ps WHERE ps.ps_partkey IN (SELECT p.p_partkey FROM part p WHERE p.p_name LIKE 'forest%') AND ps.ps_availqty > (SELECT 0.5 * SUM(l.l_quantity) FROM lineitem l WHERE l.l_partkey = ps.ps_partkey AND l.l_suppkey = ps.ps_suppkey AND l.l_shipdate >= '1994-01-01' AND l.l_shipdate < DATE_ADD('1994-01-01', INTERVAL 1 YEAR))) AND s.s_nationkey = n.n_nationkey AND n.n_name = 'CANADA' ORDER BY s.s_name"),
+            Map.entry("q21",
+                    "SELECT s.s_name, COUNT(*) AS numwait FROM supplier s, lineitem l1, orders o, nation n WHERE s.s_suppkey = l1.l_suppkey AND o.o_orderkey = l1.l_orderkey AND o.o_orderstatus = 'F' AND l1.l_receiptdate > l1.l_commitdate AND EXISTS (SELECT * FROM lineitem l2 WHERE l2.l_orderkey = l1.l_orderkey AND l2.l_suppkey <> l1.l_suppkey) AND NOT EXISTS (SELECT * FROM lineitem l3 WHERE l3.l_orderkey = l1.l_orderkey AND l3.l_suppkey <> l1.l_suppkey AND l3.l_receiptdate > l3.l_commitdate) AND s.s_nationkey = n.n_nationkey AND n.n_name = 'SAUDI ARABIA' GROUP BY s.s_name ORDER BY numwait DESC, s.s_name LIMIT 100"),
+            Map.entry("q22",
+                    "SELECT cntrycode, COUNT(*) AS numcust, SUM(c_acctbal) AS totacctbal FROM (SELECT SUBSTRING(c.c_phone, 1, 2) AS cntrycode, c.c_acctbal FROM customer c WHERE SUBSTRING(c.c_phone, 1, 2) IN ('13', '31', '23', '29', '30', '18', '17') AND c.c_acctbal > (SELECT AVG(c2.c_acctbal) FROM customer c2 WHERE c2.c_acctbal > 0.00 AND SUBSTRING(c2.c_phone, 1, 2) IN ('13', '31', '23', '29', '30', '18', '17')) AND NOT EXISTS (SELECT * FROM orders o WHERE o.o_custkey = c.c_custkey)) AS custsale GROUP BY cntrycode ORDER BY cntrycode"));
+
+    /**
+     * Helper method to parse the services parameter
+     *
+     * @param servicesOpt Optional comma separated list of service names
+     * @return The known services in the given order, or all services if not provided
+     */
+    public static Set<String> parseServices(Optional<String> servicesOpt) {
+        List<String> allServicesList = Arrays.asList(ALL_SERVICES);
+        return servicesOpt
+                .map(s -> Arrays.stream(s.split(","))
+                        .map(String::trim)
+                        .filter(allServicesList::contains)
+                        .collect(Collectors.toCollection(LinkedHashSet::new)))
+                .orElse(new LinkedHashSet<>(allServicesList));
+    }
+
+    /**
+     * Helper method to parse the queries parameter
+     *
+     * @param queriesOpt Optional comma separated list of query names
+     * @return The known queries in the given order, or all queries if not provided
+     */
+    public static Set<String> parseQueries(Optional<String> queriesOpt) {
+        List<String> allQueriesList = Arrays.asList(ALL_QUERIES);
+        return queriesOpt
+                .map(s -> Arrays.stream(s.split(","))
+                        .map(String::trim)
+                        .filter(allQueriesList::contains)
+                        .collect(Collectors.toCollection(LinkedHashSet::new)))
+                .orElse(new LinkedHashSet<>(allQueriesList));
+    }
+
+    /**
+     * Helper method to parse the settings of a benchmark run
+     *
+     * @param repetitions Optional number of repetitions, defaults to 1
+     * @param warmup      Optional number of unmeasured executions inside the service, defaults to 0
+     * @param iterations  Optional number of measured executions inside the service, defaults to 1
+     * @param parallel    Optional flag to query the services concurrently, defaults to false
+     * @param services    Optional comma separated list of services, defaults to all services
+     * @param randomize   Optional flag to draw random query parameters, defaults to false
+     * @param seed        Optional seed of the drawn query parameters, defaults to {@link #DEFAULT_SEED}
+     * @param tag         Optional version tag stored with the results
+     * @return The parsed settings
+     */
+    public static BenchmarkSettings parseSettings(Optional<String> repetitions, Optional<String> warmup,
+            Optional<String> iterations, Optional<String> parallel, Optional<String> services,
+            Optional<String> randomize, Optional<String> seed, Optional<String> tag) {
+        return new BenchmarkSettings(
+                parseInteger(repetitions, 1),
+                parseInteger(warmup, 0),
+                parseInteger(iterations, 1),
+                parseBoolean(parallel),
+                parseServices(services),
+                parseBoolean(randomize),
+                parseSeed(seed),
+                tag.orElse(null));
+    }
+
+    /**
+     * Helper method to parse an optional seed
+     *
+     * @param value Optional parameter value
+     * @return The parsed seed, or {@link #DEFAULT_SEED} if the parameter is not provided or invalid
+     */
+    public static long parseSeed(Optional<String> value) {
+        return value.map(String::trim)
+                .filter(s -> s.matches("-?\\d{1,18}"))
+                .map(Long::parseLong)
+                .orElse(DEFAULT_SEED);
+    }
+
+    /**
+     * Helper method to parse an optional integer parameter
+     *
+     * @param value        Optional parameter value
+     * @param defaultValue The value used if the parameter is not provided or invalid
+     * @return The parsed value, or the default value
+     */
+    public static int parseInteger(Optional<String> value, int defaultValue) {
+        int parsed = defaultValue;
+        try {
+            parsed = Integer.parseInt(value.map(String::trim).orElse(String.valueOf(defaultValue)));
+        } catch (NumberFormatException e) {
+            System.out.println("Invalid number format: " + e.getMessage());
+        }
+        return parsed;
+    }
+
+    /**
+     * Helper method to parse an optional decimal parameter
+     *
+     * @param value        Optional parameter value
+     * @param defaultValue The value used if the parameter is not provided or invalid
+     * @return The parsed value, or the default value
+     */
+    public static double parseDouble(Optional<String> value, double defaultValue) {
+        double parsed = defaultValue;
+        try {
+            parsed = Double.parseDouble(value.map(String::trim).orElse(String.valueOf(defaultValue)));
+        } catch (NumberFormatException e) {
+            System.out.println("Invalid number format: " + e.getMessage());
+        }
+        return parsed;
+    }
+
+    /**
+     * Helper method to parse a comma separated list of positive integers
+     *
+     * @param value        Optional parameter value
+     * @param defaultValue The values used if the parameter is not provided or contains no valid value
+     * @return The parsed values, or the default values
+     */
+    public static List<Integer> parseIntegers(Optional<String> value, List<Integer> defaultValue) {
+        List<Integer> parsed = value
+                .map(s -> Arrays.stream(s.split(","))
+                        .map(String::trim)
+                        .filter(v -> v.matches("\\d{1,9}"))
+                        .map(Integer::parseInt)
+                        .filter(v -> v > 0)
+                        .toList())
+                .orElse(List.of());
+        return parsed.isEmpty() ? defaultValue : parsed;
+    }
+
+    /**
+     * Helper method to parse an optional boolean parameter
+     *
+     * @param value Optional parameter value
+     * @return True if the parameter is "true" (ignoring case), false otherwise
+     */
+    public static boolean parseBoolean(Optional<String> value) {
+        return value.map(String::trim).map(Boolean::parseBoolean).orElse(false);
+    }
 }
@@ -0,0 +1,155 @@
+package cz.cuni.mff.java.kurinna.microservice.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class QueryParameterGeneratorTest {
+    private static final int DRAWS = 1000;
+    private static final List<String> QUERIES = List.of(
+            "q1", "q2", "q3", "q4", "q5", "q6", "q7", "q8", "q9", "q10", "q11",
+            "q12", "q13", "q14", "q15", "q16", "q17", "q18", "q19", "q20", "q21", "q22",
+            "a2", "a4", "f1", "h1");
+    private static final Set<String> REGIONS = Set.of("AFRICA", "AMERICA", "ASIA", "EUROPE", "MIDDLE EAST");
+    private static final Map<String, String> NATION_REGIONS = Map.of(
+            "KENYA", "AFRICA", "BRAZIL", "AMERICA", "CHINA", "ASIA", "GERMANY", "EUROPE", "SAUDI ARABIA", "MIDDLE EAST");
+    private static final Set<String> SHIP_MODES = Set.of("REG AIR", "AIR", "RAIL", "SHIP", "TRUCK", "MAIL", "FOB");
+
+    private final QueryParameterGenerator generator = new QueryParameterGenerator(1, 100, 100, 7, 100);
+
+    @Test
+    void sameSeedDrawsTheSameParameters() {
+        QueryParameterGenerator.ParameterStream first = generator.stream(true, 42L);
+        QueryParameterGenerator.ParameterStream second = generator.stream(true, 42L);
+
+        for (int i = 0; i < 10; i++) {
+            for (String query : QUERIES) {
+                assertEquals(first.next(query), second.next(query), query);
+            }
+        }
+    }
+
+    @Test
+    void differentSeedsDrawDifferentParameters() {
+        QueryParameterGenerator.ParameterStream first = generator.stream(true, 42L);
+        QueryParameterGenerator.ParameterStream second = generator.stream(true, 43L);
+
+        List<QueryParameters> firstDraws = QUERIES.stream().map(first::next).toList();
+        List<QueryParameters> secondDraws = QUERIES.stream().map(second::next).toList();
+        assertNotEquals(firstDraws, secondDraws);
+    }
+
+    @Test
+    void fixedStreamUsesTheValidationParameters() {
+        QueryParameterGenerator.ParameterStream stream = generator.stream(false, 42L);
+
+        for (String query : QUERIES) {
+            assertEquals(generator.validation(query), stream.next(query), query);
+        }
+        assertEquals(90, (int) stream.next("q1").get("delta"));
+        assertEquals("1995-03-15", stream.next("q3").get("date"));
+    }
+
+    @Test
+    void drawsStayInsideTheSpecifiedDomains() {
+        QueryParameterGenerator.ParameterStream stream = generator.stream(true, 42L);
+
+        for (int i = 0; i < DRAWS; i++) {
+            assertBetween(60, 120, stream.next("q1").get("delta"));
+
+            QueryParameters q2 = stream.next("q2");
+            assertBetween(1, 50, q2.get("size"));
+            assertTrue(REGIONS.contains(q2.<String>get("region")));
+
+            assertDateBetween("1995-03-01", "1995-03-31", stream.next("q3").get("date"));
+            assertFirstOfMonthBetween("1993-01-01", "1997-10-01", stream.next("q4").get("orderDate"));
+            assertFirstOfYear(stream.next("q5").get("orderDate"));
+
+            QueryParameters q6 = stream.next("q6");
+            assertFirstOfYear(q6.get("shipDate"));
+            BigDecimal discount = q6.get("discount");
+            assertTrue(discount.compareTo(new BigDecimal("0.02")) >= 0
+                    && discount.compareTo(new BigDecimal("0.09")) <= 0, discount::toString);
+            assertBetween(24, 25, q6.get("quantity"));
+
+            QueryParameters q7 = stream.next("q7");
+            assertNotEquals(q7.<String>get("nation1"), q7.<String>get("nation2"));
+
+            assertFirstOfMonthBetween("1993-02-01", "1995-01-01", stream.next("q10").get("orderDate"));
+
+            QueryParameters q12 = stream.next("q12");
+            assertTrue(SHIP_MODES.contains(q12.<String>get("shipMode1")));
+            assertTrue(SHIP_MODES.contains(q12.<String>get("shipMode2")));
+            assertNotEquals(q12.<String>get("shipMode1"), q12.<String>get("shipMode2"));
+            assertFirstOfYear(q12.get("receiptDate"));
+
+            assertFirstOfMonthBetween("1993-01-01", "1997-12-01", stream.next("q14").get("shipDate"));
+            assertFirstOfMonthBetween("1993-01-01", "1997-10-01", stream.next("q15").get("shipDate"));
+
+            QueryParameters q16 = stream.next("q16");
+            assertBrand(q16.get("brand"));
+            List<Integer> sizes = q16.get("sizes");
+            assertEquals(8, new HashSet<>(sizes).size());
+            sizes.forEach(size -> assertBetween(1, 50, size));
+
+            assertBrand(stream.next("q17").get("brand"));
+            assertBetween(312, 315, stream.next("q18").get("quantity"));
+
+            QueryParameters q19 = stream.next("q19");
+            assertBrand(q19.get("brand1"));
+            assertBetween(1, 10, q19.get("quantity1"));
+            assertBetween(10, 20, q19.get("quantity2"));
+            assertBetween(20, 30, q19.get("quantity3"));
+
+            List<String> countryCodes = stream.next("q22").get("countryCodes");
+            assertEquals(7, new HashSet<>(countryCodes).size());
+            countryCodes.forEach(code -> assertBetween(10, 34, Integer.parseInt(code)));
+        }
+    }
+
+    @Test
+    void nationOfQ8BelongsToTheRegion() {
+        QueryParameterGenerator.ParameterStream stream = generator.stream(true, 42L);
+
+        for (int i = 0; i < DRAWS; i++) {
+            QueryParameters q8 = stream.next("q8");
+            String region = NATION_REGIONS.get(q8.<String>get("nation"));
+            if (region != null) {
+                assertEquals(region, q8.get("region"));
+            }
+        }
+    }
+
+    private static void assertBetween(int min, int max, int value) {
+        assertTrue(value >= min && value <= max, () -> value + " is not in [" + min + ", " + max + "]");
+    }
+
+    private static void assertDateBetween(String min, String max, String date) {
+        LocalDate value = LocalDate.parse(date);
+        assertTrue(!value.isBefore(LocalDate.parse(min)) && !value.isAfter(LocalDate.parse(max)),
+                () -> date + " is not in [" + min + ", " + max + "]");
+    }
+
+    private static void assertFirstOfMonthBetween(String min, String max, String date) {
+        assertDateBetween(min, max, date);
+        assertEquals(1, LocalDate.parse(date).getDayOfMonth(), date);
+    }
+
+    private static void assertFirstOfYear(String date) {
+        assertFirstOfMonthBetween("1993-01-01", "1997-01-01", date);
+        assertEquals(1, LocalDate.parse(date).getMonthValue(), date);
+    }
+
+    private static void assertBrand(String brand) {
+        assertTrue(brand.matches("Brand#[1-5][1-5]"), brand);
+    }
+}
@@ -0,0 +1,64 @@
+package cz.cuni.mff.java.kurinna.microservice.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SampleStatisticsTest {
+    // Mean 5, sample variance 32 / 7
+    private static final double[] SAMPLE = {2, 4, 4, 4, 5, 5, 7, 9};
+
+    @Test
+    void confidenceIntervalUsesTheStudentQuantile() {
+        SampleStatistics statistics = of(SAMPLE);
+
+        // t(0.975, 7) = 2.365, half-width = 2.365 * sqrt(32 / 7) / sqrt(8)
+        assertEquals(8, statistics.getCount());
+        assertEquals(5.0, statistics.getMean(), 1e-12);
+        assertEquals(Math.sqrt(32.0 / 7.0), statistics.getStdDev(), 1e-12);
+        assertEquals(1.787772, statistics.getConfidenceHalfWidth(), 1e-6);
+        assertEquals(3.212228, (double) statistics.toMap().get("ci95Lower"), 1e-6);
+        assertEquals(6.787772, (double) statistics.toMap().get("ci95Upper"), 1e-6);
+    }
+
+    @Test
+    void confidenceIntervalFallsBackToTheNormalQuantile() {
+        double[] samples = new double[40];
+        for (int i = 0; i < samples.length; i++) {
+            samples[i] = i % 2 == 0 ? 9.0 : 11.0;
+        }
+        SampleStatistics statistics = of(samples);
+
+        // 39 degrees of freedom are beyond the table, z(0.975) = 1.960
+        assertEquals(1.960 * statistics.getStdDev() / Math.sqrt(40), statistics.getConfidenceHalfWidth(), 1e-12);
+    }
+
+    @Test
+    void singleSampleHasNoConfidenceInterval() {
+        SampleStatistics statistics = of(new double[] {3.0});
+
+        assertEquals(0.0, statistics.getStdDev());
+        assertEquals(0.0, statistics.getConfidenceHalfWidth());
+    }
+
+    @Test
+    void mergedStatisticsMatchTheRecordedSamples() {
+        SampleStatistics merged = of(new double[] {2, 4, 4});
+        merged.add(of(new double[] {4, 5, 5, 7, 9}));
+        SampleStatistics recorded = of(SAMPLE);
+
+        assertEquals(recorded.getCount(), merged.getCount());
+        assertEquals(recorded.getMean(), merged.getMean(), 1e-12);
+        assertEquals(recorded.getStdDev(), merged.getStdDev(), 1e-12);
+        assertEquals(recorded.getMin(), merged.getMin());
+        assertEquals(recorded.getMax(), merged.getMax());
+    }
+
+    private static SampleStatistics of(double[] samples) {
+        SampleStatistics statistics = new SampleStatistics();
+        for (double sample : samples) {
+            statistics.record(sample);
+        }
+        return statistics;
+    }
+}
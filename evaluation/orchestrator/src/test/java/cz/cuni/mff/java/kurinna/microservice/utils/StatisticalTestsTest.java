@@ -0,0 +1,63 @@
+package cz.cuni.mff.java.kurinna.microservice.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class StatisticalTestsTest {
+
+    @Test
+    void mannWhitneyAveragesTheRanksOfTies() {
+        double[] baseline = {1.1, 2.0, 2.0, 3.5, 4.0};
+        double[] candidate = {2.0, 3.5, 5.0, 6.2, 7.0, 7.0};
+
+        // Pooled ranks: 1.1 -> 1, 2.0 -> 3 (x3), 3.5 -> 5.5 (x2), 4.0 -> 7, 5.0 -> 8, 6.2 -> 9, 7.0 -> 10.5 (x2).
+        // Candidate rank sum 46.5, U = 46.5 - 6 * 7 / 2 = 25.5.
+        // Tie groups of 3, 2 and 2 give sum(t^3 - t) = 36, var = 5 * 6 / 12 * (12 - 36 / 110).
+        StatisticalTests.MannWhitneyResult result = StatisticalTests.mannWhitney(baseline, candidate);
+
+        double variance = 2.5 * (12.0 - 36.0 / 110.0);
+        assertEquals(25.5, result.u(), 1e-12);
+        assertEquals((25.5 - 15.0 - 0.5) / Math.sqrt(variance), result.z(), 1e-12);
+        assertEquals(1.851159, result.z(), 1e-6);
+        assertEquals(0.064147, result.pValue(), 1e-5);
+        assertEquals(0.85, result.probabilityOfIncrease(), 1e-12);
+    }
+
+    @Test
+    void mannWhitneyIsSymmetric() {
+        double[] baseline = {1.1, 2.0, 2.0, 3.5, 4.0};
+        double[] candidate = {2.0, 3.5, 5.0, 6.2, 7.0, 7.0};
+
+        StatisticalTests.MannWhitneyResult forward = StatisticalTests.mannWhitney(baseline, candidate);
+        StatisticalTests.MannWhitneyResult backward = StatisticalTests.mannWhitney(candidate, baseline);
+
+        assertEquals(30.0, forward.u() + backward.u(), 1e-12);
+        assertEquals(-forward.z(), backward.z(), 1e-12);
+        assertEquals(forward.pValue(), backward.pValue(), 1e-12);
+    }
+
+    @Test
+    void identicalSamplesAreNotDifferent() {
+        StatisticalTests.MannWhitneyResult result = StatisticalTests.mannWhitney(
+                new double[] {3.0, 3.0, 3.0}, new double[] {3.0, 3.0});
+
+        assertEquals(3.0, result.u(), 1e-12);
+        assertEquals(1.0, result.pValue());
+        assertEquals(0.5, result.probabilityOfIncrease(), 1e-12);
+    }
+
+    @Test
+    void emptySampleIsNotDifferent() {
+        StatisticalTests.MannWhitneyResult result = StatisticalTests.mannWhitney(new double[0], new double[] {1.0});
+
+        assertEquals(1.0, result.pValue());
+    }
+
+    @Test
+    void medianOfEvenAndOddSamples() {
+        assertEquals(4.0, StatisticalTests.median(new double[] {9, 4, 2}));
+        assertEquals(4.5, StatisticalTests.median(new double[] {9, 5, 2, 4}));
+        assertEquals(0.0, StatisticalTests.median(new double[0]));
+    }
+}